@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.module.script;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link ScriptEnginePoolListener} is notified about the use of the script engine pools of the
+ * {@link ScriptTransformationService}s, e.g. to collect metrics. Implementations are registered as OSGi services.
+ * <p>
+ * The methods are called by the threads executing the transformations, so they have to return quickly and must not
+ * block.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface ScriptEnginePoolListener {
+
+    /**
+     * Called after a script engine has been taken from the pool of a script.
+     *
+     * @param scriptType the script type of the transformation service
+     * @param scriptUid the UID of the script
+     * @param waitNanos the time waited for the engine, including the creation of a new engine
+     */
+    default void engineAcquired(String scriptType, String scriptUid, long waitNanos) {
+    }
+}
@@ -17,13 +17,21 @@ import static org.openhab.core.automation.module.script.profile.ScriptProfileFac
 import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -38,6 +46,7 @@ import javax.script.ScriptException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.module.script.profile.ScriptProfile;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigDescription;
 import org.openhab.core.config.core.ConfigDescriptionBuilder;
@@ -54,12 +63,18 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link ScriptTransformationService} implements a {@link TransformationService} using any available script
  * language
+ * <p>
+ * Each script is evaluated by a pool of script engines, so a script can be used by several threads at the same time.
+ * The size of the pools is configured by {@link #ENGINE_POOL_SIZE_PROPERTY_NAME}. Engines which have not been used for
+ * {@link #ENGINE_IDLE_TIMEOUT_PROPERTY_NAME} seconds are disposed, except for the last engine of each script.
  *
  * @author Jan N. Klug - Initial contribution
  * @author Florian Hotze - Implement script dependency tracking
@@ -72,8 +87,17 @@ public class ScriptTransformationService
         implements TransformationService, ScriptDependencyTracker.Listener, ScriptEngineManager.FactoryChangeListener,
         ConfigOptionProvider, ConfigDescriptionProvider, RegistryChangeListener<Transformation> {
     public static final String SCRIPT_TYPE_PROPERTY_NAME = "openhab.transform.script.scriptType";
+    public static final String ENGINE_POOL_SIZE_PROPERTY_NAME = "openhab.transform.script.enginePoolSize";
+    public static final String ENGINE_IDLE_TIMEOUT_PROPERTY_NAME = "openhab.transform.script.engineIdleTimeout";
     public static final String OPENHAB_TRANSFORMATION_SCRIPT = "openhab-transformation-script-";
 
+    static final int DEFAULT_ENGINE_POOL_SIZE = 1;
+    static final Duration DEFAULT_ENGINE_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration EVICTION_INTERVAL = Duration.ofMinutes(1);
+
+    // separates the UID of a script from the number of the engine in the engine identifier
+    private static final char ENGINE_NUMBER_SEPARATOR = '#';
+
     private static final URI CONFIG_DESCRIPTION_TEMPLATE_URI = URI.create(PROFILE_CONFIG_URI_PREFIX + "SCRIPT");
 
     private static final Pattern INLINE_SCRIPT_CONFIG_PATTERN = Pattern.compile("\\|(?<inlineScript>.+)");
@@ -86,6 +110,12 @@ public class ScriptTransformationService
     private final URI profileConfigUri;
 
     private final Map<String, ScriptRecord> scriptCache = new ConcurrentHashMap<>();
+    private final AtomicLong engineNumber = new AtomicLong();
+    private final List<ScriptEnginePoolListener> poolListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledFuture<?> evictionJob;
+
+    private volatile int enginePoolSize = DEFAULT_ENGINE_POOL_SIZE;
+    private volatile Duration engineIdleTimeout = DEFAULT_ENGINE_IDLE_TIMEOUT;
 
     private final TransformationRegistry transformationRegistry;
     private final ScriptEngineManager scriptEngineManager;
@@ -106,12 +136,20 @@ public class ScriptTransformationService
         this.scriptEngineManager = scriptEngineManager;
         this.scriptType = scriptType;
         this.profileConfigUri = URI.create(PROFILE_CONFIG_URI_PREFIX + scriptType.toUpperCase());
+        Integer poolSize = ConfigParser.valueAs(config.get(ENGINE_POOL_SIZE_PROPERTY_NAME), Integer.class);
+        Integer idleTimeout = ConfigParser.valueAs(config.get(ENGINE_IDLE_TIMEOUT_PROPERTY_NAME), Integer.class);
+        configureEnginePool(poolSize != null ? poolSize : DEFAULT_ENGINE_POOL_SIZE,
+                idleTimeout != null ? Duration.ofSeconds(idleTimeout) : DEFAULT_ENGINE_IDLE_TIMEOUT);
         transformationRegistry.addRegistryChangeListener(this);
         scriptEngineManager.addFactoryChangeListener(this);
+        evictionJob = ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON)
+                .scheduleWithFixedDelay(this::evictIdleEngines, EVICTION_INTERVAL.toSeconds(),
+                        EVICTION_INTERVAL.toSeconds(), TimeUnit.SECONDS);
     }
 
     @Deactivate
     public void deactivate() {
+        evictionJob.cancel(false);
         scriptEngineManager.removeFactoryChangeListener(this);
         transformationRegistry.removeRegistryChangeListener(this);
 
@@ -119,6 +157,26 @@ public class ScriptTransformationService
         scriptCache.values().forEach(this::disposeScriptRecord);
     }
 
+    /**
+     * Configures the pools of script engines. Surplus engines are disposed when they are idle.
+     *
+     * @param poolSize the maximum number of engines per script, at least one
+     * @param idleTimeout the time after which an unused engine is disposed
+     */
+    void configureEnginePool(int poolSize, Duration idleTimeout) {
+        enginePoolSize = Math.max(1, poolSize);
+        engineIdleTimeout = idleTimeout.isNegative() ? Duration.ZERO : idleTimeout;
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addScriptEnginePoolListener(ScriptEnginePoolListener listener) {
+        poolListeners.add(listener);
+    }
+
+    protected void removeScriptEnginePoolListener(ScriptEnginePoolListener listener) {
+        poolListeners.remove(listener);
+    }
+
     @Override
     public @Nullable String transform(String function, String source) throws TransformationException {
         String scriptUid;
@@ -139,92 +197,203 @@ public class ScriptTransformationService
             params = configMatcher.group("params");
         }
 
-        ScriptRecord scriptRecord = Objects
-                .requireNonNull(scriptCache.computeIfAbsent(scriptUid, k -> new ScriptRecord()));
+        long startTime = System.nanoTime();
+        ScriptRecord scriptRecord;
+        PooledEngine pooledEngine;
+        do {
+            scriptRecord = Objects.requireNonNull(scriptCache.computeIfAbsent(scriptUid, k -> new ScriptRecord()));
+            pooledEngine = acquireEngine(scriptRecord, scriptUid, inlineScript, function);
+            // retry with a new record if the script has been changed while waiting for an engine
+        } while (pooledEngine == null);
+        try {
+            long waitTime = System.nanoTime() - startTime;
+            for (ScriptEnginePoolListener listener : poolListeners) {
+                try {
+                    listener.engineAcquired(scriptType, scriptUid, waitTime);
+                } catch (RuntimeException e) {
+                    logger.debug("Script engine pool listener '{}' failed: {}", listener, e.getMessage(), e);
+                }
+            }
+            return evaluate(scriptRecord.script, pooledEngine, scriptUid, params, source);
+        } finally {
+            releaseEngine(scriptRecord, pooledEngine);
+        }
+    }
+
+    /**
+     * Takes an idle engine from the pool of the script, creates a new one if the pool is not full yet, or waits for an
+     * engine to be released.
+     *
+     * @return the engine or <code>null</code> if the script has been removed from the cache in the meantime
+     */
+    private @Nullable PooledEngine acquireEngine(ScriptRecord scriptRecord, String scriptUid,
+            @Nullable String inlineScript, String function) throws TransformationException {
+        int generation;
         scriptRecord.lock.lock();
         try {
-            if (scriptRecord.script.isBlank()) {
-                if (inlineScript != null) {
-                    scriptRecord.script = inlineScript;
-                } else {
-                    // get script from transformation registry
-                    Transformation transformation = transformationRegistry.get(scriptUid);
-                    if (transformation != null) {
-                        scriptRecord.script = transformation.getConfiguration().getOrDefault(Transformation.FUNCTION,
-                                "");
-                    }
+            while (true) {
+                if (scriptRecord.removed) {
+                    return null;
                 }
                 if (scriptRecord.script.isBlank()) {
-                    throw new TransformationException("Could not get script for UID '" + scriptUid + "'.");
+                    if (inlineScript != null) {
+                        scriptRecord.script = inlineScript;
+                    } else {
+                        // get script from transformation registry
+                        Transformation transformation = transformationRegistry.get(scriptUid);
+                        if (transformation != null) {
+                            scriptRecord.script = transformation.getConfiguration()
+                                    .getOrDefault(Transformation.FUNCTION, "");
+                        }
+                    }
+                    if (scriptRecord.script.isBlank()) {
+                        throw new TransformationException("Could not get script for UID '" + scriptUid + "'.");
+                    }
                 }
-                scriptCache.put(scriptUid, scriptRecord);
-            }
 
-            if (!scriptEngineManager.isSupported(scriptType)) {
-                // language has been removed, clear container and compiled scripts if found
-                clearCache(scriptUid);
-                throw new TransformationException(
-                        "Script type '" + scriptType + "' is not supported by any available script engine.");
-            }
+                if (!scriptEngineManager.isSupported(scriptType)) {
+                    // language has been removed, clear container and compiled scripts if found
+                    clearCache(scriptUid);
+                    throw new TransformationException(
+                            "Script type '" + scriptType + "' is not supported by any available script engine.");
+                }
 
-            if (scriptRecord.scriptEngineContainer == null) {
-                scriptRecord.scriptEngineContainer = scriptEngineManager.createScriptEngine(scriptType,
-                        OPENHAB_TRANSFORMATION_SCRIPT + scriptUid);
+                // the most recently used engine is taken, so the others become idle and can be evicted
+                PooledEngine idleEngine = scriptRecord.idleEngines.pollLast();
+                if (idleEngine != null) {
+                    return idleEngine;
+                }
+                if (scriptRecord.engineCount < enginePoolSize) {
+                    scriptRecord.engineCount++;
+                    generation = scriptRecord.generation;
+                    break;
+                }
+                try {
+                    scriptRecord.engineReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TransformationException("Interrupted while waiting for a script engine.", e);
+                }
             }
-            ScriptEngineContainer scriptEngineContainer = scriptRecord.scriptEngineContainer;
+        } finally {
+            scriptRecord.lock.unlock();
+        }
 
+        // the engine is created without holding the lock, so other engines of the script can be used and released
+        String engineIdentifier = OPENHAB_TRANSFORMATION_SCRIPT + scriptUid + ENGINE_NUMBER_SEPARATOR
+                + engineNumber.incrementAndGet();
+        ScriptEngineContainer scriptEngineContainer = null;
+        try {
+            scriptEngineContainer = scriptEngineManager.createScriptEngine(scriptType, engineIdentifier);
+        } finally {
             if (scriptEngineContainer == null) {
-                throw new TransformationException("Failed to create script engine container for '" + function + "'.");
+                scriptRecord.lock.lock();
+                try {
+                    scriptRecord.engineCount--;
+                    scriptRecord.engineReleased.signal();
+                } finally {
+                    scriptRecord.lock.unlock();
+                }
             }
-            try {
-                CompiledScript compiledScript = scriptRecord.compiledScript;
-
-                ScriptEngine engine = compiledScript != null ? compiledScript.getEngine()
-                        : scriptEngineContainer.getScriptEngine();
-                ScriptContext executionContext = engine.getContext();
-                executionContext.setAttribute("input", source, ScriptContext.ENGINE_SCOPE);
-                ArrayList<String> injectedParams = null;
-
-                if (params != null) {
-                    injectedParams = new ArrayList<>();
-                    for (String param : params.split("&")) {
-                        String[] splitString = param.split("=");
-                        if (splitString.length != 2) {
-                            logger.warn(
-                                    "Parameter '{}' does not consist of two parts for configuration UID {}, skipping.",
-                                    param, scriptUid);
-                        } else {
-                            param = URLDecoder.decode(splitString[0], StandardCharsets.UTF_8);
-                            String value = URLDecoder.decode(splitString[1], StandardCharsets.UTF_8);
-                            executionContext.setAttribute(param, value, ScriptContext.ENGINE_SCOPE);
-                            injectedParams.add(param);
-                        }
+        }
+        if (scriptEngineContainer == null) {
+            throw new TransformationException("Failed to create script engine container for '" + function + "'.");
+        }
+        return new PooledEngine(scriptEngineContainer, generation);
+    }
+
+    private void releaseEngine(ScriptRecord scriptRecord, PooledEngine pooledEngine) {
+        boolean dispose;
+        scriptRecord.lock.lock();
+        try {
+            // engines created before the script or the script engine factory changed are not used again
+            dispose = scriptRecord.removed || pooledEngine.generation != scriptRecord.generation;
+            if (dispose) {
+                scriptRecord.engineCount--;
+            } else {
+                pooledEngine.lastUsed = System.nanoTime();
+                scriptRecord.idleEngines.addLast(pooledEngine);
+            }
+            scriptRecord.engineReleased.signal();
+        } finally {
+            scriptRecord.lock.unlock();
+        }
+        if (dispose) {
+            disposeEngine(pooledEngine);
+        }
+    }
+
+    private @Nullable String evaluate(String script, PooledEngine pooledEngine, String scriptUid,
+            @Nullable String params, String source) throws TransformationException {
+        ScriptEngineContainer scriptEngineContainer = pooledEngine.scriptEngineContainer;
+        try {
+            CompiledScript compiledScript = pooledEngine.compiledScript;
+
+            ScriptEngine engine = compiledScript != null ? compiledScript.getEngine()
+                    : scriptEngineContainer.getScriptEngine();
+            ScriptContext executionContext = engine.getContext();
+            executionContext.setAttribute("input", source, ScriptContext.ENGINE_SCOPE);
+            ArrayList<String> injectedParams = null;
+
+            if (params != null) {
+                injectedParams = new ArrayList<>();
+                for (String param : params.split("&")) {
+                    String[] splitString = param.split("=");
+                    if (splitString.length != 2) {
+                        logger.warn("Parameter '{}' does not consist of two parts for configuration UID {}, skipping.",
+                                param, scriptUid);
+                    } else {
+                        param = URLDecoder.decode(splitString[0], StandardCharsets.UTF_8);
+                        String value = URLDecoder.decode(splitString[1], StandardCharsets.UTF_8);
+                        executionContext.setAttribute(param, value, ScriptContext.ENGINE_SCOPE);
+                        injectedParams.add(param);
                     }
                 }
+            }
+
+            // compile the script here _after_ setting context attributes, so that the script engine
+            // can bind the attributes as variables during compilation. This primarily affects jruby.
+            if (compiledScript == null && scriptEngineContainer.getScriptEngine() instanceof Compilable scriptEngine) {
+                // no compiled script available but compiling is supported
+                compiledScript = scriptEngine.compile(script);
+                pooledEngine.compiledScript = compiledScript;
+            }
 
-                // compile the script here _after_ setting context attributes, so that the script engine
-                // can bind the attributes as variables during compilation. This primarily affects jruby.
-                if (compiledScript == null
-                        && scriptEngineContainer.getScriptEngine() instanceof Compilable scriptEngine) {
-                    // no compiled script available but compiling is supported
-                    compiledScript = scriptEngine.compile(scriptRecord.script);
-                    scriptRecord.compiledScript = compiledScript;
+            try {
+                Object result = compiledScript != null ? compiledScript.eval() : engine.eval(script);
+                return result == null ? null : result.toString();
+            } finally {
+                if (injectedParams != null) {
+                    injectedParams
+                            .forEach(param -> executionContext.removeAttribute(param, ScriptContext.ENGINE_SCOPE));
                 }
+            }
+        } catch (ScriptException e) {
+            throw new TransformationException("Failed to execute script.", e);
+        }
+    }
 
-                try {
-                    Object result = compiledScript != null ? compiledScript.eval() : engine.eval(scriptRecord.script);
-                    return result == null ? null : result.toString();
-                } finally {
-                    if (injectedParams != null) {
-                        injectedParams
-                                .forEach(param -> executionContext.removeAttribute(param, ScriptContext.ENGINE_SCOPE));
-                    }
+    /**
+     * Disposes the engines which have been idle for longer than the configured timeout and the engines exceeding the
+     * configured pool size. The last engine of each script is kept, so the script does not need to be compiled again.
+     */
+    void evictIdleEngines() {
+        long idleSince = System.nanoTime() - engineIdleTimeout.toNanos();
+        for (ScriptRecord scriptRecord : scriptCache.values()) {
+            List<PooledEngine> evictedEngines = new ArrayList<>();
+            scriptRecord.lock.lock();
+            try {
+                // the least recently used engine is the first one
+                PooledEngine idleEngine;
+                while (scriptRecord.engineCount > 1 && (idleEngine = scriptRecord.idleEngines.peekFirst()) != null
+                        && (scriptRecord.engineCount > enginePoolSize || idleEngine.lastUsed - idleSince <= 0)) {
+                    evictedEngines.add(scriptRecord.idleEngines.pollFirst());
+                    scriptRecord.engineCount--;
                 }
-            } catch (ScriptException e) {
-                throw new TransformationException("Failed to execute script.", e);
+            } finally {
+                scriptRecord.lock.unlock();
             }
-        } finally {
-            scriptRecord.lock.unlock();
+            evictedEngines.forEach(this::disposeEngine);
         }
     }
 
@@ -285,7 +454,9 @@ public class ScriptTransformationService
 
     @Override
     public void onDependencyChange(String scriptId) {
-        String scriptUid = scriptId.substring(OPENHAB_TRANSFORMATION_SCRIPT.length());
+        String engineId = scriptId.substring(OPENHAB_TRANSFORMATION_SCRIPT.length());
+        int separator = engineId.lastIndexOf(ENGINE_NUMBER_SEPARATOR);
+        String scriptUid = separator >= 0 ? engineId.substring(0, separator) : engineId;
         ScriptRecord scriptRecord = scriptCache.get(scriptUid);
         if (scriptRecord != null) {
             logger.debug("Clearing script cache for script {}", scriptUid);
@@ -296,27 +467,37 @@ public class ScriptTransformationService
     private void clearCache(String uid) {
         ScriptRecord scriptRecord = scriptCache.remove(uid);
         if (scriptRecord != null) {
+            scriptRecord.removed = true;
             disposeScriptRecord(scriptRecord);
         }
     }
 
+    /**
+     * Disposes the idle engines of a script. The engines in use are disposed when they are released.
+     */
     private void disposeScriptRecord(ScriptRecord scriptRecord) {
+        List<PooledEngine> idleEngines;
         scriptRecord.lock.lock();
         try {
-            ScriptEngineContainer scriptEngineContainer = scriptRecord.scriptEngineContainer;
-            if (scriptEngineContainer != null) {
-                try {
-                    scriptEngineManager.removeEngine(scriptEngineContainer.getIdentifier());
-                } catch (Exception e) {
-                    logger.error("Exception occurred while disposing script {}", scriptEngineContainer.getIdentifier(),
-                            e);
-                }
-                scriptRecord.scriptEngineContainer = null;
-            }
-            scriptRecord.compiledScript = null;
+            scriptRecord.generation++;
+            idleEngines = new ArrayList<>(scriptRecord.idleEngines);
+            scriptRecord.idleEngines.clear();
+            scriptRecord.engineCount -= idleEngines.size();
+            // let waiting threads create a new engine or retry with a new record
+            scriptRecord.engineReleased.signalAll();
         } finally {
             scriptRecord.lock.unlock();
         }
+        idleEngines.forEach(this::disposeEngine);
+    }
+
+    private void disposeEngine(PooledEngine pooledEngine) {
+        String identifier = pooledEngine.scriptEngineContainer.getIdentifier();
+        try {
+            scriptEngineManager.removeEngine(identifier);
+        } catch (Exception e) {
+            logger.error("Exception occurred while disposing script {}", identifier, e);
+        }
     }
 
     @Override
@@ -341,9 +522,27 @@ public class ScriptTransformationService
 
     private static class ScriptRecord {
         public String script = "";
-        public @Nullable ScriptEngineContainer scriptEngineContainer;
-        public @Nullable CompiledScript compiledScript;
+        public volatile boolean removed;
 
+        // guards the following fields
         public final Lock lock = new ReentrantLock();
+        public final Condition engineReleased = lock.newCondition();
+        public final Deque<PooledEngine> idleEngines = new ArrayDeque<>();
+        // the number of idle engines, engines in use and engines being created
+        public int engineCount;
+        // incremented when the engines must not be used anymore
+        public int generation;
+    }
+
+    private static class PooledEngine {
+        public final ScriptEngineContainer scriptEngineContainer;
+        public final int generation;
+        public @Nullable CompiledScript compiledScript;
+        public long lastUsed;
+
+        public PooledEngine(ScriptEngineContainer scriptEngineContainer, int generation) {
+            this.scriptEngineContainer = scriptEngineContainer;
+            this.generation = generation;
+        }
     }
 }
@@ -12,6 +12,7 @@
  */
 package org.openhab.core.automation.module.script;
 
+import java.time.Duration;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.Map;
@@ -22,12 +23,14 @@ import javax.script.ScriptEngine;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.automation.module.script.internal.ScriptEngineFactoryHelper;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.ComponentFactory;
 import org.osgi.service.component.ComponentInstance;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -35,21 +38,53 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 /**
  * The {@link ScriptTransformationServiceFactory} registers a {@link ScriptTransformationService}
  * for each newly added script engine.
+ * <p>
+ * The configuration of the factory sets the size and the idle timeout (in seconds) of the script engine pools of all
+ * script transformation services.
  *
  * @author Jimmy Tanagra - Initial contribution
  */
-@Component(immediate = true, service = { ScriptTransformationServiceFactory.class })
+@Component(immediate = true, service = {
+        ScriptTransformationServiceFactory.class }, configurationPid = ScriptTransformationServiceFactory.CONFIGURATION_PID)
 @NonNullByDefault
 public class ScriptTransformationServiceFactory {
 
+    static final String CONFIGURATION_PID = "org.openhab.transform.script";
+    static final String CONFIG_ENGINE_POOL_SIZE = "enginePoolSize";
+    static final String CONFIG_ENGINE_IDLE_TIMEOUT = "engineIdleTimeout";
+
     private final ComponentFactory<ScriptTransformationService> scriptTransformationFactory;
 
     private final Map<ScriptEngineFactory, ComponentInstance<ScriptTransformationService>> scriptTransformations = new ConcurrentHashMap<>();
 
+    private volatile int enginePoolSize = ScriptTransformationService.DEFAULT_ENGINE_POOL_SIZE;
+    private volatile Duration engineIdleTimeout = ScriptTransformationService.DEFAULT_ENGINE_IDLE_TIMEOUT;
+
     @Activate
     public ScriptTransformationServiceFactory(
-            @Reference(target = "(component.factory=org.openhab.core.automation.module.script.transformation.factory)") ComponentFactory<ScriptTransformationService> factory) {
+            @Reference(target = "(component.factory=org.openhab.core.automation.module.script.transformation.factory)") ComponentFactory<ScriptTransformationService> factory,
+            Map<String, Object> config) {
         this.scriptTransformationFactory = factory;
+        updateConfiguration(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        updateConfiguration(config);
+        scriptTransformations.values().forEach(instance -> {
+            ScriptTransformationService service = instance.getInstance();
+            if (service != null) {
+                service.configureEnginePool(enginePoolSize, engineIdleTimeout);
+            }
+        });
+    }
+
+    private void updateConfiguration(Map<String, Object> config) {
+        enginePoolSize = ConfigParser.valueAsOrElse(config.get(CONFIG_ENGINE_POOL_SIZE), Integer.class,
+                ScriptTransformationService.DEFAULT_ENGINE_POOL_SIZE);
+        Integer idleTimeout = ConfigParser.valueAs(config.get(CONFIG_ENGINE_IDLE_TIMEOUT), Integer.class);
+        engineIdleTimeout = idleTimeout != null ? Duration.ofSeconds(idleTimeout)
+                : ScriptTransformationService.DEFAULT_ENGINE_IDLE_TIMEOUT;
     }
 
     @Deactivate
@@ -79,6 +114,9 @@ public class ScriptTransformationServiceFactory {
             properties.put(TransformationService.SERVICE_PROPERTY_NAME, scriptType.get().toUpperCase());
             properties.put(TransformationService.SERVICE_PROPERTY_LABEL, "SCRIPT " + languageName);
             properties.put(ScriptTransformationService.SCRIPT_TYPE_PROPERTY_NAME, scriptType.get());
+            properties.put(ScriptTransformationService.ENGINE_POOL_SIZE_PROPERTY_NAME, enginePoolSize);
+            properties.put(ScriptTransformationService.ENGINE_IDLE_TIMEOUT_PROPERTY_NAME,
+                    (int) engineIdleTimeout.toSeconds());
             return scriptTransformationFactory.newInstance(properties);
         });
     }
@@ -18,8 +18,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.script.Compilable;
 import javax.script.ScriptContext;
@@ -27,6 +35,8 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -71,6 +81,7 @@ public class ScriptTransformationServiceTest extends JavaTest {
     private @Mock @NonNullByDefault({}) ScriptContext scriptContext;
 
     private @NonNullByDefault({}) ScriptTransformationService service;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
 
     @BeforeEach
     public void setUp() throws ScriptException {
@@ -97,6 +108,12 @@ public class ScriptTransformationServiceTest extends JavaTest {
         });
     }
 
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        service.deactivate();
+    }
+
     @Test
     public void success() throws TransformationException {
         String returnValue = Objects.requireNonNull(service.transform(SCRIPT_UID, "input"));
@@ -231,4 +248,108 @@ public class ScriptTransformationServiceTest extends JavaTest {
 
         verify(scriptEngine).eval(INLINE_SCRIPT.substring(1));
     }
+
+    @Test
+    public void scriptIsEvaluatedConcurrentlyByThePoolOfEngines() throws Exception {
+        evaluateConcurrentlyWithTwoEngines();
+
+        verify(scriptEngineManager, times(2)).createScriptEngine(eq(SCRIPT_LANGUAGE), any());
+        verify(transformationRegistry).get(SCRIPT_UID);
+    }
+
+    @Test
+    public void transformationWaitsForAnEngineIfThePoolIsExhausted() throws Exception {
+        List<Long> waitTimes = new CopyOnWriteArrayList<>();
+        service.addScriptEnginePoolListener(new ScriptEnginePoolListener() {
+            @Override
+            public void engineAcquired(String scriptType, String scriptUid, long waitNanos) {
+                waitTimes.add(waitNanos);
+            }
+        });
+        CountDownLatch evaluating = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(scriptEngine.eval(SCRIPT)).thenAnswer(invocation -> {
+            evaluating.countDown();
+            finish.await(10, TimeUnit.SECONDS);
+            return SCRIPT_OUTPUT;
+        });
+
+        Future<@Nullable String> first = transformAsync();
+        assertThat(evaluating.await(10, TimeUnit.SECONDS), is(true));
+        Future<@Nullable String> second = transformAsync();
+        Thread.sleep(100);
+        assertThat(second.isDone(), is(false));
+        finish.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS), is(SCRIPT_OUTPUT));
+        assertThat(second.get(10, TimeUnit.SECONDS), is(SCRIPT_OUTPUT));
+        verify(scriptEngineManager).createScriptEngine(eq(SCRIPT_LANGUAGE), any());
+        assertThat(waitTimes, hasSize(2));
+        assertThat(waitTimes.stream().mapToLong(Long::longValue).max().orElse(0),
+                greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    public void failingListenerDoesNotLeakTheEngine() throws Exception {
+        service.addScriptEnginePoolListener(new ScriptEnginePoolListener() {
+            @Override
+            public void engineAcquired(String scriptType, String scriptUid, long waitNanos) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+
+        assertThat(service.transform(SCRIPT_UID, "input"), is(SCRIPT_OUTPUT));
+        // the pool holds a single engine, which has to be released for the next transformation
+        assertThat(transformAsync().get(10, TimeUnit.SECONDS), is(SCRIPT_OUTPUT));
+        verify(scriptEngineManager).createScriptEngine(eq(SCRIPT_LANGUAGE), any());
+    }
+
+    @Test
+    public void idleEnginesAreEvictedExceptTheLastOne() throws Exception {
+        when(scriptEngineContainer.getIdentifier()).thenReturn("engineId");
+        evaluateConcurrentlyWithTwoEngines();
+
+        service.evictIdleEngines();
+        verify(scriptEngineManager, never()).removeEngine(any());
+
+        service.configureEnginePool(2, Duration.ZERO);
+        service.evictIdleEngines();
+        verify(scriptEngineManager).removeEngine("engineId");
+
+        // the remaining engine is used
+        service.transform(SCRIPT_UID, "input");
+        verify(scriptEngineManager, times(2)).createScriptEngine(eq(SCRIPT_LANGUAGE), any());
+    }
+
+    @Test
+    public void dependencyChangeInvalidatesScriptCache() throws TransformationException {
+        service.transform(SCRIPT_UID, "input");
+        service.onDependencyChange(ScriptTransformationService.OPENHAB_TRANSFORMATION_SCRIPT + SCRIPT_UID + "#1");
+        service.transform(SCRIPT_UID, "input");
+
+        verify(transformationRegistry, times(2)).get(SCRIPT_UID);
+    }
+
+    private void evaluateConcurrentlyWithTwoEngines() throws Exception {
+        service.configureEnginePool(2, Duration.ofMinutes(1));
+        CountDownLatch evaluating = new CountDownLatch(2);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(scriptEngine.eval(SCRIPT)).thenAnswer(invocation -> {
+            evaluating.countDown();
+            finish.await(10, TimeUnit.SECONDS);
+            return SCRIPT_OUTPUT;
+        });
+
+        List<Future<@Nullable String>> results = List.of(transformAsync(), transformAsync());
+
+        assertThat(evaluating.await(10, TimeUnit.SECONDS), is(true));
+        finish.countDown();
+        for (Future<@Nullable String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS), is(SCRIPT_OUTPUT));
+        }
+    }
+
+    private Future<@Nullable String> transformAsync() {
+        return executor.submit(() -> service.transform(SCRIPT_UID, "input"));
+    }
 }
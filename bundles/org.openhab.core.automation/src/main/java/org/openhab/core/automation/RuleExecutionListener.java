@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link RuleExecutionListener} is notified about the executions of triggered {@link Rule}s, e.g. to collect
+ * metrics. Implementations are registered as OSGi services.
+ * <p>
+ * The methods are called by the threads executing the rules, so they have to return quickly and must not block.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface RuleExecutionListener {
+
+    /**
+     * Called before a triggered rule is executed.
+     *
+     * @param ruleUID the UID of the rule
+     * @param mode the mode the rule is executed in
+     * @param runningExecutions the number of rules executed in that mode at the moment, including this one
+     */
+    default void executionStarted(String ruleUID, RuleExecutionMode mode, int runningExecutions) {
+    }
+
+    /**
+     * Called after a triggered rule has been executed.
+     *
+     * @param ruleUID the UID of the rule
+     * @param mode the mode the rule has been executed in
+     * @param runningExecutions the number of rules still executed in that mode
+     * @param durationNanos the time spent executing the rule
+     */
+    default void executionFinished(String ruleUID, RuleExecutionMode mode, int runningExecutions,
+            long durationNanos) {
+    }
+}
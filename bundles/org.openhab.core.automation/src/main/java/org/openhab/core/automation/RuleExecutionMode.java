@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation;
+
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * This enumeration defines the threads a {@link Rule} is executed on when it is triggered. Whatever the mode, the
+ * executions of a single rule never overlap.
+ * <p>
+ * The mode of all rules is configured for the rule engine. A single rule can override it with a tag built from
+ * {@link #TAG_PREFIX} and the name of the mode, e.g. {@code ExecutionMode:Virtual}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public enum RuleExecutionMode {
+
+    /**
+     * The rule is executed on a thread of the shared {@code rules} thread pool.
+     */
+    POOLED,
+
+    /**
+     * The rule is executed on a virtual thread, so blocking calls do not occupy a thread of the shared pool.
+     */
+    VIRTUAL;
+
+    /**
+     * The prefix of the tags selecting the execution mode of a rule.
+     */
+    public static final String TAG_PREFIX = "ExecutionMode:";
+
+    /**
+     * Returns the mode with the given name, ignoring the case.
+     *
+     * @param name the name of the mode
+     * @return the mode or <code>null</code> if there is no mode with that name
+     */
+    public static @Nullable RuleExecutionMode fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the mode selected by the tags of a rule.
+     *
+     * @param rule the rule
+     * @return the mode or <code>null</code> if the rule does not select a mode
+     */
+    public static @Nullable RuleExecutionMode fromTags(Rule rule) {
+        for (String tag : rule.getTags()) {
+            if (tag.regionMatches(true, 0, TAG_PREFIX, 0, TAG_PREFIX.length())) {
+                RuleExecutionMode mode = fromName(tag.substring(TAG_PREFIX.length()));
+                if (mode != null) {
+                    return mode;
+                }
+            }
+        }
+        return null;
+    }
+}
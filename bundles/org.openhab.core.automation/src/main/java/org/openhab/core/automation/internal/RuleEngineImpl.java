@@ -17,16 +17,19 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
@@ -34,6 +37,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -46,6 +50,8 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Rule;
 import org.openhab.core.automation.Rule.TemplateState;
 import org.openhab.core.automation.RuleExecution;
+import org.openhab.core.automation.RuleExecutionListener;
+import org.openhab.core.automation.RuleExecutionMode;
 import org.openhab.core.automation.RuleManager;
 import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.automation.RuleStatus;
@@ -62,6 +68,7 @@ import org.openhab.core.automation.handler.TriggerHandlerCallback;
 import org.openhab.core.automation.internal.TriggerHandlerCallbackImpl.TriggerData;
 import org.openhab.core.automation.internal.composite.CompositeModuleHandlerFactory;
 import org.openhab.core.automation.internal.module.handler.SystemTriggerHandler;
+import org.openhab.core.automation.internal.ruleengine.ConnectionPlan;
 import org.openhab.core.automation.internal.ruleengine.WrappedAction;
 import org.openhab.core.automation.internal.ruleengine.WrappedCondition;
 import org.openhab.core.automation.internal.ruleengine.WrappedModule;
@@ -77,7 +84,6 @@ import org.openhab.core.automation.type.ModuleType;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
 import org.openhab.core.automation.type.Output;
 import org.openhab.core.automation.type.TriggerType;
-import org.openhab.core.automation.util.ReferenceResolver;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.Event;
@@ -136,12 +142,19 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
 
     static final String SERVICE_PID = "org.openhab.ruleengine";
     private static final String DISABLED_RULES_CLEANUP_DELAY_PROP = "disabledRules.cleanupDelayMinutes";
+    static final String EXECUTION_MODE_PROP = "executionMode";
 
     // Delay (in minutes) after reaching startlevel rules to run cleanup. 0 = disabled.
     private volatile long disabledRulesCleanupDelayMinutes = 30L;
 
     private final AtomicReference<@Nullable DisabledRulesCleaner> disabledRulesCleaner = new AtomicReference<>();
 
+    // The mode of the rules which do not select one by a tag. Applies to rules initialized after a change.
+    private volatile RuleExecutionMode executionMode = RuleExecutionMode.POOLED;
+
+    private final Map<RuleExecutionMode, AtomicInteger> runningExecutions = new EnumMap<>(RuleExecutionMode.class);
+    private final List<RuleExecutionListener> executionListeners = new CopyOnWriteArrayList<>();
+
     private final Map<String, WrappedRule> managedRules = new ConcurrentHashMap<>();
 
     /**
@@ -286,6 +299,10 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             final @Reference StorageService storageService, final @Reference ReadyService readyService,
             final @Reference StartLevelService startLevelService) {
         this.disabledRulesStorage = storageService.getStorage(DISABLED_RULE_STORAGE, this.getClass().getClassLoader());
+        for (RuleExecutionMode mode : RuleExecutionMode.values()) {
+            runningExecutions.put(mode, new AtomicInteger());
+        }
+        updateExecutionMode(configuration);
 
         mtRegistry = moduleTypeRegistry;
         mtRegistry.addRegistryChangeListener(this);
@@ -567,6 +584,15 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addRuleExecutionListener(RuleExecutionListener listener) {
+        executionListeners.add(listener);
+    }
+
+    protected void removeRuleExecutionListener(RuleExecutionListener listener) {
+        executionListeners.remove(listener);
+    }
+
     @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
     protected void setEventPublisher(EventPublisher eventPublisher) {
         this.eventPublisher = eventPublisher;
@@ -641,13 +667,15 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      * Gets {@link TriggerHandlerCallback} for passed {@link Rule}. If it does not exists, a callback object is
      * created.
      *
-     * @param ruleUID rule object for which the callback is looking for.
+     * @param rule rule object for which the callback is looking for.
      * @return a {@link TriggerHandlerCallback} corresponding to the passed {@link Rule} object.
      */
-    private synchronized TriggerHandlerCallbackImpl getTriggerHandlerCallback(String ruleUID) {
+    private synchronized TriggerHandlerCallbackImpl getTriggerHandlerCallback(WrappedRule rule) {
+        String ruleUID = rule.getUID();
         TriggerHandlerCallbackImpl result = thCallbacks.get(ruleUID);
         if (result == null) {
-            result = new TriggerHandlerCallbackImpl(this, ruleUID);
+            RuleExecutionMode mode = RuleExecutionMode.fromTags(rule.unwrap());
+            result = new TriggerHandlerCallbackImpl(this, ruleUID, mode != null ? mode : executionMode);
             thCallbacks.put(ruleUID, result);
         }
         return result;
@@ -684,7 +712,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
     private void register(WrappedRule rule) {
         final String ruleUID = rule.getUID();
 
-        TriggerHandlerCallback thCallback = getTriggerHandlerCallback(ruleUID);
+        TriggerHandlerCallback thCallback = getTriggerHandlerCallback(rule);
         rule.getTriggers().forEach(trigger -> {
             TriggerHandler triggerHandler = trigger.getModuleHandler();
             if (triggerHandler != null) {
@@ -1282,37 +1310,13 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
     /**
      * @return copy of current context in rule engine
      */
-    private Map<String, @Nullable Object> getContext(String ruleUID, @Nullable Set<Connection> connections) {
+    private Map<String, @Nullable Object> getContext(String ruleUID, @Nullable ConnectionPlan connectionPlan) {
         Map<String, @Nullable Object> context = contextMap.computeIfAbsent(ruleUID, k -> new HashMap<>());
         if (context == null) {
             throw new IllegalStateException("context cannot be null at that point - please report a bug.");
         }
-        if (connections != null) {
-            StringBuilder sb = new StringBuilder();
-            for (Connection c : connections) {
-                String outputModuleId = c.getOutputModuleId();
-                if (outputModuleId != null) {
-                    sb.append(outputModuleId).append(OUTPUT_SEPARATOR).append(c.getOutputName());
-                    Object outputValue = context.get(sb.toString());
-                    sb.setLength(0);
-                    if (outputValue != null) {
-                        if (c.getReference() == null) {
-                            context.put(c.getInputName(), outputValue);
-                        } else {
-                            context.put(c.getInputName(), ReferenceResolver.resolveComplexDataReference(outputValue,
-                                    ReferenceResolver.splitReferenceToTokens(c.getReference())));
-                        }
-                    }
-                } else {
-                    // get reference from context
-                    String ref = c.getReference();
-                    final Object value = ReferenceResolver.resolveReference(ref, context);
-
-                    if (value != null) {
-                        context.put(c.getInputName(), value);
-                    }
-                }
-            }
+        if (connectionPlan != null) {
+            connectionPlan.apply(context);
         }
         return context;
     }
@@ -1364,7 +1368,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             }
             final Condition condition = wrappedCondition.unwrap();
             ConditionHandler tHandler = wrappedCondition.getModuleHandler();
-            Map<String, @Nullable Object> context = getContext(ruleUID, wrappedCondition.getConnections());
+            Map<String, @Nullable Object> context = getContext(ruleUID, wrappedCondition.getConnectionPlan());
             if (tHandler != null && !tHandler.isSatisfied(Collections.unmodifiableMap(context))) {
                 logger.debug("The condition '{}' of rule '{}' is unsatisfied.", condition.getId(), ruleUID);
                 return false;
@@ -1419,11 +1423,10 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             final Action action = wrappedAction.unwrap();
             ActionHandler aHandler = wrappedAction.getModuleHandler();
             if (aHandler != null) {
-                Map<String, @Nullable Object> context = getContext(ruleUID, wrappedAction.getConnections());
+                Map<String, @Nullable Object> context = getContext(ruleUID, wrappedAction.getConnectionPlan());
                 try {
                     Map<String, @Nullable ?> outputs = aHandler.execute(Collections.unmodifiableMap(context));
                     if (outputs != null) {
-                        context = getContext(ruleUID, null);
                         updateContext(ruleUID, action.getId(), outputs);
                     }
                 } catch (Throwable t) {
@@ -1729,6 +1732,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
 
     @Modified
     protected void modified(Map<String, Object> configuration) {
+        updateExecutionMode(configuration);
         long old = disabledRulesCleanupDelayMinutes;
         updateDisabledRulesCleanupDelay(configuration);
         if (old != disabledRulesCleanupDelayMinutes) {
@@ -1766,6 +1770,63 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         }
     }
 
+    private void updateExecutionMode(Map<String, Object> configuration) {
+        Object v = configuration == null ? null : configuration.get(EXECUTION_MODE_PROP);
+        RuleExecutionMode mode = v == null ? RuleExecutionMode.POOLED : RuleExecutionMode.fromName(v.toString());
+        if (mode == null) {
+            logger.warn("Invalid configuration for {}: {} - using pooled execution", EXECUTION_MODE_PROP, v);
+            mode = RuleExecutionMode.POOLED;
+        }
+        executionMode = mode;
+    }
+
+    /**
+     * Counts a triggered execution of a rule and notifies the {@link RuleExecutionListener}s about it. A failing
+     * listener is logged and does not affect the execution or the other listeners.
+     *
+     * @param ruleUID the UID of the executed rule
+     * @param mode the mode the rule is executed in
+     */
+    void executionStarted(String ruleUID, RuleExecutionMode mode) {
+        int running = Objects.requireNonNull(runningExecutions.get(mode)).incrementAndGet();
+        for (RuleExecutionListener listener : executionListeners) {
+            try {
+                listener.executionStarted(ruleUID, mode, running);
+            } catch (RuntimeException e) {
+                logger.debug("Rule execution listener '{}' failed: {}", listener, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Counts the end of a triggered execution of a rule and notifies the {@link RuleExecutionListener}s about it.
+     *
+     * @param ruleUID the UID of the executed rule
+     * @param mode the mode the rule has been executed in
+     * @param startTime the start time of the execution as returned by {@link System#nanoTime()}
+     */
+    void executionFinished(String ruleUID, RuleExecutionMode mode, long startTime) {
+        long duration = System.nanoTime() - startTime;
+        int running = Objects.requireNonNull(runningExecutions.get(mode)).decrementAndGet();
+        for (RuleExecutionListener listener : executionListeners) {
+            try {
+                listener.executionFinished(ruleUID, mode, running, duration);
+            } catch (RuntimeException e) {
+                logger.debug("Rule execution listener '{}' failed: {}", listener, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of triggered rules executed in the given mode at the moment.
+     *
+     * @param mode the execution mode
+     * @return the number of running executions
+     */
+    int getRunningExecutions(RuleExecutionMode mode) {
+        return Objects.requireNonNull(runningExecutions.get(mode)).get();
+    }
+
     private boolean mustTrigger(Rule r) {
         for (Trigger t : r.getTriggers()) {
             if (SystemTriggerHandler.STARTLEVEL_MODULE_TYPE_ID.equals(t.getTypeUID())) {
@@ -15,9 +15,12 @@ package org.openhab.core.automation.internal;
 import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.RuleExecutionMode;
 import org.openhab.core.automation.RuleStatus;
 import org.openhab.core.automation.RuleStatusInfo;
 import org.openhab.core.automation.Trigger;
@@ -36,18 +39,44 @@ import org.openhab.core.common.ThreadPoolManager;
 @NonNullByDefault
 public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
 
+    /**
+     * The time an idle virtual thread waits for the next execution of its rule before it terminates.
+     */
+    private static final long VIRTUAL_THREAD_KEEP_ALIVE_SECONDS = 10;
+
     private final RuleEngineImpl re;
 
     private final String ruleUID;
 
+    private final RuleExecutionMode executionMode;
+
     private ScheduledExecutorService executor;
 
     private @Nullable Future<?> future;
 
-    protected TriggerHandlerCallbackImpl(RuleEngineImpl re, String ruleUID) {
+    protected TriggerHandlerCallbackImpl(RuleEngineImpl re, String ruleUID, RuleExecutionMode executionMode) {
         this.re = re;
         this.ruleUID = ruleUID;
-        this.executor = ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("rules", "rule-" + ruleUID);
+        this.executionMode = executionMode;
+        this.executor = executionMode == RuleExecutionMode.VIRTUAL ? createVirtualThreadExecutor(ruleUID)
+                : ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("rules", "rule-" + ruleUID);
+    }
+
+    /**
+     * Creates an executor running the tasks of a rule one after the other on a single virtual thread. The thread
+     * terminates when the rule is idle and a new one is started for the next execution.
+     */
+    private static ScheduledExecutorService createVirtualThreadExecutor(String ruleUID) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofVirtual().name("OH-rule-" + ruleUID).factory());
+        executor.setKeepAliveTime(VIRTUAL_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    public RuleExecutionMode getExecutionMode() {
+        return executionMode;
     }
 
     @Override
@@ -83,7 +112,13 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
 
         @Override
         public void run() {
-            re.runRule(ruleUID, this);
+            long startTime = System.nanoTime();
+            try {
+                re.executionStarted(ruleUID, executionMode);
+                re.runRule(ruleUID, this);
+            } finally {
+                re.executionFinished(ruleUID, executionMode, startTime);
+            }
         }
     }
 
@@ -41,6 +41,7 @@ import org.openhab.core.automation.internal.module.handler.SystemConditionHandle
 import org.openhab.core.automation.internal.module.handler.SystemTriggerHandler;
 import org.openhab.core.automation.internal.module.handler.ThingStatusConditionHandler;
 import org.openhab.core.automation.internal.module.handler.ThingStatusTriggerHandler;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.ItemRegistry;
@@ -84,17 +85,20 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory implement
     private final EventPublisher eventPublisher;
     private final BundleContext bundleContext;
     private final StartLevelService startLevelService;
+    private final TriggerEventRouter triggerEventRouter;
 
     @Activate
     public CoreModuleHandlerFactory(BundleContext bundleContext, final @Reference EventPublisher eventPublisher,
             final @Reference ThingRegistry thingRegistry, final @Reference ItemRegistry itemRegistry,
-            final @Reference TimeZoneProvider timeZoneProvider, final @Reference StartLevelService startLevelService) {
+            final @Reference TimeZoneProvider timeZoneProvider, final @Reference StartLevelService startLevelService,
+            final @Reference TriggerEventRouter triggerEventRouter) {
         this.bundleContext = bundleContext;
         this.eventPublisher = eventPublisher;
         this.thingRegistry = thingRegistry;
         this.itemRegistry = itemRegistry;
         this.timeZoneProvider = timeZoneProvider;
         this.startLevelService = startLevelService;
+        this.triggerEventRouter = triggerEventRouter;
     }
 
     @Override
@@ -117,22 +121,22 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory implement
             if (GenericEventTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
                 return new GenericEventTriggerHandler(trigger, bundleContext);
             } else if (ChannelEventTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ChannelEventTriggerHandler(trigger, bundleContext);
+                return new ChannelEventTriggerHandler(trigger, triggerEventRouter);
             } else if (ItemCommandTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemCommandTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new ItemCommandTriggerHandler(trigger, ruleUID, triggerEventRouter, itemRegistry);
             } else if (SystemTriggerHandler.STARTLEVEL_MODULE_TYPE_ID.equals(moduleTypeUID)) {
                 return new SystemTriggerHandler(trigger, bundleContext);
             } else if (ThingStatusTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || ThingStatusTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ThingStatusTriggerHandler(trigger, bundleContext);
+                return new ThingStatusTriggerHandler(trigger, triggerEventRouter);
             } else if (ItemStateTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || ItemStateTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemStateTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new ItemStateTriggerHandler(trigger, ruleUID, triggerEventRouter, itemRegistry);
             } else if (GroupCommandTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
                 return new GroupCommandTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
             } else if (GroupStateTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || GroupStateTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new GroupStateTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new GroupStateTriggerHandler(trigger, ruleUID, triggerEventRouter, itemRegistry);
             }
         } else if (module instanceof Condition condition) {
             // Handle conditions
@@ -13,22 +13,15 @@
 package org.openhab.core.automation.internal.module.handler;
 
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter.Route;
 import org.openhab.core.events.Event;
-import org.openhab.core.events.EventFilter;
-import org.openhab.core.events.EventSubscriber;
-import org.openhab.core.events.TopicEventFilter;
 import org.openhab.core.thing.ChannelUID;
-import org.openhab.core.thing.events.ChannelTriggeredEvent;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +32,7 @@ import org.slf4j.LoggerFactory;
  * @author Jimmy Tanagra - Add support for wildcard channel matching
  */
 @NonNullByDefault
-public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber, EventFilter {
+public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler {
 
     public static final String MODULE_TYPE_ID = "core.ChannelEventTrigger";
 
@@ -49,14 +42,10 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
 
     private final Logger logger = LoggerFactory.getLogger(ChannelEventTriggerHandler.class);
 
-    private @Nullable final String eventOnChannel;
-    private final @Nullable ChannelUID channelUID;
-    private final @Nullable TopicEventFilter eventTopicFilter;
-    private final Set<String> types;
-    private final BundleContext bundleContext;
-    private final ServiceRegistration<?> eventSubscriberRegistration;
+    private final TriggerEventRouter router;
+    private final Route route;
 
-    public ChannelEventTriggerHandler(Trigger module, BundleContext bundleContext) {
+    public ChannelEventTriggerHandler(Trigger module, TriggerEventRouter router) {
         super(module);
 
         String cfgChannel = (String) module.getConfiguration().get(CFG_CHANNEL);
@@ -65,26 +54,25 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
             throw new IllegalArgumentException("Configuration must contain a non-empty channelUID");
         }
 
-        this.eventOnChannel = (String) module.getConfiguration().get(CFG_CHANNEL_EVENT);
-        TopicEventFilter topicFilter = null;
-        ChannelUID parsedChannel = null;
-        if (cfgChannel.contains("?") || cfgChannel.contains("*")) {
-            String topicRegex = "^openhab/channels/" + cfgChannel.replace("?", ".?").replace("*", ".*?")
-                    + "/triggered$";
-            topicFilter = new TopicEventFilter(topicRegex);
-        } else {
-            parsedChannel = new ChannelUID(cfgChannel);
+        String eventOnChannel = (String) module.getConfiguration().get(CFG_CHANNEL_EVENT);
+        if (eventOnChannel != null && eventOnChannel.isBlank()) {
+            eventOnChannel = null;
         }
-        this.channelUID = parsedChannel;
-        this.eventTopicFilter = topicFilter;
-        this.types = Set.of("ChannelTriggeredEvent");
-        this.bundleContext = bundleContext;
-
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        if (!cfgChannel.contains("?") && !cfgChannel.contains("*")) {
+            // validates the UID
+            cfgChannel = new ChannelUID(cfgChannel).getAsString();
+        }
+        this.router = router;
+        this.route = router.addChannelRoute(cfgChannel, eventOnChannel, this::receive);
     }
 
-    @Override
-    public void receive(Event event) {
+    /**
+     * Receives an event of the channel, which has already been checked by the {@link TriggerEventRouter} to match the
+     * configured event.
+     *
+     * @param event the event
+     */
+    void receive(Event event) {
         ModuleHandlerCallback localCallback = callback;
         if (localCallback != null) {
             logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
@@ -93,36 +81,9 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
         }
     }
 
-    @Override
-    public boolean apply(Event event) {
-        boolean eventMatches = false;
-        if (event instanceof ChannelTriggeredEvent cte) {
-            if (channelUID != null && !channelUID.equals(cte.getChannel())) {
-                return false;
-            }
-            if (eventTopicFilter != null && !eventTopicFilter.apply(event)) {
-                return false;
-            }
-            String eventOnChannel = this.eventOnChannel;
-            logger.trace("->FILTER: {}:{}", cte.getEvent(), eventOnChannel);
-            eventMatches = eventOnChannel == null || eventOnChannel.isBlank() || eventOnChannel.equals(cte.getEvent());
-        }
-        return eventMatches;
-    }
-
-    @Override
-    public @Nullable EventFilter getEventFilter() {
-        return this;
-    }
-
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return types;
-    }
-
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        router.removeRoute(route);
     }
 }
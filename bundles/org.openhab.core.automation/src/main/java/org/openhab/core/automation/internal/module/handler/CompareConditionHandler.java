@@ -16,6 +16,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -44,23 +47,34 @@ public class CompareConditionHandler extends BaseConditionModuleHandler {
 
     public final Logger logger = LoggerFactory.getLogger(CompareConditionHandler.class);
 
+    private final @Nullable Operator operator;
+    private final @Nullable String rightOperandString;
+    private final @Nullable String leftObjectGetterName;
+    private final Map<Class<?>, Object> rightValues = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<Method>> leftObjectGetters = new ConcurrentHashMap<>();
+    private volatile @Nullable Pattern rightPattern;
+
     public CompareConditionHandler(Condition module) {
         super(module);
+        Object operatorObj = this.module.getConfiguration().get(OPERATOR);
+        this.operator = operatorObj instanceof String s ? Operator.parse(s) : null;
+        Object rightObj = this.module.getConfiguration().get(RIGHT_OP);
+        this.rightOperandString = rightObj instanceof String s ? s : null;
+        Object leftObjFieldNameObj = this.module.getConfiguration().get(INPUT_LEFT_FIELD);
+        this.leftObjectGetterName = leftObjFieldNameObj instanceof String s && !s.isEmpty()
+                ? "get" + s.substring(0, 1).toUpperCase() + s.substring(1)
+                : null;
     }
 
     @Override
     public boolean isSatisfied(Map<String, @Nullable Object> context) {
-        Object operatorObj = this.module.getConfiguration().get(OPERATOR);
-        String operator = operatorObj instanceof String s ? s : null;
-        Object rightObj = this.module.getConfiguration().get(RIGHT_OP);
-        String rightOperandString = rightObj instanceof String s ? s : null;
-        Object leftObjFieldNameObj = this.module.getConfiguration().get(INPUT_LEFT_FIELD);
-        String leftObjectFieldName = leftObjFieldNameObj instanceof String s ? s : null;
+        Operator operator = this.operator;
+        String rightOperandString = this.rightOperandString;
         if (rightOperandString == null || operator == null) {
             return false;
         } else {
             Object leftObj = context.get(INPUT_LEFT_OBJECT);
-            Object toCompare = getCompareValue(leftObj, leftObjectFieldName);
+            Object toCompare = getCompareValue(leftObj);
             Object rightValue = getRightOperandValue(rightOperandString, toCompare);
             if (rightValue == null) {
                 if (leftObj != null) {
@@ -73,45 +87,29 @@ public class CompareConditionHandler extends BaseConditionModuleHandler {
             }
             try {
                 switch (operator) {
-                    case "eq":
-                    case "EQ":
-                    case "=":
-                    case "==":
-                    case "equals":
-                    case "EQUALS":
-                        // EQUALS
+                    case EQUALS:
                         if (toCompare == null) {
                             return "null".equals(rightOperandString) || "".equals(rightOperandString);
                         } else {
                             return toCompare.equals(rightValue);
                         }
-                    case "gt":
-                    case "GT":
-                    case ">":
-                        // Greater
+                    case GREATER:
                         return (toCompare != null) && (compare(toCompare, rightValue) > 0);
-                    case "gte":
-                    case "GTE":
-                    case ">=":
-                    case "=>":
-                        // Greater or equal
+                    case GREATER_OR_EQUAL:
                         return (toCompare != null) && (compare(toCompare, rightValue) >= 0);
-                    case "lt":
-                    case "LT":
-                    case "<":
+                    case LESS:
                         return (toCompare != null) && (compare(toCompare, rightValue) < 0);
-                    case "lte":
-                    case "LTE":
-                    case "<=":
-                    case "=<":
+                    case LESS_OR_EQUAL:
                         return (toCompare != null) && (compare(toCompare, rightValue) <= 0);
-                    case "matches":
-                        // Matcher...
+                    case MATCHES:
                         if (toCompare instanceof String string1 && rightValue instanceof String string2) {
-                            return string1.matches(string2);
+                            Pattern pattern = rightPattern;
+                            if (pattern == null) {
+                                pattern = Pattern.compile(string2);
+                                rightPattern = pattern;
+                            }
+                            return pattern.matcher(string1).matches();
                         }
-                    default:
-                        break;
                 }
             } catch (UncomparableException e) {
                 // values can not be compared, so assume that the condition is not satisfied
@@ -139,6 +137,21 @@ public class CompareConditionHandler extends BaseConditionModuleHandler {
         if ("null".equals(rightOperandString2)) {
             return rightOperandString2;
         }
+        if (toCompare == null) {
+            return null;
+        }
+        // the right operand only depends on the type of the left one, so it is parsed once per type
+        Object rightValue = rightValues.get(toCompare.getClass());
+        if (rightValue == null) {
+            rightValue = parseRightOperandValue(rightOperandString2, toCompare);
+            if (rightValue != null) {
+                rightValues.put(toCompare.getClass(), rightValue);
+            }
+        }
+        return rightValue;
+    }
+
+    private @Nullable Object parseRightOperandValue(String rightOperandString2, Object toCompare) {
         if (toCompare instanceof State state) {
             return TypeParser.parseState(List.of(state.getClass()), rightOperandString2);
         } else if (toCompare instanceof Integer) {
@@ -153,19 +166,73 @@ public class CompareConditionHandler extends BaseConditionModuleHandler {
         return null;
     }
 
-    private @Nullable Object getCompareValue(@Nullable Object leftObj, @Nullable String leftObjFieldName) {
-        if (leftObj == null || leftObjFieldName == null || leftObjFieldName.isEmpty() || leftObj instanceof String
-                || leftObj instanceof Integer || leftObj instanceof Long || leftObj instanceof Double) {
+    private @Nullable Object getCompareValue(@Nullable Object leftObj) {
+        String getterName = leftObjectGetterName;
+        if (leftObj == null || getterName == null || leftObj instanceof String || leftObj instanceof Integer
+                || leftObj instanceof Long || leftObj instanceof Double) {
             return leftObj;
         } else {
+            Optional<Method> getter = leftObjectGetters.computeIfAbsent(leftObj.getClass(), c -> {
+                try {
+                    return Optional.of(c.getMethod(getterName));
+                } catch (NoSuchMethodException | SecurityException e) {
+                    return Optional.empty();
+                }
+            });
+            if (getter.isEmpty()) {
+                return null;
+            }
             try {
-                Method m = leftObj.getClass().getMethod(
-                        "get" + leftObjFieldName.substring(0, 1).toUpperCase() + leftObjFieldName.substring(1));
-                return m.invoke(leftObj);
-            } catch (NoSuchMethodException | SecurityException | StringIndexOutOfBoundsException
-                    | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                return getter.get().invoke(leftObj);
+            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
                 return null;
             }
         }
     }
+
+    /**
+     * The operators of the condition.
+     */
+    private enum Operator {
+        EQUALS,
+        GREATER,
+        GREATER_OR_EQUAL,
+        LESS,
+        LESS_OR_EQUAL,
+        MATCHES;
+
+        static @Nullable Operator parse(String operator) {
+            switch (operator) {
+                case "eq":
+                case "EQ":
+                case "=":
+                case "==":
+                case "equals":
+                case "EQUALS":
+                    return EQUALS;
+                case "gt":
+                case "GT":
+                case ">":
+                    return GREATER;
+                case "gte":
+                case "GTE":
+                case ">=":
+                case "=>":
+                    return GREATER_OR_EQUAL;
+                case "lt":
+                case "LT":
+                case "<":
+                    return LESS;
+                case "lte":
+                case "LTE":
+                case "<=":
+                case "=<":
+                    return LESS_OR_EQUAL;
+                case "matches":
+                    return MATCHES;
+                default:
+                    return null;
+            }
+        }
+    }
 }
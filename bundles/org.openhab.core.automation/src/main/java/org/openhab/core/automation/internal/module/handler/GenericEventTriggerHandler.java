@@ -125,6 +125,12 @@ public class GenericEventTriggerHandler extends BaseTriggerModuleHandler impleme
         }
     }
 
+    @Override
+    public @Nullable Set<String> getTopicScopes() {
+        TopicGlobEventFilter localTopicFilter = topicFilter;
+        return localTopicFilter == null ? null : localTopicFilter.getTopicScopes();
+    }
+
     @Override
     public boolean apply(Event event) {
         logger.trace("->FILTER: {}: {}", event.getTopic(), source);
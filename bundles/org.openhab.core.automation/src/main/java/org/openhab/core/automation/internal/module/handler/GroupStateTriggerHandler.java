@@ -19,11 +19,11 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter.Route;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
 import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.events.Event;
-import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.events.GroupItemStateChangedEvent;
@@ -32,8 +32,6 @@ import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
 import org.openhab.core.types.State;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,7 +43,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Initial contribution
  */
 @NonNullByDefault
-public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
+public class GroupStateTriggerHandler extends BaseTriggerModuleHandler {
 
     public static final String UPDATE_MODULE_TYPE_ID = "core.GroupStateUpdateTrigger";
     public static final String CHANGE_MODULE_TYPE_ID = "core.GroupStateChangeTrigger";
@@ -57,15 +55,12 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
     private final Logger logger = LoggerFactory.getLogger(GroupStateTriggerHandler.class);
 
     private final String groupName;
-    private final @Nullable String state;
-    private final String previousState;
     private final String ruleUID;
-    private final Set<String> types;
     private final ItemRegistry itemRegistry;
+    private final TriggerEventRouter router;
+    private final Route route;
 
-    private final ServiceRegistration<?> eventSubscriberRegistration;
-
-    public GroupStateTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public GroupStateTriggerHandler(Trigger module, String ruleUID, TriggerEventRouter router,
             ItemRegistry itemRegistry) {
         super(module);
         this.groupName = ConfigParser.valueAsOrElse(module.getConfiguration().get(CFG_GROUPNAME), String.class, "");
@@ -73,17 +68,22 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
             logger.warn("GroupStateTrigger {} of rule {} has no groupName configured and will not work.",
                     module.getId(), ruleUID);
         }
-        this.state = (String) module.getConfiguration().get(CFG_STATE);
-        this.previousState = (String) module.getConfiguration().get(CFG_PREVIOUS_STATE);
+        String state = (String) module.getConfiguration().get(CFG_STATE);
+        String previousState = (String) module.getConfiguration().get(CFG_PREVIOUS_STATE);
+        Set<String> types;
         if (UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-            this.types = Set.of(ItemStateUpdatedEvent.TYPE, ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE);
+            types = Set.of(ItemStateUpdatedEvent.TYPE, ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE);
+            previousState = null;
         } else {
-            this.types = Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE,
+            types = Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE,
                     ItemRemovedEvent.TYPE);
+            state = requiredState(state);
+            previousState = requiredState(previousState);
         }
         this.ruleUID = ruleUID;
         this.itemRegistry = itemRegistry;
-        eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.router = router;
+        this.route = router.addGroupMemberRoute(groupName, types, state, previousState, this::receive);
 
         if (itemRegistry.get(groupName) == null) {
             logger.warn("Group '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", groupName, ruleUID,
@@ -91,90 +91,77 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
         }
     }
 
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return types;
-    }
-
-    @Override
-    public void receive(Event event) {
-        if (event instanceof ItemAddedEvent addedEvent) {
-            if (groupName.equals(addedEvent.getItem().name)) {
-                logger.info("Group '{}' needed for rule '{}' added. Trigger '{}' will now work.", groupName, ruleUID,
-                        module.getId());
-                return;
-            }
-        } else if (event instanceof ItemRemovedEvent removedEvent) {
-            if (groupName.equals(removedEvent.getItem().name)) {
-                logger.warn("Group '{}' needed for rule '{}' removed. Trigger '{}' will no longer work.", groupName,
-                        ruleUID, module.getId());
-                return;
-            }
+    /**
+     * Receives an event of a member of the group, which has already been checked by the {@link TriggerEventRouter} to
+     * match the configured states.
+     *
+     * @param event the event
+     */
+    void receive(Event event) {
+        if (event instanceof ItemAddedEvent) {
+            logger.info("Group '{}' needed for rule '{}' added. Trigger '{}' will now work.", groupName, ruleUID,
+                    module.getId());
+            return;
+        } else if (event instanceof ItemRemovedEvent) {
+            logger.warn("Group '{}' needed for rule '{}' removed. Trigger '{}' will no longer work.", groupName,
+                    ruleUID, module.getId());
+            return;
         }
 
         if (callback instanceof TriggerHandlerCallback cb) {
             logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
                     event.getTopic(), event.getType(), event.getPayload());
-            if (event instanceof ItemStateUpdatedEvent isEvent && UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-                String itemName = isEvent.getItemName();
-                Item item = itemRegistry.get(itemName);
+            if (event instanceof ItemStateUpdatedEvent isEvent) {
+                Item item = itemRegistry.get(isEvent.getItemName());
                 Item group = itemRegistry.get(groupName);
-                if (item != null && item.getGroupNames().contains(groupName)) {
-                    State state = isEvent.getItemState();
-                    if ((this.state == null || state.toFullString().equals(this.state))) {
-                        Map<String, @Nullable Object> values = new HashMap<>();
-                        if (group != null) {
-                            values.put("triggeringGroup", group);
-                        }
-                        values.put("triggeringItem", item);
-                        values.put("state", state);
-                        values.put("lastStateUpdate", isEvent.getLastStateUpdate());
-                        values.put("event", event);
-                        cb.triggered(this.module, values);
+                if (item != null) {
+                    Map<String, @Nullable Object> values = new HashMap<>();
+                    if (group != null) {
+                        values.put("triggeringGroup", group);
                     }
+                    values.put("triggeringItem", item);
+                    values.put("state", isEvent.getItemState());
+                    values.put("lastStateUpdate", isEvent.getLastStateUpdate());
+                    values.put("event", event);
+                    cb.triggered(this.module, values);
                 }
-            } else if (event instanceof ItemStateChangedEvent iscEvent
-                    && CHANGE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-                String itemName = iscEvent.getItemName();
-                Item item = itemRegistry.get(itemName);
+            } else if (event instanceof ItemStateChangedEvent iscEvent) {
+                Item item = itemRegistry.get(iscEvent.getItemName());
                 Item group = itemRegistry.get(groupName);
-                if (item != null && item.getGroupNames().contains(groupName)) {
+                if (item != null) {
                     State state = iscEvent.getItemState();
                     State oldState = iscEvent.getOldItemState();
-
-                    if (stateMatches(this.state, state) && stateMatches(this.previousState, oldState)) {
-                        Map<String, @Nullable Object> values = new HashMap<>();
-                        if (group != null) {
-                            values.put("triggeringGroup", group);
-                        }
-                        values.put("triggeringItem", item);
-                        values.put("oldState", oldState);
-                        values.put("newState", state);
-                        values.put("lastStateUpdate", iscEvent.getLastStateUpdate());
-                        values.put("lastStateChange", iscEvent.getLastStateChange());
-                        values.put("event", event);
-                        cb.triggered(this.module, values);
+                    Map<String, @Nullable Object> values = new HashMap<>();
+                    if (group != null) {
+                        values.put("triggeringGroup", group);
                     }
+                    values.put("triggeringItem", item);
+                    values.put("oldState", oldState);
+                    values.put("newState", state);
+                    values.put("lastStateUpdate", iscEvent.getLastStateUpdate());
+                    values.put("lastStateChange", iscEvent.getLastStateChange());
+                    values.put("event", event);
+                    cb.triggered(this.module, values);
                 }
             }
         }
     }
 
-    private boolean stateMatches(@Nullable String requiredState, State state) {
+    private static @Nullable String requiredState(@Nullable String requiredState) {
         if (requiredState == null) {
-            return true;
+            return null;
         }
 
         String reqState = requiredState.trim();
-        return reqState.isEmpty() || reqState.equals(state.toFullString());
+        return reqState.isEmpty() ? null : reqState;
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the route...
      */
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        router.removeRoute(route);
     }
 }
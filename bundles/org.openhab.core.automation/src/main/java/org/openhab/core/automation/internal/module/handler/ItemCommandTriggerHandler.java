@@ -17,23 +17,16 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter.Route;
 import org.openhab.core.events.Event;
-import org.openhab.core.events.EventFilter;
-import org.openhab.core.events.EventSubscriber;
-import org.openhab.core.events.TopicEventFilter;
-import org.openhab.core.events.TopicPrefixEventFilter;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.events.ItemAddedEvent;
 import org.openhab.core.items.events.ItemCommandEvent;
 import org.openhab.core.items.events.ItemRemovedEvent;
-import org.openhab.core.types.Command;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,7 +38,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Initial contribution
  */
 @NonNullByDefault
-public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
+public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler {
 
     public static final String MODULE_TYPE_ID = "core.ItemCommandTrigger";
 
@@ -55,87 +48,63 @@ public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implemen
     private final Logger logger = LoggerFactory.getLogger(ItemCommandTriggerHandler.class);
 
     private final String itemName;
-    private final @Nullable String command;
-
-    private final Set<String> types;
-    private final BundleContext bundleContext;
     private final String ruleUID;
-    private final EventFilter eventFilter;
-
-    private final ServiceRegistration<?> eventSubscriberRegistration;
+    private final TriggerEventRouter router;
+    private final Route route;
 
-    public ItemCommandTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public ItemCommandTriggerHandler(Trigger module, String ruleUID, TriggerEventRouter router,
             ItemRegistry itemRegistry) {
         super(module);
         this.itemName = (String) module.getConfiguration().get(CFG_ITEMNAME);
         boolean isWildcard = itemName.contains("?") || itemName.contains("*");
-        if (isWildcard) {
-            this.eventFilter = new TopicEventFilter(
-                    "^openhab/items/" + itemName.replace("?", ".?").replace("*", ".*?") + "/.*$");
-            this.types = Set.of(ItemCommandEvent.TYPE);
-        } else {
-            this.eventFilter = new TopicPrefixEventFilter("openhab/items/" + itemName + "/");
-            this.types = Set.of(ItemCommandEvent.TYPE, ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE);
-        }
-        this.command = (String) module.getConfiguration().get(CFG_COMMAND);
-        this.bundleContext = bundleContext;
+        Set<String> types = isWildcard ? Set.of(ItemCommandEvent.TYPE)
+                : Set.of(ItemCommandEvent.TYPE, ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE);
+        String command = (String) module.getConfiguration().get(CFG_COMMAND);
         this.ruleUID = ruleUID;
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.router = router;
+        this.route = router.addItemRoute(itemName, types, command, null, this::receive);
         if (!isWildcard && itemRegistry.get(itemName) == null) {
             logger.warn("Item '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", itemName, ruleUID,
                     module.getId());
         }
     }
 
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return types;
-    }
-
-    @Override
-    public @Nullable EventFilter getEventFilter() {
-        return eventFilter;
-    }
-
-    @Override
-    public void receive(Event event) {
-        if (event instanceof ItemAddedEvent addedEvent) {
-            if (itemName.equals(addedEvent.getItem().name)) {
-                logger.info("Item '{}' needed for rule '{}' added. Trigger '{}' will now work.", itemName, ruleUID,
-                        module.getId());
-                return;
-            }
-        } else if (event instanceof ItemRemovedEvent removedEvent) {
-            if (itemName.equals(removedEvent.getItem().name)) {
-                logger.warn("Item '{}' needed for rule '{}' removed. Trigger '{}' will no longer work.", itemName,
-                        ruleUID, module.getId());
-                return;
-            }
+    /**
+     * Receives an event of the item, which has already been checked by the {@link TriggerEventRouter} to match the
+     * configured command.
+     *
+     * @param event the event
+     */
+    void receive(Event event) {
+        if (event instanceof ItemAddedEvent) {
+            logger.info("Item '{}' needed for rule '{}' added. Trigger '{}' will now work.", itemName, ruleUID,
+                    module.getId());
+            return;
+        } else if (event instanceof ItemRemovedEvent) {
+            logger.warn("Item '{}' needed for rule '{}' removed. Trigger '{}' will no longer work.", itemName, ruleUID,
+                    module.getId());
+            return;
         }
 
         ModuleHandlerCallback callback = this.callback;
         if (callback != null) {
             logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
                     event.getTopic(), event.getType(), event.getPayload());
-            Map<String, Object> values = new HashMap<>();
             if (event instanceof ItemCommandEvent commandEvent) {
-                String command = this.command;
-                Command itemCommand = commandEvent.getItemCommand();
-                if (command == null || command.equals(itemCommand.toFullString())) {
-                    values.put("command", itemCommand);
-                    values.put("event", event);
-                    ((TriggerHandlerCallback) callback).triggered(this.module, values);
-                }
+                Map<String, Object> values = new HashMap<>();
+                values.put("command", commandEvent.getItemCommand());
+                values.put("event", event);
+                ((TriggerHandlerCallback) callback).triggered(this.module, values);
             }
         }
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the route...
      */
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        router.removeRoute(route);
     }
 }
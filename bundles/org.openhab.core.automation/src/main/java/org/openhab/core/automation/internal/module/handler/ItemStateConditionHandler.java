@@ -18,8 +18,10 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,6 +37,7 @@ import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.events.ItemAddedEvent;
 import org.openhab.core.items.events.ItemRemovedEvent;
+import org.openhab.core.items.events.ItemUpdatedEvent;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.PercentType;
@@ -76,6 +79,8 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
     private final ServiceRegistration<?> eventSubscriberRegistration;
     private final TimeZoneProvider timeZoneProvider;
 
+    private volatile @Nullable CompiledCondition compiledCondition;
+
     public ItemStateConditionHandler(Condition condition, String ruleUID, BundleContext bundleContext,
             ItemRegistry itemRegistry, TimeZoneProvider timeZoneProvider) {
         super(condition);
@@ -84,7 +89,7 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
         this.timeZoneProvider = timeZoneProvider;
         this.itemName = (String) module.getConfiguration().get(ITEM_NAME);
         this.eventFilter = new TopicPrefixEventFilter("openhab/items/" + itemName + "/");
-        this.types = Set.of(ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE);
+        this.types = Set.of(ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE, ItemUpdatedEvent.TYPE);
         this.ruleUID = ruleUID;
 
         eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
@@ -107,6 +112,8 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
 
     @Override
     public void receive(Event event) {
+        // the accepted data types of the item may have changed, the state has to be parsed again
+        compiledCondition = null;
         if (event instanceof ItemAddedEvent addedEvent) {
             if (itemName.equals(addedEvent.getItem().name)) {
                 logger.info("Item '{}' needed for rule '{}' added. Condition '{}' will now work.", itemName, ruleUID,
@@ -132,21 +139,24 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
         try {
             logger.debug("ItemStateCondition '{}' checking if {} {} {} for rule {}", module.getId(), itemName, operator,
                     state, ruleUID);
+            Item item = itemRegistry.getItem(itemName);
+            CompiledCondition condition = compile(item, state);
+            State itemState = item.getState();
             switch (operator) {
                 case "=":
-                    return equalsToItemState(itemName, state);
+                    return equalsToItemState(itemState, condition);
                 case "!=":
-                    return !equalsToItemState(itemName, state);
+                    return !equalsToItemState(itemState, condition);
                 case "<":
-                    return !greaterThanOrEqualsToItemState(itemName, state);
+                    return !greaterThanOrEqualsToItemState(itemState, condition);
                 case "<=":
                 case "=<":
-                    return lessThanOrEqualsToItemState(itemName, state);
+                    return lessThanOrEqualsToItemState(itemState, condition);
                 case ">":
-                    return !lessThanOrEqualsToItemState(itemName, state);
+                    return !lessThanOrEqualsToItemState(itemState, condition);
                 case ">=":
                 case "=>":
-                    return greaterThanOrEqualsToItemState(itemName, state);
+                    return greaterThanOrEqualsToItemState(itemState, condition);
             }
         } catch (ItemNotFoundException e) {
             logger.error("Item with name {} not found in ItemRegistry for condition of rule {}.", itemName, ruleUID);
@@ -154,14 +164,30 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
         return false;
     }
 
+    /**
+     * Returns the configured state parsed for the accepted data types of the item, so it does not have to be parsed on
+     * each evaluation. The parsed state is discarded whenever the item is added, removed or updated, and it is parsed
+     * again if it has been parsed for other data types than the ones of the given item.
+     */
+    private CompiledCondition compile(Item item, String state) {
+        List<Class<? extends State>> acceptedDataTypes = item.getAcceptedDataTypes();
+        CompiledCondition condition = compiledCondition;
+        if (condition == null || !condition.acceptedDataTypes().equals(acceptedDataTypes)) {
+            State compareState = TypeParser.parseState(acceptedDataTypes, state);
+            Supplier<Instant> compareTime = acceptedDataTypes.contains(DateTimeType.class) ? compileCompareTime(state)
+                    : Instant::now;
+            condition = new CompiledCondition(acceptedDataTypes, state, compareState, compareTime);
+            compiledCondition = condition;
+        }
+        return condition;
+    }
+
     @SuppressWarnings("unchecked")
-    private boolean lessThanOrEqualsToItemState(String itemName, String state) throws ItemNotFoundException {
-        Item item = itemRegistry.getItem(itemName);
-        State compareState = TypeParser.parseState(item.getAcceptedDataTypes(), state);
-        State itemState = item.getState();
+    private boolean lessThanOrEqualsToItemState(State itemState, CompiledCondition condition) {
+        State compareState = condition.compareState();
         if (itemState instanceof DateTimeType dateTimeState) {
             Instant itemTime = dateTimeState.getInstant();
-            Instant compareTime = getCompareTime(state);
+            Instant compareTime = condition.compareTime().get();
             return itemTime.compareTo(compareTime) <= 0;
         } else if (itemState instanceof QuantityType qtState) {
             if (compareState instanceof DecimalType type) {
@@ -170,7 +196,7 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
                 if (!Units.ONE.equals(qtState.getUnit())) {
                     logger.warn(
                             "Received a QuantityType state '{}' with unit for item {}, but the condition is defined as a plain number without unit ({}), please consider adding a unit to the condition for rule {}.",
-                            qtState, itemName, state, ruleUID);
+                            qtState, itemName, condition.state(), ruleUID);
                 }
                 return qtState.compareTo(new QuantityType<>(type.toBigDecimal(), qtState.getUnit())) <= 0;
             } else if (compareState instanceof QuantityType type) {
@@ -192,13 +218,11 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
     }
 
     @SuppressWarnings("unchecked")
-    private boolean greaterThanOrEqualsToItemState(String itemName, String state) throws ItemNotFoundException {
-        Item item = itemRegistry.getItem(itemName);
-        State compareState = TypeParser.parseState(item.getAcceptedDataTypes(), state);
-        State itemState = item.getState();
+    private boolean greaterThanOrEqualsToItemState(State itemState, CompiledCondition condition) {
+        State compareState = condition.compareState();
         if (itemState instanceof DateTimeType dateTimeState) {
             Instant itemTime = dateTimeState.getInstant();
-            Instant compareTime = getCompareTime(state);
+            Instant compareTime = condition.compareTime().get();
             return itemTime.compareTo(compareTime) >= 0;
         } else if (itemState instanceof QuantityType qtState) {
             if (compareState instanceof DecimalType type) {
@@ -207,7 +231,7 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
                 if (!Units.ONE.equals(qtState.getUnit())) {
                     logger.warn(
                             "Received a QuantityType state '{}' with unit for item {}, but the condition is defined as a plain number without unit ({}), please consider adding a unit to the condition for rule {}.",
-                            qtState, itemName, state, ruleUID);
+                            qtState, itemName, condition.state(), ruleUID);
                 }
                 return qtState.compareTo(new QuantityType<>(type.toBigDecimal(), qtState.getUnit())) >= 0;
             } else if (compareState instanceof QuantityType type) {
@@ -228,10 +252,8 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
         return false;
     }
 
-    private boolean equalsToItemState(String itemName, String state) throws ItemNotFoundException {
-        Item item = itemRegistry.getItem(itemName);
-        State compareState = TypeParser.parseState(item.getAcceptedDataTypes(), state);
-        State itemState = item.getState();
+    private boolean equalsToItemState(State itemState, CompiledCondition condition) {
+        State compareState = condition.compareState();
         if (itemState instanceof QuantityType qtState && compareState instanceof DecimalType type) {
             if (Units.ONE.equals(qtState.getUnit())) {
                 // allow compareStates without unit if the unit of the state equals to ONE
@@ -240,7 +262,7 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
                 // log a warning if the unit of the state differs from ONE
                 logger.warn(
                         "Received a QuantityType state '{}' with unit for item {}, but the condition is defined as a plain number without unit ({}), comparison will fail unless a unit is added to the condition for rule {}.",
-                        itemState, itemName, state, ruleUID);
+                        itemState, itemName, condition.state(), ruleUID);
                 return false;
             }
         }
@@ -253,36 +275,46 @@ public class ItemStateConditionHandler extends BaseConditionModuleHandler implem
         eventSubscriberRegistration.unregister();
     }
 
-    private Instant getCompareTime(String input) {
+    private Supplier<Instant> compileCompareTime(String input) {
         if (input.isBlank()) {
             // no parameter given, use now
-            return Instant.now();
+            return Instant::now;
         }
         try {
-            return ZonedDateTime.parse(input).toInstant();
+            Instant time = ZonedDateTime.parse(input).toInstant();
+            return () -> time;
         } catch (DateTimeParseException ignored) {
         }
         try {
-            return LocalDateTime.parse(input, DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-                    .atZone(timeZoneProvider.getTimeZone()).toInstant();
+            LocalDateTime time = LocalDateTime.parse(input, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            return () -> time.atZone(timeZoneProvider.getTimeZone()).toInstant();
         } catch (DateTimeParseException ignored) {
         }
         try {
+            Duration duration;
             int dayPosition = input.indexOf("D");
             if (dayPosition == -1) {
                 // no date in string, add period symbol and time separator
-                return Instant.now().plus(Duration.parse("PT" + input));
+                duration = Duration.parse("PT" + input);
             } else if (dayPosition == input.length() - 1) {
                 // day is the last symbol, only add the period symbol
-                return Instant.now().plus(Duration.parse("P" + input));
+                duration = Duration.parse("P" + input);
             } else {
                 // add period symbol and time separator
-                return Instant.now().plus(Duration
-                        .parse("P" + input.substring(0, dayPosition + 1) + "T" + input.substring(dayPosition + 1)));
+                duration = Duration
+                        .parse("P" + input.substring(0, dayPosition + 1) + "T" + input.substring(dayPosition + 1));
             }
+            return () -> Instant.now().plus(duration);
         } catch (DateTimeParseException e) {
             logger.warn("Couldn't get a comparable time from '{}', using now", input);
         }
-        return Instant.now();
+        return Instant::now;
+    }
+
+    /**
+     * The configuration of the condition, parsed for the accepted data types of the item.
+     */
+    private record CompiledCondition(List<Class<? extends State>> acceptedDataTypes, String state,
+            @Nullable State compareState, Supplier<Instant> compareTime) {
     }
 }
@@ -22,11 +22,8 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter.Route;
 import org.openhab.core.events.Event;
-import org.openhab.core.events.EventFilter;
-import org.openhab.core.events.EventSubscriber;
-import org.openhab.core.events.TopicEventFilter;
-import org.openhab.core.events.TopicPrefixEventFilter;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.events.GroupItemStateChangedEvent;
 import org.openhab.core.items.events.GroupStateUpdatedEvent;
@@ -35,8 +32,6 @@ import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
 import org.openhab.core.types.State;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,7 +44,7 @@ import org.slf4j.LoggerFactory;
  * @author Simon Merschjohann - Initial contribution
  */
 @NonNullByDefault
-public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
+public class ItemStateTriggerHandler extends BaseTriggerModuleHandler {
 
     public static final String UPDATE_MODULE_TYPE_ID = "core.ItemStateUpdateTrigger";
     public static final String CHANGE_MODULE_TYPE_ID = "core.ItemStateChangeTrigger";
@@ -61,40 +56,33 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     private final Logger logger = LoggerFactory.getLogger(ItemStateTriggerHandler.class);
 
     private final String itemName;
-    private final @Nullable String state;
-    private final String previousState;
     private final String ruleUID;
-    private Set<String> types;
-    private final BundleContext bundleContext;
-    private final EventFilter eventFilter;
+    private final TriggerEventRouter router;
+    private final Route route;
 
-    private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
-
-    public ItemStateTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public ItemStateTriggerHandler(Trigger module, String ruleUID, TriggerEventRouter router,
             ItemRegistry itemRegistry) {
         super(module);
         this.itemName = (String) module.getConfiguration().get(CFG_ITEMNAME);
         boolean isWildcard = itemName.contains("?") || itemName.contains("*");
-        if (isWildcard) {
-            this.eventFilter = new TopicEventFilter(
-                    "^openhab/items/" + itemName.replace("?", ".?").replace("*", ".*?") + "/.*$");
-        } else {
-            this.eventFilter = new TopicPrefixEventFilter("openhab/items/" + itemName + "/");
-        }
-        this.state = (String) module.getConfiguration().get(CFG_STATE);
-        this.previousState = (String) module.getConfiguration().get(CFG_PREVIOUS_STATE);
+        String state = (String) module.getConfiguration().get(CFG_STATE);
+        String previousState = (String) module.getConfiguration().get(CFG_PREVIOUS_STATE);
         this.ruleUID = ruleUID;
+        Set<String> types;
         if (UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-            this.types = isWildcard ? Set.of(ItemStateUpdatedEvent.TYPE, GroupStateUpdatedEvent.TYPE)
+            types = isWildcard ? Set.of(ItemStateUpdatedEvent.TYPE, GroupStateUpdatedEvent.TYPE)
                     : Set.of(ItemStateUpdatedEvent.TYPE, GroupStateUpdatedEvent.TYPE, ItemAddedEvent.TYPE,
                             ItemRemovedEvent.TYPE);
+            previousState = null;
         } else {
-            this.types = isWildcard ? Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE)
+            types = isWildcard ? Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE)
                     : Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE,
                             ItemRemovedEvent.TYPE);
+            state = requiredState(state);
+            previousState = requiredState(previousState);
         }
-        this.bundleContext = bundleContext;
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.router = router;
+        this.route = router.addItemRoute(itemName, types, state, previousState, this::receive);
 
         if (!isWildcard && itemRegistry.get(itemName) == null) {
             logger.warn("Item '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", itemName, ruleUID,
@@ -102,30 +90,21 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
         }
     }
 
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return types;
-    }
-
-    @Override
-    public @Nullable EventFilter getEventFilter() {
-        return eventFilter;
-    }
-
-    @Override
-    public void receive(Event event) {
-        if (event instanceof ItemAddedEvent addedEvent) {
-            if (itemName.equals(addedEvent.getItem().name)) {
-                logger.info("Item '{}' needed for rule '{}' added. Trigger '{}' will now work.", itemName, ruleUID,
-                        module.getId());
-                return;
-            }
-        } else if (event instanceof ItemRemovedEvent removedEvent) {
-            if (itemName.equals(removedEvent.getItem().name)) {
-                logger.warn("Item '{}' needed for rule '{}' removed. Trigger '{}' will no longer work.", itemName,
-                        ruleUID, module.getId());
-                return;
-            }
+    /**
+     * Receives an event of the item, which has already been checked by the {@link TriggerEventRouter} to match the
+     * configured states.
+     *
+     * @param event the event
+     */
+    void receive(Event event) {
+        if (event instanceof ItemAddedEvent) {
+            logger.info("Item '{}' needed for rule '{}' added. Trigger '{}' will now work.", itemName, ruleUID,
+                    module.getId());
+            return;
+        } else if (event instanceof ItemRemovedEvent) {
+            logger.warn("Item '{}' needed for rule '{}' removed. Trigger '{}' will no longer work.", itemName, ruleUID,
+                    module.getId());
+            return;
         }
 
         ModuleHandlerCallback callback = this.callback;
@@ -133,25 +112,16 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
             logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(),
                     event.getTopic(), event.getType(), event.getPayload());
             Map<String, @Nullable Object> values = new HashMap<>();
-            if (event instanceof ItemStateUpdatedEvent updatedEvent
-                    && UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-                String state = this.state;
-                State itemState = updatedEvent.getItemState();
-                if ((state == null || state.equals(itemState.toFullString()))) {
-                    values.put("state", itemState);
-                    values.put("lastStateUpdate", updatedEvent.getLastStateUpdate());
-                }
-            } else if (event instanceof ItemStateChangedEvent changedEvent
-                    && CHANGE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
+            if (event instanceof ItemStateUpdatedEvent updatedEvent) {
+                values.put("state", updatedEvent.getItemState());
+                values.put("lastStateUpdate", updatedEvent.getLastStateUpdate());
+            } else if (event instanceof ItemStateChangedEvent changedEvent) {
                 State itemState = changedEvent.getItemState();
                 State oldItemState = changedEvent.getOldItemState();
-
-                if (stateMatches(this.state, itemState) && stateMatches(this.previousState, oldItemState)) {
-                    values.put("oldState", oldItemState);
-                    values.put("newState", itemState);
-                    values.put("lastStateUpdate", changedEvent.getLastStateUpdate());
-                    values.put("lastStateChange", changedEvent.getLastStateChange());
-                }
+                values.put("oldState", oldItemState);
+                values.put("newState", itemState);
+                values.put("lastStateUpdate", changedEvent.getLastStateUpdate());
+                values.put("lastStateChange", changedEvent.getLastStateChange());
             }
             if (!values.isEmpty()) {
                 values.put("event", event);
@@ -160,24 +130,21 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
         }
     }
 
-    private boolean stateMatches(@Nullable String requiredState, State state) {
+    private static @Nullable String requiredState(@Nullable String requiredState) {
         if (requiredState == null) {
-            return true;
+            return null;
         }
 
         String reqState = requiredState.trim();
-        return reqState.isEmpty() || reqState.equals(state.toFullString());
+        return reqState.isEmpty() ? null : reqState;
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the route...
      */
     @Override
     public void dispose() {
         super.dispose();
-        if (eventSubscriberRegistration != null) {
-            eventSubscriberRegistration.unregister();
-            eventSubscriberRegistration = null;
-        }
+        router.removeRoute(route);
     }
 }
@@ -22,15 +22,10 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter.Route;
 import org.openhab.core.events.Event;
-import org.openhab.core.events.EventFilter;
-import org.openhab.core.events.EventSubscriber;
-import org.openhab.core.events.TopicEventFilter;
-import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.events.ThingStatusInfoChangedEvent;
 import org.openhab.core.thing.events.ThingStatusInfoEvent;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,7 +36,7 @@ import org.slf4j.LoggerFactory;
  * @author Christoph Weitkamp - Initial contribution
  */
 @NonNullByDefault
-public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
+public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler {
 
     public static final String UPDATE_MODULE_TYPE_ID = "core.ThingStatusUpdateTrigger";
     public static final String CHANGE_MODULE_TYPE_ID = "core.ThingStatusChangeTrigger";
@@ -57,42 +52,32 @@ public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implemen
 
     private final Logger logger = LoggerFactory.getLogger(ThingStatusTriggerHandler.class);
 
-    private @Nullable final String status;
-    private @Nullable final String previousStatus;
-    private final Set<String> types;
+    private final TriggerEventRouter router;
+    private final Route route;
 
-    private final ServiceRegistration<?> eventSubscriberRegistration;
-    private final TopicEventFilter eventTopicFilter;
-
-    public ThingStatusTriggerHandler(Trigger module, BundleContext bundleContext) {
+    public ThingStatusTriggerHandler(Trigger module, TriggerEventRouter router) {
         super(module);
         String thingUID = (String) module.getConfiguration().get(CFG_THING_UID);
-        this.status = (String) module.getConfiguration().get(CFG_STATUS);
-        this.previousStatus = (String) module.getConfiguration().get(CFG_PREVIOUS_STATUS);
+        String status = requiredStatus((String) module.getConfiguration().get(CFG_STATUS));
+        String previousStatus = requiredStatus((String) module.getConfiguration().get(CFG_PREVIOUS_STATUS));
+        Set<String> types;
         if (UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-            this.types = Set.of(ThingStatusInfoEvent.TYPE);
+            types = Set.of(ThingStatusInfoEvent.TYPE);
         } else {
-            this.types = Set.of(ThingStatusInfoChangedEvent.TYPE);
+            types = Set.of(ThingStatusInfoChangedEvent.TYPE);
         }
 
-        this.eventTopicFilter = new TopicEventFilter(
-                "^openhab/things/" + thingUID.replace("?", ".?").replace("*", ".*?") + "/.*$");
-
-        eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this, null);
-    }
-
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return types;
+        this.router = router;
+        this.route = router.addThingRoute(thingUID, types, status, previousStatus, this::receive);
     }
 
-    @Override
-    public @Nullable EventFilter getEventFilter() {
-        return eventTopicFilter;
-    }
-
-    @Override
-    public void receive(Event event) {
+    /**
+     * Receives a status event of the thing, which has already been checked by the {@link TriggerEventRouter} to match
+     * the configured status.
+     *
+     * @param event the event
+     */
+    void receive(Event event) {
         final ModuleHandlerCallback callback = this.callback;
         if (!(callback instanceof TriggerHandlerCallback thCallback)) {
             return;
@@ -101,19 +86,11 @@ public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implemen
         logger.trace("Received Event: Source: {} Topic: {} Type: {}  Payload: {}", event.getSource(), event.getTopic(),
                 event.getType(), event.getPayload());
         Map<String, Object> values = new HashMap<>();
-        if (event instanceof ThingStatusInfoEvent infoEvent && UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-            ThingStatus status = infoEvent.getStatusInfo().getStatus();
-            if (statusMatches(this.status, status)) {
-                values.put(OUT_STATUS, status);
-            }
-        } else if (event instanceof ThingStatusInfoChangedEvent changedEvent
-                && CHANGE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
-            ThingStatus newStatus = changedEvent.getStatusInfo().getStatus();
-            ThingStatus oldStatus = changedEvent.getOldStatusInfo().getStatus();
-            if (statusMatches(this.status, newStatus) && statusMatches(this.previousStatus, oldStatus)) {
-                values.put(OUT_NEW_STATUS, newStatus);
-                values.put(OUT_OLD_STATUS, oldStatus);
-            }
+        if (event instanceof ThingStatusInfoEvent infoEvent) {
+            values.put(OUT_STATUS, infoEvent.getStatusInfo().getStatus());
+        } else if (event instanceof ThingStatusInfoChangedEvent changedEvent) {
+            values.put(OUT_NEW_STATUS, changedEvent.getStatusInfo().getStatus());
+            values.put(OUT_OLD_STATUS, changedEvent.getOldStatusInfo().getStatus());
         }
         if (!values.isEmpty()) {
             values.put(OUT_EVENT, event);
@@ -121,20 +98,20 @@ public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implemen
         }
     }
 
-    private boolean statusMatches(@Nullable String requiredStatus, ThingStatus status) {
+    private static @Nullable String requiredStatus(@Nullable String requiredStatus) {
         if (requiredStatus == null) {
-            return true;
+            return null;
         }
         String reqStatus = requiredStatus.trim();
-        return reqStatus.isEmpty() || reqStatus.equals(status.toString());
+        return reqStatus.isEmpty() ? null : reqStatus;
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the route...
      */
     @Override
     public void dispose() {
-        eventSubscriberRegistration.unregister();
+        router.removeRoute(route);
         super.dispose();
     }
 }
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.module.handler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicEventFilter;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.GroupItemStateChangedEvent;
+import org.openhab.core.items.events.GroupStateUpdatedEvent;
+import org.openhab.core.items.events.ItemAddedEvent;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEvent;
+import org.openhab.core.items.events.ItemRemovedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateUpdatedEvent;
+import org.openhab.core.thing.events.ChannelTriggeredEvent;
+import org.openhab.core.thing.events.ThingStatusInfoChangedEvent;
+import org.openhab.core.thing.events.ThingStatusInfoEvent;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TriggerEventRouter} is the single {@link EventSubscriber} for the item, group, thing status and channel
+ * triggers of all rules. Instead of passing every event to every trigger handler and letting each of them filter it,
+ * the handlers are registered by the name of their item or group, the UID of their thing or the UID of their channel,
+ * so an event is only passed to the handlers it is meant for. The required state and previous state of these handlers
+ * are compared by the router with the states of the event, which are converted only once per event.
+ *
+ * Handlers with wildcards in their configuration cannot be looked up by name, they are matched against the topic of
+ * every event.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = { EventSubscriber.class, TriggerEventRouter.class })
+@NonNullByDefault
+public class TriggerEventRouter implements EventSubscriber {
+
+    private static final Set<String> TYPES = Set.of(ItemStateUpdatedEvent.TYPE, GroupStateUpdatedEvent.TYPE,
+            ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemCommandEvent.TYPE, ItemAddedEvent.TYPE,
+            ItemRemovedEvent.TYPE, ThingStatusInfoEvent.TYPE, ThingStatusInfoChangedEvent.TYPE,
+            ChannelTriggeredEvent.TYPE);
+
+    private final Logger logger = LoggerFactory.getLogger(TriggerEventRouter.class);
+
+    private final ItemRegistry itemRegistry;
+
+    private final Routes itemRoutes = new Routes();
+    private final Routes groupMemberRoutes = new Routes();
+    private final Routes thingRoutes = new Routes();
+    private final Routes channelRoutes = new Routes();
+
+    @Activate
+    public TriggerEventRouter(final @Reference ItemRegistry itemRegistry) {
+        this.itemRegistry = itemRegistry;
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public void receive(Event event) {
+        EventStates states = new EventStates(event);
+        if (event instanceof ItemAddedEvent addedEvent) {
+            String itemName = addedEvent.getItem().name;
+            itemRoutes.dispatch(itemName, event, states, false);
+            groupMemberRoutes.dispatch(itemName, event, states, false);
+        } else if (event instanceof ItemRemovedEvent removedEvent) {
+            String itemName = removedEvent.getItem().name;
+            itemRoutes.dispatch(itemName, event, states, false);
+            groupMemberRoutes.dispatch(itemName, event, states, false);
+        } else if (event instanceof ItemEvent itemEvent) {
+            String itemName = itemEvent.getItemName();
+            itemRoutes.dispatch(itemName, event, states, true);
+            if (!groupMemberRoutes.isEmpty()
+                    && (event instanceof ItemStateUpdatedEvent || event instanceof ItemStateChangedEvent)) {
+                Item item = itemRegistry.get(itemName);
+                if (item != null) {
+                    for (String groupName : item.getGroupNames()) {
+                        groupMemberRoutes.dispatch(groupName, event, states, false);
+                    }
+                }
+            }
+        } else if (event instanceof ThingStatusInfoEvent infoEvent) {
+            thingRoutes.dispatch(infoEvent.getThingUID().getAsString(), event, states, true);
+        } else if (event instanceof ThingStatusInfoChangedEvent changedEvent) {
+            thingRoutes.dispatch(changedEvent.getThingUID().getAsString(), event, states, true);
+        } else if (event instanceof ChannelTriggeredEvent triggeredEvent) {
+            channelRoutes.dispatch(triggeredEvent.getChannel().getAsString(), event, states, true);
+        }
+    }
+
+    /**
+     * Registers a handler for the events of an item. The name of the item may contain the wildcards <code>?</code>
+     * and <code>*</code>.
+     *
+     * @param itemName the name of the item
+     * @param types the types of the events the handler is interested in
+     * @param state the state the item has to have, or <code>null</code> for any state
+     * @param previousState the state the item has to have had, or <code>null</code> for any state
+     * @param receiver the handler receiving the events
+     * @return the route, which has to be removed once the handler is disposed
+     */
+    Route addItemRoute(String itemName, Set<String> types, @Nullable String state, @Nullable String previousState,
+            Consumer<Event> receiver) {
+        EventFilter filter = isWildcard(itemName)
+                ? new TopicEventFilter("^openhab/items/" + toRegex(itemName) + "/.*$")
+                : null;
+        return itemRoutes.add(new Route(itemName, filter, types, state, previousState, receiver));
+    }
+
+    /**
+     * Registers a handler for the state events of the members of a group. Events of the group itself, which is added
+     * or removed, are passed to the handler as well.
+     *
+     * @param groupName the name of the group
+     * @param types the types of the events the handler is interested in
+     * @param state the state the member has to have, or <code>null</code> for any state
+     * @param previousState the state the member has to have had, or <code>null</code> for any state
+     * @param receiver the handler receiving the events
+     * @return the route, which has to be removed once the handler is disposed
+     */
+    Route addGroupMemberRoute(String groupName, Set<String> types, @Nullable String state,
+            @Nullable String previousState, Consumer<Event> receiver) {
+        return groupMemberRoutes.add(new Route(groupName, null, types, state, previousState, receiver));
+    }
+
+    /**
+     * Registers a handler for the status events of a thing. The UID of the thing may contain the wildcards
+     * <code>?</code> and <code>*</code>.
+     *
+     * @param thingUID the UID of the thing
+     * @param types the types of the events the handler is interested in
+     * @param status the status the thing has to have, or <code>null</code> for any status
+     * @param previousStatus the status the thing has to have had, or <code>null</code> for any status
+     * @param receiver the handler receiving the events
+     * @return the route, which has to be removed once the handler is disposed
+     */
+    Route addThingRoute(String thingUID, Set<String> types, @Nullable String status, @Nullable String previousStatus,
+            Consumer<Event> receiver) {
+        EventFilter filter = isWildcard(thingUID)
+                ? new TopicEventFilter("^openhab/things/" + toRegex(thingUID) + "/.*$")
+                : null;
+        return thingRoutes.add(new Route(thingUID, filter, types, status, previousStatus, receiver));
+    }
+
+    /**
+     * Registers a handler for the events of a trigger channel. The UID of the channel may contain the wildcards
+     * <code>?</code> and <code>*</code>.
+     *
+     * @param channelUID the UID of the channel
+     * @param channelEvent the event the channel has to trigger, or <code>null</code> for any event
+     * @param receiver the handler receiving the events
+     * @return the route, which has to be removed once the handler is disposed
+     */
+    Route addChannelRoute(String channelUID, @Nullable String channelEvent, Consumer<Event> receiver) {
+        EventFilter filter = isWildcard(channelUID)
+                ? new TopicEventFilter("^openhab/channels/" + toRegex(channelUID) + "/triggered$")
+                : null;
+        return channelRoutes.add(
+                new Route(channelUID, filter, Set.of(ChannelTriggeredEvent.TYPE), channelEvent, null, receiver));
+    }
+
+    /**
+     * Removes a route, so its handler does not receive any further events.
+     *
+     * @param route the route
+     */
+    void removeRoute(Route route) {
+        itemRoutes.remove(route);
+        groupMemberRoutes.remove(route);
+        thingRoutes.remove(route);
+        channelRoutes.remove(route);
+    }
+
+    /**
+     * Returns the number of registered routes.
+     */
+    int getRouteCount() {
+        return itemRoutes.size() + groupMemberRoutes.size() + thingRoutes.size() + channelRoutes.size();
+    }
+
+    private static boolean isWildcard(String name) {
+        return name.contains("?") || name.contains("*");
+    }
+
+    private static String toRegex(String name) {
+        return name.replace("?", ".?").replace("*", ".*?");
+    }
+
+    /**
+     * The registration of a trigger handler.
+     */
+    static final class Route {
+        private final String key;
+        private final @Nullable EventFilter filter;
+        private final Set<String> types;
+        private final @Nullable String state;
+        private final @Nullable String previousState;
+        private final Consumer<Event> receiver;
+
+        private Route(String key, @Nullable EventFilter filter, Set<String> types, @Nullable String state,
+                @Nullable String previousState, Consumer<Event> receiver) {
+            this.key = key;
+            this.filter = filter;
+            this.types = types;
+            this.state = state;
+            this.previousState = previousState;
+            this.receiver = receiver;
+        }
+
+        private boolean matches(Event event, EventStates states) {
+            if (!types.contains(event.getType())) {
+                return false;
+            }
+            String state = this.state;
+            String previousState = this.previousState;
+            // events without a state, like added or removed items, are not filtered
+            return (state == null || states.isStateless() || state.equals(states.getState()))
+                    && (previousState == null || states.isStateless()
+                            || previousState.equals(states.getPreviousState()));
+        }
+    }
+
+    /**
+     * The routes of one kind of trigger, by their key.
+     */
+    private class Routes {
+        private final Map<String, List<Route>> routes = new ConcurrentHashMap<>();
+        private final List<Route> wildcardRoutes = new CopyOnWriteArrayList<>();
+
+        Route add(Route route) {
+            if (route.filter != null) {
+                wildcardRoutes.add(route);
+            } else {
+                routes.compute(route.key, (key, list) -> {
+                    List<Route> newList = list == null ? new CopyOnWriteArrayList<>() : list;
+                    newList.add(route);
+                    return newList;
+                });
+            }
+            return route;
+        }
+
+        void remove(Route route) {
+            if (route.filter != null) {
+                wildcardRoutes.remove(route);
+            } else {
+                routes.computeIfPresent(route.key, (key, list) -> {
+                    list.remove(route);
+                    return list.isEmpty() ? null : list;
+                });
+            }
+        }
+
+        boolean isEmpty() {
+            return routes.isEmpty();
+        }
+
+        int size() {
+            return routes.values().stream().mapToInt(List::size).sum() + wildcardRoutes.size();
+        }
+
+        void dispatch(String key, Event event, EventStates states, boolean includeWildcards) {
+            List<Route> keyRoutes = routes.get(key);
+            if (keyRoutes != null) {
+                for (Route route : keyRoutes) {
+                    dispatch(route, event, states);
+                }
+            }
+            if (includeWildcards) {
+                for (Route route : wildcardRoutes) {
+                    EventFilter filter = route.filter;
+                    if (filter != null && filter.apply(event)) {
+                        dispatch(route, event, states);
+                    }
+                }
+            }
+        }
+
+        private void dispatch(Route route, Event event, EventStates states) {
+            if (route.matches(event, states)) {
+                try {
+                    route.receiver.accept(event);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to pass event '{}' to trigger of '{}': {}", event.getTopic(), route.key,
+                            e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The states of an event as strings, which are only converted once even if several handlers compare them.
+     */
+    private static class EventStates {
+        private final Event event;
+        private @Nullable String state;
+        private @Nullable String previousState;
+
+        EventStates(Event event) {
+            this.event = event;
+        }
+
+        boolean isStateless() {
+            return event instanceof ItemAddedEvent || event instanceof ItemRemovedEvent;
+        }
+
+        @Nullable
+        String getState() {
+            String state = this.state;
+            if (state == null) {
+                if (event instanceof ItemStateUpdatedEvent updatedEvent) {
+                    state = updatedEvent.getItemState().toFullString();
+                } else if (event instanceof ItemStateChangedEvent changedEvent) {
+                    state = changedEvent.getItemState().toFullString();
+                } else if (event instanceof ItemCommandEvent commandEvent) {
+                    state = commandEvent.getItemCommand().toFullString();
+                } else if (event instanceof ThingStatusInfoEvent infoEvent) {
+                    state = infoEvent.getStatusInfo().getStatus().toString();
+                } else if (event instanceof ThingStatusInfoChangedEvent changedEvent) {
+                    state = changedEvent.getStatusInfo().getStatus().toString();
+                } else if (event instanceof ChannelTriggeredEvent triggeredEvent) {
+                    state = triggeredEvent.getEvent();
+                }
+                this.state = state;
+            }
+            return state;
+        }
+
+        @Nullable
+        String getPreviousState() {
+            String previousState = this.previousState;
+            if (previousState == null) {
+                if (event instanceof ItemStateChangedEvent changedEvent) {
+                    previousState = changedEvent.getOldItemState().toFullString();
+                } else if (event instanceof ThingStatusInfoChangedEvent changedEvent) {
+                    previousState = changedEvent.getOldStatusInfo().getStatus().toString();
+                }
+                this.previousState = previousState;
+            }
+            return previousState;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.ruleengine;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.internal.Connection;
+import org.openhab.core.automation.internal.RuleEngineImpl;
+import org.openhab.core.automation.util.ReferenceResolver;
+
+/**
+ * The {@link ConnectionPlan} holds the connections of the inputs of a module in a form that can be applied to the
+ * context of a rule without parsing them again. The keys of the connected outputs are built and the references into
+ * complex output values are split into tokens once, when the connections of the module are set.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class ConnectionPlan {
+
+    static final ConnectionPlan EMPTY = new ConnectionPlan(Set.of());
+
+    private final Step[] steps;
+
+    /**
+     * Creates the plan for the given connections.
+     *
+     * @param connections the connections of the inputs of a module
+     */
+    public ConnectionPlan(Set<Connection> connections) {
+        steps = new Step[connections.size()];
+        int i = 0;
+        for (Connection connection : connections) {
+            steps[i++] = new Step(connection);
+        }
+    }
+
+    /**
+     * Sets the values of the connected inputs in the context of a rule.
+     *
+     * @param context the context of the rule, holding the values of the outputs of its modules
+     */
+    public void apply(Map<String, @Nullable Object> context) {
+        for (Step step : steps) {
+            step.apply(context);
+        }
+    }
+
+    private static class Step {
+        private final String inputName;
+        private final @Nullable String outputKey;
+        private final @Nullable String reference;
+        private final String @Nullable [] tokens;
+
+        Step(Connection connection) {
+            String outputModuleId = connection.getOutputModuleId();
+            inputName = connection.getInputName();
+            outputKey = outputModuleId != null
+                    ? outputModuleId + RuleEngineImpl.OUTPUT_SEPARATOR + connection.getOutputName()
+                    : null;
+            reference = connection.getReference();
+            String[] tokens = null;
+            if (outputModuleId != null && reference != null) {
+                try {
+                    tokens = ReferenceResolver.splitReferenceToTokens(reference);
+                } catch (IllegalArgumentException e) {
+                    // the reference is split again on each execution, so the rule fails as before
+                }
+            }
+            this.tokens = tokens;
+        }
+
+        void apply(Map<String, @Nullable Object> context) {
+            String outputKey = this.outputKey;
+            String reference = this.reference;
+            if (outputKey != null) {
+                Object outputValue = context.get(outputKey);
+                if (outputValue != null) {
+                    if (reference == null) {
+                        context.put(inputName, outputValue);
+                    } else {
+                        String[] tokens = this.tokens;
+                        context.put(inputName, ReferenceResolver.resolveComplexDataReference(outputValue,
+                                tokens != null ? tokens : ReferenceResolver.splitReferenceToTokens(reference)));
+                    }
+                }
+            } else if (reference != null) {
+                // get reference from context
+                Object value = ReferenceResolver.resolveReference(reference, context);
+                if (value != null) {
+                    context.put(inputName, value);
+                }
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.openhab.core.automation.type.Output;
 public class WrappedAction extends WrappedModule<Action, ActionHandler> {
 
     private Set<Connection> connections = Set.of();
+    private ConnectionPlan connectionPlan = ConnectionPlan.EMPTY;
     private Map<String, String> inputs = Map.of();
 
     public WrappedAction(final Action action) {
@@ -48,12 +49,22 @@ public class WrappedAction extends WrappedModule<Action, ActionHandler> {
      */
     public void setConnections(@Nullable Set<Connection> connections) {
         this.connections = connections == null ? Set.of() : connections;
+        this.connectionPlan = connections == null ? ConnectionPlan.EMPTY : new ConnectionPlan(connections);
     }
 
     public Set<Connection> getConnections() {
         return connections;
     }
 
+    /**
+     * Returns the connections of this action in the form that is applied to the context of the rule on execution.
+     *
+     * @return the plan built from the current connections
+     */
+    public ConnectionPlan getConnectionPlan() {
+        return connectionPlan;
+    }
+
     /**
      * This method is used to get input connections of the Action. The connections
      * are links between {@link Input}s of the this {@link Module} and {@link Output}s
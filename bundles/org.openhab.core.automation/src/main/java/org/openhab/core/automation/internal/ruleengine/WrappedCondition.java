@@ -35,6 +35,7 @@ public class WrappedCondition extends WrappedModule<Condition, ConditionHandler>
 
     private Map<String, String> inputs = Map.of();
     private Set<Connection> connections = Set.of();
+    private ConnectionPlan connectionPlan = ConnectionPlan.EMPTY;
 
     public WrappedCondition(final Condition condition) {
         super(condition);
@@ -48,12 +49,22 @@ public class WrappedCondition extends WrappedModule<Condition, ConditionHandler>
      */
     public void setConnections(@Nullable Set<Connection> connections) {
         this.connections = connections == null ? Set.of() : connections;
+        this.connectionPlan = connections == null ? ConnectionPlan.EMPTY : new ConnectionPlan(connections);
     }
 
     public Set<Connection> getConnections() {
         return connections;
     }
 
+    /**
+     * Returns the connections of this condition in the form that is applied to the context of the rule on execution.
+     *
+     * @return the plan built from the current connections
+     */
+    public ConnectionPlan getConnectionPlan() {
+        return connectionPlan;
+    }
+
     /**
      * This method is used to get input connections of the Condition. The connections
      * are links between {@link Input}s of the current {@link Module} and {@link Output}s of other
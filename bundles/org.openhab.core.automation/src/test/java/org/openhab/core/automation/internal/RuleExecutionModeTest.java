@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.RuleExecutionMode;
+import org.openhab.core.automation.util.RuleBuilder;
+
+/**
+ * Testing the selection of the execution mode of rules.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RuleExecutionModeTest {
+
+    @Test
+    public void testFromName() {
+        assertEquals(RuleExecutionMode.VIRTUAL, RuleExecutionMode.fromName("virtual"));
+        assertEquals(RuleExecutionMode.POOLED, RuleExecutionMode.fromName(" Pooled "));
+        assertNull(RuleExecutionMode.fromName("platform"));
+    }
+
+    @Test
+    public void testFromTags() {
+        assertEquals(RuleExecutionMode.VIRTUAL, RuleExecutionMode
+                .fromTags(RuleBuilder.create("rule1").withTags("Lights", "ExecutionMode:Virtual").build()));
+        assertEquals(RuleExecutionMode.POOLED,
+                RuleExecutionMode.fromTags(RuleBuilder.create("rule2").withTags("executionmode:pooled").build()));
+        assertNull(RuleExecutionMode.fromTags(RuleBuilder.create("rule3").withTags("Lights").build()));
+        assertNull(RuleExecutionMode.fromTags(RuleBuilder.create("rule4").withTags("ExecutionMode:unknown").build()));
+    }
+}
@@ -12,9 +12,8 @@
  */
 package org.openhab.core.automation.internal.module.handler;
 
-import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import java.util.Map;
 
@@ -22,10 +21,12 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.handler.TriggerHandlerCallback;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.Event;
+import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.events.ThingEventFactory;
-import org.osgi.framework.BundleContext;
 
 /**
  * Basic test cases for {@link ChannelEventTriggerHandler}
@@ -37,122 +38,145 @@ import org.osgi.framework.BundleContext;
 class ChannelEventTriggerHandlerTest {
     private @NonNullByDefault({}) ChannelEventTriggerHandler handler;
     private @NonNullByDefault({}) Trigger moduleMock;
-    private @NonNullByDefault({}) BundleContext contextMock;
+    private @NonNullByDefault({}) TriggerEventRouter router;
 
     @BeforeEach
     public void setUp() {
         moduleMock = mock(Trigger.class);
-        contextMock = mock(BundleContext.class);
+        router = new TriggerEventRouter(mock(ItemRegistry.class));
     }
 
     @Test
     public void testExactlyMatchingChannelIsApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quux")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testSubstringMatchingChannelIsNotApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:q")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertNotTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testWildcardAsteriskMatchingChannelIsApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:*")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testWildcardAsteriskNonMatchingChannelIsNotApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:*")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baa:quux"))));
+        assertNotTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baa:quux")));
     }
 
     @Test
     public void testWildcardQuestionMarkMatchingChannelIsApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quu?")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testWildcardQuestionMarkNonMatchingChannelIsNotApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quu?")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertFalse(
-                handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quuxx"))));
+        assertNotTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quuxx")));
     }
 
     @Test
     public void testMatchingChannelEventIsApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:quux", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "PRESSED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testNonMatchingChannelEventIsNotApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:quux", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "RELEASED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertNotTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testBlankChannelEventMatchesAllEvents() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:quux", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("RELEASED", new ChannelUID("foo:bar:baz:quux"))));
+        assertTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
+        assertTriggered(ThingEventFactory.createTriggerEvent("RELEASED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testOmittedChannelEventMatchesAllEvents() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quux")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("RELEASED", new ChannelUID("foo:bar:baz:quux"))));
+        assertTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
+        assertTriggered(ThingEventFactory.createTriggerEvent("RELEASED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testWildcardChannelWithMatchingChannelEventIsApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:*", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "PRESSED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
     }
 
     @Test
     public void testWildcardChannelWithNonMatchingChannelEventIsNotApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:*", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "RELEASED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
 
-        assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
+        assertNotTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
+    }
+
+    @Test
+    public void testDisposedHandlerIsNotTriggered() {
+        when(moduleMock.getConfiguration())
+                .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quux")));
+        handler = new ChannelEventTriggerHandler(moduleMock, router);
+        handler.dispose();
+
+        assertNotTriggered(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux")));
+    }
+
+    private void assertTriggered(Event event) {
+        TriggerHandlerCallback callbackMock = mock(TriggerHandlerCallback.class);
+        handler.setCallback(callbackMock);
+        router.receive(event);
+        verify(callbackMock).triggered(eq(moduleMock), eq(Map.of("event", event)));
+    }
+
+    private void assertNotTriggered(Event event) {
+        TriggerHandlerCallback callbackMock = mock(TriggerHandlerCallback.class);
+        handler.setCallback(callbackMock);
+        router.receive(event);
+        verify(callbackMock, never()).triggered(any(), anyMap());
     }
 }
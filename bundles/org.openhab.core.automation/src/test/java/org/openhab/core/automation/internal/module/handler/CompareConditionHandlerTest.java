@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.module.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.util.ConditionBuilder;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+
+/**
+ * Basic unit tests for {@link CompareConditionHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CompareConditionHandlerTest {
+
+    @Test
+    public void testComparePrimitives() {
+        CompareConditionHandler handler = createHandler(">", "10", null);
+
+        assertTrue(handler.isSatisfied(inputs(11)));
+        assertFalse(handler.isSatisfied(inputs(10)));
+        assertTrue(handler.isSatisfied(inputs(10.5)));
+        assertFalse(handler.isSatisfied(inputs(9L)));
+    }
+
+    @Test
+    public void testCompareStates() {
+        CompareConditionHandler handler = createHandler("<=", "10", null);
+
+        assertTrue(handler.isSatisfied(inputs(new DecimalType(10))));
+        assertFalse(handler.isSatisfied(inputs(new DecimalType(10.5))));
+        assertFalse(handler.isSatisfied(inputs("text")));
+    }
+
+    @Test
+    public void testCompareProperty() {
+        CompareConditionHandler handler = createHandler("=", "ON", "itemState");
+
+        assertTrue(handler.isSatisfied(inputs(ItemEventFactory.createStateEvent("item", OnOffType.ON))));
+        assertFalse(handler.isSatisfied(inputs(ItemEventFactory.createStateEvent("item", OnOffType.OFF))));
+    }
+
+    @Test
+    public void testMatches() {
+        CompareConditionHandler handler = createHandler("matches", "a.*z", null);
+
+        assertTrue(handler.isSatisfied(inputs("abcz")));
+        assertFalse(handler.isSatisfied(inputs("abc")));
+    }
+
+    @Test
+    public void testNull() {
+        CompareConditionHandler handler = createHandler("=", "null", null);
+
+        assertTrue(handler.isSatisfied(inputs(null)));
+        assertFalse(handler.isSatisfied(inputs("text")));
+    }
+
+    @Test
+    public void testUnknownOperator() {
+        CompareConditionHandler handler = createHandler("~", "10", null);
+
+        assertFalse(handler.isSatisfied(inputs(10)));
+    }
+
+    private CompareConditionHandler createHandler(String operator, String right, @Nullable String property) {
+        Configuration configuration = new Configuration();
+        configuration.put(CompareConditionHandler.OPERATOR, operator);
+        configuration.put(CompareConditionHandler.RIGHT_OP, right);
+        if (property != null) {
+            configuration.put(CompareConditionHandler.INPUT_LEFT_FIELD, property);
+        }
+        return new CompareConditionHandler(ConditionBuilder.create() //
+                .withId("conditionId") //
+                .withTypeUID(CompareConditionHandler.MODULE_TYPE) //
+                .withConfiguration(configuration) //
+                .build());
+    }
+
+    private Map<String, @Nullable Object> inputs(@Nullable Object input) {
+        Map<String, @Nullable Object> inputs = new HashMap<>();
+        inputs.put(CompareConditionHandler.INPUT_LEFT_OBJECT, input);
+        return inputs;
+    }
+}
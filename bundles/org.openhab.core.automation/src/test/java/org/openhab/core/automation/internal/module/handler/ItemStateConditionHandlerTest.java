@@ -346,4 +346,25 @@ public class ItemStateConditionHandlerTest extends JavaTest {
         assertLogMessage(ItemStateConditionHandler.class, LogLevel.WARN,
                 "Item 'myItem' needed for rule 'foo' removed. Condition 'conditionId' will no longer work.");
     }
+
+    @Test
+    public void conditionEvaluatesTheCurrentItem() {
+        NumberItem numberItem = new NumberItem(ITEM_NAME);
+        numberItem.setState(new DecimalType(5));
+        item = numberItem;
+        ItemStateConditionHandler handler = initItemStateConditionHandler(">", "3");
+
+        assertTrue(handler.isSatisfied(Map.of()));
+        numberItem.setState(new DecimalType(2));
+        assertFalse(handler.isSatisfied(Map.of()));
+
+        // the item is replaced before the update event has been received
+        NumberItem updatedItem = new NumberItem(ITEM_NAME);
+        updatedItem.setState(new DecimalType(4));
+        item = updatedItem;
+        assertTrue(handler.isSatisfied(Map.of()));
+        handler.receive(ItemEventFactory.createUpdateEvent(updatedItem, numberItem));
+        updatedItem.setState(new DecimalType(1));
+        assertFalse(handler.isSatisfied(Map.of()));
+    }
 }
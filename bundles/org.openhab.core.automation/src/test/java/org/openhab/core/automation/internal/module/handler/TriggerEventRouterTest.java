@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.module.handler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter.Route;
+import org.openhab.core.events.Event;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.ItemAddedEvent;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateUpdatedEvent;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.events.ThingEventFactory;
+import org.openhab.core.thing.events.ThingStatusInfoChangedEvent;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Tests for {@link TriggerEventRouter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+public class TriggerEventRouterTest {
+
+    private static final Set<String> CHANGED_TYPES = Set.of(ItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE);
+
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
+
+    private @NonNullByDefault({}) TriggerEventRouter router;
+    private final List<String> received = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        router = new TriggerEventRouter(itemRegistryMock);
+    }
+
+    @Test
+    public void itemEventsArePassedToTheHandlersOfTheItem() {
+        router.addItemRoute("Switch1", CHANGED_TYPES, null, null, event -> received.add("any"));
+        router.addItemRoute("Switch1", CHANGED_TYPES, "ON", null, event -> received.add("on"));
+        router.addItemRoute("Switch1", CHANGED_TYPES, "ON", "ON", event -> received.add("on-on"));
+        router.addItemRoute("Switch2", CHANGED_TYPES, null, null, event -> received.add("other"));
+        router.addItemRoute("Switch1", Set.of(ItemStateUpdatedEvent.TYPE), null, null, event -> received.add("update"));
+
+        router.receive(ItemEventFactory.createStateChangedEvent("Switch1", OnOffType.ON, OnOffType.OFF, null, null));
+
+        assertThat(received, contains("any", "on"));
+    }
+
+    @Test
+    public void addedItemsArePassedToTheHandlersIndependentOfTheirState() {
+        SwitchItem item = new SwitchItem("Switch1");
+        router.addItemRoute("Switch1", CHANGED_TYPES, "ON", "OFF", event -> received.add("added"));
+
+        router.receive(ItemEventFactory.createAddedEvent(item));
+
+        assertThat(received, contains("added"));
+    }
+
+    @Test
+    public void itemEventsArePassedToHandlersWithWildcards() {
+        Set<String> types = Set.of(ItemCommandEvent.TYPE);
+        router.addItemRoute("Switch?", types, null, null, event -> received.add("question mark"));
+        router.addItemRoute("Sw*", types, "ON", null, event -> received.add("asterisk"));
+        router.addItemRoute("Dimmer*", types, null, null, event -> received.add("other"));
+
+        router.receive(ItemEventFactory.createCommandEvent("Switch1", OnOffType.ON));
+        router.receive(ItemEventFactory.createCommandEvent("Switch12", OnOffType.OFF));
+
+        assertThat(received, contains("question mark", "asterisk"));
+    }
+
+    @Test
+    public void memberEventsArePassedToTheHandlersOfTheirGroups() {
+        SwitchItem member = new SwitchItem("Switch1");
+        member.addGroupName("Lights");
+        when(itemRegistryMock.get("Switch1")).thenReturn(member);
+        when(itemRegistryMock.get("Switch2")).thenReturn(new SwitchItem("Switch2"));
+        router.addGroupMemberRoute("Lights", CHANGED_TYPES, "ON", null, event -> received.add("lights"));
+        router.addGroupMemberRoute("Heating", CHANGED_TYPES, null, null, event -> received.add("heating"));
+
+        router.receive(ItemEventFactory.createStateChangedEvent("Switch1", OnOffType.ON, OnOffType.OFF, null, null));
+        router.receive(ItemEventFactory.createStateChangedEvent("Switch1", OnOffType.OFF, OnOffType.ON, null, null));
+        router.receive(ItemEventFactory.createStateChangedEvent("Switch2", OnOffType.ON, OnOffType.OFF, null, null));
+
+        assertThat(received, contains("lights"));
+    }
+
+    @Test
+    public void thingEventsArePassedToTheHandlersOfTheThing() {
+        Set<String> types = Set.of(ThingStatusInfoChangedEvent.TYPE);
+        router.addThingRoute("binding:type:thing", types, "ONLINE", "OFFLINE", event -> received.add("thing"));
+        router.addThingRoute("binding:type:*", types, null, null, event -> received.add("wildcard"));
+        router.addThingRoute("binding:type:other", types, null, null, event -> received.add("other"));
+
+        router.receive(ThingEventFactory.createStatusInfoChangedEvent(new ThingUID("binding:type:thing"),
+                new ThingStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null),
+                new ThingStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.NONE, null)));
+
+        assertThat(received, contains("thing", "wildcard"));
+    }
+
+    @Test
+    public void removedRoutesDoNotReceiveEvents() {
+        Route route = router.addItemRoute("Switch1", CHANGED_TYPES, null, null, event -> received.add("removed"));
+        Route wildcardRoute = router.addItemRoute("Switch*", CHANGED_TYPES, null, null,
+                event -> received.add("removed"));
+        router.removeRoute(route);
+        router.removeRoute(wildcardRoute);
+
+        router.receive(ItemEventFactory.createStateChangedEvent("Switch1", OnOffType.ON, OnOffType.OFF, null, null));
+
+        assertThat(received, is(empty()));
+        assertThat(router.getRouteCount(), is(0));
+    }
+
+    @Test
+    public void costOfAnEventDoesNotDependOnTheNumberOfTriggers() {
+        State state = mock(State.class);
+        when(state.toFullString()).thenReturn("ON");
+        for (int i = 0; i < 10000; i++) {
+            String itemName = "Item" + i;
+            router.addItemRoute(itemName, CHANGED_TYPES, "ON", null, event -> received.add(itemName));
+        }
+        // several rules are triggered by the same item, but require different states
+        for (int i = 0; i < 100; i++) {
+            router.addItemRoute("Item42", CHANGED_TYPES, "STATE" + i, "STATE" + i, event -> received.add("other"));
+        }
+        Event event = ItemEventFactory.createStateChangedEvent("Item42", state, UnDefType.NULL, null, null);
+
+        router.receive(event);
+
+        assertThat(received, contains("Item42"));
+        // the state is converted once and compared by all triggers of the item, the triggers of other items are not
+        // considered at all
+        verify(state, times(1)).toFullString();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.ruleengine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.internal.Connection;
+
+/**
+ * Tests for {@link ConnectionPlan}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ConnectionPlanTest {
+
+    @Test
+    public void outputsAreConnectedToInputs() {
+        ConnectionPlan plan = new ConnectionPlan(Set.of(new Connection("input", "trigger", "event", null),
+                new Connection("missing", "trigger", "other", null)));
+        Map<String, @Nullable Object> context = new HashMap<>();
+        context.put("trigger.event", "value");
+
+        plan.apply(context);
+
+        assertThat(context.get("input"), is("value"));
+        assertThat(context.containsKey("missing"), is(false));
+    }
+
+    @Test
+    public void referencesIntoOutputsAreResolved() {
+        ConnectionPlan plan = new ConnectionPlan(Set.of(new Connection("first", "action", "result", "[0]"),
+                new Connection("key", "action", "map", "[\"key\"]")));
+        Map<String, @Nullable Object> context = new HashMap<>();
+        context.put("action.result", List.of("a", "b"));
+        context.put("action.map", Map.of("key", "value"));
+
+        // the plan is applied on each execution of the rule
+        plan.apply(context);
+        context.put("action.result", List.of("c"));
+        plan.apply(context);
+
+        assertThat(context.get("first"), is("c"));
+        assertThat(context.get("key"), is("value"));
+    }
+
+    @Test
+    public void referencesToTheContextAreResolved() {
+        ConnectionPlan plan = new ConnectionPlan(Set.of(new Connection("input", "{{name}}")));
+        Map<String, @Nullable Object> context = new HashMap<>();
+        context.put("name", "value");
+
+        plan.apply(context);
+
+        assertThat(context.get("input"), is("value"));
+    }
+
+    @Test
+    public void unresolvableReferencesFailOnExecution() {
+        ConnectionPlan plan = new ConnectionPlan(Set.of(new Connection("input", "action", "result", "missingField")));
+        Map<String, @Nullable Object> context = new HashMap<>();
+
+        // nothing to resolve as long as the output is not set
+        plan.apply(context);
+        context.put("action.result", "value");
+
+        assertThrows(IllegalArgumentException.class, () -> plan.apply(context));
+    }
+
+    @Test
+    public void emptyPlanDoesNotChangeTheContext() {
+        Map<String, @Nullable Object> context = new HashMap<>();
+        context.put("trigger.event", "value");
+
+        ConnectionPlan.EMPTY.apply(context);
+
+        assertThat(context, is(aMapWithSize(1)));
+    }
+}
@@ -19,10 +19,14 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
+import org.openhab.core.io.monitor.internal.metrics.EventBusMetric;
 import org.openhab.core.io.monitor.internal.metrics.EventCountMetric;
 import org.openhab.core.io.monitor.internal.metrics.JVMMetric;
 import org.openhab.core.io.monitor.internal.metrics.OpenhabCoreMeterBinder;
+import org.openhab.core.io.monitor.internal.metrics.PersistenceMetric;
+import org.openhab.core.io.monitor.internal.metrics.RuleExecutionMetric;
 import org.openhab.core.io.monitor.internal.metrics.RuleMetric;
+import org.openhab.core.io.monitor.internal.metrics.ScriptTransformationMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThingStateMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThreadPoolMetric;
 import org.openhab.core.service.ReadyMarker;
@@ -90,7 +94,16 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new BundleStateMetric(bundleContext, tags));
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
+        meters.add(new EventBusMetric(bundleContext, tags));
+        meters.add(new PersistenceMetric(bundleContext, tags));
         meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new RuleExecutionMetric(bundleContext, tags));
+        try {
+            meters.add(new ScriptTransformationMetric(bundleContext, tags));
+        } catch (NoClassDefFoundError e) {
+            // the script automation bundle is an optional dependency
+            logger.debug("Script transformation metrics are not available: {}", e.getMessage());
+        }
 
         meters.forEach(m -> m.bindTo(registry));
     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventDispatchListener;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link EventBusMetric} class implements metrics for the openHAB event bus: the number of dispatched events per
+ * event type, the queue size per subscriber type and histograms of the delay between dispatching and receiving an
+ * event and of the time spent receiving it.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetric implements OpenhabCoreMeterBinder, EventDispatchListener {
+
+    public static final String DISPATCHED_METRIC_NAME = "event_bus_dispatched";
+    public static final String QUEUE_SIZE_METRIC_NAME = "event_bus_queue_size";
+    public static final String DELAY_METRIC_NAME = "event_bus_delivery_delay";
+    public static final String DURATION_METRIC_NAME = "event_bus_receive_duration";
+    private static final Tag CORE_EVENT_BUS_METRIC_TAG = Tag.of("metric", "openhab.core.metric.eventbus");
+    private static final String TYPE_TAG_NAME = "type";
+    private static final String SUBSCRIBER_TAG_NAME = "subscriber";
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofSeconds(10);
+
+    private final Logger logger = LoggerFactory.getLogger(EventBusMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final BundleContext bundleContext;
+    private volatile @Nullable MeterRegistry meterRegistry;
+    private @Nullable ServiceRegistration<?> eventDispatchListenerRegistration;
+
+    // the meters are cached, so looking them up does not allocate tags for every event
+    private final Map<String, Counter> dispatchCounters = new ConcurrentHashMap<>();
+    private final Map<String, SubscriberMeters> subscriberMeters = new ConcurrentHashMap<>();
+
+    public EventBusMetric(BundleContext bundleContext, Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_EVENT_BUS_METRIC_TAG);
+        this.bundleContext = bundleContext;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("EventBusMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        this.eventDispatchListenerRegistration = this.bundleContext
+                .registerService(EventDispatchListener.class.getName(), this, null);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ServiceRegistration<?> eventDispatchListenerRegistration = this.eventDispatchListenerRegistration;
+        if (eventDispatchListenerRegistration != null) {
+            eventDispatchListenerRegistration.unregister();
+            this.eventDispatchListenerRegistration = null;
+        }
+
+        this.meterRegistry = null;
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_EVENT_BUS_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        dispatchCounters.clear();
+        subscriberMeters.clear();
+    }
+
+    @Override
+    public void eventDispatched(String eventType) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        dispatchCounters.computeIfAbsent(eventType, type -> Counter.builder(DISPATCHED_METRIC_NAME).tags(tags)
+                .tag(TYPE_TAG_NAME, type).register(meterRegistry)).increment();
+    }
+
+    @Override
+    public void eventQueued(String subscriberType, int queueSize) {
+        SubscriberMeters meters = getSubscriberMeters(subscriberType);
+        if (meters != null) {
+            meters.queueSize.set(queueSize);
+        }
+    }
+
+    @Override
+    public void eventDelivered(String subscriberType, Event event, int queueSize, long delayNanos,
+            long durationNanos) {
+        SubscriberMeters meters = getSubscriberMeters(subscriberType);
+        if (meters != null) {
+            meters.queueSize.set(queueSize);
+            meters.delay.record(delayNanos, TimeUnit.NANOSECONDS);
+            meters.duration.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable SubscriberMeters getSubscriberMeters(String subscriberType) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return null;
+        }
+        return subscriberMeters.computeIfAbsent(subscriberType, type -> createSubscriberMeters(meterRegistry, type));
+    }
+
+    private SubscriberMeters createSubscriberMeters(MeterRegistry meterRegistry, String subscriberType) {
+        Set<Tag> tagsWithSubscriber = new HashSet<>(tags);
+        tagsWithSubscriber.add(Tag.of(SUBSCRIBER_TAG_NAME, subscriberType));
+        AtomicInteger queueSize = new AtomicInteger();
+        Gauge.builder(QUEUE_SIZE_METRIC_NAME, queueSize, AtomicInteger::get).tags(tagsWithSubscriber)
+                .register(meterRegistry);
+        Timer delay = Timer.builder(DELAY_METRIC_NAME).tags(tagsWithSubscriber).publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_DURATION).register(meterRegistry);
+        Timer duration = Timer.builder(DURATION_METRIC_NAME).tags(tagsWithSubscriber).publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_DURATION).register(meterRegistry);
+        return new SubscriberMeters(queueSize, delay, duration);
+    }
+
+    private record SubscriberMeters(AtomicInteger queueSize, Timer delay, Timer duration) {
+    }
+}
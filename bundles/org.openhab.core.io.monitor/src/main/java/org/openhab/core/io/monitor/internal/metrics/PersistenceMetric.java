@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.PersistenceCacheListener;
+import org.openhab.core.persistence.PersistenceWriteListener;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link PersistenceMetric} class implements metrics for the write queues of batching persistence services: the
+ * number of queued entries, the number of written entries and a histogram of the time needed to write a batch. It also
+ * counts the hits and misses of the recent history cache per service.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMetric implements OpenhabCoreMeterBinder, PersistenceWriteListener, PersistenceCacheListener {
+
+    public static final String QUEUE_SIZE_METRIC_NAME = "persistence_write_queue_size";
+    public static final String WRITTEN_METRIC_NAME = "persistence_entries_written";
+    public static final String FLUSH_DURATION_METRIC_NAME = "persistence_flush_duration";
+    public static final String HISTORY_CACHE_HITS_METRIC_NAME = "persistence_history_cache_hits";
+    public static final String HISTORY_CACHE_MISSES_METRIC_NAME = "persistence_history_cache_misses";
+    private static final Tag CORE_PERSISTENCE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.persistence");
+    private static final String SERVICE_TAG_NAME = "service";
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofSeconds(30);
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final BundleContext bundleContext;
+    private volatile @Nullable MeterRegistry meterRegistry;
+    private @Nullable ServiceRegistration<?> listenerRegistration;
+
+    private final Map<String, ServiceMeters> serviceMeters = new ConcurrentHashMap<>();
+    private final Map<String, CacheMeters> cacheMeters = new ConcurrentHashMap<>();
+
+    public PersistenceMetric(BundleContext bundleContext, Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_PERSISTENCE_METRIC_TAG);
+        this.bundleContext = bundleContext;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("PersistenceMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        this.listenerRegistration = this.bundleContext.registerService(
+                new String[] { PersistenceWriteListener.class.getName(), PersistenceCacheListener.class.getName() },
+                this, null);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ServiceRegistration<?> listenerRegistration = this.listenerRegistration;
+        if (listenerRegistration != null) {
+            listenerRegistration.unregister();
+            this.listenerRegistration = null;
+        }
+
+        this.meterRegistry = null;
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_PERSISTENCE_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        serviceMeters.clear();
+        cacheMeters.clear();
+    }
+
+    @Override
+    public void entryQueued(String serviceId, int queueSize) {
+        ServiceMeters meters = getServiceMeters(serviceId);
+        if (meters != null) {
+            meters.queueSize.set(queueSize);
+        }
+    }
+
+    @Override
+    public void entriesFlushed(String serviceId, int entries, int queueSize, long durationNanos) {
+        ServiceMeters meters = getServiceMeters(serviceId);
+        if (meters != null) {
+            meters.queueSize.set(queueSize);
+            meters.written.increment(entries);
+            meters.flushDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void historyCacheQueried(String serviceId, boolean hit) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        CacheMeters meters = cacheMeters.computeIfAbsent(serviceId, id -> createCacheMeters(meterRegistry, id));
+        (hit ? meters.hits() : meters.misses()).increment();
+    }
+
+    private @Nullable ServiceMeters getServiceMeters(String serviceId) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return null;
+        }
+        return serviceMeters.computeIfAbsent(serviceId, id -> createServiceMeters(meterRegistry, id));
+    }
+
+    private ServiceMeters createServiceMeters(MeterRegistry meterRegistry, String serviceId) {
+        Set<Tag> tagsWithService = new HashSet<>(tags);
+        tagsWithService.add(Tag.of(SERVICE_TAG_NAME, serviceId));
+        AtomicInteger queueSize = new AtomicInteger();
+        Gauge.builder(QUEUE_SIZE_METRIC_NAME, queueSize, AtomicInteger::get).tags(tagsWithService)
+                .register(meterRegistry);
+        Counter written = Counter.builder(WRITTEN_METRIC_NAME).tags(tagsWithService).register(meterRegistry);
+        Timer flushDuration = Timer.builder(FLUSH_DURATION_METRIC_NAME).tags(tagsWithService)
+                .publishPercentileHistogram().maximumExpectedValue(MAX_EXPECTED_DURATION).register(meterRegistry);
+        return new ServiceMeters(queueSize, written, flushDuration);
+    }
+
+    private CacheMeters createCacheMeters(MeterRegistry meterRegistry, String serviceId) {
+        Set<Tag> tagsWithService = new HashSet<>(tags);
+        tagsWithService.add(Tag.of(SERVICE_TAG_NAME, serviceId));
+        Counter hits = Counter.builder(HISTORY_CACHE_HITS_METRIC_NAME).tags(tagsWithService).register(meterRegistry);
+        Counter misses = Counter.builder(HISTORY_CACHE_MISSES_METRIC_NAME).tags(tagsWithService)
+                .register(meterRegistry);
+        return new CacheMeters(hits, misses);
+    }
+
+    private record CacheMeters(Counter hits, Counter misses) {
+    }
+
+    private record ServiceMeters(AtomicInteger queueSize, Counter written, Timer flushDuration) {
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * The {@link PinnedVirtualThreadRecorder} streams the events of the JDK Flight Recorder about virtual threads which
+ * block while pinned to their carrier thread, e.g. in a <code>synchronized</code> block.
+ * <p>
+ * The class is only loaded when the recorder is created, so a missing <code>jdk.jfr</code> module results in an
+ * error that can be handled by the caller.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PinnedVirtualThreadRecorder implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private final RecordingStream stream;
+
+    /**
+     * Starts to stream the events.
+     *
+     * @param pinned called with the time each virtual thread was pinned
+     */
+    PinnedVirtualThreadRecorder(Consumer<Duration> pinned) {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(THRESHOLD);
+        stream.onEvent(PINNED_EVENT, event -> pinned.accept(event.getDuration()));
+        stream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.RuleExecutionListener;
+import org.openhab.core.automation.RuleExecutionMode;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link RuleExecutionMetric} class implements metrics for the executions of triggered rules per execution mode:
+ * the number of rules executed at the moment and a histogram of the execution times. It also records the virtual
+ * threads pinned to their carrier thread, if the JDK Flight Recorder is available, so the pooled and the virtual
+ * execution of rules can be compared. The recording is only started once a rule is executed on a virtual thread.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RuleExecutionMetric implements OpenhabCoreMeterBinder, RuleExecutionListener {
+
+    public static final String RUNNING_METRIC_NAME = "openhab.rule.executions.running";
+    public static final String DURATION_METRIC_NAME = "openhab.rule.execution.duration";
+    public static final String PINNED_METRIC_NAME = "openhab.virtual.threads.pinned";
+    private static final Tag CORE_RULE_EXECUTION_METRIC_TAG = Tag.of("metric",
+            "openhab.core.metric.rule.executions");
+    private static final String MODE_TAG_NAME = "mode";
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofMinutes(1);
+
+    private final Logger logger = LoggerFactory.getLogger(RuleExecutionMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final BundleContext bundleContext;
+    private volatile Map<RuleExecutionMode, ModeMeters> modeMeters = Map.of();
+    private volatile @Nullable MeterRegistry meterRegistry;
+    private @Nullable ServiceRegistration<?> ruleExecutionListenerRegistration;
+    private volatile @Nullable Timer pinnedTimer;
+    private @Nullable PinnedVirtualThreadRecorder pinnedVirtualThreadRecorder;
+
+    public RuleExecutionMetric(BundleContext bundleContext, Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_RULE_EXECUTION_METRIC_TAG);
+        this.bundleContext = bundleContext;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("RuleExecutionMetric is being bound...");
+        Map<RuleExecutionMode, ModeMeters> modeMeters = new EnumMap<>(RuleExecutionMode.class);
+        for (RuleExecutionMode mode : RuleExecutionMode.values()) {
+            modeMeters.put(mode, createModeMeters(meterRegistry, mode));
+        }
+        this.modeMeters = Collections.unmodifiableMap(modeMeters);
+        this.pinnedTimer = Timer.builder(PINNED_METRIC_NAME).tags(tags).publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_DURATION).register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+        this.ruleExecutionListenerRegistration = this.bundleContext
+                .registerService(RuleExecutionListener.class.getName(), this, null);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ServiceRegistration<?> ruleExecutionListenerRegistration = this.ruleExecutionListenerRegistration;
+        if (ruleExecutionListenerRegistration != null) {
+            ruleExecutionListenerRegistration.unregister();
+            this.ruleExecutionListenerRegistration = null;
+        }
+        stopRecordingPinnedVirtualThreads();
+
+        this.meterRegistry = null;
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_RULE_EXECUTION_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        modeMeters = Map.of();
+    }
+
+    @Override
+    public void executionStarted(String ruleUID, RuleExecutionMode mode, int runningExecutions) {
+        if (mode == RuleExecutionMode.VIRTUAL && pinnedTimer != null) {
+            startRecordingPinnedVirtualThreads();
+        }
+        ModeMeters meters = modeMeters.get(mode);
+        if (meters != null) {
+            meters.running().set(runningExecutions);
+        }
+    }
+
+    @Override
+    public void executionFinished(String ruleUID, RuleExecutionMode mode, int runningExecutions,
+            long durationNanos) {
+        ModeMeters meters = modeMeters.get(mode);
+        if (meters != null) {
+            meters.running().set(runningExecutions);
+            meters.duration().record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized void startRecordingPinnedVirtualThreads() {
+        Timer pinned = pinnedTimer;
+        if (pinned == null) {
+            return;
+        }
+        // only one attempt is made, the recorder is not available if it fails
+        pinnedTimer = null;
+        try {
+            pinnedVirtualThreadRecorder = new PinnedVirtualThreadRecorder(
+                    duration -> pinned.record(duration.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (RuntimeException | LinkageError e) {
+            logger.debug("Pinned virtual threads cannot be recorded: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void stopRecordingPinnedVirtualThreads() {
+        pinnedTimer = null;
+        PinnedVirtualThreadRecorder pinnedVirtualThreadRecorder = this.pinnedVirtualThreadRecorder;
+        if (pinnedVirtualThreadRecorder != null) {
+            pinnedVirtualThreadRecorder.close();
+            this.pinnedVirtualThreadRecorder = null;
+        }
+    }
+
+    private ModeMeters createModeMeters(MeterRegistry meterRegistry, RuleExecutionMode mode) {
+        Set<Tag> tagsWithMode = new HashSet<>(tags);
+        tagsWithMode.add(Tag.of(MODE_TAG_NAME, mode.name().toLowerCase(Locale.ROOT)));
+        AtomicInteger running = new AtomicInteger();
+        Gauge.builder(RUNNING_METRIC_NAME, running, AtomicInteger::get).tags(tagsWithMode).register(meterRegistry);
+        Timer duration = Timer.builder(DURATION_METRIC_NAME).tags(tagsWithMode).publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_DURATION).register(meterRegistry);
+        return new ModeMeters(running, duration);
+    }
+
+    private record ModeMeters(AtomicInteger running, Timer duration) {
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.module.script.ScriptEnginePoolListener;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link ScriptTransformationMetric} class implements a histogram of the time script transformations wait for an
+ * engine of the script engine pools, per script type.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptTransformationMetric implements OpenhabCoreMeterBinder, ScriptEnginePoolListener {
+
+    public static final String ENGINE_WAIT_METRIC_NAME = "openhab.script.transformation.engine.wait";
+    private static final Tag CORE_SCRIPT_TRANSFORMATION_METRIC_TAG = Tag.of("metric",
+            "openhab.core.metric.script.transformation");
+    private static final String SCRIPT_TYPE_TAG_NAME = "scripttype";
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofSeconds(10);
+
+    private final Logger logger = LoggerFactory.getLogger(ScriptTransformationMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final BundleContext bundleContext;
+    private final Map<String, Timer> engineWaitTimers = new ConcurrentHashMap<>();
+    private volatile @Nullable MeterRegistry meterRegistry;
+    private @Nullable ServiceRegistration<?> poolListenerRegistration;
+
+    public ScriptTransformationMetric(BundleContext bundleContext, Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_SCRIPT_TRANSFORMATION_METRIC_TAG);
+        this.bundleContext = bundleContext;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("ScriptTransformationMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        this.poolListenerRegistration = this.bundleContext.registerService(ScriptEnginePoolListener.class.getName(),
+                this, null);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ServiceRegistration<?> poolListenerRegistration = this.poolListenerRegistration;
+        if (poolListenerRegistration != null) {
+            poolListenerRegistration.unregister();
+            this.poolListenerRegistration = null;
+        }
+
+        this.meterRegistry = null;
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_SCRIPT_TRANSFORMATION_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        engineWaitTimers.clear();
+    }
+
+    @Override
+    public void engineAcquired(String scriptType, String scriptUid, long waitNanos) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        engineWaitTimers.computeIfAbsent(scriptType, type -> createEngineWaitTimer(meterRegistry, type))
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer createEngineWaitTimer(MeterRegistry meterRegistry, String scriptType) {
+        Set<Tag> tagsWithScriptType = new HashSet<>(tags);
+        tagsWithScriptType.add(Tag.of(SCRIPT_TYPE_TAG_NAME, scriptType));
+        return Timer.builder(ENGINE_WAIT_METRIC_NAME).tags(tagsWithScriptType).publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_DURATION).register(meterRegistry);
+    }
+}
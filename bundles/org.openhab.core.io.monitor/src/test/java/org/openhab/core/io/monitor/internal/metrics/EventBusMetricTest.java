@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.OnOffType;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for EventBusMetric class
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetricTest {
+
+    private static final String SUBSCRIBER = "org.example.Subscriber";
+
+    @Test
+    public void testMetersAreRecorded() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventBusMetric metric = new EventBusMetric(mock(BundleContext.class), Set.of());
+        metric.bindTo(meterRegistry);
+
+        metric.eventDispatched(ItemStateEvent.TYPE);
+        metric.eventDispatched(ItemStateEvent.TYPE);
+        metric.eventQueued(SUBSCRIBER, 3);
+        metric.eventDelivered(SUBSCRIBER, ItemEventFactory.createStateEvent("Item", OnOffType.ON), 2,
+                TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertEquals(2.0, meterRegistry.get(EventBusMetric.DISPATCHED_METRIC_NAME).tag("type", ItemStateEvent.TYPE)
+                .counter().count());
+        assertEquals(2.0,
+                meterRegistry.get(EventBusMetric.QUEUE_SIZE_METRIC_NAME).tag("subscriber", SUBSCRIBER).gauge().value());
+        Timer delay = meterRegistry.get(EventBusMetric.DELAY_METRIC_NAME).tag("subscriber", SUBSCRIBER).timer();
+        assertEquals(1, delay.count());
+        assertEquals(5.0, delay.totalTime(TimeUnit.MILLISECONDS));
+        Timer duration = meterRegistry.get(EventBusMetric.DURATION_METRIC_NAME).tag("subscriber", SUBSCRIBER).timer();
+        assertEquals(1.0, duration.totalTime(TimeUnit.MILLISECONDS));
+
+        metric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+        // events after unbinding are ignored
+        metric.eventDispatched(ItemStateEvent.TYPE);
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for PersistenceMetric class
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMetricTest {
+
+    private static final String SERVICE = "jdbc";
+
+    @Test
+    public void testMetersAreRecorded() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PersistenceMetric metric = new PersistenceMetric(mock(BundleContext.class), Set.of());
+        metric.bindTo(meterRegistry);
+
+        metric.entryQueued(SERVICE, 5);
+        assertEquals(5.0,
+                meterRegistry.get(PersistenceMetric.QUEUE_SIZE_METRIC_NAME).tag("service", SERVICE).gauge().value());
+
+        metric.entriesFlushed(SERVICE, 4, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(1.0,
+                meterRegistry.get(PersistenceMetric.QUEUE_SIZE_METRIC_NAME).tag("service", SERVICE).gauge().value());
+        assertEquals(4.0,
+                meterRegistry.get(PersistenceMetric.WRITTEN_METRIC_NAME).tag("service", SERVICE).counter().count());
+        Timer flushDuration = meterRegistry.get(PersistenceMetric.FLUSH_DURATION_METRIC_NAME).tag("service", SERVICE)
+                .timer();
+        assertEquals(1, flushDuration.count());
+        assertEquals(20.0, flushDuration.totalTime(TimeUnit.MILLISECONDS));
+
+        metric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.RuleExecutionMode;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for RuleExecutionMetric class
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RuleExecutionMetricTest {
+
+    @Test
+    public void testMetersAreRecordedPerMode() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RuleExecutionMetric metric = new RuleExecutionMetric(mock(BundleContext.class), Set.of());
+        metric.bindTo(meterRegistry);
+
+        metric.executionStarted("rule1", RuleExecutionMode.VIRTUAL, 1);
+        metric.executionStarted("rule2", RuleExecutionMode.VIRTUAL, 2);
+        assertEquals(2.0,
+                meterRegistry.get(RuleExecutionMetric.RUNNING_METRIC_NAME).tag("mode", "virtual").gauge().value());
+        assertEquals(0.0,
+                meterRegistry.get(RuleExecutionMetric.RUNNING_METRIC_NAME).tag("mode", "pooled").gauge().value());
+
+        metric.executionFinished("rule1", RuleExecutionMode.VIRTUAL, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(1.0,
+                meterRegistry.get(RuleExecutionMetric.RUNNING_METRIC_NAME).tag("mode", "virtual").gauge().value());
+        Timer duration = meterRegistry.get(RuleExecutionMetric.DURATION_METRIC_NAME).tag("mode", "virtual").timer();
+        assertEquals(1, duration.count());
+        assertEquals(20.0, duration.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0, meterRegistry.get(RuleExecutionMetric.DURATION_METRIC_NAME).tag("mode", "pooled").timer()
+                .count());
+        assertNotNull(meterRegistry.get(RuleExecutionMetric.PINNED_METRIC_NAME).timer());
+
+        metric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void testExecutionsAreIgnoredWhenUnbound() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RuleExecutionMetric metric = new RuleExecutionMetric(mock(BundleContext.class), Set.of());
+        metric.bindTo(meterRegistry);
+        metric.unbind();
+
+        metric.executionStarted("rule1", RuleExecutionMode.VIRTUAL, 1);
+        metric.executionFinished("rule1", RuleExecutionMode.VIRTUAL, 0, TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for ScriptTransformationMetric class
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptTransformationMetricTest {
+
+    @Test
+    public void testWaitTimesAreRecordedPerScriptType() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ScriptTransformationMetric metric = new ScriptTransformationMetric(mock(BundleContext.class), Set.of());
+        metric.bindTo(meterRegistry);
+
+        metric.engineAcquired("js", "script1", TimeUnit.MILLISECONDS.toNanos(5));
+        metric.engineAcquired("js", "script2", TimeUnit.MILLISECONDS.toNanos(15));
+        metric.engineAcquired("py", "script3", 0);
+
+        Timer js = meterRegistry.get(ScriptTransformationMetric.ENGINE_WAIT_METRIC_NAME).tag("scripttype", "js")
+                .timer();
+        assertEquals(2, js.count());
+        assertEquals(20.0, js.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, meterRegistry.get(ScriptTransformationMetric.ENGINE_WAIT_METRIC_NAME)
+                .tag("scripttype", "py").timer().count());
+
+        metric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
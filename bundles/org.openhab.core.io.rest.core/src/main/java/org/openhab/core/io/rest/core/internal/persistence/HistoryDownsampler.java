@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.core.internal.persistence;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link HistoryDownsampler} reduces the number of data points of an item history, so charts covering a long
+ * period do not need to transfer every persisted state.
+ *
+ * The period is divided into buckets of equal duration. For each bucket, only the data points with the minimum and the
+ * maximum value are kept in their original order, so peaks remain visible in the chart. Data points with states that
+ * are not numeric are always kept. Data points have to be added in ascending order, they are processed in a single
+ * pass.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class HistoryDownsampler {
+
+    /**
+     * Receives the data points that are kept.
+     */
+    @FunctionalInterface
+    interface DataPointConsumer {
+        void accept(long time, State state);
+    }
+
+    private final long begin;
+    private final int buckets;
+    private final double bucketDuration;
+    private final DataPointConsumer consumer;
+
+    private long bucket = -1;
+    private long minTime;
+    private long maxTime;
+    private double min;
+    private double max;
+    private @Nullable State minState;
+    private @Nullable State maxState;
+
+    /**
+     * Creates a new downsampler.
+     *
+     * @param begin the begin of the period in milliseconds since the epoch
+     * @param end the end of the period in milliseconds since the epoch
+     * @param maxPoints the maximum number of numeric data points to keep
+     * @param consumer the consumer receiving the data points that are kept
+     */
+    HistoryDownsampler(long begin, long end, int maxPoints, DataPointConsumer consumer) {
+        this.begin = begin;
+        // two data points are kept per bucket
+        this.buckets = Math.max(1, maxPoints / 2);
+        this.bucketDuration = Math.max(1.0, (double) (end - begin) / buckets);
+        this.consumer = consumer;
+    }
+
+    /**
+     * Adds a data point.
+     *
+     * @param time the time of the data point in milliseconds since the epoch
+     * @param state the state of the data point
+     */
+    void add(long time, State state) {
+        double value;
+        if (state instanceof QuantityType<?> quantity) {
+            value = quantity.doubleValue();
+        } else if (state instanceof DecimalType decimal) {
+            value = decimal.doubleValue();
+        } else {
+            flush();
+            consumer.accept(time, state);
+            return;
+        }
+
+        long index = Math.clamp((long) Math.floor((time - begin) / bucketDuration), 0, buckets - 1);
+        if (index != bucket) {
+            flush();
+            bucket = index;
+            minTime = maxTime = time;
+            min = max = value;
+            minState = maxState = state;
+        } else if (value < min) {
+            minTime = time;
+            min = value;
+            minState = state;
+        } else if (value > max) {
+            maxTime = time;
+            max = value;
+            maxState = state;
+        }
+    }
+
+    /**
+     * Passes the data points kept for the current bucket to the consumer. Has to be called after the last data point
+     * has been added.
+     */
+    void flush() {
+        State minState = this.minState;
+        State maxState = this.maxState;
+        if (minState == null || maxState == null) {
+            return;
+        }
+        if (minState == maxState) {
+            consumer.accept(minTime, minState);
+        } else if (minTime <= maxTime) {
+            consumer.accept(minTime, minState);
+            consumer.accept(maxTime, maxState);
+        } else {
+            consumer.accept(maxTime, maxState);
+            consumer.accept(minTime, minState);
+        }
+        this.minState = null;
+        this.maxState = null;
+        bucket = -1;
+    }
+}
@@ -12,16 +12,22 @@
  */
 package org.openhab.core.io.rest.core.internal.persistence;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -41,6 +47,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -100,6 +107,8 @@ import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.stream.JsonWriter;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -311,11 +320,43 @@ public class PersistenceResource implements RESTResource {
             @Parameter(description = "The length of each page.") @QueryParam("pagelength") int pageLength,
             @Parameter(description = "Gets one value before and after the requested period.") @QueryParam("boundary") boolean boundary,
             @Parameter(description = "Adds the current Item state into the requested period (the Item state will be before or at the endtime)") @QueryParam("itemState") boolean itemState,
-            @Parameter(description = "If set to true, formatting from the state description is applied to the values. For QuantityType states, the value in the display unit as defined by the pattern, is returned.") @QueryParam("displayState") boolean displayState) {
+            @Parameter(description = "If set to true, formatting from the state description is applied to the values. For QuantityType states, the value in the display unit as defined by the pattern, is returned.") @QueryParam("displayState") boolean displayState,
+            @Parameter(description = "Maximum number of numeric values to return. If set, the requested period is divided into buckets and only the minimum and maximum value of each bucket are returned.") @QueryParam("maxPoints") int maxPoints) {
         Locale locale = localeService.getLocale(language);
 
         return getItemHistoryDTO(serviceId, itemName, startTime, endTime, pageNumber, pageLength, boundary, itemState,
-                displayState, locale);
+                displayState, maxPoints, locale);
+    }
+
+    @GET
+    @RolesAllowed({ Role.USER, Role.ADMIN })
+    @Path("/history")
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Operation(operationId = "getItemsDataFromPersistenceService", summary = "Gets persistence data of several Items from the persistence service.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ItemHistoryDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "No Item names provided"),
+            @ApiResponse(responseCode = "404", description = "Unknown persistence service or Item not found"),
+            @ApiResponse(responseCode = "405", description = "Persistence service not queryable") })
+    public Response httpGetPersistenceItemsData(
+            @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @Parameter(description = "language") @Nullable String language,
+            @Parameter(description = "Id of the persistence service. If not provided the default service will be used") @QueryParam("serviceId") @Nullable String serviceId,
+            @Parameter(description = "Comma separated list of Item names") @QueryParam("itemNames") @Nullable String itemNames,
+            @Parameter(description = "Start time of the data to return. Will default to 1 day before endtime. ["
+                    + DateTimeType.DATE_PATTERN_WITH_TZ_AND_MS
+                    + "]") @QueryParam("starttime") @Nullable String startTime,
+            @Parameter(description = "End time of the data to return. Will default to current time. ["
+                    + DateTimeType.DATE_PATTERN_WITH_TZ_AND_MS + "]") @QueryParam("endtime") @Nullable String endTime,
+            @Parameter(description = "If set to true, formatting from the state description is applied to the values. For QuantityType states, the value in the display unit as defined by the pattern, is returned.") @QueryParam("displayState") boolean displayState,
+            @Parameter(description = "Maximum number of numeric values to return per Item. If set, the requested period is divided into buckets and only the minimum and maximum value of each bucket are returned.") @QueryParam("maxPoints") int maxPoints) {
+        Locale locale = localeService.getLocale(language);
+
+        List<String> names = itemNames == null ? List.of()
+                : Arrays.stream(itemNames.split(",")).map(String::trim).filter(name -> !name.isEmpty()).distinct()
+                        .toList();
+        if (names.isEmpty()) {
+            return JSONResponse.createErrorResponse(Status.BAD_REQUEST, "No Item names provided");
+        }
+        return getItemHistoryDTOs(serviceId, names, startTime, endTime, displayState, maxPoints, locale);
     }
 
     @DELETE
@@ -444,10 +485,7 @@ public class PersistenceResource implements RESTResource {
 
     private Response getItemHistoryDTO(@Nullable String serviceId, String itemName, @Nullable String timeBegin,
             @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary, boolean itemState,
-            boolean displayState, @Nullable Locale locale) {
-        // Benchmarking timer...
-        long timerStart = System.currentTimeMillis();
-
+            boolean displayState, int maxPoints, @Nullable Locale locale) {
         // If serviceId is null, then use the default service
         PersistenceService service;
         String effectiveServiceId = serviceId != null ? serviceId : persistenceServiceRegistry.getDefaultId();
@@ -467,20 +505,164 @@ public class PersistenceResource implements RESTResource {
 
         QueryablePersistenceService qService = (QueryablePersistenceService) service;
 
-        @Nullable
-        ItemHistoryDTO dto = createDTO(qService, itemName, timeBegin, timeEnd, pageNumber, pageLength, boundary,
-                itemState, displayState, locale);
-        if (dto == null) {
+        ItemHistoryQuery query = createQuery(qService, itemName, timeBegin, timeEnd, pageNumber, pageLength, boundary,
+                itemState, displayState, maxPoints, locale);
+        if (query == null) {
             return JSONResponse.createErrorResponse(Status.NOT_FOUND, "Item not found: " + itemName);
         }
-        logger.debug("Persistence returned {} rows in {}ms", dto.datapoints, System.currentTimeMillis() - timerStart);
+        try {
+            // the response is not committed yet, so a failing query can still be answered with an error status
+            query.prepare();
+        } catch (RuntimeException e) {
+            logger.warn("Querying persistence service '{}' for item '{}' failed: {}", effectiveServiceId, itemName,
+                    e.getMessage());
+            return JSONResponse.createErrorResponse(Status.INTERNAL_SERVER_ERROR,
+                    "Querying persistence service failed: " + effectiveServiceId);
+        }
+
+        // the data points are written while they are read from the persistence service, so the complete history
+        // does not need to be held in memory
+        return Response.ok((StreamingOutput) target -> {
+            // Benchmarking timer...
+            long timerStart = System.currentTimeMillis();
+
+            // target must not be closed, see javadoc of javax.ws.rs.ext.MessageBodyWriter
+            JsonWriter jsonWriter = new JsonWriter(
+                    new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8)));
+            jsonWriter.beginObject();
+            jsonWriter.name("name").value(itemName);
+            String unit = query.unit;
+            if (unit != null) {
+                jsonWriter.name("unit").value(unit);
+            }
+            jsonWriter.name("data").beginArray();
+            long quantity;
+            try {
+                quantity = query.write((time, state) -> {
+                    try {
+                        jsonWriter.beginObject().name("time").value(time).name("state").value(state).endObject();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                // the status has already been sent, the response is aborted instead of completing the JSON document,
+                // so a client cannot take the data points written so far for the complete history
+                logger.warn("Reading the history of item '{}' from persistence service '{}' failed: {}", itemName,
+                        effectiveServiceId, e.getMessage());
+                throw new IOException("Reading the history of item '" + itemName + "' failed", e);
+            }
+            jsonWriter.endArray();
+            jsonWriter.name("datapoints").value(Long.toString(quantity));
+            jsonWriter.endObject();
+            jsonWriter.flush();
 
-        return JSONResponse.createResponse(Status.OK, dto, "");
+            logger.debug("Persistence returned {} rows in {}ms", quantity, System.currentTimeMillis() - timerStart);
+        }, MediaType.APPLICATION_JSON).build();
+    }
+
+    private Response getItemHistoryDTOs(@Nullable String serviceId, List<String> itemNames,
+            @Nullable String timeBegin, @Nullable String timeEnd, boolean displayState, int maxPoints,
+            @Nullable Locale locale) {
+        // If serviceId is null, then use the default service
+        String effectiveServiceId = serviceId != null ? serviceId : persistenceServiceRegistry.getDefaultId();
+        PersistenceService service = effectiveServiceId != null ? persistenceServiceRegistry.get(effectiveServiceId)
+                : null;
+        if (effectiveServiceId == null || service == null) {
+            logger.debug("Persistence service not found '{}'.", effectiveServiceId);
+            return JSONResponse.createErrorResponse(Status.NOT_FOUND,
+                    "Persistence service not found: " + effectiveServiceId);
+        }
+
+        if (!(service instanceof QueryablePersistenceService qService)) {
+            logger.debug("Persistence service not queryable '{}'.", effectiveServiceId);
+            return JSONResponse.createErrorResponse(Status.METHOD_NOT_ALLOWED,
+                    "Persistence service not queryable: " + effectiveServiceId);
+        }
+
+        List<ItemHistoryDTO> dtos = createDTOs(qService, itemNames, timeBegin, timeEnd, displayState, maxPoints,
+                locale);
+        if (dtos == null) {
+            return JSONResponse.createErrorResponse(Status.NOT_FOUND, "Item not found: " + itemNames);
+        }
+        return Response.ok(dtos).build();
+    }
+
+    /**
+     * Creates the histories of several items, retrieving them from the persistence service with a single query if
+     * the service supports it.
+     *
+     * @return the histories in the order of the item names, or <code>null</code> if an item does not exist
+     */
+    protected @Nullable List<ItemHistoryDTO> createDTOs(QueryablePersistenceService qService, List<String> itemNames,
+            @Nullable String timeBegin, @Nullable String timeEnd, boolean displayState, int maxPoints,
+            @Nullable Locale locale) {
+        List<ItemHistoryQuery> queries = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        for (String itemName : itemNames) {
+            ItemHistoryQuery query = createQuery(qService, itemName, timeBegin, timeEnd, 0, 0, false, false,
+                    displayState, maxPoints, locale);
+            Item item = query != null ? query.item : null;
+            if (query == null || item == null) {
+                logger.debug("Item '{}' not found.", itemName);
+                return null;
+            }
+            queries.add(query);
+            items.add(item);
+        }
+
+        PersistenceServiceConfiguration config = persistenceServiceConfigurationRegistry.get(qService.getId());
+        Map<String, String> aliases = config != null ? config.getAliases() : Map.of();
+
+        ItemHistoryQuery first = queries.getFirst();
+        FilterCriteria filter = new FilterCriteria();
+        filter.setBeginDate(first.dateTimeBegin);
+        filter.setEndDate(first.dateTimeEnd);
+        filter.setOrdering(Ordering.ASCENDING);
+        Map<String, List<HistoricItem>> historicItems = persistenceManager.query(qService, items, filter, aliases);
+
+        List<ItemHistoryDTO> dtos = new ArrayList<>();
+        for (ItemHistoryQuery query : queries) {
+            query.historicItems = historicItems.getOrDefault(query.itemName, List.of());
+
+            ItemHistoryDTO dto = new ItemHistoryDTO();
+            dto.name = query.itemName;
+            dto.unit = query.unit;
+            dto.datapoints = Long.toString(query.write(dto::addData));
+            dtos.add(dto);
+        }
+        return dtos;
     }
 
     protected @Nullable ItemHistoryDTO createDTO(QueryablePersistenceService qService, String itemName,
             @Nullable String timeBegin, @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary,
             boolean itemState, boolean displayState, @Nullable Locale locale) {
+        return createDTO(qService, itemName, timeBegin, timeEnd, pageNumber, pageLength, boundary, itemState,
+                displayState, 0, locale);
+    }
+
+    protected @Nullable ItemHistoryDTO createDTO(QueryablePersistenceService qService, String itemName,
+            @Nullable String timeBegin, @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary,
+            boolean itemState, boolean displayState, int maxPoints, @Nullable Locale locale) {
+        ItemHistoryQuery query = createQuery(qService, itemName, timeBegin, timeEnd, pageNumber, pageLength, boundary,
+                itemState, displayState, maxPoints, locale);
+        if (query == null) {
+            return null;
+        }
+
+        ItemHistoryDTO dto = new ItemHistoryDTO();
+        dto.name = itemName;
+        dto.unit = query.unit;
+        long quantity = query.write(dto::addData);
+        dto.datapoints = Long.toString(quantity);
+        return dto;
+    }
+
+    private @Nullable ItemHistoryQuery createQuery(QueryablePersistenceService qService, String itemName,
+            @Nullable String timeBegin, @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary,
+            boolean itemState, boolean displayState, int maxPoints, @Nullable Locale locale) {
         String serviceId = qService.getId();
         PersistenceServiceConfiguration config = persistenceServiceConfigurationRegistry.get(serviceId);
         String alias = config != null ? config.getAliases().get(itemName) : null;
@@ -542,92 +724,29 @@ public class PersistenceResource implements RESTResource {
             displayState = false;
         }
 
-        Iterable<HistoricItem> result;
-
-        long quantity = 0L;
-
-        ItemHistoryDTO dto = new ItemHistoryDTO();
-        dto.name = itemName;
-        if (targetUnit != null) {
-            dto.unit = targetUnit.toString();
-        }
+        ItemHistoryQuery query = new ItemHistoryQuery(qService, itemName, alias, dateTimeBegin, dateTimeEnd,
+                pageNumber, pageLength, displayState, maxPoints, item, pattern, options, targetUnit);
 
         // If "boundary" is true then we want to get one value before and after the requested period
         // This is necessary for values that don't change often otherwise data will start after the start of the graph
         // (or not at all if there's no change during the graph period)
         if (boundary) {
-            // Get the value before the start time.
-            FilterCriteria filterBeforeStart = new FilterCriteria();
-            filterBeforeStart.setItemName(itemName);
-            filterBeforeStart.setEndDate(dateTimeBegin);
-            filterBeforeStart.setPageSize(1);
-            filterBeforeStart.setOrdering(Ordering.DESCENDING);
-            result = qService.query(filterBeforeStart, alias);
-            if (result.iterator().hasNext()) {
-                long timestamp = dateTimeBegin.toInstant().toEpochMilli();
-                State state = result.iterator().next().getState();
-                addData(dto, state, timestamp, displayState, item, pattern, options, targetUnit);
-                quantity++;
-            }
-        }
-
-        FilterCriteria filter = new FilterCriteria();
-        filter.setItemName(itemName);
-        if (pageLength == 0) {
-            filter.setPageNumber(0);
-            filter.setPageSize(Integer.MAX_VALUE);
-        } else {
-            filter.setPageNumber(pageNumber);
-            filter.setPageSize(pageLength);
-        }
-        filter.setBeginDate(dateTimeBegin);
-        filter.setEndDate(dateTimeEnd);
-        filter.setOrdering(Ordering.ASCENDING);
-        result = qService.query(filter, alias);
-        Iterator<HistoricItem> it = result.iterator();
-
-        // Iterate through the data
-        State lastState = null;
-        while (it.hasNext()) {
-            HistoricItem historicItem = it.next();
-            State state = historicItem.getState();
-            long timestamp = historicItem.getInstant().toEpochMilli();
-
-            // For 'binary' states, we need to replicate the data
-            // to avoid diagonal lines
-            if (state instanceof OnOffType || state instanceof OpenClosedType) {
-                if (lastState != null && !lastState.equals(state)) {
-                    addData(dto, lastState, timestamp, displayState, item, pattern, options, targetUnit);
-                    quantity++;
-                }
-            }
-
-            addData(dto, state, timestamp, displayState, item, pattern, options, targetUnit);
-            quantity++;
-            lastState = state;
-        }
-
-        boolean addedBoundaryEnd = false;
-        if (boundary) {
+            query.boundaryBegin = true;
             // Get the value after the end time.
             FilterCriteria filterAfterEnd = new FilterCriteria();
             filterAfterEnd.setItemName(itemName);
             filterAfterEnd.setBeginDate(dateTimeEnd);
             filterAfterEnd.setPageSize(1);
             filterAfterEnd.setOrdering(Ordering.ASCENDING);
-            result = qService.query(filterAfterEnd, alias);
-            if (result.iterator().hasNext()) {
-                long timestamp = dateTimeEnd.toInstant().toEpochMilli();
-                State state = result.iterator().next().getState();
-                addData(dto, state, timestamp, displayState, item, pattern, options, targetUnit);
-                quantity++;
-                addedBoundaryEnd = true;
+            Iterator<HistoricItem> it = qService.query(filterAfterEnd, alias).iterator();
+            if (it.hasNext()) {
+                query.boundaryEndState = it.next().getState();
             }
         }
 
         // only add the item state if it was requested and the boundary end was not added
         // if the boundary end was added, there is no need to add the item state moved to the end time
-        if (itemState && !addedBoundaryEnd) {
+        if (itemState && query.boundaryEndState == null) {
             try {
                 long time = Instant.now().toEpochMilli();
                 // if the current time is after the requested end time, move the item state to the end time
@@ -639,9 +758,8 @@ public class PersistenceResource implements RESTResource {
                     logger.debug("State of Item '{}' is undefined, not adding it to the response.", itemName);
                 } else {
                     logger.debug("Adding state of Item '{}' to the response: {} - {}", itemName, time, state);
-                    addData(dto, state, time, displayState, item, pattern, options, targetUnit);
-                    quantity++;
-                    dto.sortData();
+                    query.itemStateTime = time;
+                    query.itemState = state;
                 }
             } catch (ItemNotFoundException e) {
                 logger.debug("Item '{}' not found, not adding the state to the response.", itemName);
@@ -649,8 +767,7 @@ public class PersistenceResource implements RESTResource {
             }
         }
 
-        dto.datapoints = Long.toString(quantity);
-        return dto;
+        return query;
     }
 
     private @Nullable String getDisplayState(String itemName, @Nullable String pattern, List<StateOption> options,
@@ -658,22 +775,200 @@ public class PersistenceResource implements RESTResource {
         return ItemDisplayStateUtil.formatState(itemName, pattern, options, state, timeZoneProvider.getTimeZone());
     }
 
-    private void addData(ItemHistoryDTO dto, State state, long timestamp, boolean displayState, @Nullable Item item,
-            @Nullable String pattern, List<StateOption> options, @Nullable Unit<?> targetUnit) {
-        if (state instanceof QuantityType<?> quantityState && targetUnit != null && item != null) {
-            QuantityType<?> convertedState = quantityState.toInvertibleUnit(targetUnit);
-            if (convertedState != null) {
-                dto.addData(timestamp, convertedState);
+    /**
+     * Receives the data points of an item history.
+     */
+    @FunctionalInterface
+    private interface HistoryDataConsumer {
+        void accept(long time, String state);
+    }
+
+    /**
+     * An {@link ItemHistoryQuery} queries the history of an item from a persistence service and passes the data points
+     * to a {@link HistoryDataConsumer} in ascending order, while they are read from the persistence service.
+     */
+    private class ItemHistoryQuery {
+        private final QueryablePersistenceService qService;
+        private final String itemName;
+        private final @Nullable String alias;
+        private final ZonedDateTime dateTimeBegin;
+        private final ZonedDateTime dateTimeEnd;
+        private final int pageNumber;
+        private final int pageLength;
+        private final boolean displayState;
+        private final int maxPoints;
+        private final @Nullable Item item;
+        private final @Nullable String pattern;
+        private final List<StateOption> options;
+        private final @Nullable Unit<?> targetUnit;
+        private final @Nullable String unit;
+
+        private boolean boundaryBegin;
+        private @Nullable State boundaryBeginState;
+        private @Nullable State boundaryEndState;
+        private @Nullable Iterable<HistoricItem> historicItems;
+        private @Nullable Iterator<HistoricItem> iterator;
+        private long itemStateTime;
+        private @Nullable State itemState;
+
+        private @NonNullByDefault({}) HistoryDataConsumer consumer;
+        private long quantity;
+
+        ItemHistoryQuery(QueryablePersistenceService qService, String itemName, @Nullable String alias,
+                ZonedDateTime dateTimeBegin, ZonedDateTime dateTimeEnd, int pageNumber, int pageLength,
+                boolean displayState, int maxPoints, @Nullable Item item, @Nullable String pattern,
+                List<StateOption> options, @Nullable Unit<?> targetUnit) {
+            this.qService = qService;
+            this.itemName = itemName;
+            this.alias = alias;
+            this.dateTimeBegin = dateTimeBegin;
+            this.dateTimeEnd = dateTimeEnd;
+            this.pageNumber = pageNumber;
+            this.pageLength = pageLength;
+            this.displayState = displayState;
+            this.maxPoints = maxPoints;
+            this.item = item;
+            this.pattern = pattern;
+            this.options = options;
+            this.targetUnit = targetUnit;
+            this.unit = targetUnit != null ? targetUnit.toString() : null;
+        }
+
+        /**
+         * Queries the history, unless it has already been retrieved or prepared. The first element of the result is
+         * requested as well, so a service evaluating its result lazily runs its first query.
+         */
+        void prepare() {
+            if (iterator != null) {
+                return;
+            }
+            if (boundaryBegin) {
+                // Get the value before the start time.
+                FilterCriteria filterBeforeStart = new FilterCriteria();
+                filterBeforeStart.setItemName(itemName);
+                filterBeforeStart.setEndDate(dateTimeBegin);
+                filterBeforeStart.setPageSize(1);
+                filterBeforeStart.setOrdering(Ordering.DESCENDING);
+                Iterator<HistoricItem> it = qService.query(filterBeforeStart, alias).iterator();
+                if (it.hasNext()) {
+                    boundaryBeginState = it.next().getState();
+                }
+            }
+
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName(itemName);
+            if (pageLength == 0) {
+                filter.setPageNumber(0);
+                filter.setPageSize(Integer.MAX_VALUE);
             } else {
-                logger.warn(
-                        "Cannot convert state '{}' to unit '{}' for item '{}', excluding this state from the response",
-                        state, targetUnit, item.getName());
+                filter.setPageNumber(pageNumber);
+                filter.setPageSize(pageLength);
+            }
+            filter.setBeginDate(dateTimeBegin);
+            filter.setEndDate(dateTimeEnd);
+            filter.setOrdering(Ordering.ASCENDING);
+            // the history might already have been retrieved together with the histories of other items
+            Iterable<HistoricItem> historicItems = this.historicItems;
+            Iterator<HistoricItem> it = (historicItems != null ? historicItems : qService.query(filter, alias))
+                    .iterator();
+            // a lazily evaluated result runs its first query here
+            it.hasNext();
+            iterator = it;
+        }
+
+        /**
+         * Prepares the history, unless it has already been prepared, and passes its data points to a consumer.
+         *
+         * @param consumer the consumer receiving the data points
+         * @return the number of data points
+         */
+        long write(HistoryDataConsumer consumer) {
+            this.consumer = consumer;
+            quantity = 0;
+
+            prepare();
+            Iterator<HistoricItem> it = Objects.requireNonNull(iterator);
+            State boundaryBeginState = this.boundaryBeginState;
+            if (boundaryBeginState != null) {
+                addData(boundaryBeginState, dateTimeBegin.toInstant().toEpochMilli());
+            }
+
+            HistoryDownsampler downsampler = maxPoints > 0
+                    ? new HistoryDownsampler(dateTimeBegin.toInstant().toEpochMilli(),
+                            dateTimeEnd.toInstant().toEpochMilli(), maxPoints, (time, state) -> addData(state, time))
+                    : null;
+
+            // Iterate through the data
+            State lastState = null;
+            while (it.hasNext()) {
+                HistoricItem historicItem = it.next();
+                State state = historicItem.getState();
+                long timestamp = historicItem.getInstant().toEpochMilli();
+
+                // For 'binary' states, we need to replicate the data
+                // to avoid diagonal lines
+                if (state instanceof OnOffType || state instanceof OpenClosedType) {
+                    if (lastState != null && !lastState.equals(state)) {
+                        addData(lastState, timestamp, downsampler);
+                    }
+                }
+
+                addData(state, timestamp, downsampler);
+                lastState = state;
+            }
+            if (downsampler != null) {
+                downsampler.flush();
+            }
+
+            State boundaryEndState = this.boundaryEndState;
+            if (boundaryEndState != null) {
+                addData(boundaryEndState, dateTimeEnd.toInstant().toEpochMilli());
+            }
+            addItemState(Long.MAX_VALUE);
+
+            return quantity;
+        }
+
+        private void addData(State state, long timestamp, @Nullable HistoryDownsampler downsampler) {
+            if (downsampler != null) {
+                downsampler.add(timestamp, state);
+            } else {
+                addData(state, timestamp);
+            }
+        }
+
+        private void addData(State state, long timestamp) {
+            // the item state is added at its position in time, so the data points stay in ascending order
+            addItemState(timestamp);
+
+            Item item = this.item;
+            Unit<?> targetUnit = this.targetUnit;
+            if (state instanceof QuantityType<?> quantityState && targetUnit != null && item != null) {
+                QuantityType<?> convertedState = quantityState.toInvertibleUnit(targetUnit);
+                if (convertedState != null) {
+                    consumer.accept(timestamp, ItemHistoryDTO.toDataString(convertedState));
+                    quantity++;
+                } else {
+                    logger.warn(
+                            "Cannot convert state '{}' to unit '{}' for item '{}', excluding this state from the response",
+                            state, targetUnit, item.getName());
+                }
+            } else if (displayState && item != null) {
+                String displayStateStr = getDisplayState(item.getName(), pattern, options, state);
+                consumer.accept(timestamp, displayStateStr != null ? displayStateStr : state.toString());
+                quantity++;
+            } else {
+                consumer.accept(timestamp, ItemHistoryDTO.toDataString(state));
+                quantity++;
+            }
+        }
+
+        private void addItemState(long timestamp) {
+            State itemState = this.itemState;
+            if (itemState != null && itemStateTime < timestamp) {
+                this.itemState = null;
+                addData(itemState, itemStateTime);
             }
-        } else if (displayState && item != null) {
-            String displayStateStr = getDisplayState(item.getName(), pattern, options, state);
-            dto.addData(timestamp, displayStateStr != null ? displayStateStr : state.toString());
-        } else {
-            dto.addData(timestamp, state);
         }
     }
 
@@ -819,6 +1114,11 @@ public class PersistenceResource implements RESTResource {
             return JSONResponse.createErrorResponse(Status.BAD_REQUEST, "Invalid filter parameters.");
         }
 
+        Item item = itemRegistry.get(itemName);
+        if (item != null) {
+            persistenceManager.handleExternalPersistenceDataChange(mService, item);
+        }
+
         return Response.status(Status.OK).build();
     }
 
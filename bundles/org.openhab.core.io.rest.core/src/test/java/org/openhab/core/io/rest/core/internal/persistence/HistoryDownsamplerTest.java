@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.core.internal.persistence;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * Tests for {@link HistoryDownsampler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HistoryDownsamplerTest {
+
+    private final List<Long> times = new ArrayList<>();
+    private final List<State> states = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        times.clear();
+        states.clear();
+    }
+
+    private HistoryDownsampler createDownsampler(long begin, long end, int maxPoints) {
+        return new HistoryDownsampler(begin, end, maxPoints, (time, state) -> {
+            times.add(time);
+            states.add(state);
+        });
+    }
+
+    @Test
+    public void minimumAndMaximumOfEachBucketAreKeptInOrder() {
+        // two buckets of 100ms each
+        HistoryDownsampler downsampler = createDownsampler(0, 200, 4);
+        downsampler.add(0, new DecimalType(5));
+        downsampler.add(10, new DecimalType(9));
+        downsampler.add(20, new DecimalType(1));
+        downsampler.add(30, new DecimalType(4));
+        downsampler.add(100, new QuantityType<>("3 °C"));
+        downsampler.add(150, new QuantityType<>("2 °C"));
+        downsampler.add(200, new QuantityType<>("7 °C"));
+        downsampler.flush();
+
+        assertThat(times, is(List.of(10L, 20L, 150L, 200L)));
+        assertThat(states, is(List.of(new DecimalType(9), new DecimalType(1), new QuantityType<>("2 °C"),
+                new QuantityType<>("7 °C"))));
+    }
+
+    @Test
+    public void singleDataPointOfBucketIsKeptOnce() {
+        HistoryDownsampler downsampler = createDownsampler(0, 200, 4);
+        downsampler.add(50, new DecimalType(5));
+        downsampler.add(150, new DecimalType(6));
+        downsampler.flush();
+
+        assertThat(times, is(List.of(50L, 150L)));
+    }
+
+    @Test
+    public void statesThatAreNotNumericAreKept() {
+        HistoryDownsampler downsampler = createDownsampler(0, 100, 2);
+        downsampler.add(10, new DecimalType(5));
+        downsampler.add(20, OnOffType.ON);
+        downsampler.add(30, new DecimalType(4));
+        downsampler.add(40, new DecimalType(3));
+        downsampler.add(50, OnOffType.OFF);
+        downsampler.flush();
+
+        assertThat(times, is(List.of(10L, 20L, 30L, 40L, 50L)));
+        assertThat(states.get(1), is(OnOffType.ON));
+        assertThat(states.get(4), is(OnOffType.OFF));
+    }
+}
@@ -20,15 +20,22 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -67,6 +74,8 @@ import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateOption;
 import org.openhab.core.types.UnDefType;
 
+import com.google.gson.Gson;
+
 /**
  * Tests for PersistenceItem REST resource
  *
@@ -321,6 +330,107 @@ public class PersistenceResourceTest {
         assertEquals("an", dto.data.get(4).state);
     }
 
+    @Test
+    public void testGetPersistenceItemDataWithMaxPoints() {
+        ZonedDateTime end = ZonedDateTime.now();
+        List<HistoricItem> historicItems = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ZonedDateTime timestamp = end.minusMinutes(10 * (100 - i));
+            DecimalType state = new DecimalType(i == 42 ? 1000 : i == 77 ? -1000 : i % 10);
+            historicItems.add(new HistoricItem() {
+                @Override
+                public ZonedDateTime getTimestamp() {
+                    return timestamp;
+                }
+
+                @Override
+                public State getState() {
+                    return state;
+                }
+
+                @Override
+                public String getName() {
+                    return ITEM_NAME;
+                }
+            });
+        }
+        when(pServiceMock.query(any(), any())).thenReturn(historicItems);
+
+        ItemHistoryDTO dto = pResource.createDTO(pServiceMock, ITEM_NAME, end.minusDays(1).toInstant().toString(),
+                end.toInstant().toString(), 0, 0, false, false, false, 10, null);
+
+        assertNotNull(dto);
+        assertThat(dto.data.size(), is(Integer.parseInt(dto.datapoints)));
+        assertTrue(dto.data.size() <= 10);
+        // the peaks are kept
+        assertTrue(dto.data.stream().anyMatch(data -> "1000".equals(data.state)));
+        assertTrue(dto.data.stream().anyMatch(data -> "-1000".equals(data.state)));
+        for (int i = 1; i < dto.data.size(); i++) {
+            assertTrue(dto.data.get(i - 1).time <= dto.data.get(i).time);
+        }
+    }
+
+    @Test
+    public void testGetPersistenceItemDataStreamed() throws IOException {
+        when(itemMock.getState()).thenReturn(DecimalType.ZERO);
+
+        Response response = pResource.httpGetPersistenceItemData(null, PERSISTENCE_SERVICE_ID, ITEM_NAME, null, null,
+                1, 10, true, true, false, 0);
+
+        assertThat(response.getStatus(), is(Status.OK.getStatusCode()));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        ItemHistoryDTO streamed = new Gson().fromJson(outputStream.toString(StandardCharsets.UTF_8),
+                ItemHistoryDTO.class);
+        ItemHistoryDTO dto = pResource.createDTO(pServiceMock, ITEM_NAME, null, null, 1, 10, true, true, false, null);
+
+        assertNotNull(dto);
+        assertEquals(dto.name, streamed.name);
+        assertEquals(dto.datapoints, streamed.datapoints);
+        assertThat(streamed.data, hasSize(dto.data.size()));
+        for (int i = 0; i < dto.data.size(); i++) {
+            assertEquals(dto.data.get(i).state, streamed.data.get(i).state);
+        }
+    }
+
+    @Test
+    public void testGetPersistenceItemsData() throws ItemNotFoundException {
+        Item otherItemMock = mock(Item.class);
+        when(otherItemMock.getName()).thenReturn(ITEM);
+        when(itemMock.getName()).thenReturn(ITEM_NAME);
+        when(itemRegistryMock.getItem(ITEM)).thenReturn(otherItemMock);
+        when(persistenceManagerMock.query(eq(pServiceMock), any(), any(), any()))
+                .thenReturn(Map.of(ITEM_NAME, items.subList(0, 1), ITEM, items));
+
+        Response response = pResource.httpGetPersistenceItemsData(null, PERSISTENCE_SERVICE_ID,
+                ITEM + ", " + ITEM_NAME, null, null, false, 0);
+
+        assertThat(response.getStatus(), is(Status.OK.getStatusCode()));
+        @SuppressWarnings("unchecked")
+        List<ItemHistoryDTO> dtos = (List<ItemHistoryDTO>) response.getEntity();
+        assertThat(dtos, hasSize(2));
+        assertThat(dtos.getFirst().name, is(ITEM));
+        assertThat(dtos.getFirst().data, hasSize(5));
+        assertThat(dtos.get(1).name, is(ITEM_NAME));
+        assertThat(dtos.get(1).data, hasSize(1));
+        // all items are retrieved with a single call of the persistence manager
+        verify(persistenceManagerMock).query(eq(pServiceMock), eq(List.of(otherItemMock, itemMock)), any(), any());
+        verify(pServiceMock, never()).query(any(), any());
+    }
+
+    @Test
+    public void testGetPersistenceItemsDataUnknownItem() throws ItemNotFoundException {
+        when(itemRegistryMock.getItem("unknown")).thenThrow(new ItemNotFoundException("unknown"));
+
+        Response response = pResource.httpGetPersistenceItemsData(null, PERSISTENCE_SERVICE_ID,
+                ITEM_NAME + ",unknown", null, null, false, 0);
+
+        assertThat(response.getStatus(), is(Status.NOT_FOUND.getStatusCode()));
+        response = pResource.httpGetPersistenceItemsData(null, PERSISTENCE_SERVICE_ID, " , ", null, null, false, 0);
+        assertThat(response.getStatus(), is(Status.BAD_REQUEST.getStatusCode()));
+        verifyNoInteractions(persistenceManagerMock);
+    }
+
     @Test
     public void testPutPersistenceItemData() throws ItemNotFoundException {
         HttpHeaders headersMock = mock(HttpHeaders.class);
@@ -333,6 +443,59 @@ public class PersistenceResourceTest {
         verify(persistenceManagerMock).handleExternalPersistenceDataChange(eq(pServiceMock), eq(item));
     }
 
+    @Test
+    public void testGetPersistenceItemDataQueryFailure() {
+        when(pServiceMock.query(any(), any())).thenThrow(new IllegalStateException("database not available"));
+
+        Response response = pResource.httpGetPersistenceItemData(null, PERSISTENCE_SERVICE_ID, ITEM_NAME, null, null,
+                1, 10, false, false, false, 0);
+
+        assertThat(response.getStatus(), is(Status.INTERNAL_SERVER_ERROR.getStatusCode()));
+    }
+
+    @Test
+    public void testGetPersistenceItemDataStreamIsAbortedOnFailure() {
+        Iterator<HistoricItem> iterator = items.iterator();
+        when(pServiceMock.query(any(), any())).thenReturn(() -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == 2) {
+                    throw new IllegalStateException("connection lost");
+                }
+                return true;
+            }
+
+            @Override
+            public HistoricItem next() {
+                next++;
+                return iterator.next();
+            }
+        });
+
+        Response response = pResource.httpGetPersistenceItemData(null, PERSISTENCE_SERVICE_ID, ITEM_NAME, null, null,
+                1, 10, false, false, false, 0);
+
+        assertThat(response.getStatus(), is(Status.OK.getStatusCode()));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThrows(IOException.class, () -> ((StreamingOutput) response.getEntity()).write(outputStream));
+    }
+
+    @Test
+    public void testDeletePersistenceItemData() {
+        HttpHeaders headersMock = mock(HttpHeaders.class);
+        Item item = new NumberItem(ITEM_NAME);
+        when(itemRegistryMock.get(ITEM_NAME)).thenReturn(item);
+
+        Response response = pResource.httpDeletePersistenceServiceItem(headersMock, PERSISTENCE_SERVICE_ID, ITEM_NAME,
+                "2024-02-01T00:00:00.000Z", "2024-02-02T00:00:00.000Z");
+
+        assertThat(response.getStatus(), is(Status.OK.getStatusCode()));
+        verify(pServiceMock).remove(any(), any());
+        verify(persistenceManagerMock).handleExternalPersistenceDataChange(eq(pServiceMock), eq(item));
+    }
+
     @Test
     public void testGetPersistenceItemInfoNotImplemented() throws UnsupportedOperationException {
         // Test method not supported
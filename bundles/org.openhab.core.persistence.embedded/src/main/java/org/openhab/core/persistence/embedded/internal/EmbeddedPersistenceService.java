@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.embedded.internal;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.ModifiablePersistenceService;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.QueryablePersistenceService;
+import org.openhab.core.persistence.strategy.PersistenceStrategy;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link EmbeddedPersistenceService} is a persistence service that stores the states of items in files in the
+ * userdata folder, so openHAB can keep a history of its items without an external database.
+ *
+ * <p>
+ * Each item has its own directory, holding a memory-mapped file and a dictionary file per day. Files older than the
+ * configured retention are deleted periodically. The files of an item are opened when the item is first accessed and
+ * closed again after they have not been accessed for a while, so only the files of items that are actually in use are
+ * kept open.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        ModifiablePersistenceService.class }, configurationPid = "org.openhab.embeddedpersistence", //
+        property = Constants.SERVICE_PID + "=org.openhab.embeddedpersistence")
+@ConfigurableService(category = "persistence", label = "Embedded Persistence Service", description_uri = EmbeddedPersistenceService.CONFIG_URI)
+@NonNullByDefault
+public class EmbeddedPersistenceService implements ModifiablePersistenceService {
+
+    protected static final String CONFIG_URI = "persistence:embedded";
+    static final String SERVICE_ID = "embedded";
+    private static final String CONFIG_RETENTION_DAYS = "retentionDays";
+    private static final int DEFAULT_RETENTION_DAYS = 30;
+    private static final Duration RETENTION_INTERVAL = Duration.ofHours(1);
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final Logger logger = LoggerFactory.getLogger(EmbeddedPersistenceService.class);
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("persistence");
+    private final Path folder;
+    private final Map<String, ItemTimeSeries> timeSeries = new ConcurrentHashMap<>();
+    private final ScheduledFuture<?> idleJob;
+
+    private int retentionDays = DEFAULT_RETENTION_DAYS;
+    private @Nullable ScheduledFuture<?> retentionJob;
+
+    @Activate
+    public EmbeddedPersistenceService(Map<String, Object> config) {
+        this(Path.of(OpenHAB.getUserDataFolder(), "persistence", SERVICE_ID), config);
+    }
+
+    EmbeddedPersistenceService(Path folder, Map<String, Object> config) {
+        this.folder = folder;
+        try {
+            Files.createDirectories(folder);
+        } catch (IOException e) {
+            logger.warn("Failed to open embedded persistence in '{}': {}", folder, e.getMessage());
+        }
+        modified(config);
+        idleJob = scheduler.scheduleWithFixedDelay(() -> closeIdleSeries(IDLE_TIMEOUT), IDLE_TIMEOUT.toMinutes(),
+                IDLE_TIMEOUT.toMinutes(), TimeUnit.MINUTES);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        Object retention = config.get(CONFIG_RETENTION_DAYS);
+        try {
+            retentionDays = retention == null ? DEFAULT_RETENTION_DAYS
+                    : Math.max(0, Integer.parseInt(retention.toString()));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid retention '{}', using {} days", retention, DEFAULT_RETENTION_DAYS);
+            retentionDays = DEFAULT_RETENTION_DAYS;
+        }
+
+        ScheduledFuture<?> job = retentionJob;
+        if (job != null) {
+            job.cancel(false);
+            retentionJob = null;
+        }
+        if (retentionDays > 0) {
+            retentionJob = scheduler.scheduleWithFixedDelay(this::applyRetention, 0,
+                    RETENTION_INTERVAL.toMinutes(), TimeUnit.MINUTES);
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        ScheduledFuture<?> job = retentionJob;
+        if (job != null) {
+            job.cancel(false);
+            retentionJob = null;
+        }
+        idleJob.cancel(false);
+        timeSeries.values().forEach(ItemTimeSeries::close);
+        timeSeries.clear();
+    }
+
+    @Override
+    public String getId() {
+        return SERVICE_ID;
+    }
+
+    @Override
+    public String getLabel(@Nullable Locale locale) {
+        return "Embedded";
+    }
+
+    @Override
+    public void store(Item item) {
+        store(item, null);
+    }
+
+    @Override
+    public void store(Item item, @Nullable String alias) {
+        store(alias != null ? alias : item.getName(), Instant.now(), item.getState());
+    }
+
+    @Override
+    public void store(Item item, ZonedDateTime date, State state) {
+        store(item, date, state, null);
+    }
+
+    @Override
+    public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
+        store(alias != null ? alias : item.getName(), date.toInstant(), state);
+    }
+
+    private void store(String name, Instant timestamp, State state) {
+        if (state instanceof UnDefType) {
+            return;
+        }
+        try {
+            if (Boolean.FALSE.equals(withSeries(name, true, series -> series.store(timestamp, state)))) {
+                logger.debug("State type {} of item '{}' is not supported by embedded persistence",
+                        state.getClass().getSimpleName(), name);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to store state of item '{}': {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter) {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
+            return List.of();
+        }
+        try {
+            List<HistoricItem> result = withSeries(itemName, false, series -> series.query(filter));
+            return result != null ? result : List.of();
+        } catch (IOException e) {
+            logger.warn("Failed to query states of item '{}': {}", itemName, e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public boolean remove(FilterCriteria filter) throws IllegalArgumentException {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
+            throw new IllegalArgumentException("Item name must not be null");
+        }
+        try {
+            withSeries(itemName, false, series -> {
+                series.remove(filter.getBeginDate(), filter.getEndDate());
+                if (series.isEmpty()) {
+                    delete(series);
+                }
+                return null;
+            });
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to remove states of item '{}': {}", itemName, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public Set<PersistenceItemInfo> getItemInfo() {
+        Set<PersistenceItemInfo> itemInfo = new HashSet<>();
+        for (String name : names()) {
+            try {
+                PersistenceItemInfo info = withSeries(name, false, ItemTimeSeries::getInfo);
+                if (info != null) {
+                    itemInfo.add(info);
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to read states of item '{}': {}", name, e.getMessage());
+            }
+        }
+        return itemInfo;
+    }
+
+    @Override
+    public @Nullable PersistenceItemInfo getItemInfo(String itemName, @Nullable String alias) {
+        String name = alias != null ? alias : itemName;
+        try {
+            return withSeries(name, false, ItemTimeSeries::getInfo);
+        } catch (IOException e) {
+            logger.warn("Failed to read states of item '{}': {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public List<PersistenceStrategy> getSuggestedStrategies() {
+        return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
+    }
+
+    /**
+     * Deletes the files of all items that are older than the retention. Only the time series with expired files are
+     * opened.
+     */
+    void applyRetention() {
+        Instant expiry = Instant.now().minus(Duration.ofDays(retentionDays));
+        for (String name : names()) {
+            try {
+                if (!ItemTimeSeries.hasSegmentsBefore(directory(name), expiry)) {
+                    continue;
+                }
+                withSeries(name, false, series -> {
+                    int deleted = series.deleteBefore(expiry);
+                    if (deleted > 0) {
+                        logger.debug("Deleted {} expired files of item '{}'", deleted, name);
+                    }
+                    if (series.isEmpty()) {
+                        delete(series);
+                    }
+                    return null;
+                });
+            } catch (IOException e) {
+                logger.warn("Failed to delete expired states of item '{}': {}", name, e.getMessage());
+            }
+        }
+        timeSeries.values().forEach(ItemTimeSeries::force);
+    }
+
+    /**
+     * Closes the files of all items that have not been accessed for a while.
+     *
+     * @param timeout the time since the last access
+     */
+    void closeIdleSeries(Duration timeout) {
+        for (ItemTimeSeries series : timeSeries.values()) {
+            synchronized (series) {
+                if (series.closeIfIdle(timeout)) {
+                    timeSeries.remove(series.getName(), series);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs an operation on the time series of an item while holding its lock, so it cannot be closed or deleted
+     * concurrently. If the time series has been closed before the lock was acquired, it is resolved again.
+     *
+     * @param name the name the item is persisted with
+     * @param create <code>true</code> if the time series is created if it does not exist
+     * @param operation the operation
+     * @return the result of the operation or <code>null</code> if the time series does not exist
+     * @throws IOException if the time series cannot be opened or the operation fails
+     */
+    private <T> @Nullable T withSeries(String name, boolean create, SeriesOperation<T> operation) throws IOException {
+        while (true) {
+            ItemTimeSeries series = get(name, create);
+            if (series == null) {
+                return null;
+            }
+            synchronized (series) {
+                if (!series.isClosed()) {
+                    return operation.apply(series);
+                }
+            }
+        }
+    }
+
+    private @Nullable ItemTimeSeries get(String name, boolean create) throws IOException {
+        ItemTimeSeries series = timeSeries.get(name);
+        if (series != null) {
+            return series;
+        }
+        synchronized (timeSeries) {
+            series = timeSeries.get(name);
+            if (series == null) {
+                Path directory = directory(name);
+                if (!create && !Files.isDirectory(directory)) {
+                    return null;
+                }
+                series = ItemTimeSeries.open(name, directory);
+                timeSeries.put(name, series);
+            }
+            return series;
+        }
+    }
+
+    /**
+     * Closes and deletes a time series. The lock of the time series has to be acquired before the lock of the map of
+     * the open time series, like in {@link #withSeries(String, boolean, SeriesOperation)}.
+     */
+    private void delete(ItemTimeSeries series) throws IOException {
+        synchronized (series) {
+            if (series.isClosed()) {
+                return;
+            }
+            series.close();
+            synchronized (timeSeries) {
+                timeSeries.remove(series.getName(), series);
+                Files.deleteIfExists(directory(series.getName()));
+            }
+        }
+    }
+
+    private List<String> names() {
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(folder, Files::isDirectory)) {
+            for (Path directory : directories) {
+                names.add(URLDecoder.decode(directory.getFileName().toString(), StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to list items of embedded persistence in '{}': {}", folder, e.getMessage());
+        }
+        return names;
+    }
+
+    private Path directory(String name) {
+        return folder.resolve(URLEncoder.encode(name, StandardCharsets.UTF_8));
+    }
+
+    @FunctionalInterface
+    private interface SeriesOperation<T> {
+        @Nullable
+        T apply(ItemTimeSeries series) throws IOException;
+    }
+}
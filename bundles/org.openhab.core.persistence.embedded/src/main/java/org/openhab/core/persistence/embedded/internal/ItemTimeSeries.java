@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.embedded.internal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PlayPauseType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.RawType;
+import org.openhab.core.library.types.RewindFastforwardType;
+import org.openhab.core.library.types.StringListType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.util.UnitUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ItemTimeSeries} stores the states of a single item in a directory with one {@link Segment} file and one
+ * {@link StateDictionary} file per day (UTC).
+ *
+ * <p>
+ * Numbers and quantities are stored as values of the records, all other states are stored in the dictionary of the
+ * segment, so they are deleted together with the records referencing them. After a state has been stored, the segment
+ * of the latest day is kept mapped for the following states, all other segments are only mapped while they are read
+ * or modified.
+ *
+ * <p>
+ * All methods are synchronized on the time series. Once it is closed, the time series must not be used anymore and has
+ * to be opened again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class ItemTimeSeries {
+
+    static final String SEGMENT_EXTENSION = ".seg";
+    static final String DICTIONARY_EXTENSION = ".dict";
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final String TYPE_SEPARATOR = ":";
+
+    private static final Map<String, Class<? extends State>> STATE_TYPES = Stream
+            .<Class<? extends State>> of(DateTimeType.class, DecimalType.class, HSBType.class, OnOffType.class,
+                    OpenClosedType.class, PercentType.class, PlayPauseType.class, PointType.class, RawType.class,
+                    RewindFastforwardType.class, StringListType.class, StringType.class, UpDownType.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final Logger logger = LoggerFactory.getLogger(ItemTimeSeries.class);
+
+    private final String name;
+    private final Path directory;
+    private final TreeSet<Long> days = new TreeSet<>();
+    private final Map<Long, Segment> openSegments = new HashMap<>();
+    private @Nullable Long appendDay;
+    private long lastAccess = System.nanoTime();
+    private boolean closed;
+
+    private ItemTimeSeries(String name, Path directory) {
+        this.name = name;
+        this.directory = directory;
+    }
+
+    /**
+     * Opens the time series of an item, creating its directory if it does not exist.
+     *
+     * @param name the name the item is persisted with
+     * @param directory the directory of the item
+     * @return the time series
+     * @throws IOException if the directory cannot be read
+     */
+    static ItemTimeSeries open(String name, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        ItemTimeSeries timeSeries = new ItemTimeSeries(name, directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_EXTENSION)) {
+            for (Path file : files) {
+                Long day = day(file);
+                if (day != null) {
+                    timeSeries.days.add(day);
+                } else {
+                    timeSeries.logger.warn("Ignoring unexpected file '{}' in embedded persistence", file);
+                }
+            }
+        }
+        return timeSeries;
+    }
+
+    /**
+     * Checks if the directory of a time series contains segments of days before the day of the given time. Only the
+     * names of the files are read, the time series is not opened.
+     *
+     * @param directory the directory of the item
+     * @param timestamp the time
+     * @return <code>true</code> if there are segments to be deleted by {@link #deleteBefore(Instant)}
+     * @throws IOException if the directory cannot be read
+     */
+    static boolean hasSegmentsBefore(Path directory, Instant timestamp) throws IOException {
+        long firstDay = Math.floorDiv(timestamp.toEpochMilli(), MILLIS_PER_DAY);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_EXTENSION)) {
+            for (Path file : files) {
+                Long day = day(file);
+                if (day != null && day < firstDay) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static @Nullable Long day(Path file) {
+        String fileName = file.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Stores a state. A state stored before at the same time is replaced.
+     *
+     * @param timestamp the time of the state
+     * @param state the state
+     * @return <code>false</code> if the state cannot be stored because its type is not supported
+     * @throws IOException if the state cannot be written
+     */
+    synchronized boolean store(Instant timestamp, State state) throws IOException {
+        boolean numeric = state.getClass() == DecimalType.class || state instanceof QuantityType<?>;
+        if (!numeric && !STATE_TYPES.containsKey(state.getClass().getSimpleName())) {
+            return false;
+        }
+        long epochMillis = timestamp.toEpochMilli();
+        long day = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        lastAccess = System.nanoTime();
+        appendDay = day;
+        try {
+            Segment segment = segment(day);
+            if (state instanceof QuantityType<?> quantity) {
+                segment.put(epochMillis, Segment.KIND_QUANTITY,
+                        segment.getDictionary().indexOf(quantity.getUnit().toString()), quantity.doubleValue());
+            } else if (numeric) {
+                segment.put(epochMillis, Segment.KIND_DECIMAL, -1, ((DecimalType) state).doubleValue());
+            } else {
+                segment.put(epochMillis, Segment.KIND_DICTIONARY, segment.getDictionary()
+                        .indexOf(state.getClass().getSimpleName() + TYPE_SEPARATOR + state.toFullString()), 0);
+            }
+        } finally {
+            release();
+        }
+        return true;
+    }
+
+    /**
+     * Queries the states matching the dates, ordering, state and paging of a filter.
+     *
+     * @param filter the filter, the item name is ignored
+     * @return the matching states
+     * @throws IOException if a segment cannot be read
+     */
+    synchronized List<HistoricItem> query(FilterCriteria filter) throws IOException {
+        long begin = toEpochMillis(filter.getBeginDate(), Long.MIN_VALUE);
+        long end = toEpochMillis(filter.getEndDate(), Long.MAX_VALUE);
+        boolean descending = filter.getOrdering() == Ordering.DESCENDING;
+        long skip = (long) filter.getPageNumber() * filter.getPageSize();
+        int limit = filter.getPageSize();
+
+        lastAccess = System.nanoTime();
+        List<HistoricItem> result = new ArrayList<>();
+        if (begin > end || limit <= 0) {
+            return result;
+        }
+        NavigableSet<Long> range = days.subSet(Math.floorDiv(begin, MILLIS_PER_DAY), true,
+                Math.floorDiv(end, MILLIS_PER_DAY), true);
+        Iterator<Long> it = descending ? range.descendingIterator() : range.iterator();
+        try {
+            while (it.hasNext() && result.size() < limit) {
+                Segment segment = segment(it.next());
+                int from = segment.lowerBound(begin);
+                int to = segment.upperBound(end);
+                int step = descending ? -1 : 1;
+                for (int index = descending ? to - 1 : from; index >= from && index < to
+                        && result.size() < limit; index += step) {
+                    State state = decode(segment, index);
+                    if (state == null || !matches(filter, state)) {
+                        continue;
+                    }
+                    if (skip > 0) {
+                        skip--;
+                        continue;
+                    }
+                    ZonedDateTime timestamp = ZonedDateTime
+                            .ofInstant(Instant.ofEpochMilli(segment.getTimestamp(index)), ZoneId.systemDefault());
+                    result.add(new EmbeddedHistoricItem(name, timestamp, state));
+                }
+            }
+        } finally {
+            release();
+        }
+        return result;
+    }
+
+    /**
+     * Removes the states between two dates.
+     *
+     * @param beginDate the begin of the range or <code>null</code> for all states until the end
+     * @param endDate the end of the range or <code>null</code> for all states from the begin
+     * @throws IOException if a segment cannot be modified
+     */
+    synchronized void remove(@Nullable ZonedDateTime beginDate, @Nullable ZonedDateTime endDate) throws IOException {
+        long begin = toEpochMillis(beginDate, Long.MIN_VALUE);
+        long end = toEpochMillis(endDate, Long.MAX_VALUE);
+        lastAccess = System.nanoTime();
+        if (begin > end) {
+            return;
+        }
+        List<Long> range = new ArrayList<>(
+                days.subSet(Math.floorDiv(begin, MILLIS_PER_DAY), true, Math.floorDiv(end, MILLIS_PER_DAY), true));
+        try {
+            for (long day : range) {
+                Segment segment = segment(day);
+                segment.remove(segment.lowerBound(begin), segment.upperBound(end));
+                if (segment.size() == 0) {
+                    delete(day);
+                }
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Deletes the segments of the days before the day of the given time.
+     *
+     * @param timestamp the time
+     * @return the number of deleted segments
+     * @throws IOException if a segment cannot be deleted
+     */
+    synchronized int deleteBefore(Instant timestamp) throws IOException {
+        List<Long> expired = new ArrayList<>(days.headSet(Math.floorDiv(timestamp.toEpochMilli(), MILLIS_PER_DAY)));
+        for (long day : expired) {
+            delete(day);
+        }
+        return expired.size();
+    }
+
+    /**
+     * @return <code>true</code> if no states are stored
+     */
+    synchronized boolean isEmpty() {
+        return days.isEmpty();
+    }
+
+    /**
+     * @return information about the stored states
+     * @throws IOException if a segment cannot be read
+     */
+    synchronized PersistenceItemInfo getInfo() throws IOException {
+        int count = 0;
+        Date earliest = null;
+        Date latest = null;
+        lastAccess = System.nanoTime();
+        try {
+            for (long day : days) {
+                Segment segment = segment(day);
+                if (segment.size() > 0) {
+                    count += segment.size();
+                    if (earliest == null) {
+                        earliest = new Date(segment.getTimestamp(0));
+                    }
+                    latest = new Date(segment.getTimestamp(segment.size() - 1));
+                }
+            }
+        } finally {
+            release();
+        }
+        return new EmbeddedItemInfo(name, count, earliest, latest);
+    }
+
+    /**
+     * @return <code>true</code> if the time series has been closed
+     */
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the time series if it has not been accessed for a while.
+     *
+     * @param timeout the time since the last store, query, removal or information request
+     * @return <code>true</code> if the time series has been closed
+     */
+    synchronized boolean closeIfIdle(Duration timeout) {
+        if (!closed && System.nanoTime() - lastAccess >= timeout.toNanos()) {
+            close();
+        }
+        return closed;
+    }
+
+    /**
+     * Closes all files of the time series.
+     */
+    synchronized void close() {
+        for (Segment segment : openSegments.values()) {
+            closeQuietly(segment);
+        }
+        openSegments.clear();
+        closed = true;
+    }
+
+    /**
+     * Writes the changes of the mapped segments to their files.
+     */
+    synchronized void force() {
+        openSegments.values().forEach(Segment::force);
+    }
+
+    private Segment segment(long day) throws IOException {
+        Segment segment = openSegments.get(day);
+        if (segment == null) {
+            if (closed) {
+                throw new IOException("Time series of item '" + name + "' is closed");
+            }
+            segment = Segment.open(directory.resolve(day + SEGMENT_EXTENSION),
+                    directory.resolve(day + DICTIONARY_EXTENSION));
+            openSegments.put(day, segment);
+            days.add(day);
+        }
+        return segment;
+    }
+
+    /**
+     * Closes all segments except the one of the latest day if states are appended to it, so a time series that is only
+     * read does not keep any file open.
+     */
+    private void release() {
+        Long keep = !days.isEmpty() && days.last().equals(appendDay) ? days.last() : null;
+        if (openSegments.size() > 1
+                || (openSegments.size() == 1 && (keep == null || !openSegments.containsKey(keep)))) {
+            openSegments.entrySet().removeIf(entry -> {
+                if (entry.getKey().equals(keep)) {
+                    return false;
+                }
+                closeQuietly(entry.getValue());
+                return true;
+            });
+        }
+    }
+
+    private void delete(long day) throws IOException {
+        Segment segment = openSegments.remove(day);
+        if (segment != null) {
+            closeQuietly(segment);
+        }
+        days.remove(day);
+        Path segmentPath = directory.resolve(day + SEGMENT_EXTENSION);
+        Files.deleteIfExists(Segment.journalPath(segmentPath));
+        Files.deleteIfExists(segmentPath);
+        Files.deleteIfExists(directory.resolve(day + DICTIONARY_EXTENSION));
+    }
+
+    private void closeQuietly(Segment segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close segment '{}': {}", segment.getPath(), e.getMessage());
+        }
+    }
+
+    private @Nullable State decode(Segment segment, int index) {
+        int reference = segment.getReference(index);
+        switch (segment.getKind(index)) {
+            case Segment.KIND_DECIMAL:
+                return new DecimalType(BigDecimal.valueOf(segment.getValue(index)));
+            case Segment.KIND_QUANTITY:
+                Unit<?> unit = segment.getDictionary().<Unit<?>> get(reference, UnitUtils::parseUnit);
+                BigDecimal value = BigDecimal.valueOf(segment.getValue(index));
+                return unit != null ? new QuantityType<>(value, unit) : new DecimalType(value);
+            case Segment.KIND_DICTIONARY:
+                return segment.getDictionary().get(reference, this::parseState);
+            default:
+                return null;
+        }
+    }
+
+    private @Nullable State parseState(String entry) {
+        int separator = entry.indexOf(TYPE_SEPARATOR);
+        Class<? extends State> type = separator > 0 ? STATE_TYPES.get(entry.substring(0, separator)) : null;
+        if (type == null) {
+            logger.debug("Cannot restore state '{}' of item '{}'", entry, name);
+            return null;
+        }
+        return TypeParser.parseState(List.of(type), entry.substring(separator + 1));
+    }
+
+    private static boolean matches(FilterCriteria filter, State state) {
+        State filterState = filter.getState();
+        if (filterState == null) {
+            return true;
+        }
+        switch (filter.getOperator()) {
+            case EQ:
+                return state.equals(filterState);
+            case NEQ:
+                return !state.equals(filterState);
+            default:
+                break;
+        }
+        if (state instanceof QuantityType<?> quantity && filterState instanceof QuantityType<?> filterQuantity) {
+            filterState = filterQuantity.toUnit(quantity.getUnit());
+        }
+        DecimalType value = state.as(DecimalType.class);
+        DecimalType filterValue = filterState != null ? filterState.as(DecimalType.class) : null;
+        if (value == null || filterValue == null) {
+            return false;
+        }
+        int comparison = value.compareTo(filterValue);
+        return switch (filter.getOperator()) {
+            case GT -> comparison > 0;
+            case GTE -> comparison >= 0;
+            case LT -> comparison < 0;
+            case LTE -> comparison <= 0;
+            default -> false;
+        };
+    }
+
+    private static long toEpochMillis(@Nullable ZonedDateTime dateTime, long defaultValue) {
+        return dateTime != null ? dateTime.toInstant().toEpochMilli() : defaultValue;
+    }
+
+    private record EmbeddedHistoricItem(String name, ZonedDateTime timestamp, State state) implements HistoricItem {
+
+        @Override
+        public ZonedDateTime getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    private record EmbeddedItemInfo(String name, @Nullable Integer count, @Nullable Date earliest,
+            @Nullable Date latest) implements PersistenceItemInfo {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public @Nullable Integer getCount() {
+            return count;
+        }
+
+        @Override
+        public @Nullable Date getEarliest() {
+            return earliest;
+        }
+
+        @Override
+        public @Nullable Date getLatest() {
+            return latest;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.embedded.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link Segment} is a memory-mapped file holding fixed-size records ordered by their timestamp.
+ *
+ * <p>
+ * Each record consists of the timestamp in epoch milliseconds, the kind of the record, a reference into the
+ * {@link StateDictionary} of the segment and a numeric value. The kind is written last, an empty kind marks the end of
+ * the records. When a segment is opened, the records after a record with an invalid kind or an out of order timestamp
+ * are discarded, which recovers the segment from an append that was interrupted.
+ *
+ * <p>
+ * Changes that move or replace existing records, i.e. inserting a record before the last one, replacing a record or
+ * removing records that are followed by others, are written to a journal file first. A complete journal is applied
+ * again when the segment is opened, so an interrupted change never leaves the segment with some records moved and
+ * others not.
+ *
+ * <p>
+ * This class is not thread-safe, access is synchronized by the {@link ItemTimeSeries} it belongs to.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class Segment implements Closeable {
+
+    static final byte KIND_EMPTY = 0;
+    static final byte KIND_DECIMAL = 1;
+    static final byte KIND_QUANTITY = 2;
+    static final byte KIND_DICTIONARY = 3;
+
+    static final int RECORD_SIZE = 21;
+    private static final int TIMESTAMP_OFFSET = 0;
+    private static final int KIND_OFFSET = 8;
+    private static final int REFERENCE_OFFSET = 9;
+    private static final int VALUE_OFFSET = 13;
+
+    static final String JOURNAL_EXTENSION = ".journal";
+    private static final int JOURNAL_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int JOURNAL_CHECKSUM_SIZE = Long.BYTES;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Path path;
+    private final Path journalPath;
+    private final FileChannel channel;
+    private final StateDictionary dictionary;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int size;
+
+    private Segment(Path path, FileChannel channel, StateDictionary dictionary, int capacity) throws IOException {
+        this.path = path;
+        this.journalPath = journalPath(path);
+        this.channel = channel;
+        this.dictionary = dictionary;
+        this.capacity = capacity;
+        this.buffer = channel.map(MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+    }
+
+    /**
+     * Opens a segment file and its dictionary file, creating them if they do not exist.
+     *
+     * @param path the path of the segment file
+     * @param dictionaryPath the path of the dictionary file
+     * @return the opened segment
+     * @throws IOException if the files cannot be opened or mapped
+     */
+    static Segment open(Path path, Path dictionaryPath) throws IOException {
+        StateDictionary dictionary = StateDictionary.open(dictionaryPath);
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            int capacity = Math.max(INITIAL_CAPACITY, (int) (channel.size() / RECORD_SIZE));
+            Segment segment = new Segment(path, channel, dictionary, capacity);
+            segment.replayJournal();
+            segment.recover();
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            dictionary.close();
+            throw e;
+        }
+    }
+
+    private void recover() {
+        long previousTimestamp = Long.MIN_VALUE;
+        int count = 0;
+        while (count < capacity) {
+            byte kind = getKind(count);
+            long timestamp = getTimestamp(count);
+            if (kind < KIND_DECIMAL || kind > KIND_DICTIONARY || timestamp < previousTimestamp) {
+                break;
+            }
+            previousTimestamp = timestamp;
+            count++;
+        }
+        size = count;
+        // clear what is left of an interrupted write, so it is not taken for a record later
+        for (int index = size; index < capacity; index++) {
+            if (getKind(index) != KIND_EMPTY) {
+                buffer.put(index * RECORD_SIZE + KIND_OFFSET, KIND_EMPTY);
+            }
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the dictionary of the strings referenced by the records of this segment
+     */
+    StateDictionary getDictionary() {
+        return dictionary;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getTimestamp(int index) {
+        return buffer.getLong(index * RECORD_SIZE + TIMESTAMP_OFFSET);
+    }
+
+    byte getKind(int index) {
+        return buffer.get(index * RECORD_SIZE + KIND_OFFSET);
+    }
+
+    int getReference(int index) {
+        return buffer.getInt(index * RECORD_SIZE + REFERENCE_OFFSET);
+    }
+
+    double getValue(int index) {
+        return buffer.getDouble(index * RECORD_SIZE + VALUE_OFFSET);
+    }
+
+    /**
+     * @return the index of the first record with a timestamp equal to or after the given timestamp
+     */
+    int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTimestamp(mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first record with a timestamp after the given timestamp
+     */
+    int upperBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTimestamp(mid) <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Stores a record. A record with the same timestamp is replaced, records with an earlier timestamp than the last
+     * record are inserted at their position.
+     *
+     * @throws IOException if the segment needs to grow and the file cannot be mapped or the journal cannot be written
+     */
+    void put(long timestamp, byte kind, int reference, double value) throws IOException {
+        if (size == 0 || getTimestamp(size - 1) < timestamp) {
+            // appending does not need the journal, the kind is written last and completes the record
+            if (size == capacity) {
+                grow();
+            }
+            putRecord(buffer, size, timestamp, kind, reference, value);
+            size++;
+            return;
+        }
+        int index = lowerBound(timestamp);
+        // the records after the new one are kept, a record with the same timestamp is replaced
+        int next = getTimestamp(index) == timestamp ? index + 1 : index;
+        ByteBuffer records = ByteBuffer.allocate((1 + size - next) * RECORD_SIZE);
+        putRecord(records, 0, timestamp, kind, reference, value);
+        records.put(RECORD_SIZE, buffer, next * RECORD_SIZE, (size - next) * RECORD_SIZE);
+        rewrite(index, records);
+    }
+
+    /**
+     * Removes the records between two indexes.
+     *
+     * @param from the index of the first record to remove
+     * @param to the index after the last record to remove
+     * @throws IOException if the journal cannot be written
+     */
+    void remove(int from, int to) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        if (to == size) {
+            // removing the last records does not need the journal, the first cleared kind ends the records
+            for (int index = from; index < size; index++) {
+                buffer.put(index * RECORD_SIZE + KIND_OFFSET, KIND_EMPTY);
+            }
+            size = from;
+            return;
+        }
+        ByteBuffer records = ByteBuffer.allocate((size - to) * RECORD_SIZE);
+        records.put(0, buffer, to * RECORD_SIZE, records.capacity());
+        rewrite(from, records);
+    }
+
+    /**
+     * Replaces all records from an index onwards. The new records are written to the journal before the segment is
+     * modified, so the change is completed when the segment is opened after it has been interrupted.
+     */
+    private void rewrite(int index, ByteBuffer records) throws IOException {
+        writeJournal(journalPath, index, records);
+        apply(index, records, size);
+        buffer.force();
+        Files.delete(journalPath);
+    }
+
+    private void apply(int index, ByteBuffer records, int previousSize) throws IOException {
+        int count = records.capacity() / RECORD_SIZE;
+        while (index + count > capacity) {
+            grow();
+        }
+        buffer.put(index * RECORD_SIZE, records, 0, records.capacity());
+        for (int cleared = index + count; cleared < previousSize; cleared++) {
+            if (getKind(cleared) != KIND_EMPTY) {
+                buffer.put(cleared * RECORD_SIZE + KIND_OFFSET, KIND_EMPTY);
+            }
+        }
+        size = index + count;
+    }
+
+    /**
+     * Completes a change that has been interrupted. A journal that has not been written completely is discarded, the
+     * segment has not been modified in this case.
+     */
+    private void replayJournal() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        int length = journal.capacity() - JOURNAL_CHECKSUM_SIZE;
+        if (length >= JOURNAL_HEADER_SIZE) {
+            CRC32 checksum = new CRC32();
+            checksum.update(journal.array(), 0, length);
+            int index = journal.getInt(0);
+            int count = journal.getInt(Integer.BYTES);
+            if (journal.getLong(length) == checksum.getValue() && index >= 0 && count >= 0
+                    && length == JOURNAL_HEADER_SIZE + count * RECORD_SIZE) {
+                // the records after the change might be left over from before it, so they are cleared as well
+                apply(index, journal.slice(JOURNAL_HEADER_SIZE, count * RECORD_SIZE), capacity);
+                buffer.force();
+            }
+        }
+        Files.delete(journalPath);
+    }
+
+    /**
+     * Writes the records that replace all records of a segment from an index onwards to a journal file.
+     *
+     * @param journalPath the path of the journal file
+     * @param index the index of the first replaced record
+     * @param records the new records
+     * @throws IOException if the journal cannot be written
+     */
+    static void writeJournal(Path journalPath, int index, ByteBuffer records) throws IOException {
+        int length = JOURNAL_HEADER_SIZE + records.capacity();
+        ByteBuffer journal = ByteBuffer.allocate(length + JOURNAL_CHECKSUM_SIZE);
+        journal.putInt(0, index).putInt(Integer.BYTES, records.capacity() / RECORD_SIZE);
+        journal.put(JOURNAL_HEADER_SIZE, records, 0, records.capacity());
+        CRC32 checksum = new CRC32();
+        checksum.update(journal.array(), 0, length);
+        journal.putLong(length, checksum.getValue());
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (journal.hasRemaining()) {
+                channel.write(journal);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes a record to a buffer. The kind is written last.
+     */
+    static void putRecord(ByteBuffer target, int index, long timestamp, byte kind, int reference, double value) {
+        int offset = index * RECORD_SIZE;
+        target.putLong(offset + TIMESTAMP_OFFSET, timestamp);
+        target.putInt(offset + REFERENCE_OFFSET, reference);
+        target.putDouble(offset + VALUE_OFFSET, value);
+        target.put(offset + KIND_OFFSET, kind);
+    }
+
+    /**
+     * @param path the path of a segment file
+     * @return the path of the journal file of the segment
+     */
+    static Path journalPath(Path path) {
+        return path.resolveSibling(path.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    private void grow() throws IOException {
+        buffer.force();
+        capacity *= 2;
+        buffer = channel.map(MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+    }
+
+    /**
+     * Writes the changes of the mapped records to the file.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            dictionary.close();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.embedded.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link StateDictionary} is an append-only file of the strings referenced by the records of a {@link Segment},
+ * e.g. the units of quantities and the states that are not numeric. Each string is stored once, records refer to it by
+ * its index. As every segment has its own dictionary, the strings are deleted together with the segment when its day
+ * expires and only the strings of the mapped segments are kept in memory.
+ *
+ * <p>
+ * Entries are written as their length followed by their UTF-8 bytes. An incomplete entry at the end of the file is
+ * discarded when the dictionary is opened.
+ *
+ * <p>
+ * This class is not thread-safe, access is synchronized by the {@link ItemTimeSeries} its segment belongs to.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class StateDictionary implements Closeable {
+
+    private final FileChannel channel;
+    private final List<String> entries = new ArrayList<>();
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final Map<Integer, Object> values = new HashMap<>();
+
+    private StateDictionary(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a dictionary file, creating it if it does not exist.
+     *
+     * @param path the path of the dictionary file
+     * @return the opened dictionary
+     * @throws IOException if the file cannot be read
+     */
+    static StateDictionary open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            StateDictionary dictionary = new StateDictionary(channel);
+            dictionary.load();
+            return dictionary;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void load() throws IOException {
+        long fileSize = channel.size();
+        ByteBuffer content = ByteBuffer.allocate((int) fileSize);
+        while (content.hasRemaining() && channel.read(content, content.position()) >= 0) {
+            // read the whole file
+        }
+        content.flip();
+        while (content.remaining() >= Integer.BYTES) {
+            int length = content.getInt(content.position());
+            if (length < 0 || length > content.remaining() - Integer.BYTES) {
+                break;
+            }
+            content.getInt();
+            byte[] bytes = new byte[length];
+            content.get(bytes);
+            add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        if (content.position() < fileSize) {
+            channel.truncate(content.position());
+        }
+        channel.position(content.position());
+    }
+
+    private int add(String entry) {
+        int index = entries.size();
+        entries.add(entry);
+        indexes.put(entry, index);
+        return index;
+    }
+
+    /**
+     * Returns the index of a string, adding it to the dictionary if it is not contained yet.
+     *
+     * @param entry the string
+     * @return the index of the string
+     * @throws IOException if the string cannot be written
+     */
+    int indexOf(String entry) throws IOException {
+        Integer index = indexes.get(entry);
+        if (index != null) {
+            return index;
+        }
+        byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return add(entry);
+    }
+
+    /**
+     * @param index the index of a string
+     * @return the string or <code>null</code> if there is no string with this index
+     */
+    @Nullable
+    String get(int index) {
+        return index >= 0 && index < entries.size() ? entries.get(index) : null;
+    }
+
+    /**
+     * Returns the value of a string, which is parsed once and then cached. A string must always be parsed into the
+     * same type of value.
+     *
+     * @param index the index of a string
+     * @param parser the function parsing the string, it returns <code>null</code> if the string cannot be parsed
+     * @return the value or <code>null</code> if there is no string with this index or it cannot be parsed
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable T get(int index, Function<String, @Nullable T> parser) {
+        Object value = values.get(index);
+        if (value == null) {
+            String entry = get(index);
+            value = entry != null ? parser.apply(entry) : null;
+            if (value == null) {
+                return null;
+            }
+            values.put(index, value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.embedded.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Operator;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Tests for {@link EmbeddedPersistenceService}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EmbeddedPersistenceServiceTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.parse("2024-03-01T00:00:00Z");
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+    private @NonNullByDefault({}) EmbeddedPersistenceService service;
+
+    private final NumberItem numberItem = new NumberItem("Number");
+    private final NumberItem temperatureItem = new NumberItem("Temperature");
+    private final SwitchItem switchItem = new SwitchItem("Switch");
+
+    @BeforeEach
+    public void setUp() {
+        service = new EmbeddedPersistenceService(tempDir, Map.of("retentionDays", 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.deactivate();
+    }
+
+    @Test
+    public void statesAreStoredAndQueried() {
+        service.store(numberItem, START, new DecimalType(1.5));
+        service.store(temperatureItem, START, new QuantityType<>("21.5 °C"));
+        service.store(switchItem, START, OnOffType.ON);
+        service.store(switchItem, START.plusMinutes(1), UnDefType.UNDEF);
+
+        assertThat(states(query("Number", null, null)), contains(new DecimalType(1.5)));
+        assertThat(states(query("Temperature", null, null)), contains(new QuantityType<>("21.5 °C")));
+        assertThat(states(query("Switch", null, null)), contains(OnOffType.ON));
+        assertThat(query("Unknown", null, null), is(empty()));
+    }
+
+    @Test
+    public void statesOfSeveralDaysAreQueriedInOrder() {
+        for (int i = 0; i < 72; i++) {
+            service.store(numberItem, START.plusHours(i), new DecimalType(i));
+        }
+
+        List<HistoricItem> ascending = query("Number", START.plusHours(20), START.plusHours(30));
+        assertThat(ascending, hasSize(11));
+        assertThat(ascending.getFirst().getState(), is(new DecimalType(20)));
+        assertThat(ascending.getLast().getState(), is(new DecimalType(30)));
+        assertThat(ascending.getLast().getInstant(), is(START.plusHours(30).toInstant()));
+
+        FilterCriteria filter = filter("Number", null, null).setOrdering(Ordering.DESCENDING).setPageSize(5)
+                .setPageNumber(1);
+        assertThat(states(list(filter)), contains(new DecimalType(66), new DecimalType(65), new DecimalType(64),
+                new DecimalType(63), new DecimalType(62)));
+    }
+
+    @Test
+    public void statesAreFilteredByOperator() {
+        for (int i = 0; i < 10; i++) {
+            service.store(temperatureItem, START.plusHours(i), new QuantityType<>(i + " °C"));
+        }
+
+        FilterCriteria filter = filter("Temperature", null, null).setOperator(Operator.GTE)
+                .setState(new QuantityType<>("280.15 K"));
+        assertThat(states(list(filter)),
+                contains(new QuantityType<>("7 °C"), new QuantityType<>("8 °C"), new QuantityType<>("9 °C")));
+
+        filter = filter("Temperature", null, null).setOperator(Operator.EQ).setState(new QuantityType<>("3 °C"));
+        assertThat(list(filter), hasSize(1));
+    }
+
+    @Test
+    public void statesAreRemoved() {
+        for (int i = 0; i < 48; i++) {
+            service.store(numberItem, START.plusHours(i), new DecimalType(i));
+        }
+
+        service.remove(filter("Number", START.plusHours(10), START.plusHours(29)));
+        assertThat(query("Number", null, null), hasSize(28));
+
+        service.remove(filter("Number", null, null));
+        assertThat(query("Number", null, null), is(empty()));
+        assertThat(service.getItemInfo("Number", null), is(nullValue()));
+    }
+
+    @Test
+    public void statesArePersistedAcrossRestarts() {
+        StringItem stringItem = new StringItem("String");
+        service.store(stringItem, START, new StringType("first: value"));
+        service.store(stringItem, START.plusSeconds(1), new StringType("second"));
+        service.store(stringItem, START.plusSeconds(2), new StringType("first: value"));
+        service.deactivate();
+
+        service = new EmbeddedPersistenceService(tempDir, Map.of("retentionDays", 0));
+        assertThat(states(query("String", null, null)), contains(new StringType("first: value"),
+                new StringType("second"), new StringType("first: value")));
+
+        PersistenceItemInfo info = service.getItemInfo("String", null);
+        assertThat(info, is(notNullValue()));
+        assertThat(info.getCount(), is(3));
+        assertThat(info.getEarliest().toInstant(), is(START.toInstant()));
+        assertThat(info.getLatest().toInstant(), is(START.plusSeconds(2).toInstant()));
+    }
+
+    @Test
+    public void expiredStatesAreDeleted() {
+        ZonedDateTime now = ZonedDateTime.now();
+        service.store(numberItem, now.minusDays(10), new DecimalType(1));
+        service.store(numberItem, now, new DecimalType(2));
+        service.store(switchItem, now.minusDays(10), OnOffType.OFF);
+        service.deactivate();
+
+        service = new EmbeddedPersistenceService(tempDir, Map.of("retentionDays", 5));
+        service.applyRetention();
+
+        assertThat(states(query("Number", null, null)), contains(new DecimalType(2)));
+        assertThat(service.getItemInfo("Switch", null), is(nullValue()));
+        assertThat(service.getItemInfo(), hasSize(1));
+    }
+
+    @Test
+    public void expiredStringsAreDeletedWithTheirSegment() throws IOException {
+        StringItem stringItem = new StringItem("String");
+        ZonedDateTime now = ZonedDateTime.now();
+        service.store(stringItem, now.minusDays(10), new StringType("expired"));
+        service.store(stringItem, now, new StringType("current"));
+        service.deactivate();
+
+        service = new EmbeddedPersistenceService(tempDir, Map.of("retentionDays", 5));
+        service.applyRetention();
+
+        assertThat(states(query("String", null, null)), contains(new StringType("current")));
+        try (Stream<Path> files = Files.list(tempDir.resolve("String"))) {
+            assertThat(files.map(file -> file.getFileName().toString()).sorted().toList(), contains(
+                    endsWith(ItemTimeSeries.DICTIONARY_EXTENSION), endsWith(ItemTimeSeries.SEGMENT_EXTENSION)));
+        }
+    }
+
+    @Test
+    public void expiredFilesAreFoundWithoutOpeningTheItem() throws IOException {
+        ZonedDateTime now = ZonedDateTime.now();
+        service.store(numberItem, now.minusDays(10), new DecimalType(1));
+        service.store(numberItem, now, new DecimalType(2));
+        service.store(switchItem, now, OnOffType.ON);
+        service.deactivate();
+
+        Instant expiry = now.minusDays(5).toInstant();
+        assertThat(ItemTimeSeries.hasSegmentsBefore(tempDir.resolve("Number"), expiry), is(true));
+        assertThat(ItemTimeSeries.hasSegmentsBefore(tempDir.resolve("Switch"), expiry), is(false));
+    }
+
+    @Test
+    public void idleItemsAreClosedAndReopened() {
+        service.store(numberItem, START, new DecimalType(1));
+        service.closeIdleSeries(Duration.ZERO);
+        service.store(numberItem, START.plusSeconds(1), new DecimalType(2));
+        service.closeIdleSeries(Duration.ZERO);
+
+        assertThat(states(query("Number", null, null)), contains(new DecimalType(1), new DecimalType(2)));
+        assertThat(service.getItemInfo(), hasSize(1));
+    }
+
+    @Test
+    public void statesAreNotLostWhileItemsAreClosed() throws InterruptedException {
+        int count = 2000;
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                service.store(numberItem, START.plusSeconds(i), new DecimalType(i));
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            service.closeIdleSeries(Duration.ZERO);
+        }
+        writer.join();
+
+        assertThat(query("Number", null, null), hasSize(count));
+    }
+
+    private FilterCriteria filter(String itemName, @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end) {
+        FilterCriteria filter = new FilterCriteria().setItemName(itemName).setOrdering(Ordering.ASCENDING);
+        if (begin != null) {
+            filter.setBeginDate(begin);
+        }
+        if (end != null) {
+            filter.setEndDate(end);
+        }
+        return filter;
+    }
+
+    private List<HistoricItem> query(String itemName, @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end) {
+        return list(filter(itemName, begin, end));
+    }
+
+    private List<HistoricItem> list(FilterCriteria filter) {
+        List<HistoricItem> result = new ArrayList<>();
+        service.query(filter).forEach(result::add);
+        return result;
+    }
+
+    private static List<State> states(List<HistoricItem> historicItems) {
+        return historicItems.stream().map(HistoricItem::getState).toList();
+    }
+}
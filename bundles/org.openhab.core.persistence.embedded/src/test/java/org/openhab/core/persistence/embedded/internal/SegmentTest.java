@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.embedded.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link Segment}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SegmentTest {
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    @Test
+    public void recordsAreKeptInOrder() throws IOException {
+        try (Segment segment = Segment.open(tempDir.resolve("0.seg"), tempDir.resolve("0.dict"))) {
+            segment.put(30, Segment.KIND_DECIMAL, -1, 3);
+            segment.put(10, Segment.KIND_DECIMAL, -1, 1);
+            segment.put(20, Segment.KIND_DECIMAL, -1, 2);
+            segment.put(20, Segment.KIND_DECIMAL, -1, 2.5);
+
+            assertThat(segment.size(), is(3));
+            assertThat(segment.getTimestamp(0), is(10L));
+            assertThat(segment.getTimestamp(1), is(20L));
+            assertThat(segment.getValue(1), is(2.5));
+            assertThat(segment.getTimestamp(2), is(30L));
+        }
+    }
+
+    @Test
+    public void boundsAreFoundByBinarySearch() throws IOException {
+        try (Segment segment = Segment.open(tempDir.resolve("0.seg"), tempDir.resolve("0.dict"))) {
+            for (int i = 0; i < 10; i++) {
+                segment.put(i * 10, Segment.KIND_DECIMAL, -1, i);
+            }
+
+            assertThat(segment.lowerBound(20), is(2));
+            assertThat(segment.upperBound(20), is(3));
+            assertThat(segment.lowerBound(25), is(3));
+            assertThat(segment.upperBound(25), is(3));
+            assertThat(segment.lowerBound(-1), is(0));
+            assertThat(segment.upperBound(1000), is(10));
+        }
+    }
+
+    @Test
+    public void segmentGrowsAndIsReopened() throws IOException {
+        Path path = tempDir.resolve("0.seg");
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            for (int i = 0; i < 1000; i++) {
+                segment.put(i, Segment.KIND_QUANTITY, 0, i);
+            }
+            segment.remove(0, 500);
+        }
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            assertThat(segment.size(), is(500));
+            assertThat(segment.getTimestamp(0), is(500L));
+            assertThat(segment.getKind(499), is(Segment.KIND_QUANTITY));
+            assertThat(segment.getValue(499), is(999.0));
+        }
+    }
+
+    @Test
+    public void interruptedWriteIsDiscardedOnOpen() throws IOException {
+        Path path = tempDir.resolve("0.seg");
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            segment.put(10, Segment.KIND_DECIMAL, -1, 1);
+            segment.put(20, Segment.KIND_DECIMAL, -1, 2);
+        }
+        // a record that is out of order and a record with an invalid kind after it
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer record = ByteBuffer.allocate(2 * Segment.RECORD_SIZE);
+            record.putLong(0, 5).put(8, Segment.KIND_DECIMAL);
+            record.putLong(Segment.RECORD_SIZE, 40).put(Segment.RECORD_SIZE + 8, (byte) 42);
+            channel.write(record, 2 * Segment.RECORD_SIZE);
+        }
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            assertThat(segment.size(), is(2));
+            segment.put(30, Segment.KIND_DECIMAL, -1, 3);
+        }
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            assertThat(segment.size(), is(3));
+            assertThat(segment.getTimestamp(2), is(30L));
+        }
+    }
+
+    @Test
+    public void removingRecordsInTheMiddleIsPersisted() throws IOException {
+        Path path = tempDir.resolve("0.seg");
+        try (Segment segment = open(path, 10)) {
+            segment.remove(2, 4);
+
+            assertThat(segment.size(), is(8));
+            assertFalse(Files.exists(Segment.journalPath(path)));
+        }
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            assertThat(segment.size(), is(8));
+            assertThat(segment.getTimestamp(1), is(20L));
+            assertThat(segment.getTimestamp(2), is(50L));
+            assertThat(segment.getTimestamp(7), is(100L));
+        }
+    }
+
+    @Test
+    public void interruptedShiftIsCompletedOnOpen() throws IOException {
+        Path path = tempDir.resolve("0.seg");
+        open(path, 10).close();
+        // inserting 55 at index 5 was interrupted after the new record overwrote the record of 60
+        ByteBuffer records = shiftedRecords(path, 55);
+        Segment.writeJournal(Segment.journalPath(path), 5, records);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(records.slice(0, Segment.RECORD_SIZE), 5 * Segment.RECORD_SIZE);
+        }
+
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            assertThat(segment.size(), is(11));
+            assertThat(segment.getTimestamp(5), is(55L));
+            assertThat(segment.getValue(5), is(5.5));
+            assertThat(segment.getTimestamp(6), is(60L));
+            assertThat(segment.getTimestamp(10), is(100L));
+            assertFalse(Files.exists(Segment.journalPath(path)));
+        }
+    }
+
+    @Test
+    public void incompleteJournalIsDiscardedOnOpen() throws IOException {
+        Path path = tempDir.resolve("0.seg");
+        open(path, 10).close();
+        Path journalPath = Segment.journalPath(path);
+        Segment.writeJournal(journalPath, 5, shiftedRecords(path, 55));
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        try (Segment segment = Segment.open(path, tempDir.resolve("0.dict"))) {
+            assertThat(segment.size(), is(10));
+            assertThat(segment.getTimestamp(5), is(60L));
+            assertFalse(Files.exists(journalPath));
+        }
+    }
+
+    private Segment open(Path path, int count) throws IOException {
+        Segment segment = Segment.open(path, tempDir.resolve("0.dict"));
+        for (int i = 1; i <= count; i++) {
+            segment.put(i * 10, Segment.KIND_DECIMAL, -1, i);
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the records that replace the records from index 5 onwards of a segment with 10 records, when a record
+     * is inserted at index 5.
+     */
+    private static ByteBuffer shiftedRecords(Path path, long timestamp) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(6 * Segment.RECORD_SIZE);
+        Segment.putRecord(records, 0, timestamp, Segment.KIND_DECIMAL, -1, 5.5);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.read(records.position(Segment.RECORD_SIZE), 5 * Segment.RECORD_SIZE);
+        }
+        return records.clear();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+
+/**
+ * A {@link QueryablePersistenceService} that can aggregate historic data natively, e.g. by using the aggregate
+ * functions of a database, instead of returning every stored value over a range.
+ *
+ * <p>
+ * {@link org.openhab.core.persistence.extensions.PersistenceExtensions} uses the aggregations a service supports when
+ * calculating statistics and falls back to querying all values otherwise.
+ *
+ * <p>
+ * Aggregations only consider the values stored between the begin and end date of the filter (both inclusive), with
+ * the exception of {@link Aggregation#RIEMANN_SUM}. Values of items with a unit are aggregated in the unit they were
+ * stored with, which is expected to be the unit of the item.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface AggregatingPersistenceService extends QueryablePersistenceService {
+
+    /**
+     * The aggregate functions a service can provide.
+     */
+    enum Aggregation {
+        /**
+         * The arithmetic mean of the stored values.
+         */
+        AVERAGE,
+        /**
+         * The smallest stored value. The timestamp of the result is the timestamp of the earliest value with this
+         * state.
+         */
+        MINIMUM,
+        /**
+         * The largest stored value. The timestamp of the result is the timestamp of the earliest value with this
+         * state.
+         */
+        MAXIMUM,
+        /**
+         * The sum of the stored values.
+         */
+        SUM,
+        /**
+         * The number of stored values.
+         */
+        COUNT,
+        /**
+         * The left Riemann sum of the stored values in value-seconds. Each value is weighted with the time until the
+         * next value or the end date of the filter. The last value stored before the begin date of the filter applies
+         * from the begin date onwards. If there is no such value, the sum starts at the first stored value. The
+         * timestamp of the result is the start of the summed period.
+         */
+        RIEMANN_SUM
+    }
+
+    /**
+     * Returns the aggregations this service can calculate natively.
+     *
+     * @return the supported aggregations
+     */
+    Set<Aggregation> getSupportedAggregations();
+
+    /**
+     * Aggregates the historic data matching the item name, begin date and end date of a {@link FilterCriteria}.
+     *
+     * <p>
+     * The state of the result is a {@link org.openhab.core.library.types.DecimalType} or, for items with a unit and
+     * aggregations other than {@link Aggregation#COUNT} and {@link Aggregation#RIEMANN_SUM}, a
+     * {@link org.openhab.core.library.types.QuantityType} in the stored unit. Its timestamp is the begin date of the
+     * filter unless the aggregation defines otherwise, its name is the item name of the filter.
+     *
+     * @param filter the filter defining the item and the range to aggregate
+     * @param aggregation the aggregation to calculate
+     * @param alias for item name in database or null if no alias defined
+     * @return the aggregated value or null if there is no stored value in the range (except for
+     *         {@link Aggregation#COUNT}) or the item cannot be aggregated
+     */
+    @Nullable
+    HistoricItem aggregate(FilterCriteria filter, Aggregation aggregation, @Nullable String alias);
+
+    /**
+     * Aggregates the historic data matching a {@link FilterCriteria} in consecutive buckets of the given size, starting
+     * at the begin date of the filter. Each bucket covers the range from its start up to, but not including, the start
+     * of the next bucket.
+     *
+     * <p>
+     * The default implementation queries the values of the whole range once and aggregates them in memory. Services
+     * that can group values by time natively should override it.
+     *
+     * @param filter the filter defining the item and the range to aggregate, item name, begin and end date must be set
+     * @param aggregation the aggregation to calculate
+     * @param bucketSize the length of a bucket
+     * @param alias for item name in database or null if no alias defined
+     * @return the aggregated values of the buckets containing data, ordered by time and timestamped with the start of
+     *         the bucket
+     * @throws IllegalArgumentException if the filter has no item name, begin or end date or the bucket size is not
+     *             positive
+     */
+    default List<HistoricItem> aggregate(FilterCriteria filter, Aggregation aggregation, Duration bucketSize,
+            @Nullable String alias) {
+        String itemName = filter.getItemName();
+        ZonedDateTime begin = filter.getBeginDate();
+        ZonedDateTime end = filter.getEndDate();
+        if (itemName == null || begin == null || end == null) {
+            throw new IllegalArgumentException("Bucketed aggregation requires an item name, begin and end date");
+        }
+        if (bucketSize.isNegative() || bucketSize.isZero()) {
+            throw new IllegalArgumentException("Bucket size must be positive");
+        }
+        List<HistoricItem> values = new ArrayList<>();
+        query(new FilterCriteria(filter).setOrdering(Ordering.ASCENDING).setPageNumber(0)
+                .setPageSize(Integer.MAX_VALUE), alias).forEach(values::add);
+        HistoricItem previous = null;
+        if (aggregation == Aggregation.RIEMANN_SUM) {
+            FilterCriteria previousFilter = new FilterCriteria().setItemName(itemName)
+                    .setEndDate(begin.minusNanos(1)).setOrdering(Ordering.DESCENDING).setPageSize(1);
+            Iterator<HistoricItem> iterator = query(previousFilter, alias).iterator();
+            previous = iterator.hasNext() ? iterator.next() : null;
+        }
+        return new BucketAggregation(itemName, aggregation).aggregate(values, previous, begin, end, bucketSize);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * A {@link PersistenceService} that can store several values at once, e.g. by using bulk inserts.
+ *
+ * <p>
+ * The persistence manager does not call {@link #store(Item, String)} for item states persisted by change, update and
+ * cron strategies of such services. Instead, the states are captured when they are persisted and collected in a queue
+ * that is written by calling {@link #store(Collection)} once enough entries have accumulated or a short time window has
+ * passed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface BatchingPersistenceService extends PersistenceService {
+
+    /**
+     * A state of an item that should be persisted.
+     *
+     * @param item the item the state belongs to
+     * @param timestamp the time the state was captured for persistence
+     * @param state the state to be persisted
+     * @param alias the alias under which the item should be persisted, or null
+     */
+    record Entry(Item item, ZonedDateTime timestamp, State state, @Nullable String alias) {
+    }
+
+    /**
+     * Stores several item states at once.
+     *
+     * <p>
+     * The entries are ordered by the time they were captured. This method is called from a thread of the persistence
+     * manager and may block until the entries are written, but the next batch is only written after it returned.
+     *
+     * @param entries the entries to be persisted
+     */
+    void store(Collection<Entry> entries);
+}
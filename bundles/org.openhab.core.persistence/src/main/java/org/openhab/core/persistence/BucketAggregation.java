@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.AggregatingPersistenceService.Aggregation;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link BucketAggregation} calculates an {@link Aggregation} for consecutive buckets of historic data in memory.
+ * It is used by the default implementation of
+ * {@link AggregatingPersistenceService#aggregate(FilterCriteria, Aggregation, Duration, String)}, so the values of the
+ * whole range only need to be queried once.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class BucketAggregation {
+
+    private final String name;
+    private final Aggregation aggregation;
+
+    // unit of the first quantity, the values of items with a unit are aggregated in the unit they were stored with
+    private @Nullable Unit<?> unit;
+
+    BucketAggregation(String name, Aggregation aggregation) {
+        this.name = name;
+        this.aggregation = aggregation;
+    }
+
+    /**
+     * Aggregates the values of consecutive buckets.
+     *
+     * @param values the values between begin and end (both inclusive), ordered by time
+     * @param previous the last value stored before begin, only used for {@link Aggregation#RIEMANN_SUM}
+     * @param begin the start of the first bucket
+     * @param end the end of the last bucket
+     * @param bucketSize the length of a bucket
+     * @return the aggregated values of the buckets containing data, timestamped with the start of the bucket
+     */
+    List<HistoricItem> aggregate(List<HistoricItem> values, @Nullable HistoricItem previous, ZonedDateTime begin,
+            ZonedDateTime end, Duration bucketSize) {
+        List<HistoricItem> result = new ArrayList<>();
+        HistoricItem last = previous;
+        int index = 0;
+        for (ZonedDateTime bucketStart = begin; !bucketStart.isAfter(end); bucketStart = bucketStart
+                .plus(bucketSize)) {
+            ZonedDateTime bucketEnd = bucketStart.plus(bucketSize);
+            int first = index;
+            while (index < values.size() && values.get(index).getTimestamp().isBefore(bucketEnd)) {
+                index++;
+            }
+            List<HistoricItem> bucket = values.subList(first, index);
+            State state = aggregate(bucket, last, bucketStart, bucketEnd.isAfter(end) ? end : bucketEnd);
+            if (state != null) {
+                result.add(historicItem(bucketStart, state));
+            }
+            if (!bucket.isEmpty()) {
+                last = bucket.getLast();
+            }
+        }
+        return result;
+    }
+
+    private @Nullable State aggregate(List<HistoricItem> bucket, @Nullable HistoricItem previous,
+            ZonedDateTime bucketStart, ZonedDateTime bucketEnd) {
+        switch (aggregation) {
+            case COUNT:
+                return bucket.isEmpty() ? null : new DecimalType(bucket.size());
+            case MINIMUM:
+            case MAXIMUM:
+                State extreme = null;
+                BigDecimal extremeValue = null;
+                for (HistoricItem historicItem : bucket) {
+                    BigDecimal value = value(historicItem.getState());
+                    if (value != null && (extremeValue == null || (aggregation == Aggregation.MINIMUM
+                            ? value.compareTo(extremeValue) < 0
+                            : value.compareTo(extremeValue) > 0))) {
+                        extreme = historicItem.getState();
+                        extremeValue = value;
+                    }
+                }
+                return extreme;
+            case SUM:
+            case AVERAGE:
+                BigDecimal sum = BigDecimal.ZERO;
+                int count = 0;
+                for (HistoricItem historicItem : bucket) {
+                    BigDecimal value = value(historicItem.getState());
+                    if (value != null) {
+                        sum = sum.add(value);
+                        count++;
+                    }
+                }
+                if (count == 0) {
+                    return null;
+                }
+                return state(aggregation == Aggregation.SUM ? sum
+                        : sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL64));
+            case RIEMANN_SUM:
+                return riemannSum(bucket, previous, bucketStart, bucketEnd);
+        }
+        return null;
+    }
+
+    private @Nullable State riemannSum(List<HistoricItem> bucket, @Nullable HistoricItem previous,
+            ZonedDateTime bucketStart, ZonedDateTime bucketEnd) {
+        // the last value before the bucket applies from its start onwards
+        BigDecimal value = previous != null ? value(previous.getState()) : null;
+        ZonedDateTime from = bucketStart;
+        BigDecimal sum = BigDecimal.ZERO;
+        boolean summed = false;
+        for (HistoricItem historicItem : bucket) {
+            if (value != null) {
+                sum = sum.add(weighted(value, from, historicItem.getTimestamp()));
+                summed = true;
+            }
+            value = value(historicItem.getState());
+            from = historicItem.getTimestamp();
+        }
+        if (value != null) {
+            sum = sum.add(weighted(value, from, bucketEnd));
+            summed = true;
+        }
+        return summed ? new DecimalType(sum) : null;
+    }
+
+    private static BigDecimal weighted(BigDecimal value, ZonedDateTime from, ZonedDateTime to) {
+        return value.multiply(BigDecimal.valueOf(Duration.between(from, to).toMillis())).scaleByPowerOfTen(-3);
+    }
+
+    private @Nullable BigDecimal value(State state) {
+        if (state instanceof QuantityType<?> quantity) {
+            Unit<?> targetUnit = unit;
+            if (targetUnit == null) {
+                unit = quantity.getUnit();
+                return quantity.toBigDecimal();
+            }
+            QuantityType<?> converted = quantity.toUnit(targetUnit);
+            return converted != null ? converted.toBigDecimal() : null;
+        }
+        DecimalType decimal = state.as(DecimalType.class);
+        return decimal != null ? decimal.toBigDecimal() : null;
+    }
+
+    private State state(BigDecimal value) {
+        Unit<?> targetUnit = unit;
+        return targetUnit != null ? new QuantityType<>(value, targetUnit) : new DecimalType(value);
+    }
+
+    private HistoricItem historicItem(ZonedDateTime timestamp, State state) {
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link QueryablePersistenceService} that can query the historic data of several items at once, e.g. by selecting
+ * the rows of all items with a single database query.
+ *
+ * <p>
+ * The {@link PersistenceManager} uses a single query for services implementing this interface when the historic data
+ * of several items is requested, and queries the items in parallel otherwise.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface MultiItemQueryablePersistenceService extends QueryablePersistenceService {
+
+    /**
+     * Queries the historic data of several items. All criteria of the filter except its item name are applied to
+     * each item, the page size and page number apply to the results of each item.
+     *
+     * @param filter the filter to apply to the query of each item
+     * @param itemNames the names of the items to query
+     * @param aliases the aliases of the items in the database by item name, items without an alias are not contained
+     * @return the historic data by item name, items without historic data are not contained or have an empty list
+     */
+    Map<String, List<HistoricItem>> query(FilterCriteria filter, Collection<String> itemNames,
+            Map<String, String> aliases);
+}
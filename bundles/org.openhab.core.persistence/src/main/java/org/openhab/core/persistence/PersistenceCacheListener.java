@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link PersistenceCacheListener} is notified about the lookups in the recent history cache of the persistence
+ * manager, e.g. to collect metrics. Implementations are registered as OSGi services.
+ * <p>
+ * The methods are called by the threads querying the history of items, so they have to return quickly and must not
+ * block.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface PersistenceCacheListener {
+
+    /**
+     * Called after a query for the recent history of an item has been looked up in the history cache of a persistence
+     * service. Only called for services the cache is enabled for.
+     *
+     * @param serviceId the id of the persistence service
+     * @param hit <code>true</code> if the query was answered from the cache, <code>false</code> if the service has to
+     *            be queried
+     */
+    void historyCacheQueried(String serviceId, boolean hit);
+}
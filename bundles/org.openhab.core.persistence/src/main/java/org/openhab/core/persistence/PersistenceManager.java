@@ -12,7 +12,15 @@
  */
 package org.openhab.core.persistence;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.Item;
 
 /**
@@ -36,4 +44,66 @@ public interface PersistenceManager {
      * @param item the item for which persisted data has been updated
      */
     void handleExternalPersistenceDataChange(PersistenceService persistenceService, Item item);
+
+    /**
+     * Returns the states of an item persisted in a persistence service between two points in time, if they are kept
+     * in the recent history cache of the {@link PersistenceManager}. This allows frequent queries for the recent
+     * history of an item to be answered without querying the service.
+     *
+     * @param serviceId the id of the persistence service
+     * @param item the item
+     * @param begin the begin of the range
+     * @param end the end of the range
+     * @return the states in ascending order, or <code>null</code> if the range is not cached and the service has to be
+     *         queried
+     */
+    default @Nullable List<HistoricItem> getCachedStates(String serviceId, Item item, ZonedDateTime begin,
+            ZonedDateTime end) {
+        return null;
+    }
+
+    /**
+     * Returns the last state of an item persisted in a persistence service at a point in time, if it is kept in the
+     * recent history cache of the {@link PersistenceManager}.
+     *
+     * @param serviceId the id of the persistence service
+     * @param item the item
+     * @param timestamp the point in time
+     * @return the state, or <code>null</code> if the point in time is not cached and the service has to be queried
+     */
+    default @Nullable HistoricItem getCachedState(String serviceId, Item item, ZonedDateTime timestamp) {
+        return null;
+    }
+
+    /**
+     * Queries the historic data of several items from a persistence service. A service implementing
+     * {@link MultiItemQueryablePersistenceService} is queried once for all items, other services are queried for the
+     * items in parallel.
+     *
+     * <p>
+     * The default implementation queries the items one after another.
+     *
+     * @param service the persistence service
+     * @param items the items to query
+     * @param filter the filter to apply to the query of each item, its item name is ignored
+     * @param aliases the aliases of the items in the database by item name, items without an alias are not contained
+     * @return the historic data by item name in the order of the items, items whose query failed might be missing
+     */
+    default Map<String, List<HistoricItem>> query(QueryablePersistenceService service,
+            Collection<? extends Item> items, FilterCriteria filter, Map<String, String> aliases) {
+        Map<String, List<HistoricItem>> result = new LinkedHashMap<>();
+        if (service instanceof MultiItemQueryablePersistenceService multiItemService) {
+            Map<String, List<HistoricItem>> historicItems = multiItemService.query(filter,
+                    items.stream().map(Item::getName).toList(), aliases);
+            items.forEach(item -> result.put(item.getName(), historicItems.getOrDefault(item.getName(), List.of())));
+            return result;
+        }
+        for (Item item : items) {
+            List<HistoricItem> historicItems = new ArrayList<>();
+            FilterCriteria itemFilter = new FilterCriteria(filter).setItemName(item.getName());
+            service.query(itemFilter, aliases.get(item.getName())).forEach(historicItems::add);
+            result.put(item.getName(), historicItems);
+        }
+        return result;
+    }
 }
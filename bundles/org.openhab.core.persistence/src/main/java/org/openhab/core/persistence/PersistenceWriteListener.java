@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link PersistenceWriteListener} is notified about the entries queued for {@link BatchingPersistenceService}s and
+ * about the batches written to them, e.g. to collect metrics. Implementations are registered as OSGi services.
+ * <p>
+ * The methods are called by the threads persisting item states, so they have to return quickly and must not block.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface PersistenceWriteListener {
+
+    /**
+     * Called after an item state has been queued for a persistence service.
+     *
+     * @param serviceId the id of the persistence service
+     * @param queueSize the number of entries waiting to be written to the service
+     */
+    default void entryQueued(String serviceId, int queueSize) {
+    }
+
+    /**
+     * Called after a batch of entries has been written to a persistence service.
+     *
+     * @param serviceId the id of the persistence service
+     * @param entries the number of entries written
+     * @param queueSize the number of entries still waiting to be written to the service
+     * @param durationNanos the time spent in {@link BatchingPersistenceService#store(java.util.Collection)}
+     */
+    default void entriesFlushed(String serviceId, int entries, int queueSize, long durationNanos) {
+    }
+}
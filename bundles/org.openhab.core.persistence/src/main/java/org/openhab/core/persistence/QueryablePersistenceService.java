@@ -15,8 +15,11 @@ package org.openhab.core.persistence;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -215,4 +218,36 @@ public interface QueryablePersistenceService extends PersistenceService {
             }
         };
     }
+
+    /**
+     * Returns the {@link PersistedItem}s of several items at once. This is used to restore the states of all items on
+     * startup. Persistence services should override the default implementation, which calls
+     * {@link #persistedItem(String, String)} for every item, if they can retrieve the latest states of many items with
+     * fewer queries.
+     *
+     * @param itemNames the names of the items
+     * @param aliases the aliases of the items in the database by item name, items without an alias are not contained
+     * @return the persisted items by item name, items that have not been persisted are not contained
+     */
+    default Map<String, PersistedItem> persistedItems(Collection<String> itemNames, Map<String, String> aliases) {
+        Map<String, PersistedItem> persistedItems = new HashMap<>();
+        for (String itemName : itemNames) {
+            PersistedItem persistedItem = persistedItem(itemName, aliases.get(itemName));
+            if (persistedItem != null) {
+                persistedItems.put(itemName, persistedItem);
+            }
+        }
+        return persistedItems;
+    }
+
+    /**
+     * Returns whether the service stores states exactly as they are passed to it, i.e. under the given timestamp and
+     * without rounding, converting or consolidating them, so a query returns the same states and timestamps. The
+     * persistence manager only keeps a cache of the recent history of services storing states exactly.
+     *
+     * @return <code>true</code> if states are stored exactly, <code>false</code> otherwise (default)
+     */
+    default boolean storesExactStates() {
+        return false;
+    }
 }
@@ -49,18 +49,7 @@ public class ItemHistoryDTO {
      * @param state the state at this time
      */
     public void addData(long time, State state) {
-        HistoryDataBean newVal = new HistoryDataBean();
-        newVal.time = time;
-        if (state instanceof QuantityType quantityState) {
-            // we strip the unit from the state, since historic item states are expected to be all in the default unit
-            newVal.state = quantityState.toBigDecimal().toString();
-        } else if (state instanceof DecimalType decimalType) {
-            // use BigDecimal.toString() to hit the internal cache
-            newVal.state = decimalType.toBigDecimal().toString();
-        } else {
-            newVal.state = state.toString();
-        }
-        data.add(newVal);
+        addData(time, toDataString(state));
     }
 
     /**
@@ -76,6 +65,24 @@ public class ItemHistoryDTO {
         data.add(newVal);
     }
 
+    /**
+     * Convert a state to the string representation used for a record of the data history.
+     *
+     * @param state the state
+     * @return the string representation of the state
+     */
+    public static String toDataString(State state) {
+        if (state instanceof QuantityType quantityState) {
+            // we strip the unit from the state, since historic item states are expected to be all in the default unit
+            return quantityState.toBigDecimal().toString();
+        } else if (state instanceof DecimalType decimalType) {
+            // use BigDecimal.toString() to hit the internal cache
+            return decimalType.toBigDecimal().toString();
+        } else {
+            return state.toString();
+        }
+    }
+
     /**
      * Sort the data history by time.
      */
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.extensions;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.extensions.PersistenceExtensions.RiemannType;
+import org.openhab.core.types.State;
+import org.openhab.core.util.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link NumericHistory} holds the numeric values of a series of {@link HistoricItem}s, so the statistics in
+ * {@link PersistenceExtensions} only need to convert every value once. The timestamps are kept in a primitive array.
+ *
+ * <p>
+ * Values are converted to the unit of the item when the history is read and kept as {@link BigDecimal}s, so decimal
+ * values are summed up without binary rounding errors. States that cannot be converted to a number are kept as
+ * <code>null</code>, so their timestamps still count for the time weighted calculations.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class NumericHistory {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceExtensions.class);
+
+    private final @Nullable Unit<?> unit;
+    private long[] timestamps;
+    private @Nullable BigDecimal[] values;
+    private int size;
+
+    // converter of the last seen state unit, persisted values almost always share the same unit
+    private @Nullable Unit<?> sourceUnit;
+    private @Nullable UnitConverter converter;
+
+    private NumericHistory(@Nullable Unit<?> unit, int capacity) {
+        this.unit = unit;
+        this.timestamps = new long[capacity];
+        this.values = new BigDecimal[capacity];
+    }
+
+    /**
+     * Reads the values of a series of {@link HistoricItem}s.
+     *
+     * @param historicItems the historic items, ordered by time
+     * @param unit the unit to convert the values to or <code>null</code> if the item has no unit
+     * @return the numeric history
+     */
+    static NumericHistory of(Iterable<HistoricItem> historicItems, @Nullable Unit<?> unit) {
+        int capacity = historicItems instanceof Collection<?> collection ? collection.size() : DEFAULT_CAPACITY;
+        NumericHistory history = new NumericHistory(unit, Math.max(capacity, 1));
+        for (HistoricItem historicItem : historicItems) {
+            history.add(historicItem);
+        }
+        return history;
+    }
+
+    private void add(HistoricItem historicItem) {
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        timestamps[size] = historicItem.getInstant().toEpochMilli();
+        values[size] = toBigDecimal(historicItem);
+        size++;
+    }
+
+    private @Nullable BigDecimal toBigDecimal(HistoricItem historicItem) {
+        State state = historicItem.getState();
+        Unit<?> targetUnit = unit;
+        if (targetUnit != null) {
+            if (state instanceof QuantityType<?> qtState) {
+                if (qtState.getUnit().equals(targetUnit)) {
+                    return qtState.toBigDecimal();
+                }
+                UnitConverter stateConverter = getConverter(qtState.getUnit(), targetUnit);
+                if (stateConverter != null) {
+                    Number value = stateConverter.convert(qtState.toBigDecimal());
+                    return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+                }
+                logger.warn(
+                        "Unit of state {} at time {} retrieved from persistence not compatible with item unit {} for item {}",
+                        state, historicItem.getTimestamp(), targetUnit, historicItem.getName());
+            } else {
+                logger.warn("Item {} is QuantityType but state {} at time {} retrieved from persistence has no unit",
+                        historicItem.getName(), state, historicItem.getTimestamp());
+            }
+            return null;
+        }
+        DecimalType value = state instanceof DecimalType decimalState ? decimalState : state.as(DecimalType.class);
+        return value != null ? value.toBigDecimal() : null;
+    }
+
+    private @Nullable UnitConverter getConverter(Unit<?> stateUnit, Unit<?> targetUnit) {
+        if (!stateUnit.equals(sourceUnit)) {
+            sourceUnit = stateUnit;
+            try {
+                converter = stateUnit.getConverterToAny(targetUnit);
+            } catch (UnconvertibleException | IncommensurableException e) {
+                converter = null;
+            }
+        }
+        return converter;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    @Nullable
+    BigDecimal getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return the number of numeric values
+     */
+    int count() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the sum of the numeric values
+     */
+    BigDecimal sum() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            BigDecimal value = values[i];
+            if (value != null) {
+                sum = sum.add(value);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @param mean the value to calculate the deviations from
+     * @return the average of the squared deviations of the numeric values from <code>mean</code>, or
+     *         <code>null</code> if there are no numeric values
+     */
+    @Nullable
+    BigDecimal variance(BigDecimal mean) {
+        int count = 0;
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            BigDecimal value = values[i];
+            if (value != null) {
+                count++;
+                sum = sum.add(value.subtract(mean, MathContext.DECIMAL64).pow(2, MathContext.DECIMAL64));
+            }
+        }
+        return count > 0 ? sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL64) : null;
+    }
+
+    /**
+     * @return the median of the numeric values, or <code>null</code> if there are no numeric values
+     */
+    @Nullable
+    BigDecimal median() {
+        List<BigDecimal> numericValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BigDecimal value = values[i];
+            if (value != null) {
+                numericValues.add(value);
+            }
+        }
+        return Statistics.median(numericValues);
+    }
+
+    /**
+     * Calculates the Riemann sum of the values in value-milliseconds.
+     *
+     * @param begin the begin of the range in epoch milliseconds, used for the first value of a right approximation
+     * @param type the approximation type, LEFT if <code>null</code>
+     * @return the Riemann sum
+     */
+    BigDecimal riemannSum(long begin, @Nullable RiemannType type) {
+        RiemannType riemannType = type == null ? RiemannType.LEFT : type;
+
+        BigDecimal sum = BigDecimal.ZERO;
+        int prev = -1;
+        BigDecimal prevValue = null;
+        long prevDuration = 0;
+
+        boolean midpointStartBucket = true; // The start and end buckets for the midpoint calculation should be
+                                            // considered for the full length, this flag is used to find the start
+                                            // bucket
+        int first = 0;
+        if (riemannType == RiemannType.MIDPOINT && size > 0) {
+            prev = 0;
+            prevValue = values[0];
+            first = 1;
+        }
+
+        for (int next = first; next < size; next++) {
+            BigDecimal previous = prev >= 0 ? values[prev] : null;
+            BigDecimal current = values[next];
+            BigDecimal value = BigDecimal.ZERO;
+            long weight = 0;
+            switch (riemannType) {
+                case LEFT:
+                    if (previous != null) {
+                        value = previous;
+                        weight = timestamps[next] - timestamps[prev];
+                    }
+                    break;
+                case RIGHT:
+                    if (current != null) {
+                        value = current;
+                        weight = timestamps[next] - (prev < 0 ? begin : timestamps[prev]);
+                    }
+                    break;
+                case TRAPEZOIDAL:
+                    if (previous != null && current != null) {
+                        value = previous.add(current).divide(TWO);
+                        weight = timestamps[next] - timestamps[prev];
+                    }
+                    break;
+                case MIDPOINT:
+                    if (previous != null) {
+                        value = previous;
+                        if (midpointStartBucket && prevDuration != 0 && prevValue != null) {
+                            // Add half of the start bucket with the start value (left approximation)
+                            sum = sum.add(prevValue.multiply(BigDecimal.valueOf(prevDuration / 2)));
+                            midpointStartBucket = false;
+                        }
+                        long nextDuration = timestamps[next] - timestamps[prev];
+                        weight = prevDuration == 0 || nextDuration == 0 ? 0 : (prevDuration + nextDuration) / 2;
+                        if (nextDuration != 0) {
+                            prevDuration = nextDuration;
+                        }
+                        prevValue = previous;
+                    }
+                    break;
+            }
+            prev = next;
+            sum = sum.add(value.multiply(BigDecimal.valueOf(weight)));
+        }
+
+        BigDecimal last = prev >= 0 ? values[prev] : null;
+        if (riemannType == RiemannType.MIDPOINT && last != null) {
+            // Add half of the end bucket with the end value (right approximation)
+            sum = sum.add(last.multiply(BigDecimal.valueOf(prevDuration / 2)));
+        }
+
+        return sum;
+    }
+}
@@ -20,8 +20,11 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.StreamSupport;
 
@@ -36,6 +39,8 @@ import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.persistence.AggregatingPersistenceService;
+import org.openhab.core.persistence.AggregatingPersistenceService.Aggregation;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
@@ -49,7 +54,6 @@ import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegi
 import org.openhab.core.types.State;
 import org.openhab.core.types.TimeSeries;
 import org.openhab.core.types.TypeParser;
-import org.openhab.core.util.Statistics;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -345,6 +349,13 @@ public class PersistenceExtensions {
         }
         PersistenceService service = getService(effectiveServiceId);
         if (service instanceof QueryablePersistenceService qService) {
+            PersistenceManager persistenceManager = manager;
+            HistoricItem cachedItem = persistenceManager != null
+                    ? persistenceManager.getCachedState(effectiveServiceId, item, timestamp)
+                    : null;
+            if (cachedItem != null) {
+                return cachedItem;
+            }
             FilterCriteria filter = new FilterCriteria();
             filter.setEndDate(timestamp);
             String alias = getAlias(item, effectiveServiceId);
@@ -1017,7 +1028,11 @@ public class PersistenceExtensions {
         if (effectiveServiceId == null) {
             return null;
         }
-        Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+        Iterable<HistoricItem> result = getAggregateWithBoundaries(item, begin, end, effectiveServiceId,
+                Aggregation.MAXIMUM);
+        if (result == null) {
+            result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+        }
         if (result == null) {
             return null;
         }
@@ -1145,7 +1160,11 @@ public class PersistenceExtensions {
         if (effectiveServiceId == null) {
             return null;
         }
-        Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+        Iterable<HistoricItem> result = getAggregateWithBoundaries(item, begin, end, effectiveServiceId,
+                Aggregation.MINIMUM);
+        if (result == null) {
+            result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+        }
         if (result == null) {
             return null;
         }
@@ -1436,36 +1455,20 @@ public class PersistenceExtensions {
         if (result == null) {
             return null;
         }
-        Iterator<HistoricItem> it = result.iterator();
-        // Remove initial part of history that does not have any values persisted
-        if (beginTime.isBefore(now)) {
-            if (it.hasNext()) {
-                beginTime = it.next().getTimestamp();
-            }
-            it = result.iterator();
-        }
         Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
         Unit<?> unit = (baseItem instanceof NumberItem numberItem) ? numberItem.getUnit() : null;
 
-        BigDecimal average = average(beginTime, endTime, it, unit, type);
-        if (average != null) {
-            int count = 0;
-            BigDecimal sum = BigDecimal.ZERO;
-
-            it = result.iterator();
-            while (it.hasNext()) {
-                HistoricItem historicItem = it.next();
-                DecimalType value = getPersistedValue(historicItem, unit);
-                if (value != null) {
-                    count++;
-                    sum = sum.add(value.toBigDecimal().subtract(average, MathContext.DECIMAL64).pow(2,
-                            MathContext.DECIMAL64));
-                }
-            }
+        NumericHistory history = NumericHistory.of(result, unit);
+        // Remove initial part of history that does not have any values persisted
+        if (beginTime.isBefore(now) && history.size() > 0) {
+            beginTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(history.getTimestamp(0)), beginTime.getZone());
+        }
 
+        BigDecimal average = average(beginTime, endTime, history, type);
+        if (average != null) {
+            BigDecimal variance = history.variance(average);
             // avoid division by zero
-            if (count > 0) {
-                BigDecimal variance = sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL64);
+            if (variance != null) {
                 if (unit != null) {
                     return new QuantityType<>(variance, unit.multiply(unit));
                 }
@@ -2011,23 +2014,32 @@ public class PersistenceExtensions {
             return historicItem != null ? historicItem.getState() : null;
         }
 
-        Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
-        if (result == null) {
-            return null;
-        }
-        Iterator<HistoricItem> it = result.iterator();
-        // Remove initial part of history that does not have any values persisted
-        if (beginTime.isBefore(now)) {
-            if (it.hasNext()) {
-                beginTime = it.next().getTimestamp();
-            }
-            it = result.iterator();
-        }
-
         Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
         Unit<?> unit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
 
-        BigDecimal average = average(beginTime, endTime, it, unit, type);
+        BigDecimal average;
+        HistoricItem aggregate = internalAggregateRiemannSum(item, begin, endTime, type, effectiveServiceId);
+        DecimalType aggregateSum = aggregate != null ? aggregate.getState().as(DecimalType.class) : null;
+        if (aggregate != null && aggregateSum != null) {
+            BigDecimal totalDuration = BigDecimal
+                    .valueOf(Duration.between(aggregate.getTimestamp(), endTime).toMillis());
+            if (totalDuration.signum() == 0) {
+                return null;
+            }
+            average = aggregateSum.toBigDecimal().scaleByPowerOfTen(3).divide(totalDuration, MathContext.DECIMAL64);
+        } else {
+            Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+            if (result == null) {
+                return null;
+            }
+            NumericHistory history = NumericHistory.of(result, unit);
+            // Remove initial part of history that does not have any values persisted
+            if (beginTime.isBefore(now) && history.size() > 0) {
+                beginTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(history.getTimestamp(0)),
+                        beginTime.getZone());
+            }
+            average = average(beginTime, endTime, history, type);
+        }
         if (average == null) {
             return null;
         }
@@ -2037,9 +2049,9 @@ public class PersistenceExtensions {
         return new DecimalType(average);
     }
 
-    private static @Nullable BigDecimal average(ZonedDateTime begin, ZonedDateTime end, Iterator<HistoricItem> it,
-            @Nullable Unit<?> unit, @Nullable RiemannType type) {
-        BigDecimal sum = riemannSum(begin.toInstant(), end.toInstant(), it, unit, type);
+    private static @Nullable BigDecimal average(ZonedDateTime begin, ZonedDateTime end, NumericHistory history,
+            @Nullable RiemannType type) {
+        BigDecimal sum = history.riemannSum(begin.toInstant().toEpochMilli(), type);
         BigDecimal totalDuration = BigDecimal.valueOf(Duration.between(begin, end).toMillis());
         if (totalDuration.signum() == 0) {
             return null;
@@ -2352,132 +2364,31 @@ public class PersistenceExtensions {
         ZonedDateTime beginTime = Objects.requireNonNullElse(begin, now);
         ZonedDateTime endTime = Objects.requireNonNullElse(end, now);
 
-        Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
-        if (result == null) {
-            return null;
-        }
-        Iterator<HistoricItem> it = result.iterator();
-        // Remove initial part of history that does not have any values persisted
-        if (beginTime.isBefore(now)) {
-            if (it.hasNext()) {
-                beginTime = it.next().getTimestamp();
-            }
-            it = result.iterator();
-        }
-
         Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
         Unit<?> unit = (baseItem instanceof NumberItem numberItem) ? numberItem.getUnit() : null;
-        BigDecimal sum = riemannSum(beginTime.toInstant(), endTime.toInstant(), it, unit, type).scaleByPowerOfTen(-3);
-        if (unit != null) {
-            return new QuantityType<>(sum, unit.multiply(Units.SECOND));
-        }
-        return new DecimalType(sum);
-    }
-
-    private static BigDecimal riemannSum(Instant begin, Instant end, Iterator<HistoricItem> it, @Nullable Unit<?> unit,
-            @Nullable RiemannType type) {
-        RiemannType riemannType = type == null ? RiemannType.LEFT : type;
-
-        BigDecimal sum = BigDecimal.ZERO;
-        HistoricItem prevItem = null;
-        HistoricItem nextItem;
-        DecimalType prevState = null;
-        DecimalType nextState;
-        Instant prevInstant = null;
-        Instant nextInstant;
-        Duration prevDuration = Duration.ZERO;
-        Duration nextDuration;
-
-        boolean midpointStartBucket = true; // The start and end buckets for the midpoint calculation should be
-                                            // considered for the full length, this flag is used to find the start
-                                            // bucket
-        if ((riemannType == RiemannType.MIDPOINT) && it.hasNext()) {
-            prevItem = it.next();
-            prevInstant = prevItem.getInstant();
-            prevState = getPersistedValue(prevItem, unit);
-        }
 
-        while (it.hasNext()) {
-            nextItem = it.next();
-            nextInstant = nextItem.getInstant();
-            BigDecimal weight = BigDecimal.ZERO;
-            BigDecimal value = BigDecimal.ZERO;
-            switch (riemannType) {
-                case LEFT:
-                    if (prevItem != null) {
-                        prevState = getPersistedValue(prevItem, unit);
-                        if (prevState != null) {
-                            value = prevState.toBigDecimal();
-                            weight = BigDecimal.valueOf(Duration.between(prevInstant, nextInstant).toMillis());
-                        }
-                    }
-                    prevItem = nextItem;
-                    prevInstant = nextInstant;
-                    break;
-                case RIGHT:
-                    nextState = getPersistedValue(nextItem, unit);
-                    if (nextState != null) {
-                        value = nextState.toBigDecimal();
-                        if (prevItem == null) {
-                            weight = BigDecimal.valueOf(Duration.between(begin, nextInstant).toMillis());
-                        } else {
-                            weight = BigDecimal.valueOf(Duration.between(prevInstant, nextInstant).toMillis());
-                        }
-                    }
-                    prevItem = nextItem;
-                    prevInstant = nextInstant;
-                    break;
-                case TRAPEZOIDAL:
-                    if (prevItem != null) {
-                        prevState = getPersistedValue(prevItem, unit);
-                        nextState = getPersistedValue(nextItem, unit);
-                        if (prevState != null && nextState != null) {
-                            value = prevState.toBigDecimal().add(nextState.toBigDecimal())
-                                    .divide(BigDecimal.valueOf(2));
-                            weight = BigDecimal.valueOf(Duration.between(prevInstant, nextInstant).toMillis());
-                        }
-                    }
-                    prevItem = nextItem;
-                    prevInstant = nextInstant;
-                    break;
-                case MIDPOINT:
-                    if (prevItem != null) {
-                        DecimalType currentState = getPersistedValue(prevItem, unit);
-                        if (currentState != null) {
-                            value = currentState.toBigDecimal();
-                            if (midpointStartBucket && !prevDuration.isZero() && prevState != null) {
-                                // Add half of the start bucket with the start value (left approximation)
-                                sum = sum.add(prevState.toBigDecimal()
-                                        .multiply(BigDecimal.valueOf(prevDuration.toMillis() / 2)));
-                                midpointStartBucket = false;
-                            }
-                            nextDuration = Duration.between(prevInstant, nextInstant);
-                            weight = prevDuration.isZero() || nextDuration.isZero() ? BigDecimal.ZERO
-                                    : BigDecimal.valueOf(prevDuration.plus(nextDuration).toMillis() / 2);
-                            if (!nextDuration.isZero()) {
-                                prevDuration = nextDuration;
-                            }
-                            prevState = currentState;
-                        }
-                    }
-                    prevItem = nextItem;
-                    prevInstant = nextInstant;
-                    break;
+        BigDecimal sum;
+        HistoricItem aggregate = internalAggregateRiemannSum(item, begin, endTime, type, effectiveServiceId);
+        DecimalType aggregateSum = aggregate != null ? aggregate.getState().as(DecimalType.class) : null;
+        if (aggregateSum != null) {
+            sum = aggregateSum.toBigDecimal();
+        } else {
+            Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+            if (result == null) {
+                return null;
             }
-            sum = sum.add(value.multiply(weight));
-        }
-
-        if ((riemannType == RiemannType.MIDPOINT) && (prevItem != null)) {
-            // Add half of the end bucket with the end value (right approximation)
-            DecimalType dtState = getPersistedValue(prevItem, unit);
-            if (dtState != null) {
-                BigDecimal value = dtState.toBigDecimal();
-                BigDecimal weight = BigDecimal.valueOf(prevDuration.toMillis() / 2);
-                sum = sum.add(value.multiply(weight));
+            NumericHistory history = NumericHistory.of(result, unit);
+            // Remove initial part of history that does not have any values persisted
+            long beginMillis = beginTime.toInstant().toEpochMilli();
+            if (beginTime.isBefore(now) && history.size() > 0) {
+                beginMillis = history.getTimestamp(0);
             }
+            sum = history.riemannSum(beginMillis, type).scaleByPowerOfTen(-3);
         }
-
-        return sum;
+        if (unit != null) {
+            return new QuantityType<>(sum, unit.multiply(Units.SECOND));
+        }
+        return new DecimalType(sum);
     }
 
     /**
@@ -2595,15 +2506,7 @@ public class PersistenceExtensions {
         Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
         Unit<?> unit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
 
-        List<BigDecimal> resultList = new ArrayList<>();
-        result.forEach(hi -> {
-            DecimalType dtState = getPersistedValue(hi, unit);
-            if (dtState != null) {
-                resultList.add(dtState.toBigDecimal());
-            }
-        });
-
-        BigDecimal median = Statistics.median(resultList);
+        BigDecimal median = NumericHistory.of(result, unit).median();
         if (median != null) {
             if (unit != null) {
                 return new QuantityType<>(median, unit);
@@ -2745,24 +2648,166 @@ public class PersistenceExtensions {
         }
         Iterable<HistoricItem> result = internalGetAllStatesBetween(item, begin, end, effectiveServiceId);
         if (result != null) {
-            Iterator<HistoricItem> it = result.iterator();
+            return sum(item, result);
+        }
+        return null;
+    }
 
-            Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
-            Unit<?> unit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
-            BigDecimal sum = BigDecimal.ZERO;
-            while (it.hasNext()) {
-                HistoricItem historicItem = it.next();
-                DecimalType value = getPersistedValue(historicItem, unit);
-                if (value != null) {
-                    sum = sum.add(value.toBigDecimal());
-                }
-            }
-            if (unit != null) {
-                return new QuantityType<>(sum, unit);
+    /**
+     * Gets the sum of the states of several <code>items</code> since a certain point in time.
+     * This method does not calculate a Riemann sum and therefore cannot be used as an approximation for the integral
+     * value.
+     * The default persistence service is used. If the service supports it, all items are retrieved with a single query,
+     * otherwise the items are queried in parallel.
+     *
+     * <b>Note:</b> If an {@link Item} has a dimension, the calculation will be done using the {@link Item}'s
+     * configured unit.
+     *
+     * @param items the items for which we will sum their persisted state values since <code>timestamp</code>
+     * @param timestamp the point in time from which to start the summation
+     * @return the sums of the state values since <code>timestamp</code> by item name, or null if
+     *         <code>timestamp</code> is in the future or the default persistence service does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, State> sumSince(Collection<? extends Item> items, ZonedDateTime timestamp) {
+        return internalSumBetween(items, timestamp, null, null);
+    }
+
+    /**
+     * Gets the sum of the states of several <code>items</code> until a certain point in time.
+     * This method does not calculate a Riemann sum and therefore cannot be used as an approximation for the integral
+     * value.
+     * The default persistence service is used. If the service supports it, all items are retrieved with a single query,
+     * otherwise the items are queried in parallel.
+     *
+     * <b>Note:</b> If an {@link Item} has a dimension, the calculation will be done using the {@link Item}'s
+     * configured unit.
+     *
+     * @param items the items for which we will sum their persisted state values to <code>timestamp</code>
+     * @param timestamp the point in time to which to start the summation
+     * @return the sums of the state values until <code>timestamp</code> by item name, or null if
+     *         <code>timestamp</code> is in the past or the default persistence service does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, State> sumUntil(Collection<? extends Item> items, ZonedDateTime timestamp) {
+        return internalSumBetween(items, null, timestamp, null);
+    }
+
+    /**
+     * Gets the sum of the states of several <code>items</code> between two certain points in time.
+     * This method does not calculate a Riemann sum and therefore cannot be used as an approximation for the integral
+     * value.
+     * The default persistence service is used. If the service supports it, all items are retrieved with a single query,
+     * otherwise the items are queried in parallel.
+     *
+     * <b>Note:</b> If an {@link Item} has a dimension, the calculation will be done using the {@link Item}'s
+     * configured unit.
+     *
+     * @param items the items for which we will sum their persisted state values between <code>begin</code> and
+     *            <code>end</code>
+     * @param begin the point in time from which to start the summation
+     * @param end the point in time to which to start the summation
+     * @return the sums of the state values between the given points in time by item name, or null if
+     *         <code>begin</code> is after <code>end</code> or if the default persistence service does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, State> sumBetween(Collection<? extends Item> items, ZonedDateTime begin,
+            ZonedDateTime end) {
+        return internalSumBetween(items, begin, end, null);
+    }
+
+    /**
+     * Gets the sum of the states of several <code>items</code> since a certain point in time.
+     * This method does not calculate a Riemann sum and therefore cannot be used as an approximation for the integral
+     * value.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used. If the service supports it, all
+     * items are retrieved with a single query, otherwise the items are queried in parallel.
+     *
+     * <b>Note:</b> If an {@link Item} has a dimension, the calculation will be done using the {@link Item}'s
+     * configured unit.
+     *
+     * @param items the items for which we will sum their persisted state values since <code>timestamp</code>
+     * @param timestamp the point in time from which to start the summation
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the sums of the state values since <code>timestamp</code> by item name, or null if
+     *         <code>timestamp</code> is in the future or <code>serviceId</code> does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, State> sumSince(Collection<? extends Item> items, ZonedDateTime timestamp,
+            @Nullable String serviceId) {
+        return internalSumBetween(items, timestamp, null, serviceId);
+    }
+
+    /**
+     * Gets the sum of the states of several <code>items</code> until a certain point in time.
+     * This method does not calculate a Riemann sum and therefore cannot be used as an approximation for the integral
+     * value.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used. If the service supports it, all
+     * items are retrieved with a single query, otherwise the items are queried in parallel.
+     *
+     * <b>Note:</b> If an {@link Item} has a dimension, the calculation will be done using the {@link Item}'s
+     * configured unit.
+     *
+     * @param items the items for which we will sum their persisted state values to <code>timestamp</code>
+     * @param timestamp the point in time to which to start the summation
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the sums of the state values until <code>timestamp</code> by item name, or null if
+     *         <code>timestamp</code> is in the past or <code>serviceId</code> does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, State> sumUntil(Collection<? extends Item> items, ZonedDateTime timestamp,
+            @Nullable String serviceId) {
+        return internalSumBetween(items, null, timestamp, serviceId);
+    }
+
+    /**
+     * Gets the sum of the states of several <code>items</code> between two certain points in time.
+     * This method does not calculate a Riemann sum and therefore cannot be used as an approximation for the integral
+     * value.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used. If the service supports it, all
+     * items are retrieved with a single query, otherwise the items are queried in parallel.
+     *
+     * <b>Note:</b> If an {@link Item} has a dimension, the calculation will be done using the {@link Item}'s
+     * configured unit.
+     *
+     * @param items the items for which we will sum their persisted state values between <code>begin</code> and
+     *            <code>end</code>
+     * @param begin the point in time from which to start the summation
+     * @param end the point in time to which to start the summation
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the sums of the state values between the given points in time by item name, or null if
+     *         <code>begin</code> is after <code>end</code> or <code>serviceId</code> does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, State> sumBetween(Collection<? extends Item> items, ZonedDateTime begin,
+            ZonedDateTime end, @Nullable String serviceId) {
+        return internalSumBetween(items, begin, end, serviceId);
+    }
+
+    private static @Nullable Map<String, State> internalSumBetween(Collection<? extends Item> items,
+            @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, @Nullable String serviceId) {
+        Map<String, Iterable<HistoricItem>> results = internalGetAllStatesBetween(items, begin, end, serviceId);
+        if (results == null) {
+            return null;
+        }
+        Map<String, State> sums = new LinkedHashMap<>();
+        for (Item item : items) {
+            Iterable<HistoricItem> result = results.get(item.getName());
+            if (result != null) {
+                sums.put(item.getName(), sum(item, result));
             }
-            return new DecimalType(sum);
         }
-        return null;
+        return sums;
+    }
+
+    private static State sum(Item item, Iterable<HistoricItem> result) {
+        Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
+        Unit<?> unit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        BigDecimal sum = NumericHistory.of(result, unit).sum();
+        if (unit != null) {
+            return new QuantityType<>(sum, unit);
+        }
+        return new DecimalType(sum);
     }
 
     /**
@@ -3267,6 +3312,11 @@ public class PersistenceExtensions {
         if (effectiveServiceId == null) {
             return null;
         }
+        HistoricItem aggregate = internalAggregate(item, begin, end, effectiveServiceId, Aggregation.COUNT);
+        DecimalType count = aggregate != null ? aggregate.getState().as(DecimalType.class) : null;
+        if (count != null) {
+            return count.longValue();
+        }
         Iterable<HistoricItem> result = internalGetAllStatesBetween(item, begin, end, effectiveServiceId);
         if (result != null) {
             if (result instanceof Collection<?> collection) {
@@ -3493,6 +3543,173 @@ public class PersistenceExtensions {
         return internalGetAllStatesBetween(item, begin, end, serviceId);
     }
 
+    /**
+     * Retrieves the historic items for several <code>items</code> since a certain point in time.
+     * The default persistence service is used. If the service supports it, all items are retrieved with a single query,
+     * otherwise the items are queried in parallel.
+     *
+     * @param items the items for which to retrieve the historic items
+     * @param timestamp the point in time from which to retrieve the states
+     * @return the historic items since the given point in time by item name, or <code>null</code>
+     *         if the default persistence service is not available or does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, Iterable<HistoricItem>> getAllStatesSince(Collection<? extends Item> items,
+            ZonedDateTime timestamp) {
+        return internalGetAllStatesBetween(items, timestamp, null, null);
+    }
+
+    /**
+     * Retrieves the future items for several <code>items</code> until a certain point in time.
+     * The default persistence service is used. If the service supports it, all items are retrieved with a single query,
+     * otherwise the items are queried in parallel.
+     *
+     * @param items the items for which to retrieve the future items
+     * @param timestamp the point in time to which to retrieve the states
+     * @return the future items to the given point in time by item name, or <code>null</code>
+     *         if the default persistence service is not available or does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, Iterable<HistoricItem>> getAllStatesUntil(Collection<? extends Item> items,
+            ZonedDateTime timestamp) {
+        return internalGetAllStatesBetween(items, null, timestamp, null);
+    }
+
+    /**
+     * Retrieves the historic items for several <code>items</code> between two points in time.
+     * The default persistence service is used. If the service supports it, all items are retrieved with a single query,
+     * otherwise the items are queried in parallel.
+     *
+     * @param items the items for which to retrieve the historic items
+     * @param begin the point in time from which to retrieve the states
+     * @param end the point in time to which to retrieve the states
+     * @return the historic items between the given points in time by item name, or <code>null</code>
+     *         if the default persistence service is not available or does not refer to a
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, Iterable<HistoricItem>> getAllStatesBetween(Collection<? extends Item> items,
+            ZonedDateTime begin, ZonedDateTime end) {
+        return internalGetAllStatesBetween(items, begin, end, null);
+    }
+
+    /**
+     * Retrieves the historic items for several <code>items</code> since a certain point in time
+     * through a {@link PersistenceService} identified by the <code>serviceId</code>. If the service supports it, all
+     * items are retrieved with a single query, otherwise the items are queried in parallel.
+     *
+     * @param items the items for which to retrieve the historic items
+     * @param timestamp the point in time from which to retrieve the states
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the historic items since the given point in time by item name, or <code>null</code>
+     *         if the provided <code>serviceId</code> does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, Iterable<HistoricItem>> getAllStatesSince(Collection<? extends Item> items,
+            ZonedDateTime timestamp, @Nullable String serviceId) {
+        return internalGetAllStatesBetween(items, timestamp, null, serviceId);
+    }
+
+    /**
+     * Retrieves the future items for several <code>items</code> until a certain point in time
+     * through a {@link PersistenceService} identified by the <code>serviceId</code>. If the service supports it, all
+     * items are retrieved with a single query, otherwise the items are queried in parallel.
+     *
+     * @param items the items for which to retrieve the future items
+     * @param timestamp the point in time to which to retrieve the states
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the future items to the given point in time by item name, or <code>null</code>
+     *         if the provided <code>serviceId</code> does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, Iterable<HistoricItem>> getAllStatesUntil(Collection<? extends Item> items,
+            ZonedDateTime timestamp, @Nullable String serviceId) {
+        return internalGetAllStatesBetween(items, null, timestamp, serviceId);
+    }
+
+    /**
+     * Retrieves the historic items for several <code>items</code> between two points in time
+     * through a {@link PersistenceService} identified by the <code>serviceId</code>. If the service supports it, all
+     * items are retrieved with a single query, otherwise the items are queried in parallel.
+     *
+     * @param items the items for which to retrieve the historic items
+     * @param begin the point in time from which to retrieve the states
+     * @param end the point in time to which to retrieve the states
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the historic items between the given points in time by item name, or <code>null</code>
+     *         if the provided <code>serviceId</code> does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable Map<String, Iterable<HistoricItem>> getAllStatesBetween(Collection<? extends Item> items,
+            ZonedDateTime begin, ZonedDateTime end, @Nullable String serviceId) {
+        return internalGetAllStatesBetween(items, begin, end, serviceId);
+    }
+
+    private static @Nullable Map<String, Iterable<HistoricItem>> internalGetAllStatesBetween(
+            Collection<? extends Item> items, @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end,
+            @Nullable String serviceId) {
+        String effectiveServiceId = serviceId == null ? getDefaultServiceId() : serviceId;
+        if (effectiveServiceId == null) {
+            return null;
+        }
+        PersistenceService service = getService(effectiveServiceId);
+        if (service instanceof QueryablePersistenceService qService) {
+            ZonedDateTime now = ZonedDateTime.now();
+            if (isOpenRange(begin, end, now)) {
+                LoggerFactory.getLogger(PersistenceExtensions.class).warn(
+                        "Querying persistence service with open begin and/or end not allowed: begin {}, end {}, now {}",
+                        begin, end, now);
+                return null;
+            }
+            PersistenceManager persistenceManager = manager;
+            Map<String, Iterable<HistoricItem>> result = new LinkedHashMap<>();
+            List<Item> queriedItems = new ArrayList<>();
+            Map<String, String> aliases = new HashMap<>();
+            for (Item item : items) {
+                List<HistoricItem> cachedItems = persistenceManager != null
+                        ? persistenceManager.getCachedStates(effectiveServiceId, item,
+                                Objects.requireNonNullElse(begin, now), Objects.requireNonNullElse(end, now))
+                        : null;
+                // keep the order of the items in the result
+                result.put(item.getName(), cachedItems != null ? cachedItems : List.of());
+                if (cachedItems == null) {
+                    queriedItems.add(item);
+                    String alias = getAlias(item, effectiveServiceId);
+                    if (alias != null) {
+                        aliases.put(item.getName(), alias);
+                    }
+                }
+            }
+            if (!queriedItems.isEmpty()) {
+                FilterCriteria filter = new FilterCriteria();
+                filter.setBeginDate(Objects.requireNonNullElse(begin, now));
+                filter.setEndDate(Objects.requireNonNullElse(end, now));
+                filter.setOrdering(Ordering.ASCENDING);
+                if (persistenceManager != null) {
+                    Map<String, List<HistoricItem>> queried = persistenceManager.query(qService, queriedItems, filter,
+                            aliases);
+                    for (Item item : queriedItems) {
+                        List<HistoricItem> historicItems = queried.get(item.getName());
+                        if (historicItems != null) {
+                            result.put(item.getName(), historicItems);
+                        } else {
+                            result.remove(item.getName());
+                        }
+                    }
+                } else {
+                    for (Item item : queriedItems) {
+                        result.put(item.getName(), qService.query(createFilter(item, begin, end, now),
+                                aliases.get(item.getName())));
+                    }
+                }
+            }
+            return result;
+        } else {
+            LoggerFactory.getLogger(PersistenceExtensions.class)
+                    .warn("There is no queryable persistence service registered with the id '{}'", effectiveServiceId);
+        }
+        return null;
+    }
+
     private static @Nullable Iterable<HistoricItem> internalGetAllStatesBetween(Item item,
             @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, @Nullable String serviceId) {
         String effectiveServiceId = serviceId == null ? getDefaultServiceId() : serviceId;
@@ -3501,28 +3718,23 @@ public class PersistenceExtensions {
         }
         PersistenceService service = getService(effectiveServiceId);
         if (service instanceof QueryablePersistenceService qService) {
-            FilterCriteria filter = new FilterCriteria();
             ZonedDateTime now = ZonedDateTime.now();
-            if ((begin == null && end == null) || (begin != null && end == null && begin.isAfter(now))
-                    || (begin == null && end != null && end.isBefore(now))) {
+            if (isOpenRange(begin, end, now)) {
                 LoggerFactory.getLogger(PersistenceExtensions.class).warn(
                         "Querying persistence service with open begin and/or end not allowed: begin {}, end {}, now {}",
                         begin, end, now);
                 return null;
             }
-            if (begin != null) {
-                filter.setBeginDate(begin);
-            } else {
-                filter.setBeginDate(now);
-            }
-            if (end != null) {
-                filter.setEndDate(end);
-            } else {
-                filter.setEndDate(now);
+            PersistenceManager persistenceManager = manager;
+            List<HistoricItem> cachedItems = persistenceManager != null
+                    ? persistenceManager.getCachedStates(effectiveServiceId, item,
+                            Objects.requireNonNullElse(begin, now), Objects.requireNonNullElse(end, now))
+                    : null;
+            if (cachedItems != null) {
+                return cachedItems;
             }
+            FilterCriteria filter = createFilter(item, begin, end, now);
             String alias = getAlias(item, effectiveServiceId);
-            filter.setItemName(item.getName());
-            filter.setOrdering(Ordering.ASCENDING);
 
             return qService.query(filter, alias);
         } else {
@@ -3656,10 +3868,73 @@ public class PersistenceExtensions {
         mService.remove(filter, alias);
     }
 
+    private static boolean isOpenRange(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end,
+            ZonedDateTime now) {
+        return (begin == null && end == null) || (begin != null && end == null && begin.isAfter(now))
+                || (begin == null && end != null && end.isBefore(now));
+    }
+
+    private static FilterCriteria createFilter(Item item, @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end,
+            ZonedDateTime now) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setBeginDate(Objects.requireNonNullElse(begin, now));
+        filter.setEndDate(Objects.requireNonNullElse(end, now));
+        filter.setItemName(item.getName());
+        filter.setOrdering(Ordering.ASCENDING);
+        return filter;
+    }
+
+    /**
+     * Lets the persistence service aggregate the stored values between two points in time if it supports the
+     * aggregation natively.
+     *
+     * @return the aggregated value, or <code>null</code> if the service cannot aggregate the values, in which case the
+     *         caller should fall back to querying all values
+     */
+    private static @Nullable HistoricItem internalAggregate(Item item, @Nullable ZonedDateTime begin,
+            @Nullable ZonedDateTime end, String serviceId, Aggregation aggregation) {
+        if (getService(serviceId) instanceof AggregatingPersistenceService aService
+                && aService.getSupportedAggregations().contains(aggregation)) {
+            ZonedDateTime now = ZonedDateTime.now();
+            if (isOpenRange(begin, end, now) || (begin != null && end != null && end.isBefore(begin))) {
+                return null;
+            }
+            return aService.aggregate(createFilter(item, begin, end, now), aggregation, getAlias(item, serviceId));
+        }
+        return null;
+    }
+
+    /**
+     * Lets the persistence service calculate a left Riemann sum natively. This is only done when the result does not
+     * depend on the current state of the item, i.e. when the range starts in the past.
+     */
+    private static @Nullable HistoricItem internalAggregateRiemannSum(Item item, @Nullable ZonedDateTime begin,
+            ZonedDateTime end, @Nullable RiemannType type, String serviceId) {
+        if ((type != null && type != RiemannType.LEFT) || begin == null || !begin.isBefore(ZonedDateTime.now())
+                || !end.isAfter(begin)) {
+            return null;
+        }
+        return internalAggregate(item, begin, end, serviceId, Aggregation.RIEMANN_SUM);
+    }
+
+    /**
+     * Lets the persistence service aggregate the stored values between two points in time and adds the states at
+     * <code>begin</code> and <code>end</code>, as {@link #getAllStatesBetweenWithBoundaries} does for all values.
+     * This is used for aggregations that select a single stored value, like the minimum or maximum.
+     */
+    private static @Nullable Iterable<HistoricItem> getAggregateWithBoundaries(Item item,
+            @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, String serviceId, Aggregation aggregation) {
+        HistoricItem aggregate = internalAggregate(item, begin, end, serviceId, aggregation);
+        return aggregate != null ? addBoundaries(item, begin, end, serviceId, List.of(aggregate)) : null;
+    }
+
     private static @Nullable Iterable<HistoricItem> getAllStatesBetweenWithBoundaries(Item item,
             @Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, @Nullable String serviceId) {
-        Iterable<HistoricItem> betweenItems = internalGetAllStatesBetween(item, begin, end, serviceId);
+        return addBoundaries(item, begin, end, serviceId, internalGetAllStatesBetween(item, begin, end, serviceId));
+    }
 
+    private static @Nullable Iterable<HistoricItem> addBoundaries(Item item, @Nullable ZonedDateTime begin,
+            @Nullable ZonedDateTime end, @Nullable String serviceId, @Nullable Iterable<HistoricItem> betweenItems) {
         ZonedDateTime now = ZonedDateTime.now();
         if ((begin == null && end == null) || (begin != null && end == null && begin.isAfter(now))
                 || (begin == null && end != null && end.isBefore(now))
@@ -15,29 +15,40 @@ package org.openhab.core.persistence.internal;
 import static org.openhab.core.persistence.FilterCriteria.Ordering.ASCENDING;
 import static org.openhab.core.persistence.strategy.PersistenceStrategy.Globals.*;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.SafeCaller;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -46,13 +57,18 @@ import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.ItemRegistryChangeListener;
 import org.openhab.core.items.StateChangeListener;
 import org.openhab.core.items.TimeSeriesListener;
+import org.openhab.core.persistence.BatchingPersistenceService;
+import org.openhab.core.persistence.BatchingPersistenceService.Entry;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
+import org.openhab.core.persistence.MultiItemQueryablePersistenceService;
 import org.openhab.core.persistence.PersistedItem;
+import org.openhab.core.persistence.PersistenceCacheListener;
 import org.openhab.core.persistence.PersistenceItemConfiguration;
 import org.openhab.core.persistence.PersistenceManager;
 import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceWriteListener;
 import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.config.PersistenceAllConfig;
 import org.openhab.core.persistence.config.PersistenceConfig;
@@ -79,6 +95,7 @@ import org.openhab.core.types.UnDefType;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -96,15 +113,53 @@ import org.slf4j.LoggerFactory;
  * @author Mark Herwege - Make default strategy to be only a configuration suggestion
  * @author Mark Herwege - Fix and enhance handling of time series and external persistence updates
  */
-@Component(immediate = true, service = PersistenceManager.class)
+@Component(immediate = true, service = PersistenceManager.class,
+        configurationPid = PersistenceManagerImpl.CONFIGURATION_PID)
 @NonNullByDefault
 public class PersistenceManagerImpl implements ItemRegistryChangeListener, StateChangeListener, ReadyTracker,
         PersistenceServiceConfigurationRegistryChangeListener, TimeSeriesListener, PersistenceManager {
     private static final String PERSISTENCE_SOURCE = "org.openhab.core.persistence";
 
+    public static final String CONFIGURATION_PID = "org.openhab.persistence";
+
+    /**
+     * The maximum number of entries written at once to a {@link BatchingPersistenceService}.
+     */
+    public static final String CONFIG_BATCH_SIZE = "batchSize";
+
+    /**
+     * The maximum time in milliseconds an entry waits before it is written to a {@link BatchingPersistenceService}.
+     */
+    public static final String CONFIG_BATCH_WINDOW = "batchWindow";
+
+    /**
+     * The maximum number of entries waiting to be written to a {@link BatchingPersistenceService}.
+     */
+    public static final String CONFIG_BATCH_CAPACITY = "batchCapacity";
+
+    /**
+     * The number of recent states per item kept in memory for queries, configured per persistence service as a list
+     * of <code>serviceId=depth</code> entries. The cache is disabled for services that are not listed.
+     */
+    public static final String CONFIG_HISTORY_CACHE = "historyCache";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_BATCH_WINDOW = 1000;
+    private static final int DEFAULT_BATCH_CAPACITY = 10000;
+    private static final String THREAD_POOL_NAME = "persistence";
+    private static final String QUERY_THREAD_POOL_NAME = "persistenceQuery";
+    private static final int RESTORE_BATCH_SIZE = 500;
+    // the number of future states of an item loaded at once, a day of states with a resolution of 15 minutes
+    private static final int FORECAST_BATCH_SIZE = 96;
+    private static final Duration FORECAST_TICK = Duration.ofSeconds(1);
+    // four levels of 64 slots cover about half a year with a tick of a second
+    private static final int FORECAST_WHEEL_LEVELS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(PersistenceManagerImpl.class);
 
     private final ReadyMarker marker = new ReadyMarker("persistence", "restore");
+    // restores of the same item from several services must not interleave
+    private final Object restoreLock = new Object();
 
     // the scheduler used for timer events
     private final CronScheduler cronScheduler;
@@ -118,11 +173,21 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     private final Map<String, PersistenceServiceContainer> persistenceServiceContainers = new ConcurrentHashMap<>();
 
+    private final ScheduledExecutorService writeScheduler = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
+    private final ExecutorService queryExecutor = ThreadPoolManager.getPool(QUERY_THREAD_POOL_NAME);
+    private final List<PersistenceWriteListener> writeListeners = new CopyOnWriteArrayList<>();
+    private final List<PersistenceCacheListener> cacheListeners = new CopyOnWriteArrayList<>();
+    private volatile PersistenceWriteQueue.Settings writeQueueSettings;
+    private volatile Map<String, Integer> historyCacheDepths;
+
     @Activate
     public PersistenceManagerImpl(final @Reference CronScheduler cronScheduler, final @Reference Scheduler scheduler,
             final @Reference ItemRegistry itemRegistry, final @Reference SafeCaller safeCaller,
             final @Reference ReadyService readyService,
-            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
+            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry,
+            Map<String, Object> config) {
+        this.writeQueueSettings = getWriteQueueSettings(config);
+        this.historyCacheDepths = getHistoryCacheDepths(config);
         this.cronScheduler = cronScheduler;
         this.scheduler = scheduler;
         this.itemRegistry = itemRegistry;
@@ -135,6 +200,57 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 .withIdentifier(Integer.toString(StartLevelService.STARTLEVEL_MODEL)));
     }
 
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        PersistenceWriteQueue.Settings settings = getWriteQueueSettings(config);
+        writeQueueSettings = settings;
+        persistenceServiceContainers.values().forEach(container -> container.setWriteQueueSettings(settings));
+        historyCacheDepths = getHistoryCacheDepths(config);
+        persistenceServiceContainers.values().forEach(PersistenceServiceContainer::updateHistoryCache);
+    }
+
+    private PersistenceWriteQueue.Settings getWriteQueueSettings(Map<String, Object> config) {
+        int batchSize = getPositiveInt(config, CONFIG_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        int batchWindow = getPositiveInt(config, CONFIG_BATCH_WINDOW, DEFAULT_BATCH_WINDOW);
+        int batchCapacity = Math.max(batchSize, getPositiveInt(config, CONFIG_BATCH_CAPACITY, DEFAULT_BATCH_CAPACITY));
+        return new PersistenceWriteQueue.Settings(batchSize, Duration.ofMillis(batchWindow), batchCapacity);
+    }
+
+    private Map<String, Integer> getHistoryCacheDepths(Map<String, Object> config) {
+        Object value = config.get(CONFIG_HISTORY_CACHE);
+        List<String> entries = new ArrayList<>();
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(entry -> entries.add(entry.toString()));
+        } else if (value != null) {
+            entries.addAll(List.of(value.toString().split(",")));
+        }
+        Map<String, Integer> depths = new HashMap<>();
+        for (String entry : entries) {
+            String[] parts = entry.split("=", 2);
+            try {
+                int depth = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : -1;
+                if (depth >= 0 && !parts[0].isBlank()) {
+                    depths.put(parts[0].trim(), depth);
+                    continue;
+                }
+            } catch (NumberFormatException e) {
+                // logged below
+            }
+            logger.warn("Ignoring invalid configuration for '{}': '{}' - entries must be 'serviceId=depth'",
+                    CONFIG_HISTORY_CACHE, entry.trim());
+        }
+        return depths;
+    }
+
+    private int getPositiveInt(Map<String, Object> config, String key, int defaultValue) {
+        int value = ConfigParser.valueAsOrElse(config.get(key), Integer.class, defaultValue);
+        if (value <= 0) {
+            logger.warn("Ignoring invalid configuration for '{}': {} - value must be a positive integer", key, value);
+            return defaultValue;
+        }
+        return value;
+    }
+
     @Deactivate
     protected void deactivate() {
         itemRegistry.removeRegistryChangeListener(this);
@@ -143,6 +259,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
         persistenceServiceContainers.values().forEach(PersistenceServiceContainer::cancelPersistJobs);
         persistenceServiceContainers.values().forEach(PersistenceServiceContainer::cancelForecastJobs);
+        persistenceServiceContainers.values().forEach(PersistenceServiceContainer::flushWriteQueue);
 
         // remove item state change listeners
         itemRegistry.stream().filter(GenericItem.class::isInstance)
@@ -162,6 +279,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                                     // already present
             oldContainer.cancelPersistJobs();
             oldContainer.cancelForecastJobs();
+            oldContainer.flushWriteQueue();
         }
 
         if (started) {
@@ -174,9 +292,28 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         if (container != null) {
             container.cancelPersistJobs();
             container.cancelForecastJobs();
+            container.flushWriteQueue();
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addPersistenceWriteListener(PersistenceWriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    protected void removePersistenceWriteListener(PersistenceWriteListener listener) {
+        writeListeners.remove(listener);
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addPersistenceCacheListener(PersistenceCacheListener listener) {
+        cacheListeners.add(listener);
+    }
+
+    protected void removePersistenceCacheListener(PersistenceCacheListener listener) {
+        cacheListeners.remove(listener);
+    }
+
     /**
      * Calls all persistence services which use change or update policy for the given item
      *
@@ -191,12 +328,12 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
     }
 
     private void storeItem(PersistenceServiceContainer container, Item item, PersistenceStrategy changeStrategy) {
-        container.getMatchingConfigurations(changeStrategy).filter(itemConfig -> appliesToItem(itemConfig, item))
-                .filter(itemConfig -> itemConfig.filters().stream().allMatch(filter -> filter.apply(item)))
-                .forEach(itemConfig -> {
-                    itemConfig.filters().forEach(filter -> filter.persisted(item));
-                    container.getPersistenceService().store(item, container.getAlias(item));
-                });
+        for (PersistenceItemConfiguration itemConfig : container.getMatchingConfigurations(changeStrategy, item)) {
+            if (itemConfig.filters().stream().allMatch(filter -> filter.apply(item))) {
+                itemConfig.filters().forEach(filter -> filter.persisted(item));
+                container.store(item);
+            }
+        }
     }
 
     /**
@@ -220,22 +357,12 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                     return false;
                 }
             } else if (itemCfg instanceof PersistenceGroupConfig persistenceGroupConfig) {
-                try {
-                    Item gItem = itemRegistry.getItem(persistenceGroupConfig.getGroup());
-                    if (gItem instanceof GroupItem gItem2 && gItem2.getAllStateMembers().contains(item)) {
-                        applies = true;
-                    }
-                } catch (ItemNotFoundException e) {
-                    // do nothing
+                if (itemRegistry.getAllStateMembers(persistenceGroupConfig.getGroup()).contains(item)) {
+                    applies = true;
                 }
             } else if (itemCfg instanceof PersistenceGroupExcludeConfig persistenceGroupExcludeConfig) {
-                try {
-                    Item gItem = itemRegistry.getItem(persistenceGroupExcludeConfig.getGroup());
-                    if (gItem instanceof GroupItem gItem2 && gItem2.getAllStateMembers().contains(item)) {
-                        return false;
-                    }
-                } catch (ItemNotFoundException e) {
-                    // do nothing
+                if (itemRegistry.getAllStateMembers(persistenceGroupExcludeConfig.getGroup()).contains(item)) {
+                    return false;
                 }
             }
         }
@@ -322,7 +449,10 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
     }
 
     public void addItemToPersistenceServiceContainer(Item item) {
-        persistenceServiceContainers.values().forEach(container -> container.addItem(item));
+        persistenceServiceContainers.values().forEach(container -> {
+            container.invalidateRoutes(item);
+            container.addItem(item);
+        });
     }
 
     public void addItemToPersistenceListeners(Item item) {
@@ -334,7 +464,10 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     @Override
     public void removed(Item item) {
-        persistenceServiceContainers.values().forEach(container -> container.removeItem(item.getName()));
+        persistenceServiceContainers.values().forEach(container -> {
+            container.invalidateRoutes(item);
+            container.removeItem(item.getName());
+        });
         if (item instanceof GenericItem genericItem) {
             genericItem.removeStateChangeListener(this);
             genericItem.removeTimeSeriesListener(this);
@@ -366,11 +499,12 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         persistenceServiceContainers.values().stream()
                 .filter(psc -> psc.persistenceService instanceof ModifiablePersistenceService)
                 .forEach(container -> Stream
-                        .concat(container.getMatchingConfigurations(UPDATE),
-                                container.getMatchingConfigurations(FORECAST))
-                        .distinct().filter(itemConfig -> appliesToItem(itemConfig, item)).forEach(itemConfig -> {
+                        .concat(container.getMatchingConfigurations(UPDATE, item).stream(),
+                                container.getMatchingConfigurations(FORECAST, item).stream())
+                        .distinct().forEach(itemConfig -> {
                             ModifiablePersistenceService service = (ModifiablePersistenceService) container
                                     .getPersistenceService();
+                            container.invalidateHistory(item);
                             // remove old values if replace selected
                             if (timeSeries.getPolicy() == TimeSeries.Policy.REPLACE) {
                                 ZonedDateTime begin = timeSeries.getBegin().atZone(ZoneId.systemDefault());
@@ -378,25 +512,13 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                                 FilterCriteria removeFilter = new FilterCriteria().setItemName(item.getName())
                                         .setBeginDate(begin).setEndDate(end);
                                 service.remove(removeFilter, container.getAlias(item));
-                                ScheduledCompletableFuture<?> forecastJob = container.forecastJobs.get(item.getName());
-                                if (forecastJob != null && forecastJob.getScheduledTime().isAfter(begin)
-                                        && forecastJob.getScheduledTime().isBefore(end)) {
-                                    forecastJob.cancel(true);
-                                    container.forecastJobs.remove(item.getName());
-                                }
                             }
                             // store time series
                             timeSeries.getStates().forEach(e -> service.store(item,
                                     e.timestamp().atZone(ZoneId.systemDefault()), e.state(), container.getAlias(item)));
                             // update item states in the future
+                            container.addForecastStates(item, timeSeries);
                             Instant now = Instant.now();
-                            timeSeries.getStates().filter(s -> s.timestamp().isAfter(now)).findFirst().ifPresent(s -> {
-                                ScheduledCompletableFuture<?> forecastJob = container.forecastJobs.get(item.getName());
-                                if (forecastJob == null || forecastJob.getScheduledTime()
-                                        .isAfter(s.timestamp().atZone(ZoneId.systemDefault()))) {
-                                    container.scheduleNextForecastForItem(item, s.timestamp(), s.state());
-                                }
-                            });
                             // update current item state if last entry in the past in time series is after last update
                             // of item
                             timeSeries.getStates().filter(s -> s.timestamp().isBefore(now))
@@ -412,15 +534,33 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     @Override
     public void onReadyMarkerAdded(ReadyMarker readyMarker) {
-        ExecutorService scheduler = Executors.newSingleThreadExecutor(new NamedThreadFactory("persistenceManager"));
+        ExecutorService scheduler = Executors.newCachedThreadPool(new NamedThreadFactory("persistenceManager"));
         scheduler.submit(() -> {
-            allItemsChanged(Set.of());
-            persistenceServiceContainers.values().forEach(this::startEventHandling);
-            started = true;
-            readyService.markReady(marker);
-            itemRegistry.addRegistryChangeListener(this);
+            try {
+                long startTime = System.nanoTime();
+                // item states are restored in bulk by the containers below instead of one by one
+                addPersistenceListeners(Set.of());
+                // services are restored in parallel, so a slow service does not delay the others
+                CompletableFuture.allOf(persistenceServiceContainers.values().stream()
+                        .map(container -> CompletableFuture.runAsync(() -> startEventHandling(container), scheduler)
+                                .exceptionally(e -> {
+                                    logger.warn("Failed to restore item states from persistence service '{}': {}",
+                                            container.getPersistenceService().getId(), e.getMessage(), e);
+                                    return null;
+                                }))
+                        .toArray(CompletableFuture[]::new)).join();
+                started = true;
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                logger.info("Restored item states from {} persistence services in {}ms",
+                        persistenceServiceContainers.size(), duration);
+                readyService.markReady(marker);
+                itemRegistry.addRegistryChangeListener(this);
+                // items might have changed before the listener was registered
+                persistenceServiceContainers.values().forEach(PersistenceServiceContainer::invalidateRoutes);
+            } finally {
+                scheduler.shutdown();
+            }
         });
-        scheduler.shutdown();
     }
 
     @Override
@@ -462,17 +602,68 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
             return;
         }
         persistenceServiceContainers.values().stream()
-                .filter(container -> container.persistenceService.equals(persistenceService) && Stream
-                        .concat(container.getMatchingConfigurations(UPDATE),
-                                Stream.concat(container.getMatchingConfigurations(CHANGE),
-                                        container.getMatchingConfigurations(FORECAST)))
-                        .distinct().anyMatch(itemConf -> appliesToItem(itemConf, item)))
+                .filter(container -> container.persistenceService.equals(persistenceService))
+                .forEach(container -> container.invalidateHistory(item));
+        persistenceServiceContainers.values().stream()
+                .filter(container -> container.persistenceService.equals(persistenceService)
+                        && (!container.getMatchingConfigurations(UPDATE, item).isEmpty()
+                                || !container.getMatchingConfigurations(CHANGE, item).isEmpty()
+                                || !container.getMatchingConfigurations(FORECAST, item).isEmpty()))
                 .forEach(container -> {
                     container.restoreItemStateFromPersistenceUpdate(item);
-                    container.scheduleNextPersistedForecastForItem(item);
+                    container.loadForecasts(List.of(item));
                 });
     }
 
+    @Override
+    public @Nullable List<HistoricItem> getCachedStates(String serviceId, Item item, ZonedDateTime begin,
+            ZonedDateTime end) {
+        PersistenceServiceContainer container = persistenceServiceContainers.get(serviceId);
+        RecentHistoryCache historyCache = container != null ? container.historyCache : null;
+        return historyCache != null
+                ? historyCache.getStates(item.getName(), begin.toInstant(), end.toInstant())
+                : null;
+    }
+
+    @Override
+    public @Nullable HistoricItem getCachedState(String serviceId, Item item, ZonedDateTime timestamp) {
+        PersistenceServiceContainer container = persistenceServiceContainers.get(serviceId);
+        RecentHistoryCache historyCache = container != null ? container.historyCache : null;
+        return historyCache != null ? historyCache.getState(item.getName(), timestamp.toInstant()) : null;
+    }
+
+    @Override
+    public Map<String, List<HistoricItem>> query(QueryablePersistenceService service,
+            Collection<? extends Item> items, FilterCriteria filter, Map<String, String> aliases) {
+        if (service instanceof MultiItemQueryablePersistenceService || items.size() < 2) {
+            return PersistenceManager.super.query(service, items, filter, aliases);
+        }
+
+        // the service cannot query several items at once, so the items are queried in parallel
+        Map<String, CompletableFuture<List<HistoricItem>>> futures = new LinkedHashMap<>();
+        for (Item item : items) {
+            FilterCriteria itemFilter = new FilterCriteria(filter).setItemName(item.getName());
+            String alias = aliases.get(item.getName());
+            futures.put(item.getName(), CompletableFuture.supplyAsync(() -> {
+                List<HistoricItem> historicItems = new ArrayList<>();
+                // the result is copied, so a lazy result is read in the thread of the query as well
+                service.query(itemFilter, alias).forEach(historicItems::add);
+                return historicItems;
+            }, queryExecutor));
+        }
+        Map<String, List<HistoricItem>> result = new LinkedHashMap<>();
+        futures.forEach((itemName, future) -> {
+            try {
+                result.put(itemName, future.join());
+            } catch (CompletionException e) {
+                Throwable cause = Objects.requireNonNullElse(e.getCause(), e);
+                logger.warn("Querying persistence service '{}' for item '{}' failed: {}", service.getId(), itemName,
+                        cause.getMessage());
+            }
+        });
+        return result;
+    }
+
     private void storeInOtherServices(PersistenceService persistenceService, Item item, State oldState) {
         boolean changed = !item.getState().equals(oldState);
         persistenceServiceContainers.values().stream()
@@ -484,11 +675,38 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 });
     }
 
-    private class PersistenceServiceContainer {
+    /**
+     * The future states of an item loaded from a persistence service, which are applied at their points in time.
+     */
+    private static class ItemForecast {
+        private final Item item;
+        private final NavigableMap<Instant, State> states = new TreeMap<>();
+        // states after this point in time have not been loaded yet, null if all states have been loaded
+        private @Nullable Instant loadedUntil;
+        private @Nullable Instant scheduledTime;
+        private int generation;
+
+        private ItemForecast(Item item) {
+            this.item = item;
+        }
+    }
+
+    private record ScheduledForecast(ItemForecast forecast, int generation) {
+    }
+
+    private class PersistenceServiceContainer implements PersistenceWriteQueue.WriteCallback {
         private final PersistenceService persistenceService;
         private final Set<ScheduledCompletableFuture<?>> persistJobs = new HashSet<>();
-        private final Map<String, ScheduledCompletableFuture<?>> forecastJobs = new ConcurrentHashMap<>();
+        // future states of items, guarded by itself together with the timing wheel and the forecast job
+        private final Map<String, ItemForecast> forecasts = new HashMap<>();
+        private final TimingWheel<ScheduledForecast> forecastWheel = new TimingWheel<>(FORECAST_TICK,
+                FORECAST_WHEEL_LEVELS, Instant.now());
+        private @Nullable ScheduledCompletableFuture<?> forecastJob;
+        private @Nullable Instant forecastJobTime;
         private final Map<PersistenceStrategy, Collection<PersistenceItemConfiguration>> strategyCache = new ConcurrentHashMap<>();
+        private final Map<String, Map<PersistenceStrategy, List<PersistenceItemConfiguration>>> itemRoutes = new ConcurrentHashMap<>();
+        private final @Nullable PersistenceWriteQueue writeQueue;
+        private volatile @Nullable RecentHistoryCache historyCache;
 
         private PersistenceServiceConfiguration configuration;
 
@@ -496,12 +714,114 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 @Nullable PersistenceServiceConfiguration configuration) {
             this.persistenceService = persistenceService;
             this.configuration = Objects.requireNonNullElseGet(configuration, this::getEmptyConfig);
+            this.writeQueue = persistenceService instanceof BatchingPersistenceService batchingService
+                    ? new PersistenceWriteQueue(batchingService, writeScheduler, writeQueueSettings, writeListeners,
+                            this)
+                    : null;
+            updateHistoryCache();
         }
 
         public PersistenceService getPersistenceService() {
             return persistenceService;
         }
 
+        /**
+         * Store the current state of an item, either directly or through the write queue of a
+         * {@link BatchingPersistenceService}
+         *
+         * @param item the item to persist
+         */
+        public void store(Item item) {
+            PersistenceWriteQueue writeQueue = this.writeQueue;
+            RecentHistoryCache historyCache = this.historyCache;
+            if (writeQueue != null) {
+                // the states are added to the cache once they have been written
+                writeQueue.add(item, getAlias(item));
+            } else if (historyCache != null && isCached(item)
+                    && persistenceService instanceof ModifiablePersistenceService modifiableService) {
+                // the state is stored with an explicit timestamp, so the cache holds exactly what has been written
+                ZonedDateTime timestamp = ZonedDateTime.now();
+                State state = item.getState();
+                modifiableService.store(item, timestamp, state, getAlias(item));
+                historyCache.add(item.getName(), timestamp.toInstant(), state);
+            } else {
+                persistenceService.store(item, getAlias(item));
+            }
+        }
+
+        @Override
+        public void written(List<Entry> entries) {
+            RecentHistoryCache historyCache = this.historyCache;
+            if (historyCache != null) {
+                for (Entry entry : entries) {
+                    if (isCached(entry.item())) {
+                        historyCache.add(entry.item().getName(), entry.timestamp().toInstant(), entry.state());
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void failed(List<Entry> entries) {
+            RecentHistoryCache historyCache = this.historyCache;
+            if (historyCache != null) {
+                // the service might have written some of the entries, so it is unknown what has been persisted
+                entries.forEach(entry -> historyCache.invalidate(entry.item().getName()));
+            }
+        }
+
+        private boolean isCached(Item item) {
+            // items with forecasts also have states persisted as time series, which are not cached
+            return getMatchingConfigurations(FORECAST, item).isEmpty();
+        }
+
+        /**
+         * Create, resize or remove the recent history cache according to the configured depth for this service.
+         *
+         * The cache is only used for services storing states exactly. The timestamps of the stored states have to be
+         * known as well, so the states have to be written in batches or with an explicit timestamp.
+         */
+        public void updateHistoryCache() {
+            int depth = persistenceService instanceof QueryablePersistenceService queryableService
+                    && queryableService.storesExactStates()
+                    && (writeQueue != null || persistenceService instanceof ModifiablePersistenceService)
+                            ? Objects.requireNonNullElse(historyCacheDepths.get(persistenceService.getId()), 0)
+                            : 0;
+            RecentHistoryCache historyCache = this.historyCache;
+            if (historyCache == null || historyCache.getDepth() != depth) {
+                this.historyCache = depth > 0
+                        ? new RecentHistoryCache(persistenceService.getId(), depth, cacheListeners)
+                        : null;
+            }
+        }
+
+        /**
+         * Discard the cached recent history of an item, because its persisted data has been changed outside of the
+         * regular store path.
+         *
+         * @param item the item
+         */
+        public void invalidateHistory(Item item) {
+            RecentHistoryCache historyCache = this.historyCache;
+            if (historyCache != null) {
+                historyCache.invalidate(item.getName());
+            }
+        }
+
+        public void flushWriteQueue() {
+            PersistenceWriteQueue writeQueue = this.writeQueue;
+            if (writeQueue != null) {
+                writeQueue.flush();
+            }
+        }
+
+        public void setWriteQueueSettings(PersistenceWriteQueue.Settings settings) {
+            PersistenceWriteQueue writeQueue = this.writeQueue;
+            if (writeQueue != null) {
+                writeQueue.setSettings(settings);
+            }
+        }
+
         /**
          * Set a new configuration for this persistence service (also cancels all cron jobs)
          *
@@ -513,6 +833,11 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
             cancelForecastJobs();
             this.configuration = Objects.requireNonNullElseGet(configuration, this::getEmptyConfig);
             strategyCache.clear();
+            itemRoutes.clear();
+            RecentHistoryCache historyCache = this.historyCache;
+            if (historyCache != null) {
+                historyCache.invalidate();
+            }
         }
 
         /**
@@ -528,6 +853,48 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
             })).stream();
         }
 
+        /**
+         * Get all item configurations from this service that match a certain strategy and apply to an item
+         *
+         * The result is calculated once per item and kept until the item or the configuration changes.
+         *
+         * @param strategy the {@link PersistenceStrategy} to look for
+         * @param item the item the configurations have to apply to
+         * @return a {@link List<PersistenceItemConfiguration>} of the result
+         */
+        public List<PersistenceItemConfiguration> getMatchingConfigurations(PersistenceStrategy strategy, Item item) {
+            Map<PersistenceStrategy, List<PersistenceItemConfiguration>> routes = itemRoutes
+                    .computeIfAbsent(item.getName(), name -> {
+                        Map<PersistenceStrategy, List<PersistenceItemConfiguration>> itemConfigs = new HashMap<>();
+                        for (PersistenceItemConfiguration itemConfig : configuration.getConfigs()) {
+                            if (appliesToItem(itemConfig, item)) {
+                                itemConfig.strategies().forEach(s -> itemConfigs
+                                        .computeIfAbsent(s, k -> new ArrayList<>()).add(itemConfig));
+                            }
+                        }
+                        return itemConfigs;
+                    });
+            return Objects.requireNonNullElse(routes.get(strategy), List.of());
+        }
+
+        /**
+         * Discard the calculated configurations for an item. Changes to a group affect all its members, so all
+         * calculated configurations are discarded in that case.
+         *
+         * @param item the item that was added, removed or updated
+         */
+        public void invalidateRoutes(Item item) {
+            if (item instanceof GroupItem) {
+                invalidateRoutes();
+            } else {
+                itemRoutes.remove(item.getName());
+            }
+        }
+
+        public void invalidateRoutes() {
+            itemRoutes.clear();
+        }
+
         public @Nullable String getAlias(Item item) {
             return configuration.getAliases().get(item.getName());
         }
@@ -549,9 +916,15 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         }
 
         public void cancelForecastJobs() {
-            synchronized (forecastJobs) {
-                forecastJobs.values().forEach(job -> job.cancel(true));
-                forecastJobs.clear();
+            synchronized (forecasts) {
+                forecasts.clear();
+                forecastWheel.clear();
+                ScheduledCompletableFuture<?> job = forecastJob;
+                if (job != null) {
+                    job.cancel(true);
+                    forecastJob = null;
+                }
+                forecastJobTime = null;
             }
             logger.debug("Removed scheduled forecast jobs for persistence service '{}'", configuration.getUID());
         }
@@ -574,28 +947,91 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         }
 
         public void restoreStatesAndScheduleForecastJobs() {
-            itemRegistry.getItems().forEach(this::addItem);
+            if (!(persistenceService instanceof QueryablePersistenceService)) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            List<Item> restoreItems = new ArrayList<>();
+            List<Item> forecastItems = new ArrayList<>();
+            for (Item item : itemRegistry.getItems()) {
+                boolean forecast = !getMatchingConfigurations(FORECAST, item).isEmpty();
+                if (UnDefType.NULL.equals(item.getState()) && !getMatchingConfigurations(RESTORE, item).isEmpty()
+                        || forecast) {
+                    restoreItems.add(item);
+                }
+                if (forecast) {
+                    forecastItems.add(item);
+                }
+            }
+            for (int i = 0; i < restoreItems.size(); i += RESTORE_BATCH_SIZE) {
+                int end = Math.min(i + RESTORE_BATCH_SIZE, restoreItems.size());
+                restoreItemStatesOnStartup(restoreItems.subList(i, end));
+            }
+            loadForecasts(forecastItems);
+            logger.debug("Restored {} items and scheduled {} forecasts from persistence service '{}' in {}ms",
+                    restoreItems.size(), forecastItems.size(), configuration.getUID(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
         }
 
         public void addItem(Item item) {
             if (persistenceService instanceof QueryablePersistenceService) {
-                if (UnDefType.NULL.equals(item.getState())
-                        && (getMatchingConfigurations(RESTORE)
-                                .anyMatch(configuration -> appliesToItem(configuration, item)))
-                        || getMatchingConfigurations(FORECAST)
-                                .anyMatch(configuration -> appliesToItem(configuration, item))) {
+                if (UnDefType.NULL.equals(item.getState()) && !getMatchingConfigurations(RESTORE, item).isEmpty()
+                        || !getMatchingConfigurations(FORECAST, item).isEmpty()) {
                     restoreItemStateOnStartup(item);
                 }
-                if (getMatchingConfigurations(FORECAST).anyMatch(configuration -> appliesToItem(configuration, item))) {
-                    scheduleNextPersistedForecastForItem(item);
+                if (!getMatchingConfigurations(FORECAST, item).isEmpty()) {
+                    loadForecasts(List.of(item));
                 }
             }
         }
 
         public void removeItem(String itemName) {
-            ScheduledCompletableFuture<?> job = forecastJobs.remove(itemName);
-            if (job != null) {
-                job.cancel(true);
+            synchronized (forecasts) {
+                // the item is no longer found when its state is due, so it does not need to be removed from the wheel
+                forecasts.remove(itemName);
+            }
+            RecentHistoryCache historyCache = this.historyCache;
+            if (historyCache != null) {
+                historyCache.invalidate(itemName);
+            }
+        }
+
+        /**
+         * Restore the states of several items with a single query, if the service supports it.
+         *
+         * If the query fails, the states are restored item by item. If it times out, they are not restored, as
+         * querying them one by one would most likely time out as well.
+         *
+         * @param items the items to restore
+         */
+        private void restoreItemStatesOnStartup(List<Item> items) {
+            QueryablePersistenceService queryService = (QueryablePersistenceService) persistenceService;
+            List<String> itemNames = items.stream().map(Item::getName).toList();
+            AtomicBoolean failed = new AtomicBoolean();
+
+            Map<String, PersistedItem> persistedItems = safeCaller
+                    .create(queryService, QueryablePersistenceService.class)
+                    .withTimeout(SafeCaller.DEFAULT_TIMEOUT * Math.max(1, items.size() / 10))
+                    .onTimeout(() -> logger.warn(
+                            "Querying persistence service '{}' for {} items takes too long, states are not restored.",
+                            queryService.getId(), items.size()))
+                    .onException(e -> {
+                        failed.set(true);
+                        logger.debug(
+                                "Querying persistence service '{}' for {} items failed, restoring them one by one: {}",
+                                queryService.getId(), items.size(), e.getMessage());
+                    }).build().persistedItems(itemNames, configuration.getAliases());
+            if (persistedItems == null) {
+                if (failed.get()) {
+                    items.forEach(this::restoreItemStateOnStartup);
+                }
+                return;
+            }
+            for (Item item : items) {
+                PersistedItem persistedItem = persistedItems.get(item.getName());
+                if (persistedItem != null) {
+                    restoreItemStateOnStartup(item, persistedItem);
+                }
             }
         }
 
@@ -614,39 +1050,154 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
             return persistedItem;
         }
 
-        public void scheduleNextForecastForItem(Item item, Instant time, State state) {
-            String itemName = item.getName();
-            ScheduledFuture<?> oldJob = forecastJobs.remove(itemName);
-            if (oldJob != null) {
-                oldJob.cancel(true);
-            }
-            forecastJobs.put(itemName, scheduler.at(() -> {
-                restoreItemStateFromTimeSeriesEntry(item, time.atZone(ZoneId.systemDefault()), state);
-                scheduleNextPersistedForecastForItem(item);
-            }, time));
-            logger.trace("Scheduled forecasted value for {} at {}", item.getName(), time);
-        }
-
-        public void scheduleNextPersistedForecastForItem(Item item) {
-            if (item instanceof GenericItem) {
-                String alias = getAlias(item);
-                QueryablePersistenceService queryService = (QueryablePersistenceService) persistenceService;
-                FilterCriteria filter = new FilterCriteria().setItemName(item.getName())
-                        .setBeginDate(ZonedDateTime.now()).setOrdering(ASCENDING);
-                Iterator<HistoricItem> result = safeCaller.create(queryService, QueryablePersistenceService.class)
-                        .onTimeout(() -> logger.warn("Querying persistence service '{}' takes more than {}ms.",
-                                queryService.getId(), SafeCaller.DEFAULT_TIMEOUT))
-                        .onException(e -> logger.error("Exception occurred while querying persistence service '{}': {}",
-                                queryService.getId(), e.getMessage(), e))
-                        .build().query(filter, alias).iterator();
-                while (result.hasNext()) {
-                    HistoricItem next = result.next();
-                    Instant timestamp = next.getInstant();
-                    if (timestamp.isAfter(Instant.now())) {
-                        scheduleNextForecastForItem(item, timestamp, next.getState());
-                        break;
+        /**
+         * Load the next future states of items from the persistence service with a single query and schedule them,
+         * replacing the states buffered for the items.
+         *
+         * @param items the items
+         */
+        public void loadForecasts(List<Item> items) {
+            List<Item> genericItems = items.stream().filter(GenericItem.class::isInstance).toList();
+            if (genericItems.isEmpty() || !(persistenceService instanceof QueryablePersistenceService queryService)) {
+                return;
+            }
+            Instant now = Instant.now();
+            FilterCriteria filter = new FilterCriteria().setBeginDate(now.atZone(ZoneId.systemDefault()))
+                    .setOrdering(ASCENDING).setPageSize(FORECAST_BATCH_SIZE);
+            Map<String, List<HistoricItem>> result;
+            try {
+                result = query(queryService, genericItems, filter, configuration.getAliases());
+            } catch (RuntimeException e) {
+                logger.error("Exception occurred while querying persistence service '{}': {}", queryService.getId(),
+                        e.getMessage(), e);
+                return;
+            }
+            synchronized (forecasts) {
+                for (Item item : genericItems) {
+                    List<HistoricItem> historicItems = result.get(item.getName());
+                    if (historicItems == null) {
+                        continue;
+                    }
+                    ItemForecast forecast = new ItemForecast(item);
+                    historicItems.stream().filter(historicItem -> historicItem.getInstant().isAfter(now))
+                            .forEach(historicItem -> forecast.states.put(historicItem.getInstant(),
+                                    historicItem.getState()));
+                    // a full page means that there might be more states, they are loaded when the buffer runs out
+                    forecast.loadedUntil = historicItems.size() < FORECAST_BATCH_SIZE ? null
+                            : historicItems.getLast().getInstant();
+                    forecasts.put(item.getName(), forecast);
+                    scheduleForecast(forecast);
+                }
+                rescheduleForecastJob();
+            }
+        }
+
+        /**
+         * Add the future states of a time series to the states buffered for an item.
+         *
+         * @param item the item
+         * @param timeSeries the time series, which has already been stored
+         */
+        public void addForecastStates(Item item, TimeSeries timeSeries) {
+            Instant now = Instant.now();
+            synchronized (forecasts) {
+                ItemForecast forecast = forecasts.get(item.getName());
+                if (forecast != null) {
+                    if (timeSeries.getPolicy() == TimeSeries.Policy.REPLACE) {
+                        forecast.states.subMap(timeSeries.getBegin(), true, timeSeries.getEnd(), true).clear();
+                    }
+                    Instant loadedUntil = forecast.loadedUntil;
+                    // states after the loaded ones are loaded from the service later on
+                    timeSeries.getStates().filter(entry -> entry.timestamp().isAfter(now)
+                            && (loadedUntil == null || !entry.timestamp().isAfter(loadedUntil)))
+                            .forEach(entry -> forecast.states.put(entry.timestamp(), entry.state()));
+                    if (!forecast.states.isEmpty() || loadedUntil == null) {
+                        scheduleForecast(forecast);
+                        rescheduleForecastJob();
+                        return;
+                    }
+                }
+            }
+            loadForecasts(List.of(item));
+        }
+
+        /**
+         * Add the next buffered state of an item to the timing wheel, if it is not already scheduled.
+         * Has to be called while holding the lock on {@link #forecasts}.
+         */
+        private void scheduleForecast(ItemForecast forecast) {
+            Instant time = forecast.states.isEmpty() ? null : forecast.states.firstKey();
+            if (!Objects.equals(time, forecast.scheduledTime)) {
+                // entries for the previously scheduled state are ignored when they are due
+                forecast.generation++;
+                forecast.scheduledTime = time;
+                if (time != null) {
+                    forecastWheel.add(time, new ScheduledForecast(forecast, forecast.generation));
+                }
+            }
+        }
+
+        /**
+         * Schedule the job applying the forecasts at the time the next entry of the timing wheel is due, if no job is
+         * scheduled before. Has to be called while holding the lock on {@link #forecasts}.
+         */
+        private void rescheduleForecastJob() {
+            Instant next = forecastWheel.nextTime();
+            Instant jobTime = forecastJobTime;
+            if (next == null || jobTime != null && !jobTime.isAfter(next)) {
+                return;
+            }
+            ScheduledCompletableFuture<?> job = forecastJob;
+            if (job != null) {
+                job.cancel(false);
+            }
+            forecastJobTime = next;
+            forecastJob = scheduler.at(this::applyForecasts, next);
+            logger.trace("Scheduled forecasted values for persistence service '{}' at {}", configuration.getUID(),
+                    next);
+        }
+
+        private void applyForecasts() {
+            Instant now = Instant.now();
+            List<ItemForecast> dueForecasts = new ArrayList<>();
+            List<Runnable> updates = new ArrayList<>();
+            List<Item> exhaustedItems = new ArrayList<>();
+            synchronized (forecasts) {
+                Instant jobTime = forecastJobTime;
+                if (jobTime != null && !jobTime.isAfter(now)) {
+                    forecastJob = null;
+                    forecastJobTime = null;
+                }
+                forecastWheel.advance(now, scheduled -> {
+                    ItemForecast forecast = scheduled.forecast();
+                    if (scheduled.generation() == forecast.generation
+                            && forecasts.get(forecast.item.getName()) == forecast) {
+                        dueForecasts.add(forecast);
+                    }
+                });
+                for (ItemForecast forecast : dueForecasts) {
+                    Map.Entry<Instant, State> due = null;
+                    while (!forecast.states.isEmpty() && !forecast.states.firstKey().isAfter(now)) {
+                        due = forecast.states.pollFirstEntry();
+                    }
+                    if (due != null) {
+                        Item item = forecast.item;
+                        ZonedDateTime time = due.getKey().atZone(ZoneId.systemDefault());
+                        State state = due.getValue();
+                        updates.add(() -> restoreItemStateFromTimeSeriesEntry(item, time, state));
+                    }
+                    if (forecast.states.isEmpty() && forecast.loadedUntil != null) {
+                        exhaustedItems.add(forecast.item);
+                    } else {
+                        scheduleForecast(forecast);
                     }
                 }
+                rescheduleForecastJob();
+            }
+            updates.forEach(Runnable::run);
+            if (!exhaustedItems.isEmpty()) {
+                // the next states of all items whose buffer ran out are loaded at once
+                loadForecasts(exhaustedItems);
             }
         }
 
@@ -656,19 +1207,24 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 // in case of an exception or timeout, the safe caller returns null
                 return;
             }
+            restoreItemStateOnStartup(item, persistedItem);
+        }
 
-            PersistedItem newItemState = itemState(item, persistedItem);
-            if (newItemState == null) {
-                return;
-            }
+        private void restoreItemStateOnStartup(Item item, PersistedItem persistedItem) {
+            synchronized (restoreLock) {
+                PersistedItem newItemState = itemState(item, persistedItem);
+                if (newItemState == null) {
+                    return;
+                }
 
-            GenericItem genericItem = (GenericItem) item;
-            genericItem.removeStateChangeListener(PersistenceManagerImpl.this);
-            try {
-                genericItem.setState(newItemState.getState(), newItemState.getLastState(), newItemState.getTimestamp(),
-                        newItemState.getLastStateChange(), PERSISTENCE_SOURCE);
-            } finally {
-                genericItem.addStateChangeListener(PersistenceManagerImpl.this);
+                GenericItem genericItem = (GenericItem) item;
+                genericItem.removeStateChangeListener(PersistenceManagerImpl.this);
+                try {
+                    genericItem.setState(newItemState.getState(), newItemState.getLastState(),
+                            newItemState.getTimestamp(), newItemState.getLastStateChange(), PERSISTENCE_SOURCE);
+                } finally {
+                    genericItem.addStateChangeListener(PersistenceManagerImpl.this);
+                }
             }
             if (logger.isDebugEnabled()) {
                 logger.debug("Restored item state from '{}' for item '{}' -> '{}'",
@@ -822,12 +1378,14 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                     if (itemConfig.filters().stream().allMatch(filter -> filter.apply(item))) {
                         long startTime = System.nanoTime();
                         itemConfig.filters().forEach(filter -> filter.persisted(item));
-                        persistenceService.store(item, getAlias(item));
+                        store(item);
                         logger.trace("Storing item '{}' with persistence service '{}' took {}ms", item.getName(),
                                 configuration.getUID(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
                     }
                 }
             });
+            // write the states of this run together instead of waiting for the time window
+            flushWriteQueue();
         }
     }
 }
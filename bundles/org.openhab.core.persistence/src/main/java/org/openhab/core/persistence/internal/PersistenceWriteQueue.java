@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.BatchingPersistenceService;
+import org.openhab.core.persistence.BatchingPersistenceService.Entry;
+import org.openhab.core.persistence.PersistenceWriteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PersistenceWriteQueue} collects the item states to be persisted by a {@link BatchingPersistenceService}
+ * and writes them in batches.
+ *
+ * A batch is written as soon as the configured batch size is reached or when the time window has passed after the
+ * first entry was queued. If the queue reaches its capacity, the thread adding an entry writes the queue itself, so
+ * the memory used by the queue is bounded and slow services slow down the callers instead of losing data.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PersistenceWriteQueue {
+
+    /**
+     * The settings of a write queue.
+     *
+     * @param batchSize the maximum number of entries written at once
+     * @param window the maximum time an entry waits before it is written
+     * @param capacity the maximum number of entries waiting to be written
+     */
+    record Settings(int batchSize, Duration window, int capacity) {
+    }
+
+    /**
+     * Is notified about the result of writing a batch, before the next batch is written.
+     */
+    interface WriteCallback {
+
+        /**
+         * Called after a batch has been written to the service.
+         *
+         * @param entries the entries of the batch
+         */
+        void written(List<Entry> entries);
+
+        /**
+         * Called after writing a batch failed. Some of its entries may have been written nevertheless.
+         *
+         * @param entries the entries of the batch
+         */
+        void failed(List<Entry> entries);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceWriteQueue.class);
+
+    private final BatchingPersistenceService service;
+    private final ScheduledExecutorService scheduler;
+    private final List<PersistenceWriteListener> listeners;
+    private final WriteCallback callback;
+
+    // guards the pending entries and the scheduled flush
+    private final Object queueLock = new Object();
+    // held while writing, so batches are written one after another and in order
+    private final Object writeLock = new Object();
+
+    private List<Entry> pending = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> scheduledFlush;
+    private boolean immediateFlush;
+    private Settings settings;
+
+    PersistenceWriteQueue(BatchingPersistenceService service, ScheduledExecutorService scheduler, Settings settings,
+            List<PersistenceWriteListener> listeners, WriteCallback callback) {
+        this.service = service;
+        this.scheduler = scheduler;
+        this.settings = settings;
+        this.listeners = listeners;
+        this.callback = callback;
+    }
+
+    void setSettings(Settings settings) {
+        synchronized (queueLock) {
+            this.settings = settings;
+        }
+    }
+
+    /**
+     * Captures the current state of an item and queues it for being written.
+     *
+     * @param item the item to persist
+     * @param alias the alias under which the item should be persisted, or null
+     */
+    void add(Item item, @Nullable String alias) {
+        Entry entry = new Entry(item, ZonedDateTime.now(), item.getState(), alias);
+        boolean full;
+        int size;
+        synchronized (queueLock) {
+            pending.add(entry);
+            size = pending.size();
+            full = size >= settings.capacity();
+            if (!full) {
+                if (size >= settings.batchSize()) {
+                    if (!immediateFlush) {
+                        immediateFlush = true;
+                        scheduler.execute(this::flush);
+                    }
+                } else if (scheduledFlush == null) {
+                    scheduledFlush = scheduler.schedule(this::flush, settings.window().toMillis(),
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        for (PersistenceWriteListener listener : listeners) {
+            try {
+                listener.entryQueued(service.getId(), size);
+            } catch (RuntimeException e) {
+                logger.debug("Persistence write listener '{}' failed: {}", listener, e.getMessage(), e);
+            }
+        }
+        if (full) {
+            logger.debug("Write queue of persistence service '{}' is full, writing {} entries", service.getId(), size);
+            flush();
+        }
+    }
+
+    /**
+     * Writes all queued entries and waits until they are written.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            List<Entry> entries;
+            int batchSize;
+            synchronized (queueLock) {
+                entries = pending;
+                pending = new ArrayList<>();
+                batchSize = settings.batchSize();
+                immediateFlush = false;
+                ScheduledFuture<?> scheduledFlush = this.scheduledFlush;
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                    this.scheduledFlush = null;
+                }
+            }
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                write(entries.subList(from, Math.min(from + batchSize, entries.size())), entries.size() - from);
+            }
+        }
+    }
+
+    int size() {
+        synchronized (queueLock) {
+            return pending.size();
+        }
+    }
+
+    private void write(List<Entry> batch, int remaining) {
+        long start = System.nanoTime();
+        boolean written = false;
+        try {
+            service.store(batch);
+            written = true;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to store {} entries with persistence service '{}': {}", batch.size(), service.getId(),
+                    e.getMessage(), e);
+        }
+        long duration = System.nanoTime() - start;
+        try {
+            if (written) {
+                callback.written(batch);
+            } else {
+                callback.failed(batch);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to handle the written entries of persistence service '{}': {}", service.getId(),
+                    e.getMessage(), e);
+        }
+        logger.trace("Storing {} entries with persistence service '{}' took {}ms", batch.size(), service.getId(),
+                TimeUnit.NANOSECONDS.toMillis(duration));
+        int queueSize = size() + remaining - batch.size();
+        for (PersistenceWriteListener listener : listeners) {
+            try {
+                listener.entriesFlushed(service.getId(), batch.size(), queueSize, duration);
+            } catch (RuntimeException e) {
+                logger.debug("Persistence write listener '{}' failed: {}", listener, e.getMessage(), e);
+            }
+        }
+    }
+}
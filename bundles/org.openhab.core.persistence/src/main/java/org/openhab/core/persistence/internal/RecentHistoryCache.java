@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceCacheListener;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * The {@link RecentHistoryCache} keeps the most recent states the {@link PersistenceManagerImpl} stored in a
+ * persistence service, so queries for the recent history of an item can be answered without querying the service.
+ * It is only used for services that store states exactly, and only holds the timestamps and states that have been
+ * written to the service successfully.
+ *
+ * For each item, a ring buffer holds up to <code>depth</code> states. The buffer covers the time from its oldest state
+ * on: all states persisted through the persistence manager since then are contained. Queries are only answered if
+ * they do not reach before the covered time or into the future. The history of an item has to be invalidated whenever
+ * its persisted data is changed in another way, it is then rebuilt from the next stored state on.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RecentHistoryCache {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String serviceId;
+    private final int depth;
+    private final List<PersistenceCacheListener> listeners;
+    private final Map<String, RecentHistory> histories = new ConcurrentHashMap<>();
+
+    RecentHistoryCache(String serviceId, int depth, List<PersistenceCacheListener> listeners) {
+        this.serviceId = serviceId;
+        this.depth = depth;
+        this.listeners = listeners;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Adds a state that has been written to the persistence service.
+     *
+     * @param itemName the name of the item
+     * @param timestamp the time the state has been stored
+     * @param state the state
+     */
+    void add(String itemName, Instant timestamp, State state) {
+        if (state instanceof UnDefType) {
+            // persistence services do not store undefined states
+            return;
+        }
+        histories.computeIfAbsent(itemName, name -> new RecentHistory(depth)).add(epochNanos(timestamp), state);
+    }
+
+    /**
+     * Discards the history of an item, e.g. because its persisted data has been changed.
+     *
+     * @param itemName the name of the item
+     */
+    void invalidate(String itemName) {
+        histories.remove(itemName);
+    }
+
+    /**
+     * Discards the histories of all items.
+     */
+    void invalidate() {
+        histories.clear();
+    }
+
+    /**
+     * Returns all states of an item between two points in time.
+     *
+     * @param itemName the name of the item
+     * @param begin the begin of the range
+     * @param end the end of the range
+     * @return the states in ascending order, or <code>null</code> if the range is not covered
+     */
+    @Nullable
+    List<HistoricItem> getStates(String itemName, Instant begin, Instant end) {
+        RecentHistory history = histories.get(itemName);
+        List<HistoricItem> states = history != null && !end.isAfter(Instant.now())
+                ? history.getStates(itemName, epochNanos(begin), epochNanos(end))
+                : null;
+        notifyListeners(states != null);
+        return states;
+    }
+
+    /**
+     * Returns the last state of an item at a point in time.
+     *
+     * @param itemName the name of the item
+     * @param timestamp the point in time
+     * @return the state, or <code>null</code> if the point in time is not covered
+     */
+    @Nullable
+    HistoricItem getState(String itemName, Instant timestamp) {
+        RecentHistory history = histories.get(itemName);
+        HistoricItem state = history != null && !timestamp.isAfter(Instant.now())
+                ? history.getState(itemName, epochNanos(timestamp))
+                : null;
+        notifyListeners(state != null);
+        return state;
+    }
+
+    private static long epochNanos(Instant instant) {
+        // the timestamps are kept with the precision they have been written with, points in time outside of the range
+        // of the nanoseconds since the epoch (years 1677 to 2262) are clamped
+        long seconds = instant.getEpochSecond();
+        if (seconds >= Long.MAX_VALUE / NANOS_PER_SECOND) {
+            return Long.MAX_VALUE;
+        } else if (seconds <= Long.MIN_VALUE / NANOS_PER_SECOND) {
+            return Long.MIN_VALUE;
+        }
+        return seconds * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    private void notifyListeners(boolean hit) {
+        listeners.forEach(listener -> listener.historyCacheQueried(serviceId, hit));
+    }
+
+    private static class RecentHistory {
+        private final long[] timestamps;
+        private final State[] states;
+        private int first;
+        private int size;
+
+        RecentHistory(int depth) {
+            this.timestamps = new long[depth];
+            this.states = new State[depth];
+        }
+
+        synchronized void add(long timestamp, State state) {
+            if (size > 0 && timestamp < timestamps[index(size - 1)]) {
+                // the clock went backwards, the states cannot be kept in order
+                size = 0;
+            }
+            if (size == states.length) {
+                first = index(1);
+                size--;
+            }
+            int index = index(size);
+            timestamps[index] = timestamp;
+            states[index] = state;
+            size++;
+        }
+
+        synchronized @Nullable List<HistoricItem> getStates(String itemName, long begin, long end) {
+            if (size == 0 || begin < timestamps[first]) {
+                return null;
+            }
+            List<HistoricItem> result = new ArrayList<>();
+            for (int i = lowerBound(begin); i < size; i++) {
+                int index = index(i);
+                if (timestamps[index] > end) {
+                    break;
+                }
+                result.add(new CachedHistoricItem(itemName, timestamps[index], states[index]));
+            }
+            return result;
+        }
+
+        synchronized @Nullable HistoricItem getState(String itemName, long timestamp) {
+            if (size == 0 || timestamp < timestamps[first]) {
+                return null;
+            }
+            int index = index(lowerBound(timestamp + 1) - 1);
+            return new CachedHistoricItem(itemName, timestamps[index], states[index]);
+        }
+
+        private int lowerBound(long timestamp) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestamps[index(mid)] < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int index(int i) {
+            return (first + i) % states.length;
+        }
+    }
+
+    private record CachedHistoricItem(String name, long epochNanos, State state) implements HistoricItem {
+
+        @Override
+        public Instant getInstant() {
+            return Instant.ofEpochSecond(0, epochNanos);
+        }
+
+        @Override
+        public ZonedDateTime getTimestamp() {
+            return getInstant().atZone(ZoneId.systemDefault());
+        }
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
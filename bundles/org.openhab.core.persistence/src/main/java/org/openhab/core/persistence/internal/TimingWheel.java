@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link TimingWheel} holds values that are due at a certain point in time, so a single scheduled job can handle
+ * the values of many items instead of scheduling a job per value.
+ *
+ * The time is divided into ticks. The wheel consists of several levels with 64 slots each, a slot of the lowest level
+ * covers one tick and a slot of every other level covers all slots of the level below. A value is added to the lowest
+ * level that covers its point in time. Whenever the slots of a level have been passed, the values of the next slot of
+ * the level above are moved down, so adding and advancing do not depend on the number of values in the wheel. Values
+ * beyond the time covered by the highest level are kept in its last slot until they can be moved down.
+ *
+ * The wheel is not thread-safe.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final List<Timeout<T>>[][] slots;
+    private final int[] levelSizes;
+
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates a new timing wheel.
+     *
+     * @param tick the duration of a tick
+     * @param levels the number of levels, the wheel covers <code>64^levels</code> ticks
+     * @param now the current time
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(Duration tick, int levels, Instant now) {
+        this.tickMillis = Math.max(1, tick.toMillis());
+        this.levels = levels;
+        this.slots = new List[levels][SLOTS];
+        this.levelSizes = new int[levels];
+        for (List<Timeout<T>>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new ArrayList<>();
+            }
+        }
+        this.currentTick = tick(now);
+    }
+
+    /**
+     * Adds a value. Values whose point in time has already passed are due with the next call to
+     * {@link #advance(Instant, Consumer)}.
+     *
+     * @param time the point in time the value is due
+     * @param value the value
+     */
+    void add(Instant time, T value) {
+        place(new Timeout<>(time, Math.max(tick(time), currentTick), value));
+        size++;
+    }
+
+    /**
+     * Passes all values that are due to a consumer and removes them from the wheel.
+     *
+     * @param now the current time
+     * @param consumer the consumer receiving the values in the order of their ticks
+     */
+    void advance(Instant now, Consumer<T> consumer) {
+        long nowTick = tick(now);
+        if (size == 0) {
+            currentTick = Math.max(currentTick, nowTick);
+            return;
+        }
+        // values of the current tick might not have been due on the last call
+        expire(now, consumer);
+        while (currentTick < nowTick && size > 0) {
+            // ticks without values in the lower levels are skipped up to the next slot of the level above
+            for (int level = 0; level < levels - 1 && levelSizes[level] == 0; level++) {
+                long slotEnd = ((currentTick >> (SLOT_BITS * (level + 1))) + 1 << (SLOT_BITS * (level + 1))) - 1;
+                currentTick = Math.min(slotEnd, nowTick - 1);
+            }
+            currentTick++;
+            cascade();
+            expire(now, consumer);
+        }
+        currentTick = Math.max(currentTick, nowTick);
+    }
+
+    /**
+     * Returns the point in time the next value is due.
+     *
+     * @return the point in time, or <code>null</code> if the wheel is empty
+     */
+    @Nullable
+    Instant nextTime() {
+        if (size == 0) {
+            return null;
+        }
+        Instant next = null;
+        for (int level = 0; level < levels; level++) {
+            long base = currentTick >> (SLOT_BITS * level);
+            // the current slot of the lowest level holds values of the current tick, the current slot of the other
+            // levels holds values one round ahead
+            int first = level == 0 ? 0 : 1;
+            for (int i = first; i < first + SLOTS; i++) {
+                List<Timeout<T>> timeouts = slots[level][(int) ((base + i) & SLOT_MASK)];
+                if (!timeouts.isEmpty()) {
+                    for (Timeout<T> timeout : timeouts) {
+                        if (next == null || timeout.time().isBefore(next)) {
+                            next = timeout.time();
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+        return next;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values.
+     */
+    void clear() {
+        for (List<Timeout<T>>[] level : slots) {
+            for (List<Timeout<T>> timeouts : level) {
+                timeouts.clear();
+            }
+        }
+        Arrays.fill(levelSizes, 0);
+        size = 0;
+    }
+
+    private long tick(Instant time) {
+        return Math.floorDiv(time.toEpochMilli(), tickMillis);
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.tick() - currentTick;
+        for (int level = 0; level < levels - 1; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                slots[level][slot(timeout.tick(), level)].add(timeout);
+                levelSizes[level]++;
+                return;
+            }
+        }
+        int level = levels - 1;
+        long tick = Math.min(timeout.tick(), currentTick + (1L << (SLOT_BITS * levels)) - 1);
+        slots[level][slot(tick, level)].add(timeout);
+        levelSizes[level]++;
+    }
+
+    private int slot(long tick, int level) {
+        return (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int index = slot(currentTick, level);
+            List<Timeout<T>> timeouts = slots[level][index];
+            if (!timeouts.isEmpty()) {
+                slots[level][index] = new ArrayList<>();
+                levelSizes[level] -= timeouts.size();
+                timeouts.forEach(this::place);
+            }
+        }
+    }
+
+    private void expire(Instant now, Consumer<T> consumer) {
+        List<Timeout<T>> timeouts = slots[0][slot(currentTick, 0)];
+        Iterator<Timeout<T>> iterator = timeouts.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (!timeout.time().isAfter(now)) {
+                iterator.remove();
+                levelSizes[0]--;
+                size--;
+                consumer.accept(timeout.value());
+            }
+        }
+    }
+
+    private record Timeout<T>(Instant time, long tick, T value) {
+    }
+}
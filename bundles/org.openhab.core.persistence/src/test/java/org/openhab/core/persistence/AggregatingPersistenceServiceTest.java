@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.AggregatingPersistenceService.Aggregation;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.types.State;
+
+/**
+ * Tests the default bucketed aggregation of {@link AggregatingPersistenceService}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AggregatingPersistenceServiceTest {
+
+    private static final String ITEM_NAME = "item";
+    private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static class ListPersistenceService implements AggregatingPersistenceService {
+        private final List<HistoricItem> values = new ArrayList<>();
+        private int queries;
+
+        void add(int minutes, State state) {
+            ZonedDateTime timestamp = START.plusMinutes(minutes);
+            values.add(new HistoricItem() {
+                @Override
+                public ZonedDateTime getTimestamp() {
+                    return timestamp;
+                }
+
+                @Override
+                public State getState() {
+                    return state;
+                }
+
+                @Override
+                public String getName() {
+                    return ITEM_NAME;
+                }
+            });
+        }
+
+        @Override
+        public String getId() {
+            return "list";
+        }
+
+        @Override
+        public String getLabel(@Nullable Locale locale) {
+            return "List";
+        }
+
+        @Override
+        public void store(Item item) {
+        }
+
+        @Override
+        public void store(Item item, @Nullable String alias) {
+        }
+
+        @Override
+        public Iterable<HistoricItem> query(FilterCriteria filter) {
+            queries++;
+            ZonedDateTime begin = filter.getBeginDate();
+            ZonedDateTime end = filter.getEndDate();
+            Stream<HistoricItem> stream = values.stream()
+                    .filter(value -> begin == null || !value.getTimestamp().isBefore(begin))
+                    .filter(value -> end == null || !value.getTimestamp().isAfter(end));
+            if (filter.getOrdering() == Ordering.DESCENDING) {
+                stream = stream.sorted(Comparator.comparing(HistoricItem::getTimestamp).reversed());
+            }
+            return stream.limit(filter.getPageSize()).toList();
+        }
+
+        @Override
+        public Set<Aggregation> getSupportedAggregations() {
+            return EnumSet.noneOf(Aggregation.class);
+        }
+
+        @Override
+        public @Nullable HistoricItem aggregate(FilterCriteria filter, Aggregation aggregation,
+                @Nullable String alias) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final ListPersistenceService service = new ListPersistenceService();
+
+    private List<HistoricItem> aggregate(Aggregation aggregation) {
+        service.add(0, new DecimalType("1.5"));
+        service.add(10, new DecimalType("2.5"));
+        service.add(20, new DecimalType("0.1"));
+        service.add(30, new DecimalType("0.2"));
+        service.add(40, new DecimalType("4"));
+        FilterCriteria filter = new FilterCriteria().setItemName(ITEM_NAME).setBeginDate(START.plusMinutes(5))
+                .setEndDate(START.plusMinutes(60));
+        return service.aggregate(filter, aggregation, Duration.ofMinutes(15), null);
+    }
+
+    private static void assertBuckets(List<HistoricItem> buckets, int[] startMinutes, String... values) {
+        assertEquals(values.length, buckets.size());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(START.plusMinutes(startMinutes[i]), buckets.get(i).getTimestamp());
+            assertEquals(ITEM_NAME, buckets.get(i).getName());
+            BigDecimal value = ((DecimalType) buckets.get(i).getState()).toBigDecimal();
+            assertEquals(0, new BigDecimal(values[i]).compareTo(value), () -> "Unexpected value " + value);
+        }
+    }
+
+    @Test
+    public void testBucketsAreAggregatedFromASingleQuery() {
+        assertBuckets(aggregate(Aggregation.SUM), new int[] { 5, 20, 35 }, "2.5", "0.3", "4");
+        assertEquals(1, service.queries);
+    }
+
+    @Test
+    public void testAverageIsExact() {
+        assertBuckets(aggregate(Aggregation.AVERAGE), new int[] { 5, 20, 35 }, "2.5", "0.15", "4");
+    }
+
+    @Test
+    public void testCountMinimumAndMaximum() {
+        assertBuckets(aggregate(Aggregation.COUNT), new int[] { 5, 20, 35 }, "1", "2", "1");
+        service.values.clear();
+        assertBuckets(aggregate(Aggregation.MINIMUM), new int[] { 5, 20, 35 }, "2.5", "0.1", "4");
+        service.values.clear();
+        assertBuckets(aggregate(Aggregation.MAXIMUM), new int[] { 5, 20, 35 }, "2.5", "0.2", "4");
+    }
+
+    @Test
+    public void testRiemannSumStartsWithThePreviousValue() {
+        // the value before the begin date applies to the first bucket, the last value to the empty bucket
+        assertBuckets(aggregate(Aggregation.RIEMANN_SUM), new int[] { 5, 20, 35, 50 }, "1950", "120", "2460",
+                "2400");
+        assertEquals(2, service.queries);
+    }
+
+    @Test
+    public void testQuantitiesAreAggregatedInTheStoredUnit() {
+        service.add(0, QuantityType.valueOf("10 °C"));
+        service.add(1, QuantityType.valueOf("283.15 K"));
+        FilterCriteria filter = new FilterCriteria().setItemName(ITEM_NAME).setBeginDate(START)
+                .setEndDate(START.plusMinutes(1));
+
+        List<HistoricItem> buckets = service.aggregate(filter, Aggregation.SUM, Duration.ofHours(1), null);
+
+        assertEquals(1, buckets.size());
+        assertEquals(QuantityType.valueOf("20 °C"), buckets.getFirst().getState());
+    }
+}
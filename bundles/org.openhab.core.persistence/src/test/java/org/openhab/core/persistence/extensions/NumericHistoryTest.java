@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.extensions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.extensions.PersistenceExtensions.RiemannType;
+import org.openhab.core.types.State;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NumericHistoryTest {
+
+    @Test
+    public void valuesAreConvertedToTheItemUnit() {
+        NumericHistory history = NumericHistory.of(List.of(historicItem(0, new QuantityType<>(20, SIUnits.CELSIUS)),
+                historicItem(1000, new QuantityType<>(50, ImperialUnits.FAHRENHEIT)),
+                historicItem(2000, new DecimalType(10))), SIUnits.CELSIUS);
+
+        assertEquals(3, history.size());
+        assertDecimal("20", history.getValue(0));
+        // the conversion of the unit is not exact
+        assertEquals(10, Objects.requireNonNull(history.getValue(1)).doubleValue(), 1e-9);
+        assertNull(history.getValue(2));
+        assertEquals(2000, history.getTimestamp(2));
+        assertEquals(2, history.count());
+        assertEquals(30, history.sum().doubleValue(), 1e-9);
+    }
+
+    @Test
+    public void nonNumericStatesAreKeptAsNull() {
+        NumericHistory history = NumericHistory.of(List.of(historicItem(0, OnOffType.ON),
+                historicItem(1000, StringType.valueOf("text")), historicItem(3000, new DecimalType(4))), null);
+
+        assertDecimal("1", history.getValue(0));
+        assertNull(history.getValue(1));
+        assertEquals(2, history.count());
+        // the non-numeric state does not contribute, but ends the first interval
+        assertDecimal("1000", history.riemannSum(0, RiemannType.LEFT));
+        assertDecimal("8000", history.riemannSum(0, RiemannType.RIGHT));
+    }
+
+    @Test
+    public void riemannSums() {
+        NumericHistory history = NumericHistory.of(List.of(historicItem(1000, new DecimalType(1)),
+                historicItem(2000, new DecimalType(3)), historicItem(4000, new DecimalType(5))), null);
+
+        assertDecimal(String.valueOf(1 * 1000 + 3 * 2000), history.riemannSum(0, null));
+        assertDecimal(String.valueOf(1 * 1000 + 3 * 1000 + 5 * 2000), history.riemannSum(0, RiemannType.RIGHT));
+        assertDecimal(String.valueOf(2 * 1000 + 4 * 2000), history.riemannSum(0, RiemannType.TRAPEZOIDAL));
+        assertDecimal(String.valueOf(1 * 500 + 3 * 1500 + 5 * 1000), history.riemannSum(0, RiemannType.MIDPOINT));
+    }
+
+    @Test
+    public void medianAndVariance() {
+        NumericHistory odd = NumericHistory.of(
+                List.of(historicItem(0, new DecimalType(5)), historicItem(1, new DecimalType(1)),
+                        historicItem(2, new DecimalType(3))),
+                null);
+        assertDecimal("3", odd.median());
+        assertDecimal("2.666666666666667", odd.variance(new BigDecimal(3)));
+
+        NumericHistory even = NumericHistory.of(List.of(historicItem(0, new DecimalType(4)),
+                historicItem(1, new DecimalType(1)), historicItem(2, new DecimalType(2)),
+                historicItem(3, new DecimalType(3))), null);
+        assertDecimal("2.5", even.median());
+
+        NumericHistory empty = NumericHistory.of(List.of(), null);
+        assertNull(empty.median());
+        assertNull(empty.variance(BigDecimal.ZERO));
+    }
+
+    @Test
+    public void historyGrowsForIterables() {
+        Iterable<HistoricItem> items = () -> IntStream.range(0, 1000)
+                .mapToObj(i -> historicItem(i * 1000L, new DecimalType(i))).iterator();
+
+        NumericHistory history = NumericHistory.of(items, null);
+
+        assertEquals(1000, history.size());
+        assertDecimal("999", history.getValue(999));
+        assertDecimal("499.5", history.median());
+    }
+
+    @Test
+    public void decimalValuesAreSummedExactly() {
+        NumericHistory history = NumericHistory.of(List.of(historicItem(0, new DecimalType("0.1")),
+                historicItem(1000, new DecimalType("0.2")), historicItem(2000, new DecimalType("0.3"))), null);
+
+        assertEquals(new BigDecimal("0.6"), history.sum());
+        // value-milliseconds of 0.1 and 0.2 for one second each
+        assertEquals(new BigDecimal("300.0"), history.riemannSum(0, null));
+        assertDecimal("0.15", history.riemannSum(0, null).divide(new BigDecimal(2000)));
+    }
+
+    @Test
+    public void decimalQuantitiesAreSummedExactly() {
+        NumericHistory history = NumericHistory.of(List.of(historicItem(0, QuantityType.valueOf("0.1 °C")),
+                historicItem(1000, QuantityType.valueOf("0.2 °C"))), SIUnits.CELSIUS);
+
+        assertEquals(new BigDecimal("0.3"), history.sum());
+    }
+
+    private static void assertDecimal(String expected, @Nullable BigDecimal actual) {
+        assertNotNull(actual);
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), () -> expected + " != " + actual);
+    }
+
+    private static HistoricItem historicItem(long epochMillis, State state) {
+        ZonedDateTime timestamp = ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public String getName() {
+                return "item";
+            }
+        };
+    }
+}
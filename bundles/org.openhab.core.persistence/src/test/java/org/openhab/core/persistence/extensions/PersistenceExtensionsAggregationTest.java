@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.extensions;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.openhab.core.persistence.extensions.TestPersistenceService.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import javax.measure.quantity.Temperature;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.i18n.UnitProvider;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.ItemUtil;
+import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.persistence.AggregatingPersistenceService.Aggregation;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceManager;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.core.persistence.extensions.PersistenceExtensions.RiemannType;
+import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
+import org.openhab.core.types.State;
+
+/**
+ * Tests that {@link PersistenceExtensions} give the same results when aggregations are calculated by the persistence
+ * service.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class PersistenceExtensionsAggregationTest {
+
+    private static final List<ZonedDateTime[]> RANGES = List.of(
+            range(HISTORIC_INTERMEDIATE_VALUE_1, HISTORIC_INTERMEDIATE_VALUE_2), range(HISTORIC_START, HISTORIC_END),
+            range(BEFORE_START, HISTORIC_INTERMEDIATE_VALUE_1),
+            range(HISTORIC_INTERMEDIATE_VALUE_1, HISTORIC_INTERMEDIATE_NOVALUE_3),
+            range(HISTORIC_INTERMEDIATE_VALUE_1, FUTURE_INTERMEDIATE_VALUE_4),
+            range(FUTURE_INTERMEDIATE_VALUE_3, FUTURE_INTERMEDIATE_VALUE_4));
+
+    // the recent history cache methods keep their default implementation, so all queries reach the services
+    private @Mock(answer = Answers.CALLS_REAL_METHODS) @NonNullByDefault({}) PersistenceManager persistenceManagerMock;
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
+    private @Mock @NonNullByDefault({}) UnitProvider unitProviderMock;
+    private @Mock @NonNullByDefault({}) TimeZoneProvider timeZoneProviderMock;
+    private @Mock @NonNullByDefault({}) PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistryMock;
+
+    private @NonNullByDefault({}) GenericItem numberItem, quantityItem;
+    private @NonNullByDefault({}) TestAggregatingPersistenceService aggregatingService;
+
+    @BeforeEach
+    public void setUp() {
+        when(unitProviderMock.getUnit(Temperature.class)).thenReturn(SIUnits.CELSIUS);
+
+        CoreItemFactory itemFactory = new CoreItemFactory(unitProviderMock);
+        numberItem = itemFactory.createItem(CoreItemFactory.NUMBER, PersistenceExtensionsTest.TEST_NUMBER);
+        quantityItem = itemFactory.createItem(CoreItemFactory.NUMBER + ItemUtil.EXTENSION_SEPARATOR + "Temperature",
+                PersistenceExtensionsTest.TEST_QUANTITY_NUMBER);
+        numberItem.setState(STATE);
+        quantityItem.setState(new QuantityType<Temperature>(STATE, SIUnits.CELSIUS));
+
+        when(itemRegistryMock.get(PersistenceExtensionsTest.TEST_NUMBER)).thenReturn(numberItem);
+        when(itemRegistryMock.get(PersistenceExtensionsTest.TEST_QUANTITY_NUMBER)).thenReturn(quantityItem);
+        when(persistenceServiceConfigurationRegistryMock.get(anyString())).thenReturn(null);
+        when(timeZoneProviderMock.getTimeZone()).thenReturn(ZoneId.systemDefault());
+
+        PersistenceService testService = new TestPersistenceService(itemRegistryMock);
+        aggregatingService = new TestAggregatingPersistenceService(itemRegistryMock);
+        new PersistenceExtensions(persistenceManagerMock, new PersistenceServiceRegistry() {
+            @Override
+            public @Nullable String getDefaultId() {
+                return null;
+            }
+
+            @Override
+            public @Nullable PersistenceService getDefault() {
+                return null;
+            }
+
+            @Override
+            public Set<PersistenceService> getAll() {
+                return Set.of(testService, aggregatingService);
+            }
+
+            @Override
+            public @Nullable PersistenceService get(@Nullable String serviceId) {
+                if (TestAggregatingPersistenceService.SERVICE_ID.equals(serviceId)) {
+                    return aggregatingService;
+                }
+                return TestPersistenceService.SERVICE_ID.equals(serviceId) ? testService : null;
+            }
+        }, persistenceServiceConfigurationRegistryMock, timeZoneProviderMock);
+    }
+
+    @Test
+    public void testCountBetween() {
+        for (ZonedDateTime[] range : RANGES) {
+            assertEquals(PersistenceExtensions.countBetween(numberItem, range[0], range[1], SERVICE_ID),
+                    PersistenceExtensions.countBetween(numberItem, range[0], range[1],
+                            TestAggregatingPersistenceService.SERVICE_ID));
+        }
+        assertThat(aggregatingService.getAggregations(), hasItem(Aggregation.COUNT));
+    }
+
+    @Test
+    public void testMinimumAndMaximumBetween() {
+        for (GenericItem item : List.of(numberItem, quantityItem)) {
+            for (ZonedDateTime[] range : RANGES) {
+                assertSameHistoricItem(PersistenceExtensions.minimumBetween(item, range[0], range[1], SERVICE_ID),
+                        PersistenceExtensions.minimumBetween(item, range[0], range[1],
+                                TestAggregatingPersistenceService.SERVICE_ID));
+                assertSameHistoricItem(PersistenceExtensions.maximumBetween(item, range[0], range[1], SERVICE_ID),
+                        PersistenceExtensions.maximumBetween(item, range[0], range[1],
+                                TestAggregatingPersistenceService.SERVICE_ID));
+            }
+        }
+        assertThat(aggregatingService.getAggregations(), hasItem(Aggregation.MINIMUM));
+        assertThat(aggregatingService.getAggregations(), hasItem(Aggregation.MAXIMUM));
+    }
+
+    @Test
+    public void testAverageAndRiemannSumBetween() {
+        for (GenericItem item : List.of(numberItem, quantityItem)) {
+            for (ZonedDateTime[] range : RANGES) {
+                assertSameState(
+                        PersistenceExtensions.averageBetween(item, range[0], range[1], RiemannType.LEFT, SERVICE_ID),
+                        PersistenceExtensions.averageBetween(item, range[0], range[1], RiemannType.LEFT,
+                                TestAggregatingPersistenceService.SERVICE_ID));
+                assertSameState(
+                        PersistenceExtensions.riemannSumBetween(item, range[0], range[1], RiemannType.LEFT,
+                                SERVICE_ID),
+                        PersistenceExtensions.riemannSumBetween(item, range[0], range[1], RiemannType.LEFT,
+                                TestAggregatingPersistenceService.SERVICE_ID));
+            }
+            ZonedDateTime begin = range(HISTORIC_INTERMEDIATE_VALUE_1, HISTORIC_END)[0];
+            // both calls use their own current time
+            State expected = PersistenceExtensions.averageSince(item, begin, SERVICE_ID);
+            State actual = PersistenceExtensions.averageSince(item, begin,
+                    TestAggregatingPersistenceService.SERVICE_ID);
+            assertNotNull(expected);
+            assertNotNull(actual);
+            assertThat(decimal(actual), closeTo(decimal(expected), new BigDecimal("0.000001")));
+        }
+        assertThat(aggregatingService.getAggregations(), hasItem(Aggregation.RIEMANN_SUM));
+    }
+
+    @Test
+    public void testOtherRiemannTypesAreNotAggregated() {
+        ZonedDateTime[] range = range(HISTORIC_INTERMEDIATE_VALUE_1, HISTORIC_END);
+        assertSameState(
+                PersistenceExtensions.averageBetween(numberItem, range[0], range[1], RiemannType.TRAPEZOIDAL,
+                        SERVICE_ID),
+                PersistenceExtensions.averageBetween(numberItem, range[0], range[1], RiemannType.TRAPEZOIDAL,
+                        TestAggregatingPersistenceService.SERVICE_ID));
+        assertTrue(aggregatingService.getAggregations().isEmpty());
+    }
+
+    @Test
+    public void testBucketedAggregation() {
+        ZonedDateTime[] range = range(HISTORIC_INTERMEDIATE_VALUE_1, HISTORIC_END);
+        FilterCriteria filter = new FilterCriteria().setItemName(PersistenceExtensionsTest.TEST_NUMBER)
+                .setBeginDate(range[0]).setEndDate(range[1]);
+
+        List<HistoricItem> buckets = aggregatingService.aggregate(filter, Aggregation.MAXIMUM, Duration.ofDays(366 * 2),
+                null);
+
+        assertEquals(4, buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            assertEquals(range[0].plus(Duration.ofDays(366 * 2).multipliedBy(i)), buckets.get(i).getTimestamp());
+        }
+        assertEquals(new DecimalType(HISTORIC_END), buckets.getLast().getState());
+    }
+
+    @Test
+    public void testBucketedAggregationQueriesTheRangeOnce() {
+        ZonedDateTime[] range = range(HISTORIC_INTERMEDIATE_VALUE_1, HISTORIC_END);
+        FilterCriteria filter = new FilterCriteria().setItemName(PersistenceExtensionsTest.TEST_NUMBER)
+                .setBeginDate(range[0]).setEndDate(range[1]);
+
+        List<HistoricItem> buckets = aggregatingService.aggregate(filter, Aggregation.SUM, Duration.ofDays(366), null);
+
+        assertEquals(1, aggregatingService.getQueries());
+        assertTrue(aggregatingService.getAggregations().isEmpty());
+        BigDecimal sum = buckets.stream().map(bucket -> decimal(bucket.getState())).reduce(BigDecimal.ZERO,
+                BigDecimal::add);
+        assertEquals(BigDecimal.valueOf((HISTORIC_INTERMEDIATE_VALUE_1 + HISTORIC_END) * 4), sum);
+    }
+
+    private static ZonedDateTime[] range(int beginYear, int endYear) {
+        return new ZonedDateTime[] { ZonedDateTime.of(beginYear, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault()),
+                ZonedDateTime.of(endYear, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault()) };
+    }
+
+    private static void assertSameHistoricItem(@Nullable HistoricItem expected, @Nullable HistoricItem actual) {
+        assertNotNull(expected);
+        assertNotNull(actual);
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertSameState(expected.getState(), actual.getState());
+    }
+
+    private static void assertSameState(@Nullable State expected, @Nullable State actual) {
+        if (expected == null) {
+            assertNull(actual);
+            return;
+        }
+        assertNotNull(actual);
+        assertEquals(expected.getClass(), actual.getClass());
+        if (expected instanceof QuantityType<?> expectedQuantity) {
+            assertEquals(expectedQuantity.getUnit(), ((QuantityType<?>) actual).getUnit());
+        }
+        // the values are rounded to 16 digits when all values are queried
+        BigDecimal error = decimal(expected).abs().multiply(new BigDecimal("1E-12")).max(new BigDecimal("1E-12"));
+        assertThat(decimal(actual), closeTo(decimal(expected), error));
+    }
+
+    private static BigDecimal decimal(State state) {
+        DecimalType decimal = state.as(DecimalType.class);
+        assertNotNull(decimal);
+        return decimal.toBigDecimal();
+    }
+}
@@ -23,9 +23,12 @@ import static org.openhab.core.persistence.extensions.TestPersistenceService.*;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import javax.measure.quantity.Temperature;
 
@@ -34,6 +37,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -88,7 +92,8 @@ public class PersistenceExtensionsTest {
     public static final String TEST_SWITCH = "testSwitch";
     public static final String TEST_ENERGYPRICE_QUANTITY_NUMBER = "testEnergyPriceQuantityItem";
 
-    private @Mock @NonNullByDefault({}) PersistenceManager persistenceManagerMock;
+    // the recent history cache methods keep their default implementation, so all queries reach the services
+    private @Mock(answer = Answers.CALLS_REAL_METHODS) @NonNullByDefault({}) PersistenceManager persistenceManagerMock;
     private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
     private @Mock @NonNullByDefault({}) UnitProvider unitProviderMock;
     private @Mock @NonNullByDefault({}) TimeZoneProvider timeZoneProviderMock;
@@ -2543,6 +2548,41 @@ public class PersistenceExtensionsTest {
         assertNull(sum);
     }
 
+    @Test
+    public void testSumSinceMultipleItems() {
+        ZonedDateTime begin = ZonedDateTime.of(HISTORIC_INTERMEDIATE_VALUE_1, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        Map<String, State> sums = PersistenceExtensions.sumSince(List.of(numberItem, quantityItem), begin,
+                SERVICE_ID);
+        assertNotNull(sums);
+        assertEquals(List.of(TEST_NUMBER, TEST_QUANTITY_NUMBER), List.copyOf(sums.keySet()));
+        assertEquals(PersistenceExtensions.sumSince(numberItem, begin, SERVICE_ID), sums.get(TEST_NUMBER));
+        assertEquals(PersistenceExtensions.sumSince(quantityItem, begin, SERVICE_ID), sums.get(TEST_QUANTITY_NUMBER));
+
+        // default persistence service
+        assertNull(PersistenceExtensions.sumSince(List.of(numberItem, quantityItem), begin));
+    }
+
+    @Test
+    public void testGetAllStatesBetweenMultipleItems() {
+        ZonedDateTime begin = ZonedDateTime.of(HISTORIC_INTERMEDIATE_VALUE_1, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        ZonedDateTime end = ZonedDateTime.of(FUTURE_INTERMEDIATE_VALUE_3, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        Map<String, Iterable<HistoricItem>> states = PersistenceExtensions
+                .getAllStatesBetween(List.of(quantityItem, numberItem), begin, end, SERVICE_ID);
+        assertNotNull(states);
+        assertEquals(List.of(TEST_QUANTITY_NUMBER, TEST_NUMBER), List.copyOf(states.keySet()));
+        for (GenericItem item : List.of(quantityItem, numberItem)) {
+            Iterable<HistoricItem> expected = PersistenceExtensions.getAllStatesBetween(item, begin, end, SERVICE_ID);
+            assertNotNull(expected);
+            Iterable<HistoricItem> actual = states.get(item.getName());
+            assertNotNull(actual);
+            assertEquals(StreamSupport.stream(expected.spliterator(), false).map(HistoricItem::getState).toList(),
+                    StreamSupport.stream(actual.spliterator(), false).map(HistoricItem::getState).toList());
+        }
+
+        // default persistence service
+        assertNull(PersistenceExtensions.getAllStatesBetween(List.of(numberItem), begin, end));
+    }
+
     @Test
     public void testSumSinceQuantityType() {
         State sum = PersistenceExtensions.sumSince(quantityItem,
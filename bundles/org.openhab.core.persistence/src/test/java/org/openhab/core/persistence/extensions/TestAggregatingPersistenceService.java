@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.extensions;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.AggregatingPersistenceService;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * A persistence service for unit tests that aggregates the values of {@link TestPersistenceService} itself.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TestAggregatingPersistenceService extends TestPersistenceService implements AggregatingPersistenceService {
+
+    public static final String SERVICE_ID = "aggregating";
+
+    private final List<Aggregation> aggregations = new ArrayList<>();
+    private int queries;
+
+    public TestAggregatingPersistenceService(ItemRegistry itemRegistry) {
+        super(itemRegistry);
+    }
+
+    @Override
+    public String getId() {
+        return SERVICE_ID;
+    }
+
+    /**
+     * Returns the aggregations that were requested from this service.
+     */
+    public List<Aggregation> getAggregations() {
+        return aggregations;
+    }
+
+    /**
+     * Returns the number of queries that were made to this service.
+     */
+    public int getQueries() {
+        return queries;
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter) {
+        queries++;
+        return super.query(filter);
+    }
+
+    @Override
+    public Set<Aggregation> getSupportedAggregations() {
+        return EnumSet.allOf(Aggregation.class);
+    }
+
+    @Override
+    public @Nullable HistoricItem aggregate(FilterCriteria filter, Aggregation aggregation, @Nullable String alias) {
+        aggregations.add(aggregation);
+        ZonedDateTime begin = Objects.requireNonNull(filter.getBeginDate());
+        ZonedDateTime end = Objects.requireNonNull(filter.getEndDate());
+        List<HistoricItem> values = new ArrayList<>();
+        query(new FilterCriteria(filter).setOrdering(Ordering.ASCENDING)).forEach(values::add);
+
+        switch (aggregation) {
+            case COUNT:
+                return result(filter, begin, new DecimalType(values.size()));
+            case MINIMUM:
+            case MAXIMUM:
+                HistoricItem extreme = null;
+                for (HistoricItem value : values) {
+                    if (extreme == null) {
+                        extreme = value;
+                    } else {
+                        int comparison = value(value).compareTo(value(extreme));
+                        if (aggregation == Aggregation.MINIMUM ? comparison < 0 : comparison > 0) {
+                            extreme = value;
+                        }
+                    }
+                }
+                return extreme;
+            case SUM:
+            case AVERAGE:
+                if (values.isEmpty()) {
+                    return null;
+                }
+                BigDecimal sum = values.stream().map(TestAggregatingPersistenceService::value).reduce(BigDecimal.ZERO,
+                        BigDecimal::add);
+                return result(filter, begin, new DecimalType(
+                        aggregation == Aggregation.SUM ? sum : sum.divide(BigDecimal.valueOf(values.size()))));
+            case RIEMANN_SUM:
+                FilterCriteria previousFilter = new FilterCriteria()
+                        .setItemName(Objects.requireNonNull(filter.getItemName())).setEndDate(begin)
+                        .setOrdering(Ordering.DESCENDING).setPageSize(1);
+                List<HistoricItem> summed = new ArrayList<>(
+                        values.stream().filter(value -> !value.getTimestamp().isBefore(begin)).toList());
+                if (summed.isEmpty() || summed.getFirst().getTimestamp().isAfter(begin)) {
+                    Iterator<HistoricItem> previous = query(previousFilter).iterator();
+                    if (previous.hasNext()) {
+                        summed.addFirst(previous.next());
+                    }
+                }
+                if (summed.isEmpty()) {
+                    return null;
+                }
+                ZonedDateTime start = summed.getFirst().getTimestamp().isAfter(begin)
+                        ? summed.getFirst().getTimestamp()
+                        : begin;
+                BigDecimal riemannSum = BigDecimal.ZERO;
+                for (int i = 0; i < summed.size(); i++) {
+                    ZonedDateTime from = i == 0 ? start : summed.get(i).getTimestamp();
+                    ZonedDateTime to = i + 1 < summed.size() ? summed.get(i + 1).getTimestamp() : end;
+                    riemannSum = riemannSum.add(value(summed.get(i))
+                            .multiply(BigDecimal.valueOf(Duration.between(from, to).toMillis()))
+                            .scaleByPowerOfTen(-3));
+                }
+                return result(filter, start, new DecimalType(riemannSum));
+        }
+        return null;
+    }
+
+    private static BigDecimal value(HistoricItem historicItem) {
+        return Objects.requireNonNull(historicItem.getState().as(DecimalType.class)).toBigDecimal();
+    }
+
+    private static HistoricItem result(FilterCriteria filter, ZonedDateTime timestamp, State state) {
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public String getName() {
+                return Objects.requireNonNull(filter.getItemName());
+            }
+        };
+    }
+}
@@ -14,6 +14,7 @@ package org.openhab.core.persistence.internal;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -23,11 +24,13 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -52,9 +55,11 @@ import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.items.StringItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.BatchingPersistenceService;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
+import org.openhab.core.persistence.MultiItemQueryablePersistenceService;
 import org.openhab.core.persistence.PersistedItem;
 import org.openhab.core.persistence.PersistenceItemConfiguration;
 import org.openhab.core.persistence.PersistenceService;
@@ -170,6 +175,7 @@ public class PersistenceManagerTest {
     private @Mock @NonNullByDefault({}) PersistenceService persistenceServiceMock;
     private @Mock @NonNullByDefault({}) QueryablePersistenceService queryablePersistenceServiceMock;
     private @Mock @NonNullByDefault({}) ModifiablePersistenceService modifiablePersistenceServiceMock;
+    private @Mock @NonNullByDefault({}) BatchingPersistenceService batchingPersistenceServiceMock;
 
     private @NonNullByDefault({}) PersistenceManagerImpl manager;
 
@@ -192,14 +198,22 @@ public class PersistenceManagerTest {
         when(itemRegistryMock.getItem(TEST_ITEM2_NAME)).thenReturn(TEST_ITEM2);
         when(itemRegistryMock.getItem(TEST_ITEM3_NAME)).thenReturn(TEST_ITEM3);
         when(itemRegistryMock.getItems()).thenReturn(List.of(TEST_ITEM, TEST_ITEM2, TEST_ITEM3, TEST_GROUP_ITEM));
+        when(itemRegistryMock.getAllStateMembers(TEST_GROUP_ITEM_NAME))
+                .thenAnswer(i -> TEST_GROUP_ITEM.getAllStateMembers());
+        when(itemRegistryMock.getAllStateMembers(TEST_GROUP_ITEM2_NAME))
+                .thenAnswer(i -> TEST_GROUP_ITEM2.getAllStateMembers());
         when(persistenceServiceMock.getId()).thenReturn(TEST_PERSISTENCE_SERVICE_ID);
         when(queryablePersistenceServiceMock.getId()).thenReturn(TEST_QUERYABLE_PERSISTENCE_SERVICE_ID);
         when(queryablePersistenceServiceMock.query(any(), any())).thenReturn(List.of(TEST_HISTORIC_ITEM));
         when(queryablePersistenceServiceMock.persistedItem(any(), any())).thenReturn(TEST_PERSISTED_ITEM);
+        when(queryablePersistenceServiceMock.persistedItems(any(), any())).thenAnswer(i -> {
+            Collection<String> itemNames = i.getArgument(0);
+            return itemNames.stream().collect(Collectors.toMap(name -> name, name -> TEST_PERSISTED_ITEM));
+        });
         when(modifiablePersistenceServiceMock.getId()).thenReturn(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID);
 
         manager = new PersistenceManagerImpl(cronSchedulerMock, schedulerMock, itemRegistryMock, safeCallerMock,
-                readyServiceMock, persistenceServiceConfigurationRegistryMock);
+                readyServiceMock, persistenceServiceConfigurationRegistryMock, Map.of());
         manager.addPersistenceService(persistenceServiceMock);
         manager.addPersistenceService(queryablePersistenceServiceMock);
         manager.addPersistenceService(modifiablePersistenceServiceMock);
@@ -250,6 +264,49 @@ public class PersistenceManagerTest {
         verifyNoMoreInteractions(persistenceServiceMock);
     }
 
+    @Test
+    public void batchingPersistenceServiceMockReceivesQueuedStates() {
+        when(batchingPersistenceServiceMock.getId()).thenReturn("batching");
+        manager.addPersistenceService(batchingPersistenceServiceMock);
+        addConfiguration("batching", List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        manager.stateUpdated(TEST_ITEM, new StringType("state1"));
+        manager.stateUpdated(TEST_ITEM, new StringType("state2"));
+        manager.removePersistenceService(batchingPersistenceServiceMock);
+
+        verify(batchingPersistenceServiceMock, never()).store(any(Item.class), any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BatchingPersistenceService.Entry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(batchingPersistenceServiceMock, atLeastOnce()).store(captor.capture());
+        List<BatchingPersistenceService.Entry> entries = captor.getAllValues().stream().flatMap(Collection::stream)
+                .toList();
+        assertThat(entries.size(), is(2));
+        assertThat(entries.get(0).item(), is(TEST_ITEM));
+        assertThat(entries.get(0).alias(), is(nullValue()));
+    }
+
+    @Test
+    public void appliesToItemAfterGroupMembershipChange() {
+        addConfiguration(TEST_PERSISTENCE_SERVICE_ID, List.of(new PersistenceGroupConfig(TEST_GROUP_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+        StringItem item = new StringItem("newItem");
+
+        manager.stateUpdated(item, TEST_STATE);
+        verifyNoMoreInteractions(persistenceServiceMock);
+
+        TEST_GROUP_ITEM.addMember(item);
+        try {
+            manager.added(item);
+            manager.stateUpdated(item, TEST_STATE);
+        } finally {
+            TEST_GROUP_ITEM.removeMember(item);
+        }
+
+        verify(persistenceServiceMock).store(item, null);
+        verifyNoMoreInteractions(persistenceServiceMock);
+    }
+
     @Test
     public void doesNotApplyToItemWithGroupConfig() {
         addConfiguration(TEST_PERSISTENCE_SERVICE_ID, List.of(new PersistenceGroupConfig(TEST_GROUP_ITEM_NAME)),
@@ -391,7 +448,8 @@ public class PersistenceManagerTest {
         assertThat(TEST_ITEM2.getState(), is(TEST_STATE));
         assertThat(TEST_GROUP_ITEM.getState(), is(TEST_STATE));
 
-        verify(queryablePersistenceServiceMock, times(3)).persistedItem(any(), any());
+        // all items are restored with one bulk query
+        verify(queryablePersistenceServiceMock).persistedItems(argThat(itemNames -> itemNames.size() == 3), any());
 
         ZonedDateTime lastStateUpdate = TEST_ITEM.getLastStateUpdate();
         assertNotNull(lastStateUpdate);
@@ -417,7 +475,7 @@ public class PersistenceManagerTest {
         assertThat(TEST_ITEM2.getState(), is(TEST_STATE));
         assertThat(TEST_GROUP_ITEM.getState(), is(TEST_STATE));
 
-        verify(queryablePersistenceServiceMock, times(2)).persistedItem(any(), any());
+        verify(queryablePersistenceServiceMock).persistedItems(argThat(itemNames -> itemNames.size() == 2), any());
 
         ZonedDateTime lastStateUpdate = TEST_ITEM.getLastStateUpdate();
         assertNotNull(lastStateUpdate);
@@ -520,12 +578,173 @@ public class PersistenceManagerTest {
         manager.timeSeriesUpdated(TEST_ITEM, timeSeries3);
         // verify old restore future is cancelled
         inOrder.verify(service, times(1)).store(any(Item.class), any(ZonedDateTime.class), any(State.class));
-        verify(futures.getFirst()).cancel(true);
+        verify(futures.getFirst()).cancel(false);
 
         // verify new restore future is properly created
         inOrder.verify(schedulerMock).at(any(SchedulerRunnable.class), eq(time5));
     }
 
+    @Test
+    public void forecastsAreAppliedByASingleJob() throws Exception {
+        TestModifiablePersistenceService service = new TestModifiablePersistenceService();
+        manager.addPersistenceService(service);
+        ArgumentCaptor<SchedulerRunnable> runnableCaptor = ArgumentCaptor.forClass(SchedulerRunnable.class);
+        when(schedulerMock.at(runnableCaptor.capture(), any(Instant.class))).thenReturn(scheduledFutureMock);
+        addConfiguration(TestModifiablePersistenceService.ID, List.of(new PersistenceAllConfig()),
+                PersistenceStrategy.Globals.FORECAST, null);
+
+        Instant now = Instant.now();
+        TimeSeries timeSeries = new TimeSeries(TimeSeries.Policy.ADD);
+        timeSeries.add(now.plusMillis(50), new StringType("one"));
+        timeSeries.add(now.plusMillis(80), new StringType("two"));
+        timeSeries.add(now.plusSeconds(3600), new StringType("three"));
+        manager.timeSeriesUpdated(TEST_ITEM, timeSeries);
+
+        // all states are buffered, only the job for the first one is scheduled
+        verify(schedulerMock).at(any(SchedulerRunnable.class), eq(now.plusMillis(50)));
+        Thread.sleep(100);
+        runnableCaptor.getValue().run();
+
+        // the last state that is due is applied and the job is scheduled for the next one
+        assertThat(TEST_ITEM.getState(), is(new StringType("two")));
+        verify(schedulerMock).at(any(SchedulerRunnable.class), eq(now.plusSeconds(3600)));
+        verifyNoMoreInteractions(schedulerMock);
+    }
+
+    @Test
+    public void historyCacheHoldsTheStatesWrittenWithExplicitTimestamps() {
+        when(modifiablePersistenceServiceMock.storesExactStates()).thenReturn(true);
+        manager.modified(
+                Map.of(PersistenceManagerImpl.CONFIG_HISTORY_CACHE, TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID + "=2"));
+        setupPersistence(new PersistenceItemConfig(TEST_ITEM_NAME));
+        when(safeCallerMock.create(modifiablePersistenceServiceMock, QueryablePersistenceService.class))
+                .thenReturn(safeCallerBuilderMock);
+        addConfiguration(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        for (String state : List.of("state1", "state2", "state3")) {
+            TEST_ITEM.setState(new StringType(state));
+            manager.stateUpdated(TEST_ITEM, TEST_ITEM.getState());
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+
+        ArgumentCaptor<ZonedDateTime> timestampCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(modifiablePersistenceServiceMock, times(3)).store(eq(TEST_ITEM), timestampCaptor.capture(),
+                any(State.class), isNull());
+        verify(modifiablePersistenceServiceMock, never()).store(any(Item.class), any());
+        HistoricItem cachedState = manager.getCachedState(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, TEST_ITEM, now);
+        assertThat(Objects.requireNonNull(cachedState).getState(), is(new StringType("state3")));
+        assertThat(cachedState.getInstant(), is(timestampCaptor.getValue().toInstant()));
+        // the cache only covers the time since the oldest state it holds
+        assertThat(manager.getCachedStates(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, TEST_ITEM, now.minusHours(1),
+                now), is(nullValue()));
+
+        manager.handleExternalPersistenceDataChange(modifiablePersistenceServiceMock, TEST_ITEM);
+        assertThat(manager.getCachedState(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, TEST_ITEM, now), is(nullValue()));
+    }
+
+    @Test
+    public void historyCacheIsOnlyUsedForServicesStoringExactStates() {
+        when(queryablePersistenceServiceMock.storesExactStates()).thenReturn(true);
+        manager.modified(Map.of(PersistenceManagerImpl.CONFIG_HISTORY_CACHE,
+                List.of(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID + "=2", TEST_QUERYABLE_PERSISTENCE_SERVICE_ID + "=2")));
+        setupPersistence(new PersistenceItemConfig(TEST_ITEM_NAME));
+        addConfiguration(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+        addConfiguration(TEST_QUERYABLE_PERSISTENCE_SERVICE_ID, List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        TEST_ITEM.setState(new StringType("state"));
+        manager.stateUpdated(TEST_ITEM, TEST_ITEM.getState());
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // the modifiable service does not store states exactly, the timestamp of the queryable service is unknown
+        verify(modifiablePersistenceServiceMock).store(TEST_ITEM, null);
+        assertThat(manager.getCachedState(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, TEST_ITEM, now), is(nullValue()));
+        assertThat(manager.getCachedState(TEST_QUERYABLE_PERSISTENCE_SERVICE_ID, TEST_ITEM, now), is(nullValue()));
+    }
+
+    @Test
+    public void historyCacheHoldsTheStatesOfWrittenBatches() {
+        BatchingPersistenceService service = mock(BatchingPersistenceService.class,
+                withSettings().extraInterfaces(QueryablePersistenceService.class));
+        when(service.getId()).thenReturn("batching");
+        when(((QueryablePersistenceService) service).storesExactStates()).thenReturn(true);
+        manager.modified(Map.of(PersistenceManagerImpl.CONFIG_HISTORY_CACHE, "batching=2"));
+        manager.addPersistenceService(service);
+        addConfiguration("batching", List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        TEST_ITEM.setState(new StringType("state"));
+        manager.stateUpdated(TEST_ITEM, TEST_ITEM.getState());
+        manager.deactivate();
+        ZonedDateTime now = ZonedDateTime.now();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BatchingPersistenceService.Entry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(service).store(captor.capture());
+        BatchingPersistenceService.Entry entry = captor.getValue().iterator().next();
+        HistoricItem cachedState = manager.getCachedState("batching", TEST_ITEM, now);
+        assertThat(Objects.requireNonNull(cachedState).getState(), is(entry.state()));
+        assertThat(cachedState.getInstant(), is(entry.timestamp().toInstant()));
+    }
+
+    @Test
+    public void historyCacheDoesNotHoldTheStatesOfFailedBatches() {
+        BatchingPersistenceService service = mock(BatchingPersistenceService.class,
+                withSettings().extraInterfaces(QueryablePersistenceService.class));
+        when(service.getId()).thenReturn("batching");
+        when(((QueryablePersistenceService) service).storesExactStates()).thenReturn(true);
+        doThrow(new IllegalStateException("failed")).when(service).store(anyCollection());
+        manager.modified(Map.of(PersistenceManagerImpl.CONFIG_HISTORY_CACHE, "batching=2"));
+        manager.addPersistenceService(service);
+        addConfiguration("batching", List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+
+        TEST_ITEM.setState(new StringType("state"));
+        manager.stateUpdated(TEST_ITEM, TEST_ITEM.getState());
+        manager.deactivate();
+
+        verify(service).store(anyCollection());
+        assertThat(manager.getCachedState("batching", TEST_ITEM, ZonedDateTime.now()), is(nullValue()));
+    }
+
+    @Test
+    public void queryOfSeveralItemsIsSplitIntoQueriesPerItem() {
+        when(queryablePersistenceServiceMock.query(argThat(filter -> TEST_ITEM2_NAME.equals(filter.getItemName())),
+                any())).thenThrow(new IllegalStateException("query failed"));
+        FilterCriteria filter = new FilterCriteria().setBeginDate(ZonedDateTime.now().minusDays(2));
+
+        Map<String, List<HistoricItem>> result = manager.query(queryablePersistenceServiceMock,
+                List.of(TEST_ITEM, TEST_ITEM2, TEST_ITEM3), filter, Map.of(TEST_ITEM3_NAME, "alias"));
+
+        // the failed query of the second item does not affect the other items
+        assertEquals(List.of(TEST_ITEM_NAME, TEST_ITEM3_NAME), List.copyOf(result.keySet()));
+        assertEquals(List.of(TEST_HISTORIC_ITEM), result.get(TEST_ITEM3_NAME));
+        verify(queryablePersistenceServiceMock).query(
+                argThat(f -> TEST_ITEM3_NAME.equals(f.getItemName()) && filter.getBeginDate() == f.getBeginDate()),
+                eq("alias"));
+        verify(queryablePersistenceServiceMock, times(3)).query(any(), any());
+        assertNull(filter.getItemName());
+    }
+
+    @Test
+    public void queryOfSeveralItemsIsPassedToMultiItemService() {
+        MultiItemQueryablePersistenceService multiItemServiceMock = mock(MultiItemQueryablePersistenceService.class);
+        when(multiItemServiceMock.query(any(), any(), any()))
+                .thenReturn(Map.of(TEST_ITEM2_NAME, List.of(TEST_HISTORIC_ITEM)));
+        FilterCriteria filter = new FilterCriteria();
+
+        Map<String, List<HistoricItem>> result = manager.query(multiItemServiceMock, List.of(TEST_ITEM, TEST_ITEM2),
+                filter, Map.of());
+
+        assertEquals(List.of(TEST_ITEM_NAME, TEST_ITEM2_NAME), List.copyOf(result.keySet()));
+        assertEquals(List.of(), result.get(TEST_ITEM_NAME));
+        assertEquals(List.of(TEST_HISTORIC_ITEM), result.get(TEST_ITEM2_NAME));
+        verify(multiItemServiceMock).query(filter, List.of(TEST_ITEM_NAME, TEST_ITEM2_NAME), Map.of());
+        verify(multiItemServiceMock, never()).query(any(), any());
+    }
+
     @Test
     public void externalPersistenceDataChangeIsHandled() {
         setupPersistence(new PersistenceAllConfig());
@@ -615,6 +834,7 @@ public class PersistenceManagerTest {
 
         when(safeCallerMock.create(queryablePersistenceServiceMock, QueryablePersistenceService.class))
                 .thenReturn(safeCallerBuilderMock);
+        when(safeCallerBuilderMock.withTimeout(anyLong())).thenReturn(safeCallerBuilderMock);
         when(safeCallerBuilderMock.onTimeout(any())).thenReturn(safeCallerBuilderMock);
         when(safeCallerBuilderMock.onException(any())).thenReturn(safeCallerBuilderMock);
         when(safeCallerBuilderMock.build()).thenReturn(queryablePersistenceServiceMock);
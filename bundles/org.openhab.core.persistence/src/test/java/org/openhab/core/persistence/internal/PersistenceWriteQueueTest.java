@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.BatchingPersistenceService;
+import org.openhab.core.persistence.BatchingPersistenceService.Entry;
+import org.openhab.core.persistence.PersistenceWriteListener;
+
+/**
+ * The {@link PersistenceWriteQueueTest} contains tests for the {@link PersistenceWriteQueue}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PersistenceWriteQueueTest {
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService schedulerMock;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> scheduledFutureMock;
+    private @Mock @NonNullByDefault({}) PersistenceWriteListener listenerMock;
+    private @Mock @NonNullByDefault({}) PersistenceWriteQueue.WriteCallback callbackMock;
+
+    private final List<List<Entry>> batches = new ArrayList<>();
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final StringItem item = new StringItem("item");
+
+    private final BatchingPersistenceService service = new BatchingPersistenceService() {
+        @Override
+        public String getId() {
+            return "batching";
+        }
+
+        @Override
+        public String getLabel(@Nullable Locale locale) {
+            return "Batching";
+        }
+
+        @Override
+        public void store(Item item) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void store(Item item, @Nullable String alias) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void store(Collection<Entry> entries) {
+            batches.add(List.copyOf(entries));
+        }
+    };
+
+    private @NonNullByDefault({}) PersistenceWriteQueue queue;
+
+    @BeforeEach
+    public void setup() {
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(schedulerMock).execute(any());
+        doAnswer(invocation -> {
+            tasks.add(invocation.getArgument(0));
+            return scheduledFutureMock;
+        }).when(schedulerMock).schedule(any(Runnable.class), anyLong(), any());
+        queue = new PersistenceWriteQueue(service, schedulerMock,
+                new PersistenceWriteQueue.Settings(3, Duration.ofSeconds(1), 5), List.of(listenerMock), callbackMock);
+    }
+
+    private void runTasks() {
+        List<Runnable> pendingTasks = List.copyOf(tasks);
+        tasks.clear();
+        pendingTasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testEntriesAreWrittenAfterTimeWindow() {
+        item.setState(new StringType("state1"));
+        queue.add(item, null);
+        item.setState(new StringType("state2"));
+        queue.add(item, "alias");
+
+        verify(schedulerMock).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(schedulerMock, never()).execute(any());
+        assertThat(batches, is(empty()));
+
+        runTasks();
+
+        assertThat(batches, hasSize(1));
+        List<Entry> batch = batches.getFirst();
+        assertThat(batch.get(0).state(), is(new StringType("state1")));
+        assertThat(batch.get(0).alias(), is(nullValue()));
+        assertThat(batch.get(1).state(), is(new StringType("state2")));
+        assertThat(batch.get(1).alias(), is("alias"));
+        assertThat(queue.size(), is(0));
+        verify(listenerMock).entriesFlushed(eq("batching"), eq(2), eq(0), anyLong());
+        verify(callbackMock).written(batch);
+        verify(callbackMock, never()).failed(any());
+    }
+
+    @Test
+    public void testBatchIsWrittenWhenBatchSizeIsReached() {
+        for (int i = 0; i < 3; i++) {
+            queue.add(item, null);
+        }
+
+        verify(schedulerMock).execute(any());
+        verify(listenerMock).entryQueued("batching", 3);
+
+        runTasks();
+
+        assertThat(batches, hasSize(1));
+        assertThat(batches.getFirst(), hasSize(3));
+    }
+
+    @Test
+    public void testCallerWritesQueueWhenCapacityIsReached() {
+        for (int i = 0; i < 5; i++) {
+            queue.add(item, null);
+        }
+
+        // written by the caller in batches of the configured size
+        assertThat(batches, hasSize(2));
+        assertThat(batches.get(0), hasSize(3));
+        assertThat(batches.get(1), hasSize(2));
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testFailingServiceDoesNotBlockQueue() {
+        BatchingPersistenceService failingService = mock(BatchingPersistenceService.class);
+        doThrow(new IllegalStateException("failed")).when(failingService).store(anyCollection());
+        PersistenceWriteQueue failingQueue = new PersistenceWriteQueue(failingService, schedulerMock,
+                new PersistenceWriteQueue.Settings(3, Duration.ofSeconds(1), 5), List.of(), callbackMock);
+
+        failingQueue.add(item, null);
+        failingQueue.flush();
+        failingQueue.add(item, null);
+        failingQueue.flush();
+
+        verify(failingService, times(2)).store(anyCollection());
+        assertThat(failingQueue.size(), is(0));
+        verify(callbackMock, times(2)).failed(any());
+        verify(callbackMock, never()).written(any());
+    }
+
+    @Test
+    public void testFailingListenerDoesNotBlockQueue() {
+        doThrow(new IllegalStateException("failed")).when(listenerMock).entryQueued(anyString(), anyInt());
+        doThrow(new IllegalStateException("failed")).when(listenerMock).entriesFlushed(anyString(), anyInt(),
+                anyInt(), anyLong());
+
+        queue.add(item, null);
+        queue.flush();
+        queue.add(item, null);
+        queue.flush();
+
+        assertThat(batches, hasSize(2));
+        assertThat(queue.size(), is(0));
+    }
+}
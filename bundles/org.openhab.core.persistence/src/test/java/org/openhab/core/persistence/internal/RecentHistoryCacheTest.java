@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceCacheListener;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Tests for {@link RecentHistoryCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class RecentHistoryCacheTest {
+
+    private static final String SERVICE_ID = "test";
+    private static final String ITEM_NAME = "item";
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private @Mock @NonNullByDefault({}) PersistenceCacheListener listenerMock;
+
+    private @NonNullByDefault({}) RecentHistoryCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new RecentHistoryCache(SERVICE_ID, 3, List.of(listenerMock));
+    }
+
+    @Test
+    public void statesInCoveredRangeAreReturned() {
+        for (int i = 0; i < 3; i++) {
+            cache.add(ITEM_NAME, START.plusSeconds(i * 10), new DecimalType(i));
+        }
+
+        assertThat(states(cache.getStates(ITEM_NAME, START, START.plusSeconds(15))),
+                contains(new DecimalType(0), new DecimalType(1)));
+        assertThat(states(cache.getStates(ITEM_NAME, START.plusSeconds(5), START.plusSeconds(20))),
+                contains(new DecimalType(1), new DecimalType(2)));
+        assertThat(cache.getStates(ITEM_NAME, START.plusSeconds(21), START.plusSeconds(25)), is(empty()));
+        assertThat(state(cache.getState(ITEM_NAME, START.plusSeconds(15))), is(new DecimalType(1)));
+        assertThat(state(cache.getState(ITEM_NAME, START.plusSeconds(20))), is(new DecimalType(2)));
+        verify(listenerMock, times(5)).historyCacheQueried(SERVICE_ID, true);
+    }
+
+    @Test
+    public void rangesBeforeOldestStateAreNotCovered() {
+        for (int i = 0; i < 5; i++) {
+            cache.add(ITEM_NAME, START.plusSeconds(i * 10), new DecimalType(i));
+        }
+
+        // the oldest states have been evicted, so the cache covers the time from the third state on
+        assertThat(cache.getStates(ITEM_NAME, START.plusSeconds(15), START.plusSeconds(40)), is(nullValue()));
+        assertThat(cache.getState(ITEM_NAME, START.plusSeconds(19)), is(nullValue()));
+        assertThat(states(cache.getStates(ITEM_NAME, START.plusSeconds(20), START.plusSeconds(40))),
+                contains(new DecimalType(2), new DecimalType(3), new DecimalType(4)));
+        assertThat(cache.getStates("other", START, START.plusSeconds(40)), is(nullValue()));
+        verify(listenerMock, times(3)).historyCacheQueried(SERVICE_ID, false);
+        verify(listenerMock).historyCacheQueried(SERVICE_ID, true);
+    }
+
+    @Test
+    public void futureRangesAreNotCovered() {
+        Instant now = Instant.now();
+        cache.add(ITEM_NAME, now.minusSeconds(10), new DecimalType(1));
+
+        assertThat(cache.getStates(ITEM_NAME, now.minusSeconds(10), now.plusSeconds(60)), is(nullValue()));
+        assertThat(cache.getState(ITEM_NAME, now.plusSeconds(60)), is(nullValue()));
+    }
+
+    @Test
+    public void invalidationAndUndefinedStates() {
+        cache.add(ITEM_NAME, START, new DecimalType(1));
+        cache.add(ITEM_NAME, START.plusSeconds(10), UnDefType.UNDEF);
+        assertThat(states(cache.getStates(ITEM_NAME, START, START.plusSeconds(10))), contains(new DecimalType(1)));
+
+        cache.invalidate(ITEM_NAME);
+        assertThat(cache.getState(ITEM_NAME, START.plusSeconds(10)), is(nullValue()));
+
+        cache.add(ITEM_NAME, START.plusSeconds(20), new DecimalType(2));
+        assertThat(cache.getStates(ITEM_NAME, START, START.plusSeconds(20)), is(nullValue()));
+        assertThat(state(cache.getState(ITEM_NAME, START.plusSeconds(20))), is(new DecimalType(2)));
+    }
+
+    private static List<State> states(@Nullable List<HistoricItem> historicItems) {
+        return Objects.requireNonNull(historicItems).stream().map(HistoricItem::getState).toList();
+    }
+
+    private static State state(@Nullable HistoricItem historicItem) {
+        return Objects.requireNonNull(historicItem).getState();
+    }
+}
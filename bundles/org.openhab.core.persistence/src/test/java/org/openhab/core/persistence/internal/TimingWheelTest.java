@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TimingWheel}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TimingWheelTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00.500Z");
+
+    private @NonNullByDefault({}) TimingWheel<String> wheel;
+
+    @BeforeEach
+    public void setUp() {
+        wheel = new TimingWheel<>(Duration.ofSeconds(1), 3, START);
+    }
+
+    @Test
+    public void valuesAreDueAtTheirTime() {
+        wheel.add(START.plusMillis(1200), "second");
+        wheel.add(START.plusMillis(700), "first");
+
+        assertThat(wheel.nextTime(), is(START.plusMillis(700)));
+        assertThat(advance(START.plusMillis(600)), is(empty()));
+        assertThat(advance(START.plusMillis(700)), contains("first"));
+        assertThat(wheel.nextTime(), is(START.plusMillis(1200)));
+        assertThat(advance(START.plusMillis(1199)), is(empty()));
+        assertThat(advance(START.plusMillis(1200)), contains("second"));
+        assertThat(wheel.nextTime(), is(nullValue()));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    public void valuesOfHigherLevelsAreMovedDown() {
+        wheel.add(START.plus(Duration.ofHours(1)), "hour");
+        wheel.add(START.plus(Duration.ofMinutes(15)), "quarter");
+        wheel.add(START.plus(Duration.ofSeconds(30)), "seconds");
+
+        assertThat(wheel.nextTime(), is(START.plus(Duration.ofSeconds(30))));
+        assertThat(advance(START.plus(Duration.ofSeconds(30))), contains("seconds"));
+        assertThat(wheel.nextTime(), is(START.plus(Duration.ofMinutes(15))));
+        assertThat(advance(START.plus(Duration.ofMinutes(15)).minusMillis(1)), is(empty()));
+        assertThat(advance(START.plus(Duration.ofMinutes(15))), contains("quarter"));
+        assertThat(wheel.nextTime(), is(START.plus(Duration.ofHours(1))));
+        assertThat(advance(START.plus(Duration.ofHours(1))), contains("hour"));
+    }
+
+    @Test
+    public void valuesBeyondTheWheelAreKept() {
+        // three levels cover 64^3 seconds, about three days
+        Instant far = START.plus(Duration.ofDays(30));
+        wheel.add(far, "far");
+        wheel.add(START.plus(Duration.ofDays(2)), "near");
+
+        assertThat(advance(START.plus(Duration.ofDays(2))), contains("near"));
+        assertThat(wheel.nextTime(), is(far));
+        assertThat(advance(far.minusSeconds(1)), is(empty()));
+        assertThat(advance(far), contains("far"));
+    }
+
+    @Test
+    public void pastValuesAreDueImmediately() {
+        wheel.add(START.plusSeconds(10), "future");
+        advance(START.plusSeconds(5));
+        wheel.add(START, "past");
+
+        assertThat(advance(START.plusSeconds(5)), contains("past"));
+        assertThat(advance(START.plusSeconds(10)), contains("future"));
+    }
+
+    @Test
+    public void manyValuesAreDueInOrder() {
+        Random random = new Random(42);
+        List<Instant> times = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Instant time = START.plusMillis(random.nextLong(Duration.ofDays(10).toMillis()));
+            times.add(time);
+            wheel.add(time, time.toString());
+        }
+
+        List<String> expired = new ArrayList<>();
+        Instant next;
+        while ((next = wheel.nextTime()) != null) {
+            // only the values of the next point in time are due
+            List<String> due = advance(next);
+            assertThat(due.isEmpty(), is(false));
+            for (String value : due) {
+                assertThat(value, is(next.toString()));
+            }
+            expired.addAll(due);
+        }
+
+        assertThat(expired, is(times.stream().sorted().map(Instant::toString).toList()));
+    }
+
+    @Test
+    public void clearRemovesAllValues() {
+        wheel.add(START.plusSeconds(1), "second");
+        wheel.add(START.plus(Duration.ofDays(1)), "day");
+        wheel.clear();
+
+        assertThat(wheel.size(), is(0));
+        assertThat(wheel.nextTime(), is(nullValue()));
+        assertThat(advance(START.plus(Duration.ofDays(2))), is(empty()));
+    }
+
+    private List<String> advance(Instant now) {
+        List<String> values = new ArrayList<>();
+        wheel.advance(now, values::add);
+        return values;
+    }
+}
@@ -13,13 +13,14 @@
 package org.openhab.core.common.registry;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
@@ -74,9 +75,13 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
     private final ReentrantReadWriteLock.ReadLock elementReadLock = elementLock.readLock();
     private final ReentrantReadWriteLock.WriteLock elementWriteLock = elementLock.writeLock();
     private final Map<Provider<E>, Collection<E>> providerToElements = new HashMap<>();
-    private final Map<E, Provider<E>> elementToProvider = new HashMap<>();
-    private final Map<K, E> identifierToElement = new HashMap<>();
-    private final Set<E> elements = new HashSet<>();
+
+    // modified while holding the write lock only, but read without any lock
+    private final Map<E, Provider<E>> elementToProvider = new ConcurrentHashMap<>();
+    private final Map<K, E> identifierToElement = new ConcurrentHashMap<>();
+
+    // immutable snapshot of all elements, reset on every modification and created on demand
+    private volatile @Nullable Collection<E> elementsSnapshot;
 
     private final Collection<RegistryChangeListener<E>> listeners = new CopyOnWriteArraySet<>();
 
@@ -214,10 +219,10 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                     ex.getMessage(), logger.isDebugEnabled() ? ex : null);
             return false;
         }
-        identifierToElement.put(element.getUID(), element);
         elementToProvider.put(element, provider);
+        identifierToElement.put(element.getUID(), element);
         providerElements.add(element);
-        elements.add(element);
+        elementsSnapshot = null;
         return true;
     }
 
@@ -228,12 +233,20 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
 
     @Override
     public Collection<E> getAll() {
-        elementReadLock.lock();
-        try {
-            return new HashSet<>(elements);
-        } finally {
-            elementReadLock.unlock();
+        Collection<E> snapshot = elementsSnapshot;
+        if (snapshot == null) {
+            elementReadLock.lock();
+            try {
+                snapshot = elementsSnapshot;
+                if (snapshot == null) {
+                    snapshot = Collections.unmodifiableSet(new HashSet<>(identifierToElement.values()));
+                    elementsSnapshot = snapshot;
+                }
+            } finally {
+                elementReadLock.unlock();
+            }
         }
+        return snapshot;
     }
 
     @Override
@@ -276,7 +289,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
             if (providerElements != null) {
                 providerElements.remove(existingElement);
             }
-            elements.remove(existingElement);
+            elementsSnapshot = null;
         } finally {
             elementWriteLock.unlock();
         }
@@ -317,16 +330,18 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                         ex.getMessage(), ex);
                 return;
             }
-            identifierToElement.put(uid, element);
-            elementToProvider.remove(existingElement);
+            // keep the provider resolvable for readers that see the new element
             elementToProvider.put(element, provider);
+            identifierToElement.put(uid, element);
+            if (!existingElement.equals(element)) {
+                elementToProvider.remove(existingElement);
+            }
             final Collection<E> providerElements = providerToElements.get(provider);
             if (providerElements != null) {
                 providerElements.remove(existingElement);
                 providerElements.add(element);
             }
-            elements.remove(existingElement);
-            elements.add(element);
+            elementsSnapshot = null;
         } finally {
             elementWriteLock.unlock();
         }
@@ -335,12 +350,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
 
     @Override
     public @Nullable E get(K key) {
-        elementReadLock.lock();
-        try {
-            return identifierToElement.get(key);
-        } finally {
-            elementReadLock.unlock();
-        }
+        return identifierToElement.get(key);
     }
 
     /**
@@ -350,14 +360,9 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider and element entry or null if no element was found
      */
     protected @Nullable Entry<Provider<E>, E> getValueAndProvider(K key) {
-        elementReadLock.lock();
-        try {
-            final @Nullable E element = identifierToElement.get(key);
-            final Provider<E> provider = elementToProvider.get(element);
-            return element == null || provider == null ? null : Map.entry(provider, element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        final @Nullable E element = identifierToElement.get(key);
+        final Provider<E> provider = element == null ? null : elementToProvider.get(element);
+        return element == null || provider == null ? null : Map.entry(provider, element);
     }
 
     @Override
@@ -481,13 +486,8 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider or null if no provider was found
      */
     protected @Nullable Provider<E> getProvider(K key) {
-        elementReadLock.lock();
-        try {
-            final @Nullable E element = identifierToElement.get(key);
-            return element == null ? null : elementToProvider.get(element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        final @Nullable E element = identifierToElement.get(key);
+        return element == null ? null : elementToProvider.get(element);
     }
 
     /**
@@ -497,12 +497,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider or null if no provider was found
      */
     public @Nullable Provider<E> getProvider(E element) {
-        elementReadLock.lock();
-        try {
-            return elementToProvider.get(element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        return elementToProvider.get(element);
     }
 
     /**
@@ -514,7 +509,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * collections.
      * You should also not call third party code that could e.g. access the registry itself again. This could lead to a
      * dead lock and hard finding bugs.
-     * The {@link #getAll()} and {@link #stream()} method will operate on a copy and so no lock is hold.
+     * The {@link #getAll()} and {@link #stream()} method will operate on a snapshot and so no lock is hold.
      *
      * @param provider provider to traverse elements of
      * @param consumer function to call with element
@@ -540,14 +535,14 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * collections.
      * You should also not call third party code that could e.g. access the registry itself again. This could lead to a
      * dead lock and hard finding bugs.
-     * The {@link #getAll()} and {@link #stream()} method will operate on a copy and so no lock is hold.
+     * The {@link #getAll()} and {@link #stream()} method will operate on a snapshot and so no lock is hold.
      *
      * @param consumer function to call with element
      */
     protected void forEach(Consumer<E> consumer) {
         elementReadLock.lock();
         try {
-            elements.forEach(consumer);
+            identifierToElement.values().forEach(consumer);
         } finally {
             elementReadLock.unlock();
         }
@@ -563,7 +558,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * collections.
      * You should also not call third party code that could e.g. access the registry itself again. This could lead to a
      * dead lock and hard finding bugs.
-     * The {@link #getAll()} and {@link #stream()} method will operate on a copy and so no lock is hold.
+     * The {@link #getAll()} and {@link #stream()} method will operate on a snapshot and so no lock is hold.
      *
      * @param consumer function to call with the provider and element
      */
@@ -664,6 +659,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                         provider.getClass().getSimpleName());
                 return;
             }
+            elementsSnapshot = null;
             for (final E element : providerElements) {
                 try {
                     onRemoveElement(element);
@@ -674,9 +670,8 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                             ex.getMessage(), ex);
                 }
                 removedElements.add(element);
-                elements.remove(element);
-                elementToProvider.remove(element);
                 identifierToElement.remove(element.getUID());
+                elementToProvider.remove(element);
             }
         } finally {
             elementWriteLock.unlock();
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -28,7 +30,9 @@ public abstract class AbstractEvent implements Event {
 
     private final String topic;
 
-    private final String payload;
+    private volatile @Nullable String payload;
+
+    private volatile @Nullable Supplier<String> payloadSupplier;
 
     private final @Nullable String source;
 
@@ -45,6 +49,22 @@ public abstract class AbstractEvent implements Event {
         this.source = source;
     }
 
+    /**
+     * Must be called in subclass constructor to create a new event with a payload that is serialized on first access.
+     *
+     * Events that are dispatched inside the JVM are handed to the subscribers as they are, so the payload is only
+     * serialized if a subscriber (e.g. a remote client) actually requests it.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier for the serialized payload
+     * @param source the source
+     */
+    protected AbstractEvent(String topic, Supplier<String> payloadSupplier, @Nullable String source) {
+        this.topic = topic;
+        this.payloadSupplier = payloadSupplier;
+        this.source = source;
+    }
+
     @Override
     public String getTopic() {
         return topic;
@@ -52,7 +72,28 @@ public abstract class AbstractEvent implements Event {
 
     @Override
     public String getPayload() {
-        return payload;
+        String localPayload = payload;
+        if (localPayload == null) {
+            synchronized (this) {
+                localPayload = payload;
+                if (localPayload == null) {
+                    Supplier<String> localPayloadSupplier = payloadSupplier;
+                    localPayload = localPayloadSupplier == null ? "" : localPayloadSupplier.get();
+                    payload = localPayload;
+                    payloadSupplier = null;
+                }
+            }
+        }
+        return localPayload;
+    }
+
+    /**
+     * Checks whether the payload of this event has not been serialized yet.
+     *
+     * @return true if the payload is serialized on first access of {@link #getPayload()}
+     */
+    public boolean isPayloadDeferred() {
+        return payload == null;
     }
 
     @Override
@@ -64,7 +105,7 @@ public abstract class AbstractEvent implements Event {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + payload.hashCode();
+        result = prime * result + getPayload().hashCode();
         result = prime * result + (source instanceof String local ? local.hashCode() : 0);
         result = prime * result + topic.hashCode();
         return result;
@@ -82,7 +123,7 @@ public abstract class AbstractEvent implements Event {
             return false;
         }
         AbstractEvent other = (AbstractEvent) obj;
-        if (!payload.equals(other.payload)) {
+        if (!getPayload().equals(other.getPayload())) {
             return false;
         }
         String localSource = source;
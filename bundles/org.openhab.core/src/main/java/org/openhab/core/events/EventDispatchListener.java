@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * An {@link EventDispatchListener} is notified about the events handled by the openHAB event bus, e.g. to collect
+ * metrics. Implementations are registered as OSGi services.
+ * <p>
+ * The methods are called by the threads dispatching and delivering events, so they have to return quickly and must
+ * not block.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface EventDispatchListener {
+
+    /**
+     * Called for every event handled by the event bus, regardless of the number of subscribers.
+     *
+     * @param eventType the type of the event
+     */
+    default void eventDispatched(String eventType) {
+    }
+
+    /**
+     * Called after an event has been queued for delivery to a subscriber.
+     *
+     * @param subscriberType the class name of the subscriber
+     * @param queueSize the number of events waiting for delivery to subscribers of this class
+     */
+    default void eventQueued(String subscriberType, int queueSize) {
+    }
+
+    /**
+     * Called after an event has been delivered to a subscriber.
+     *
+     * @param subscriberType the class name of the subscriber
+     * @param event the delivered event
+     * @param queueSize the number of events still waiting for delivery to subscribers of this class
+     * @param delayNanos the time between queueing the event and calling {@link EventSubscriber#receive(Event)}
+     * @param durationNanos the time spent in {@link EventSubscriber#receive(Event)}
+     */
+    default void eventDelivered(String subscriberType, Event event, int queueSize, long delayNanos,
+            long durationNanos) {
+    }
+}
@@ -12,7 +12,10 @@
  */
 package org.openhab.core.events;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * An {@link EventFilter} can be provided by an {@link EventSubscriber} in order
@@ -34,4 +37,18 @@ public interface EventFilter {
      * @return true if the filter criterion applies
      */
     boolean apply(Event event);
+
+    /**
+     * Gets the topic scopes this filter is limited to.
+     * <p>
+     * A topic scope consists of the first three segments of an event topic, e.g. {@code openhab/items/MyItem} for the
+     * topic {@code openhab/items/MyItem/state}. If a filter returns topic scopes, it must never apply to an event whose
+     * topic is outside these scopes. This allows the event bus to look up the matching subscribers of an event instead
+     * of applying the filters of all subscribers.
+     *
+     * @return the topic scopes or null if the filter may apply to events of any topic
+     */
+    default @Nullable Set<String> getTopicScopes() {
+        return null;
+    }
 }
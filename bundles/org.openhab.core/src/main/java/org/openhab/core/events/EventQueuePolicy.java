@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EventQueuePolicy} defines how many events may be queued for delivery to an {@link EventSubscriber} and
+ * what happens if more events arrive while the queue is full.
+ * <p>
+ * Events are queued per subscriber class, i.e. all instances of a subscriber class share the same queue.
+ *
+ * @param overflow the behaviour if the queue is full
+ * @param capacity the maximum number of queued events
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public record EventQueuePolicy(Overflow overflow, int capacity) {
+
+    /**
+     * The behaviour if an event is dispatched to a full queue.
+     */
+    public enum Overflow {
+        /**
+         * The dispatching thread waits until there is space in the queue.
+         */
+        BLOCK,
+        /**
+         * The oldest event in the queue is dropped.
+         */
+        DROP_OLDEST,
+        /**
+         * Item state events replace a queued item state event of the same topic and subscriber, so only the latest
+         * state of an item is delivered. The newer event is delivered at the position of the replaced one. Other
+         * events, e.g. state changed events whose old state must not get lost, are never replaced. If the queue is
+         * full nonetheless, the oldest event is dropped.
+         */
+        COALESCE
+    }
+
+    public EventQueuePolicy {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of an event queue must be positive.");
+        }
+    }
+
+    /**
+     * Parses a policy in the format {@code <overflow>:<capacity>}, e.g. {@code coalesce:1000}.
+     *
+     * @param policy the policy string
+     * @return the event queue policy
+     * @throws IllegalArgumentException if the policy string is invalid
+     */
+    public static EventQueuePolicy parse(String policy) throws IllegalArgumentException {
+        String[] parts = policy.trim().split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(
+                    "Event queue policy '" + policy + "' is not of the form <overflow>:<capacity>.");
+        }
+        try {
+            Overflow overflow = Overflow.valueOf(parts[0].trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            return new EventQueuePolicy(overflow, Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Event queue policy '" + policy + "' has an invalid capacity.", e);
+        }
+    }
+}
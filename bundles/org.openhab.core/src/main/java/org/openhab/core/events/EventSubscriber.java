@@ -49,6 +49,16 @@ public interface EventSubscriber {
         return null;
     }
 
+    /**
+     * Gets the {@link EventQueuePolicy} for the queue of events waiting to be delivered to subscribers of this class.
+     * If there is no policy, the queue is unbounded. A policy configured for the subscriber class takes precedence.
+     *
+     * @return the event queue policy, or null
+     */
+    default @Nullable EventQueuePolicy getEventQueuePolicy() {
+        return null;
+    }
+
     /**
      * Callback method for receiving {@link Event}s from the openHAB event bus. This method is called for
      * every event where the event subscriber is subscribed to and the event filter applies.
@@ -14,11 +14,14 @@ package org.openhab.core.events;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link TopicEventFilter} is a default openHAB {@link EventFilter} implementation that ensures filtering
@@ -33,6 +36,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class TopicEventFilter implements EventFilter {
 
     private final List<Pattern> topicsRegexes;
+    private final @Nullable Set<String> topicScopes;
 
     /**
      * Constructs a new topic event filter.
@@ -43,6 +47,7 @@ public class TopicEventFilter implements EventFilter {
      */
     public TopicEventFilter(String topicRegex) {
         this.topicsRegexes = List.of(Pattern.compile(topicRegex));
+        this.topicScopes = TopicScopes.fromRegex(topicRegex);
     }
 
     /**
@@ -55,14 +60,28 @@ public class TopicEventFilter implements EventFilter {
      */
     public TopicEventFilter(List<String> topicsRegexes) throws PatternSyntaxException {
         List<Pattern> tmpTopicsRegexes = new ArrayList<>();
+        Set<String> tmpTopicScopes = new HashSet<>();
+        boolean scoped = true;
         for (String topicRegex : topicsRegexes) {
             tmpTopicsRegexes.add(Pattern.compile(topicRegex));
+            Set<String> scopes = TopicScopes.fromRegex(topicRegex);
+            if (scopes == null) {
+                scoped = false;
+            } else {
+                tmpTopicScopes.addAll(scopes);
+            }
         }
         this.topicsRegexes = Collections.unmodifiableList(tmpTopicsRegexes);
+        this.topicScopes = scoped && !tmpTopicScopes.isEmpty() ? Set.copyOf(tmpTopicScopes) : null;
     }
 
     @Override
     public boolean apply(Event event) {
         return topicsRegexes.stream().anyMatch(p -> p.matcher(event.getTopic()).matches());
     }
+
+    @Override
+    public @Nullable Set<String> getTopicScopes() {
+        return topicScopes;
+    }
 }
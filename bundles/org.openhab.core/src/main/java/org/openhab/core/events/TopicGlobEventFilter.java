@@ -15,8 +15,10 @@ package org.openhab.core.events;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link TopicGlobEventFilter} is a default openHAB {@link EventFilter} implementation that ensures filtering
@@ -31,6 +33,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class TopicGlobEventFilter implements EventFilter {
 
     private final PathMatcher topicMatcher;
+    private final @Nullable Set<String> topicScopes;
 
     /**
      * Constructs a new topic event filter.
@@ -42,10 +45,16 @@ public class TopicGlobEventFilter implements EventFilter {
      */
     public TopicGlobEventFilter(String topicGlob) {
         this.topicMatcher = FileSystems.getDefault().getPathMatcher("glob:" + topicGlob);
+        this.topicScopes = TopicScopes.fromGlob(topicGlob);
     }
 
     @Override
     public boolean apply(Event event) {
         return topicMatcher.matches(Path.of(event.getTopic()));
     }
+
+    @Override
+    public @Nullable Set<String> getTopicScopes() {
+        return topicScopes;
+    }
 }
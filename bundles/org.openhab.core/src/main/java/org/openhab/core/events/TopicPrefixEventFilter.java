@@ -12,7 +12,10 @@
  */
 package org.openhab.core.events;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link TopicPrefixEventFilter} is a default openHAB {@link EventFilter} implementation that ensures filtering
@@ -24,6 +27,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class TopicPrefixEventFilter implements EventFilter {
 
     private final String topicPrefix;
+    private final @Nullable Set<String> topicScopes;
 
     /**
      * Constructs a new topic event filter.
@@ -32,10 +36,16 @@ public class TopicPrefixEventFilter implements EventFilter {
      */
     public TopicPrefixEventFilter(String topicPrefix) {
         this.topicPrefix = topicPrefix;
+        this.topicScopes = TopicScopes.fromLiteralPrefix(topicPrefix);
     }
 
     @Override
     public boolean apply(Event event) {
         return event.getTopic().startsWith(topicPrefix);
     }
+
+    @Override
+    public @Nullable Set<String> getTopicScopes() {
+        return topicScopes;
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link TopicScopes} class provides helper methods for the topic filters to determine the topic scopes (see
+ * {@link EventFilter#getTopicScopes()}) they are limited to.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class TopicScopes {
+
+    private static final int SCOPE_SEGMENTS = 3;
+    private static final String GLOB_SPECIAL_CHARS = "*?[]{}\\";
+    private static final String REGEX_QUANTIFIERS = "?*+{";
+
+    private TopicScopes() {
+        // utility class
+    }
+
+    /**
+     * Gets the topic scope from a literal topic prefix.
+     *
+     * @param prefix the literal prefix all matching topics start with
+     * @return the topic scope or null if the prefix does not cover the complete topic scope
+     */
+    static @Nullable Set<String> fromLiteralPrefix(String prefix) {
+        int end = -1;
+        for (int i = 0; i < SCOPE_SEGMENTS; i++) {
+            end = prefix.indexOf('/', end + 1);
+            if (end < 0) {
+                return null;
+            }
+        }
+        return Set.of(prefix.substring(0, end));
+    }
+
+    /**
+     * Gets the topic scope of a glob pattern.
+     *
+     * @param glob the glob pattern
+     * @return the topic scope or null if the glob may match topics of arbitrary scopes
+     */
+    static @Nullable Set<String> fromGlob(String glob) {
+        int end = 0;
+        while (end < glob.length() && GLOB_SPECIAL_CHARS.indexOf(glob.charAt(end)) < 0) {
+            end++;
+        }
+        return fromLiteralPrefix(glob.substring(0, end));
+    }
+
+    /**
+     * Gets the topic scope of a regular expression.
+     * <p>
+     * Only simple regular expressions starting with literal topic segments are taken into account.
+     *
+     * @param regex the regular expression
+     * @return the topic scope or null if the regular expression may match topics of arbitrary scopes
+     */
+    static @Nullable Set<String> fromRegex(String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return null;
+        }
+        int start = regex.startsWith("^") ? 1 : 0;
+        int end = start;
+        while (end < regex.length() && isRegexLiteral(regex.charAt(end))
+                && (end + 1 == regex.length() || REGEX_QUANTIFIERS.indexOf(regex.charAt(end + 1)) < 0)) {
+            end++;
+        }
+        return fromLiteralPrefix(regex.substring(start, end));
+    }
+
+    private static boolean isRegexLiteral(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == ':' || c == '/';
+    }
+}
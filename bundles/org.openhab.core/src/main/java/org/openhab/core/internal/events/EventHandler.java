@@ -13,16 +13,13 @@
 package org.openhab.core.internal.events;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -31,14 +28,20 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.events.Event;
+import org.openhab.core.events.EventDispatchListener;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventQueuePolicy;
 import org.openhab.core.events.EventSubscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Handle openHAB events encapsulated by OSGi events.
+ * <p>
+ * Events may be handled by multiple threads concurrently. Events for subscribers of the same class are delivered
+ * sequentially in the order they have been dispatched. The events waiting for delivery to subscribers of the same class
+ * are held in a {@link SubscriberQueue}, which may be bounded by an {@link EventQueuePolicy}.
  *
  * @author Markus Rathgeb - Initial contribution
  */
@@ -47,42 +50,77 @@ public class EventHandler implements AutoCloseable {
 
     private static final int EVENT_QUEUE_WARN_LIMIT = 5000;
     private static final long EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final long WATCHER_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
 
     private final Logger logger = LoggerFactory.getLogger(EventHandler.class);
 
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers;
+    private final EventSubscriberIndex eventSubscribers;
     private final Map<String, EventFactory> typedEventFactories;
+    private final Map<String, EventQueuePolicy> queuePolicies;
+    private final List<EventDispatchListener> listeners;
 
-    private final Map<Class<? extends EventSubscriber>, ExecutorRecord> executors = new HashMap<>();
+    // Use a concurrent hash map because events may be dispatched by multiple threads!
+    private final Map<Class<? extends EventSubscriber>, SubscriberQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger executorCount = new AtomicInteger();
     private final ScheduledExecutorService watcher;
 
     /**
      * Create a new event handler.
      *
-     * @param typedEventSubscribers the event subscribers indexed by the event type
+     * @param eventSubscribers the event subscribers indexed by the event type and topic scope
      * @param typedEventFactories the event factories indexed by the event type
+     * @param queuePolicies the configured event queue policies indexed by the subscriber class name
+     * @param listeners the listeners notified about dispatched and delivered events
      */
-    public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
-        this.typedEventSubscribers = typedEventSubscribers;
+    EventHandler(final EventSubscriberIndex eventSubscribers, final Map<String, EventFactory> typedEventFactories,
+            final Map<String, EventQueuePolicy> queuePolicies, final List<EventDispatchListener> listeners) {
+        this.eventSubscribers = eventSubscribers;
         this.typedEventFactories = typedEventFactories;
+        this.queuePolicies = queuePolicies;
+        this.listeners = listeners;
         watcher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("eventwatcher"));
+        watcher.scheduleWithFixedDelay(this::checkDeliveries, WATCHER_INTERVAL_MS, WATCHER_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
     }
 
-    private synchronized ExecutorRecord createExecutorRecord(Class<? extends EventSubscriber> subscriber) {
-        return new ExecutorRecord(ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("events",
-                "eventexecutor-" + executors.size()), new AtomicInteger());
+    private SubscriberQueue createQueue(final EventSubscriber subscriber) {
+        final String name = subscriber.getClass().getName();
+        EventQueuePolicy policy = queuePolicies.get(name);
+        if (policy == null) {
+            policy = subscriber.getEventQueuePolicy();
+        }
+        if (policy != null) {
+            logger.debug("Using event queue policy {} for subscribers of type '{}'.", policy, name);
+        }
+        return new SubscriberQueue(name, ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("events",
+                "eventexecutor-" + executorCount.getAndIncrement()), policy, listeners);
+    }
+
+    private void checkDeliveries() {
+        long now = System.nanoTime();
+        long maxNanos = TimeUnit.MILLISECONDS.toNanos(EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS);
+        for (SubscriberQueue queue : queues.values()) {
+            EventSubscriber stalled = queue.getStalledSubscriber(now, maxNanos);
+            if (stalled != null) {
+                logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.", stalled,
+                        EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS);
+            }
+        }
     }
 
     @Override
     public void close() {
-        executors.values().forEach(r -> {
-            r.executor.shutdownNow();
-        });
+        queues.values().forEach(SubscriberQueue::shutdown);
         watcher.shutdownNow();
     }
 
     public void handleEvent(org.osgi.service.event.Event osgiEvent) {
+        if (osgiEvent.getProperty(OSGiEventPublisher.EVENT) instanceof Event event) {
+            // the event has been posted inside this JVM, so there is no need to serialize and parse it again
+            handleEvent(event);
+            return;
+        }
+
         Object typeObj = osgiEvent.getProperty(OSGiEventPublisher.TYPE);
         Object payloadObj = osgiEvent.getProperty(OSGiEventPublisher.PAYLOAD);
         Object topicObj = osgiEvent.getProperty(OSGiEventPublisher.TOPIC);
@@ -108,8 +146,9 @@ public class EventHandler implements AutoCloseable {
             logger.debug("Could not find an Event Factory for the event type '{}'.", type);
             return;
         }
+        notifyDispatched(type);
 
-        final Set<EventSubscriber> eventSubscribers = getEventSubscribers(type);
+        final Set<EventSubscriber> eventSubscribers = this.eventSubscribers.getEventSubscribers(type, topic);
         if (eventSubscribers.isEmpty()) {
             return;
         }
@@ -122,18 +161,21 @@ public class EventHandler implements AutoCloseable {
         dispatchEvent(eventSubscribers, event);
     }
 
-    private Set<EventSubscriber> getEventSubscribers(String eventType) {
-        Set<EventSubscriber> eventTypeSubscribers = typedEventSubscribers.get(eventType);
-        Set<EventSubscriber> allEventTypeSubscribers = typedEventSubscribers.get(EventSubscriber.ALL_EVENT_TYPES);
-
-        Set<EventSubscriber> subscribers = new HashSet<>();
-        if (eventTypeSubscribers != null) {
-            subscribers.addAll(eventTypeSubscribers);
+    private void handleEvent(final Event event) {
+        final String type = event.getType();
+        if (!typedEventFactories.containsKey(type)) {
+            logger.debug("Could not find an Event Factory for the event type '{}'.", type);
+            return;
         }
-        if (allEventTypeSubscribers != null) {
-            subscribers.addAll(allEventTypeSubscribers);
+        notifyDispatched(type);
+
+        final Set<EventSubscriber> eventSubscribers = this.eventSubscribers.getEventSubscribers(type,
+                event.getTopic());
+        if (eventSubscribers.isEmpty()) {
+            return;
         }
-        return subscribers;
+
+        dispatchEvent(eventSubscribers, event);
     }
 
     private @Nullable Event createEvent(final EventFactory eventFactory, final String type, final String payload,
@@ -148,37 +190,52 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private synchronized void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event) {
+    private void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event) {
         for (final EventSubscriber eventSubscriber : eventSubscribers) {
             EventFilter filter = eventSubscriber.getEventFilter();
             if (filter == null || filter.apply(event)) {
                 logger.trace("Delegate event to subscriber ({}).", eventSubscriber.getClass());
-                ExecutorRecord executorRecord = Objects.requireNonNull(
-                        executors.computeIfAbsent(eventSubscriber.getClass(), this::createExecutorRecord));
-                int queueSize = executorRecord.count.incrementAndGet();
+                SubscriberQueue queue = Objects.requireNonNull(
+                        queues.computeIfAbsent(eventSubscriber.getClass(), c -> createQueue(eventSubscriber)));
+                int queueSize;
+                try {
+                    queueSize = queue.add(eventSubscriber, event);
+                } catch (InterruptedException e) {
+                    logger.debug("Interrupted while waiting for space in the queue for subscriber ({}).",
+                            eventSubscriber.getClass());
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (!listeners.isEmpty()) {
+                    notifyQueued(queue.getName(), queueSize);
+                }
                 if (queueSize > EVENT_QUEUE_WARN_LIMIT) {
                     logger.warn("The queue for a subscriber of type '{}' exceeds {} elements. System may be unstable.",
                             eventSubscriber.getClass(), EVENT_QUEUE_WARN_LIMIT);
                 }
-                CompletableFuture.runAsync(() -> {
-                    ScheduledFuture<?> logTimeout = watcher.schedule(
-                            () -> logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.",
-                                    eventSubscriber, EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS),
-                            EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS, TimeUnit.MILLISECONDS);
-                    try {
-                        eventSubscriber.receive(event);
-                    } catch (final Exception ex) {
-                        logger.warn("Dispatching/filtering event for subscriber '{}' failed: {}",
-                                EventSubscriber.class.getName(), ex.getMessage(), ex);
-                    }
-                    logTimeout.cancel(false);
-                }, executorRecord.executor).thenRun(executorRecord.count::decrementAndGet);
             } else {
                 logger.trace("Skip event subscriber ({}) because of its filter.", eventSubscriber.getClass());
             }
         }
     }
 
-    private record ExecutorRecord(ExecutorService executor, AtomicInteger count) {
+    private void notifyQueued(final String subscriberType, final int queueSize) {
+        for (EventDispatchListener listener : listeners) {
+            try {
+                listener.eventQueued(subscriberType, queueSize);
+            } catch (RuntimeException e) {
+                logger.debug("Event dispatch listener '{}' failed: {}", listener, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void notifyDispatched(final String type) {
+        for (EventDispatchListener listener : listeners) {
+            try {
+                listener.eventDispatched(type);
+            } catch (RuntimeException e) {
+                logger.debug("Event dispatch listener '{}' failed: {}", listener, e.getMessage(), e);
+            }
+        }
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+
+/**
+ * The {@link EventSubscriberIndex} keeps track of the registered {@link EventSubscriber}s.
+ * <p>
+ * Subscribers are indexed by their subscribed event types and, if their {@link EventFilter} is limited to topic
+ * scopes (see {@link EventFilter#getTopicScopes()}), by these scopes. This way only the subscribers of the scope of an
+ * event topic and the subscribers without a scope have to be considered for an event, regardless of the total number
+ * of subscribers.
+ * <p>
+ * The index is written and read by different threads. Lookups are not blocked by modifications.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class EventSubscriberIndex {
+
+    private static final int SCOPE_SEGMENTS = 3;
+
+    private final Map<String, TypedSubscribers> typedSubscribers = new ConcurrentHashMap<>();
+    private final Map<EventSubscriber, Registration> registrations = new HashMap<>();
+
+    /**
+     * Adds an event subscriber to the index.
+     *
+     * @param eventSubscriber the event subscriber
+     */
+    synchronized void add(EventSubscriber eventSubscriber) {
+        EventFilter filter = eventSubscriber.getEventFilter();
+        Registration registration = new Registration(Set.copyOf(eventSubscriber.getSubscribedEventTypes()),
+                filter == null ? null : filter.getTopicScopes());
+        Registration previous = registrations.put(eventSubscriber, registration);
+        if (previous != null) {
+            removeFromIndex(eventSubscriber, previous);
+        }
+        for (String eventType : registration.eventTypes()) {
+            typedSubscribers.computeIfAbsent(eventType, type -> new TypedSubscribers()).add(eventSubscriber,
+                    registration.topicScopes());
+        }
+    }
+
+    /**
+     * Removes an event subscriber from the index.
+     *
+     * @param eventSubscriber the event subscriber
+     */
+    synchronized void remove(EventSubscriber eventSubscriber) {
+        Registration registration = registrations.remove(eventSubscriber);
+        if (registration != null) {
+            removeFromIndex(eventSubscriber, registration);
+        }
+    }
+
+    private void removeFromIndex(EventSubscriber eventSubscriber, Registration registration) {
+        for (String eventType : registration.eventTypes()) {
+            TypedSubscribers entries = typedSubscribers.get(eventType);
+            if (entries != null) {
+                entries.remove(eventSubscriber, registration.topicScopes());
+                if (entries.isEmpty()) {
+                    typedSubscribers.remove(eventType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the event subscribers that may be interested in an event.
+     * <p>
+     * The event filters of the returned subscribers still have to be applied.
+     *
+     * @param eventType the event type
+     * @param topic the event topic
+     * @return the event subscribers for the event type and the scope of the topic
+     */
+    Set<EventSubscriber> getEventSubscribers(String eventType, String topic) {
+        String topicScope = getTopicScope(topic);
+        Set<EventSubscriber> subscribers = new HashSet<>();
+        TypedSubscribers eventTypeSubscribers = typedSubscribers.get(eventType);
+        if (eventTypeSubscribers != null) {
+            eventTypeSubscribers.collect(topicScope, subscribers);
+        }
+        TypedSubscribers allEventTypeSubscribers = typedSubscribers.get(EventSubscriber.ALL_EVENT_TYPES);
+        if (allEventTypeSubscribers != null) {
+            allEventTypeSubscribers.collect(topicScope, subscribers);
+        }
+        return subscribers;
+    }
+
+    private static @Nullable String getTopicScope(String topic) {
+        int end = -1;
+        for (int i = 0; i < SCOPE_SEGMENTS; i++) {
+            end = topic.indexOf('/', end + 1);
+            if (end < 0) {
+                return null;
+            }
+        }
+        return topic.substring(0, end);
+    }
+
+    private record Registration(Set<String> eventTypes, @Nullable Set<String> topicScopes) {
+    }
+
+    private static class TypedSubscribers {
+        // Use copy on write array sets because the sets are written and read by different threads!
+        private final Set<EventSubscriber> unscoped = new CopyOnWriteArraySet<>();
+        private final Map<String, Set<EventSubscriber>> scoped = new ConcurrentHashMap<>();
+
+        void add(EventSubscriber eventSubscriber, @Nullable Set<String> topicScopes) {
+            if (topicScopes == null) {
+                unscoped.add(eventSubscriber);
+            } else {
+                for (String topicScope : topicScopes) {
+                    scoped.computeIfAbsent(topicScope, scope -> new CopyOnWriteArraySet<>()).add(eventSubscriber);
+                }
+            }
+        }
+
+        void remove(EventSubscriber eventSubscriber, @Nullable Set<String> topicScopes) {
+            if (topicScopes == null) {
+                unscoped.remove(eventSubscriber);
+            } else {
+                for (String topicScope : topicScopes) {
+                    Set<EventSubscriber> entries = scoped.get(topicScope);
+                    if (entries != null) {
+                        entries.remove(eventSubscriber);
+                        if (entries.isEmpty()) {
+                            scoped.remove(topicScope);
+                        }
+                    }
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return unscoped.isEmpty() && scoped.isEmpty();
+        }
+
+        void collect(@Nullable String topicScope, Set<EventSubscriber> subscribers) {
+            subscribers.addAll(unscoped);
+            if (topicScope != null) {
+                Set<EventSubscriber> entries = scoped.get(topicScope);
+                if (entries != null) {
+                    subscribers.addAll(entries);
+                }
+            }
+        }
+    }
+}
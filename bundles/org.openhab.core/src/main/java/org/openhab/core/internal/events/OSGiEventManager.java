@@ -12,24 +12,32 @@
  */
 package org.openhab.core.internal.events;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.events.EventDispatchListener;
 import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventQueuePolicy;
 import org.openhab.core.events.EventSubscriber;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link OSGiEventManager} provides an OSGi based default implementation of the openHAB event bus.
@@ -41,23 +49,94 @@ import org.osgi.service.event.EventHandler;
  * @author Stefan Bußweiler - Initial contribution
  * @author Markus Rathgeb - Return on received events as fast as possible (handle event in another thread)
  */
-@Component(immediate = true, property = { "event.topics:String=openhab" })
+@Component(immediate = true, configurationPid = { ThreadPoolManager.CONFIGURATION_PID,
+        OSGiEventManager.CONFIGURATION_PID }, property = { "event.topics:String=openhab" })
 @NonNullByDefault
 public class OSGiEventManager implements EventHandler {
 
-    /** The event subscribers indexed by the event type. */
+    /**
+     * The name of the thread pool configuration entry that defines the number of threads (lanes) events are handled
+     * by, i.e. {@code org.openhab.threadpool:eventdispatcher=<lanes>}.
+     */
+    public static final String CONFIG_EVENT_DISPATCHER_LANES = "eventdispatcher";
+
+    /**
+     * The configuration PID for the event queue policies of subscriber classes, e.g.
+     * {@code org.openhab.events:queue.<subscriber class name>=coalesce:1000}.
+     *
+     * @see EventQueuePolicy#parse(String)
+     */
+    public static final String CONFIGURATION_PID = "org.openhab.events";
+
+    /**
+     * The prefix of configuration entries that define the event queue policy of a subscriber class.
+     */
+    public static final String CONFIG_QUEUE_PREFIX = "queue.";
+
+    private static final int DEFAULT_EVENT_DISPATCHER_LANES = 1;
+
+    private final Logger logger = LoggerFactory.getLogger(OSGiEventManager.class);
+
+    /** The event subscribers indexed by the event type and topic scope. */
+    private final EventSubscriberIndex eventSubscribers = new EventSubscriberIndex();
     // Use a concurrent hash map because the map is written and read by different threads!
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers = new ConcurrentHashMap<>();
     private final Map<String, EventFactory> typedEventFactories = new ConcurrentHashMap<>();
+    private final Map<String, EventQueuePolicy> queuePolicies = new ConcurrentHashMap<>();
+    private final List<EventDispatchListener> dispatchListeners = new CopyOnWriteArrayList<>();
 
     private final ThreadedEventHandler eventHandler;
 
     @Activate
-    public OSGiEventManager(ComponentContext componentContext) {
-        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories);
+    public OSGiEventManager(ComponentContext componentContext, Map<String, Object> properties) {
+        updateQueuePolicies(properties);
+        eventHandler = new ThreadedEventHandler(eventSubscribers, typedEventFactories, queuePolicies,
+                dispatchListeners, getLaneCount(properties));
         eventHandler.open();
     }
 
+    @Modified
+    protected void modified(Map<String, Object> properties) {
+        int laneCount = getLaneCount(properties);
+        if (laneCount != eventHandler.getLaneCount()) {
+            logger.info("The number of event dispatcher lanes has been changed to {}, this requires a restart.",
+                    laneCount);
+        }
+        // changed policies apply to subscriber classes that did not receive events yet
+        updateQueuePolicies(properties);
+    }
+
+    private void updateQueuePolicies(Map<String, Object> properties) {
+        Map<String, EventQueuePolicy> policies = new HashMap<>();
+        properties.forEach((key, value) -> {
+            if (key.startsWith(CONFIG_QUEUE_PREFIX) && key.length() > CONFIG_QUEUE_PREFIX.length()) {
+                try {
+                    policies.put(key.substring(CONFIG_QUEUE_PREFIX.length()), EventQueuePolicy.parse(value.toString()));
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Ignoring invalid configuration for '{}': {}", key, e.getMessage());
+                }
+            }
+        });
+        queuePolicies.keySet().retainAll(policies.keySet());
+        queuePolicies.putAll(policies);
+    }
+
+    private int getLaneCount(Map<String, Object> properties) {
+        Object config = properties.get(CONFIG_EVENT_DISPATCHER_LANES);
+        if (config != null) {
+            try {
+                int laneCount = Integer.parseInt(config.toString());
+                if (laneCount > 0) {
+                    return laneCount;
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the warning below
+            }
+            logger.warn("Ignoring invalid configuration for '{}': {} - value must be a positive integer",
+                    CONFIG_EVENT_DISPATCHER_LANES, config);
+        }
+        return DEFAULT_EVENT_DISPATCHER_LANES;
+    }
+
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
         eventHandler.close();
@@ -65,29 +144,11 @@ public class OSGiEventManager implements EventHandler {
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addEventSubscriber(final EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries == null) {
-                // Use a copy on write array set because the set is written and read by different threads!
-                typedEventSubscribers.put(subscribedEventType, new CopyOnWriteArraySet<>(Set.of(eventSubscriber)));
-            } else {
-                entries.add(eventSubscriber);
-            }
-        }
+        eventSubscribers.add(eventSubscriber);
     }
 
     protected void removeEventSubscriber(EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries != null) {
-                entries.remove(eventSubscriber);
-                if (entries.isEmpty()) {
-                    typedEventSubscribers.remove(subscribedEventType);
-                }
-            }
-        }
+        eventSubscribers.remove(eventSubscriber);
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -111,6 +172,15 @@ public class OSGiEventManager implements EventHandler {
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addEventDispatchListener(EventDispatchListener listener) {
+        dispatchListeners.add(listener);
+    }
+
+    protected void removeEventDispatchListener(EventDispatchListener listener) {
+        dispatchListeners.remove(listener);
+    }
+
     @Override
     public void handleEvent(@Nullable Event osgiEvent) {
         if (osgiEvent != null) {
@@ -12,23 +12,32 @@
  */
 package org.openhab.core.internal.events;
 
-import java.util.Dictionary;
-import java.util.Hashtable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.AbstractEvent;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventProperties;
 
 /**
  * The {@link OSGiEventPublisher} provides an OSGi based default implementation of the openHAB event
  * publisher.
  *
- * Events are send in an asynchronous way via OSGi Event Admin mechanism.
+ * Events are send in an asynchronous way via OSGi Event Admin mechanism. The event instance itself is attached to the
+ * OSGi event, so the {@link OSGiEventManager} can hand it to the subscribers without serializing and parsing its
+ * payload. If the payload of the event has not been serialized yet, it is serialized when the payload property is
+ * read for the first time, e.g. by another OSGi event handler, and not at all if only the openHAB event subscribers
+ * handle the event.
  *
  * @author Stefan Bußweiler - Initial contribution
  * @author Simon Kaufmann - separated from OSGiEventManager
@@ -40,6 +49,7 @@ public class OSGiEventPublisher implements EventPublisher {
     protected static final String TOPIC = "topic";
     protected static final String PAYLOAD = "payload";
     protected static final String TYPE = "type";
+    protected static final String EVENT = "event";
 
     private final @Nullable EventAdmin osgiEventAdmin;
 
@@ -59,14 +69,18 @@ public class OSGiEventPublisher implements EventPublisher {
     private void postAsOSGiEvent(final @Nullable EventAdmin eventAdmin, final Event event)
             throws IllegalStateException {
         try {
-            Dictionary<String, Object> properties = new Hashtable<>(3);
+            boolean payloadDeferred = isPayloadDeferred(event);
+            Map<String, Object> properties = new HashMap<>(8);
             properties.put(TYPE, event.getType());
-            properties.put(PAYLOAD, event.getPayload());
+            // a deferred payload is replaced by the serialized payload when it is read
+            properties.put(PAYLOAD, payloadDeferred ? "" : event.getPayload());
             properties.put(TOPIC, event.getTopic());
+            properties.put(EVENT, event);
             if (event.getSource() instanceof String source) {
                 properties.put(SOURCE, source);
             }
-            eventAdmin.postEvent(new org.osgi.service.event.Event("openhab", properties));
+            eventAdmin.postEvent(new org.osgi.service.event.Event("openhab",
+                    payloadDeferred ? new DeferredPayloadProperties(properties, event) : properties));
         } catch (Exception e) {
             throw new IllegalStateException("Cannot post the event via the event bus. Error message: " + e.getMessage(),
                     e);
@@ -80,7 +94,7 @@ public class OSGiEventPublisher implements EventPublisher {
         if ((value = event.getType()) == null || value.isEmpty()) {
             throw new IllegalArgumentException(String.format(errorMsg, "type"));
         }
-        if ((value = event.getPayload()) == null || value.isEmpty()) {
+        if (!isPayloadDeferred(event) && ((value = event.getPayload()) == null || value.isEmpty())) {
             throw new IllegalArgumentException(String.format(errorMsg, "payload"));
         }
         if ((value = event.getTopic()) == null || value.isEmpty()) {
@@ -88,9 +102,64 @@ public class OSGiEventPublisher implements EventPublisher {
         }
     }
 
+    private boolean isPayloadDeferred(Event event) {
+        return event instanceof AbstractEvent abstractEvent && abstractEvent.isPayloadDeferred();
+    }
+
     private void assertValidState(@Nullable EventAdmin eventAdmin) throws IllegalStateException {
         if (eventAdmin == null) {
             throw new IllegalStateException("The event bus module is not available!");
         }
     }
+
+    /**
+     * The properties of an OSGi event whose payload property is serialized on first access.
+     */
+    private static class DeferredPayloadProperties extends EventProperties {
+
+        private final Event event;
+
+        DeferredPayloadProperties(Map<String, ?> properties, Event event) {
+            super(properties);
+            this.event = event;
+        }
+
+        @Override
+        public @Nullable Object get(@Nullable Object name) {
+            return PAYLOAD.equals(name) ? event.getPayload() : super.get(name);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return resolved().entrySet();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return resolved().values();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return this == obj || resolved().equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return resolved().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return resolved().toString();
+        }
+
+        private Map<String, Object> resolved() {
+            Map<String, Object> properties = new HashMap<>(super.entrySet().size());
+            for (Entry<String, Object> entry : super.entrySet()) {
+                properties.put(entry.getKey(), PAYLOAD.equals(entry.getKey()) ? event.getPayload() : entry.getValue());
+            }
+            return Collections.unmodifiableMap(properties);
+        }
+    }
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventDispatchListener;
+import org.openhab.core.events.EventQueuePolicy;
+import org.openhab.core.events.EventQueuePolicy.Overflow;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SubscriberQueue} holds the events waiting to be delivered to the subscribers of one subscriber class and
+ * delivers them sequentially using an executor.
+ * <p>
+ * If the queue has an {@link EventQueuePolicy}, its capacity is limited and the policy decides what happens to
+ * events dispatched to a full queue.
+ * <p>
+ * The start of the current delivery is recorded, so stalled subscribers can be detected by sampling
+ * {@link #getStalledSubscriber(long, long)} instead of scheduling a timeout for each delivery.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class SubscriberQueue {
+
+    private final Logger logger = LoggerFactory.getLogger(SubscriberQueue.class);
+
+    private final String name;
+    private final ExecutorService executor;
+    private final @Nullable EventQueuePolicy policy;
+    private final List<EventDispatchListener> listeners;
+
+    // start of the current delivery in nanoseconds, or 0 if idle
+    private volatile long deliveryStarted;
+    private volatile @Nullable EventSubscriber deliveringTo;
+    private long reportedStall;
+
+    // all fields below are guarded by this
+    private final Deque<Delivery> queue = new ArrayDeque<>();
+    private final Map<DeliveryKey, Delivery> coalescable = new HashMap<>();
+    private boolean draining;
+    private boolean overflowing;
+    private long dropped;
+
+    /**
+     * Create a new subscriber queue.
+     *
+     * @param name the name of the queue used for logging, usually the subscriber class name
+     * @param executor the executor used to deliver the events
+     * @param policy the queue policy, or null for an unbounded queue
+     * @param listeners the listeners notified about queued and delivered events
+     */
+    SubscriberQueue(String name, ExecutorService executor, @Nullable EventQueuePolicy policy,
+            List<EventDispatchListener> listeners) {
+        this.name = name;
+        this.executor = executor;
+        this.policy = policy;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Adds an event for delivery to the given subscriber.
+     * <p>
+     * If the queue is full and the policy is {@link Overflow#BLOCK}, the calling thread waits until there is space in
+     * the queue.
+     *
+     * @param subscriber the subscriber
+     * @param event the event
+     * @return the number of queued events
+     * @throws InterruptedException if the calling thread is interrupted while waiting for space in the queue
+     */
+    synchronized int add(EventSubscriber subscriber, Event event) throws InterruptedException {
+        final EventQueuePolicy policy = this.policy;
+        DeliveryKey key = null;
+        if (policy != null) {
+            if (policy.overflow() == Overflow.COALESCE && event instanceof ItemStateEvent) {
+                key = new DeliveryKey(subscriber, event.getTopic());
+                Delivery queued = coalescable.get(key);
+                if (queued != null) {
+                    // the newer state takes the position of the queued one, so it is not delayed behind later events
+                    queued.event = event;
+                    queued.queuedAt = System.nanoTime();
+                    return queue.size();
+                }
+            }
+            if (policy.overflow() == Overflow.BLOCK) {
+                while (queue.size() >= policy.capacity()) {
+                    wait();
+                }
+            } else if (queue.size() >= policy.capacity()) {
+                Delivery oldest = queue.poll();
+                if (oldest != null) {
+                    removeCoalescable(oldest);
+                }
+                dropped++;
+                if (!overflowing) {
+                    overflowing = true;
+                    logger.warn("The event queue for subscribers of type '{}' is full, dropping the oldest events.",
+                            name);
+                }
+            }
+        }
+
+        Delivery entry = new Delivery(subscriber, event, key);
+        queue.add(entry);
+        if (key != null) {
+            coalescable.put(key, entry);
+        }
+        if (!draining) {
+            draining = true;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Executor for subscribers of type '{}' rejected the event delivery.", name);
+                draining = false;
+                queue.clear();
+                coalescable.clear();
+            }
+        }
+        return queue.size();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of queued events.
+     *
+     * @return the number of events waiting for delivery
+     */
+    synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the subscriber the current delivery has been running for longer than the given time, if this has not been
+     * reported for this delivery yet. This method is meant to be called periodically by a single thread.
+     *
+     * @param now the current time as returned by {@link System#nanoTime()}
+     * @param maxNanos the maximum duration of a delivery
+     * @return the stalled subscriber, or null
+     */
+    @Nullable
+    EventSubscriber getStalledSubscriber(long now, long maxNanos) {
+        long started = deliveryStarted;
+        EventSubscriber subscriber = deliveringTo;
+        if (started == 0 || subscriber == null || started == reportedStall || now - started <= maxNanos) {
+            return null;
+        }
+        reportedStall = started;
+        return subscriber;
+    }
+
+    /**
+     * Gets the number of events that have been dropped because the queue was full.
+     *
+     * @return the number of dropped events
+     */
+    synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+        synchronized (this) {
+            queue.clear();
+            coalescable.clear();
+            notifyAll();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Delivery entry;
+            int remaining;
+            synchronized (this) {
+                entry = queue.poll();
+                if (entry == null) {
+                    draining = false;
+                    overflowing = false;
+                    return;
+                }
+                removeCoalescable(entry);
+                remaining = queue.size();
+                notifyAll();
+            }
+            deliver(entry, remaining);
+        }
+    }
+
+    private void deliver(Delivery entry, int remaining) {
+        final EventSubscriber subscriber = entry.subscriber;
+        final Event event = entry.event;
+        long started = System.nanoTime();
+        deliveringTo = subscriber;
+        deliveryStarted = started;
+        try {
+            subscriber.receive(event);
+        } catch (final Exception ex) {
+            logger.warn("Dispatching/filtering event for subscriber '{}' failed: {}", EventSubscriber.class.getName(),
+                    ex.getMessage(), ex);
+        }
+        deliveryStarted = 0;
+        deliveringTo = null;
+        if (!listeners.isEmpty()) {
+            long finished = System.nanoTime();
+            for (EventDispatchListener listener : listeners) {
+                try {
+                    listener.eventDelivered(name, event, remaining, started - entry.queuedAt, finished - started);
+                } catch (RuntimeException e) {
+                    logger.debug("Event dispatch listener '{}' failed: {}", listener, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void removeCoalescable(Delivery entry) {
+        DeliveryKey key = entry.key;
+        if (key != null) {
+            coalescable.remove(key, entry);
+        }
+    }
+
+    private record DeliveryKey(EventSubscriber subscriber, String topic) {
+    }
+
+    private static class Delivery {
+        private final EventSubscriber subscriber;
+        private final @Nullable DeliveryKey key;
+        private Event event;
+        private long queuedAt;
+
+        private Delivery(EventSubscriber subscriber, Event event, @Nullable DeliveryKey key) {
+            this.subscriber = subscriber;
+            this.event = event;
+            this.key = key;
+            this.queuedAt = System.nanoTime();
+        }
+    }
+}
@@ -13,46 +13,144 @@
 package org.openhab.core.internal.events;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.EventDispatchListener;
 import org.openhab.core.events.EventFactory;
-import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.EventQueuePolicy;
 import org.osgi.service.event.Event;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Handle openHAB events encapsulated by OSGi events in a separate thread.
+ * Handle openHAB events encapsulated by OSGi events in separate threads.
+ * <p>
+ * The events are distributed to a configurable number of lanes, each one handled by its own thread. The lane of an
+ * event is determined by the scope of its topic (e.g. {@code openhab/things/MyThing}), so the events of a single entity
+ * are always handled in the order they have been posted, while events of different entities may be handled
+ * concurrently.
+ * <p>
+ * Item events are assigned to the lane of the item that caused them: the group events
+ * ({@code openhab/items/<group>/<member>/...}) share the lane of their member, so a group event is never handled before
+ * the member event it results from. In return, the group events caused by different members, as well as the events
+ * posted directly to the group item, may be handled concurrently. With a single lane all events are handled in the
+ * order they have been posted.
  *
  * @author Markus Rathgeb - Initial contribution
  */
 @NonNullByDefault
 public class ThreadedEventHandler implements Closeable {
 
+    private static final String THREAD_NAME = "OH-OSGiEventManager";
+    private static final int SCOPE_SEGMENTS = 3;
+    private static final String ITEM_TOPIC_PREFIX = "openhab/items/";
+
     private final Logger logger = LoggerFactory.getLogger(ThreadedEventHandler.class);
 
-    private final Thread thread;
+    private final EventHandler worker;
+    private final List<Lane> lanes;
 
     private final Event notifyEvent = new Event("notify", Map.of());
-    private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
     private final AtomicBoolean running = new AtomicBoolean(true);
 
     /**
      * Create a new threaded event handler.
      *
-     * @param typedEventSubscribers the event subscribers
+     * @param eventSubscribers the event subscribers
      * @param typedEventFactories the event factories indexed by the event type
+     * @param queuePolicies the configured event queue policies indexed by the subscriber class name
+     * @param listeners the listeners notified about dispatched and delivered events
+     * @param laneCount the number of lanes (threads) used to handle the events
      */
-    ThreadedEventHandler(Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
-        thread = new Thread(() -> {
-            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories)) {
+    ThreadedEventHandler(EventSubscriberIndex eventSubscribers, final Map<String, EventFactory> typedEventFactories,
+            final Map<String, EventQueuePolicy> queuePolicies, final List<EventDispatchListener> listeners,
+            int laneCount) {
+        worker = new EventHandler(eventSubscribers, typedEventFactories, queuePolicies, listeners);
+        int count = Math.max(1, laneCount);
+        List<Lane> lanes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lanes.add(new Lane(count == 1 ? THREAD_NAME : THREAD_NAME + "-" + i));
+        }
+        this.lanes = List.copyOf(lanes);
+    }
+
+    void open() {
+        lanes.forEach(lane -> lane.thread.start());
+    }
+
+    @Override
+    public void close() {
+        running.set(false);
+        for (Lane lane : lanes) {
+            lane.queue.add(notifyEvent);
+            lane.thread.interrupt();
+        }
+        try {
+            for (Lane lane : lanes) {
+                lane.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker.close();
+    }
+
+    void handleEvent(Event event) {
+        lanes.get(getLaneIndex(event)).queue.add(event);
+    }
+
+    int getLaneCount() {
+        return lanes.size();
+    }
+
+    int getLaneIndex(Event event) {
+        if (lanes.size() == 1 || !(event.getProperty(OSGiEventPublisher.TOPIC) instanceof String topic)) {
+            return 0;
+        }
+        int start = 0;
+        int end = scopeEnd(topic);
+        if (topic.startsWith(ITEM_TOPIC_PREFIX)) {
+            // a group event (openhab/items/<group>/<member>/<suffix>) follows the lane of the member that caused it
+            int memberEnd = topic.indexOf('/', end + 1);
+            if (memberEnd > 0) {
+                start = end + 1;
+                end = memberEnd;
+            } else {
+                start = ITEM_TOPIC_PREFIX.length();
+            }
+        }
+        // hash the lane key without creating a substring
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + topic.charAt(i);
+        }
+        return Math.floorMod(hash, lanes.size());
+    }
+
+    private static int scopeEnd(String topic) {
+        int end = -1;
+        for (int segments = 0; segments < SCOPE_SEGMENTS; segments++) {
+            end = topic.indexOf('/', end + 1);
+            if (end < 0) {
+                return topic.length();
+            }
+        }
+        return end;
+    }
+
+    private class Lane {
+        private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+
+        private Lane(String threadName) {
+            thread = new Thread(() -> {
                 while (running.get()) {
                     try {
                         logger.trace("wait for event");
@@ -71,27 +169,7 @@ public class ThreadedEventHandler implements Closeable {
                         logger.error("Error on event handling.", ex);
                     }
                 }
-            }
-        }, "OH-OSGiEventManager");
-    }
-
-    void open() {
-        thread.start();
-    }
-
-    @Override
-    public void close() {
-        running.set(false);
-        queue.add(notifyEvent);
-        thread.interrupt();
-        try {
-            thread.join();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            }, threadName);
         }
     }
-
-    void handleEvent(Event event) {
-        queue.add(event);
-    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.Item;
+
+/**
+ * The {@link GroupMembershipIndex} caches the transitive group memberships of the items in the
+ * {@link ItemRegistryImpl}. The entries are calculated on first access and the whole index is invalidated whenever
+ * an item has been added, removed or updated and the change has become visible in the registry.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class GroupMembershipIndex {
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final Map<String, Set<Item>> allMembers = new ConcurrentHashMap<>();
+    private final Map<String, Set<Item>> allStateMembers = new ConcurrentHashMap<>();
+
+    Set<Item> getAllMembers(String groupName, Function<String, Set<Item>> loader) {
+        return get(allMembers, groupName, loader);
+    }
+
+    Set<Item> getAllStateMembers(String groupName, Function<String, Set<Item>> loader) {
+        return get(allStateMembers, groupName, loader);
+    }
+
+    void invalidate() {
+        version.incrementAndGet();
+        allMembers.clear();
+        allStateMembers.clear();
+    }
+
+    private <V> V get(Map<String, V> cache, String key, Function<String, V> loader) {
+        V value = cache.get(key);
+        if (value == null) {
+            long loadedVersion = version.get();
+            value = loader.apply(key);
+            cache.put(key, value);
+            if (version.get() != loadedVersion) {
+                // the registry has changed while loading, the value might be outdated
+                cache.remove(key, value);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+
+/**
+ * The {@link ItemIndex} maintains secondary indexes of the items in the {@link ItemRegistryImpl} by type, by tag and
+ * by the groups they are a direct member of.
+ *
+ * Tags are indexed case-insensitively, but the returned items are only candidates and callers should still check the
+ * tags with {@link Item#hasTag(String)}. Items are removed from the index by the keys they were added with, so items
+ * that are modified in place can be re-indexed safely.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ItemIndex {
+
+    private record Entry(Item item, Set<String> tagKeys, List<String> groupNames) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Item>> itemsByType = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Item>> itemsByTag = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Item>> itemsByGroup = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an item to the index, replacing an item with the same name.
+     *
+     * @param item the item to add
+     */
+    synchronized void add(Item item) {
+        remove(item.getName());
+        Entry entry = new Entry(item, item.getTags().stream().map(ItemIndex::tagKey).collect(Collectors.toSet()),
+                List.copyOf(item.getGroupNames()));
+        entries.put(item.getName(), entry);
+        put(itemsByType, item.getType(), item);
+        entry.tagKeys().forEach(tagKey -> put(itemsByTag, tagKey, item));
+        entry.groupNames().forEach(groupName -> put(itemsByGroup, groupName, item));
+    }
+
+    /**
+     * Removes the item with the given name from the index.
+     *
+     * @param itemName the name of the item to remove
+     */
+    synchronized void remove(String itemName) {
+        Entry entry = entries.remove(itemName);
+        if (entry != null) {
+            remove(itemsByType, entry.item().getType(), itemName);
+            entry.tagKeys().forEach(tagKey -> remove(itemsByTag, tagKey, itemName));
+            entry.groupNames().forEach(groupName -> remove(itemsByGroup, groupName, itemName));
+        }
+    }
+
+    Collection<Item> getItemsOfType(String type) {
+        return values(itemsByType, type);
+    }
+
+    Collection<Item> getItemsWithTag(String tag) {
+        return values(itemsByTag, tagKey(tag));
+    }
+
+    Collection<Item> getMembers(String groupName) {
+        return values(itemsByGroup, groupName);
+    }
+
+    private static void put(Map<String, Map<String, Item>> index, String key, Item item) {
+        index.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(item.getName(), item);
+    }
+
+    private static void remove(Map<String, Map<String, Item>> index, String key, String itemName) {
+        index.computeIfPresent(key, (k, items) -> {
+            items.remove(itemName);
+            return items.isEmpty() ? null : items;
+        });
+    }
+
+    private static Collection<Item> values(Map<String, Map<String, Item>> index, String key) {
+        @Nullable
+        Map<String, Item> items = index.get(key);
+        return items == null ? new ArrayList<>() : new ArrayList<>(items.values());
+    }
+
+    /**
+     * Folds the case of a tag the same way {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    static String tagKey(String tag) {
+        StringBuilder key = new StringBuilder(tag.length());
+        tag.codePoints().forEach(cp -> key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp))));
+        return key.toString();
+    }
+}
@@ -15,6 +15,10 @@ package org.openhab.core.internal.items;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -73,6 +77,13 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     private @Nullable ItemStateConverter itemStateConverter;
 
+    private static final int MAX_CACHED_PATTERNS = 256;
+    private static final Pattern PLAIN_ITEM_NAME = Pattern.compile("\\w+");
+
+    private final GroupMembershipIndex membershipIndex = new GroupMembershipIndex();
+    private final ItemIndex itemIndex = new ItemIndex();
+    private final Map<String, Pattern> patternCache = new ConcurrentHashMap<>();
+
     @Activate
     public ItemRegistryImpl(final @Reference MetadataRegistry metadataRegistry,
             final @Reference DefaultStateDescriptionFragmentProvider defaultStateDescriptionFragmentProvider) {
@@ -126,10 +137,25 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     public Collection<Item> getItemsOfType(String type) {
+        return itemIndex.getItemsOfType(type);
+    }
+
+    @Override
+    public Collection<Item> getItems(String pattern) {
         Collection<Item> matchedItems = new ArrayList<>();
 
+        if (PLAIN_ITEM_NAME.matcher(pattern).matches()) {
+            // no wildcards, so at most the item with exactly that name can match
+            Item item = get(pattern);
+            if (item != null) {
+                matchedItems.add(item);
+            }
+            return matchedItems;
+        }
+
+        Pattern regex = compilePattern(pattern);
         for (Item item : getItems()) {
-            if (item.getType().equals(type)) {
+            if (regex.matcher(item.getName()).matches()) {
                 matchedItems.add(item);
             }
         }
@@ -137,18 +163,26 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         return matchedItems;
     }
 
-    @Override
-    public Collection<Item> getItems(String pattern) {
-        String regex = pattern.replace("?", ".?").replace("*", ".*?");
-        Collection<Item> matchedItems = new ArrayList<>();
-
-        for (Item item : getItems()) {
-            if (item.getName().matches(regex)) {
-                matchedItems.add(item);
+    private Pattern compilePattern(String pattern) {
+        Pattern regex = patternCache.get(pattern);
+        if (regex == null) {
+            regex = Pattern.compile(pattern.replace("?", ".?").replace("*", ".*?"));
+            if (patternCache.size() >= MAX_CACHED_PATTERNS) {
+                patternCache.clear();
             }
+            patternCache.put(pattern, regex);
         }
+        return regex;
+    }
 
-        return matchedItems;
+    @Override
+    public Set<Item> getAllMembers(String groupName) {
+        return membershipIndex.getAllMembers(groupName, ItemRegistry.super::getAllMembers);
+    }
+
+    @Override
+    public Set<Item> getAllStateMembers(String groupName) {
+        return membershipIndex.getAllStateMembers(groupName, ItemRegistry.super::getAllStateMembers);
     }
 
     private void addToGroupItems(Item item, List<String> groupItemNames) {
@@ -213,10 +247,8 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     }
 
     private void addMembersToGroupItem(GroupItem groupItem) {
-        for (Item i : getItems()) {
-            if (i.getGroupNames().contains(groupItem.getName())) {
-                groupItem.addMember(i);
-            }
+        for (Item i : itemIndex.getMembers(groupItem.getName())) {
+            groupItem.addMember(i);
         }
     }
 
@@ -235,6 +267,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     @Override
     protected void onAddElement(Item element) throws IllegalArgumentException {
         initializeItem(element);
+        itemIndex.add(element);
     }
 
     @Override
@@ -243,6 +276,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             genericItem.dispose();
         }
         removeFromGroupItems(element, element.getGroupNames());
+        itemIndex.remove(element.getName());
         defaultStateDescriptionFragmentProvider.onItemRemoved(element);
     }
 
@@ -266,6 +300,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         if (item instanceof GroupItem groupItem) {
             addMembersToGroupItem(groupItem);
         }
+        itemIndex.add(item);
         injectServices(item);
 
         defaultStateDescriptionFragmentProvider.onItemRemoved(oldItem);
@@ -318,7 +353,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     @Override
     public Collection<Item> getItemsByTag(String... tags) {
         List<Item> filteredItems = new ArrayList<>();
-        for (Item item : getItems()) {
+        for (Item item : tags.length == 0 ? getItems() : itemIndex.getItemsWithTag(tags[0])) {
             if (itemHasTags(item, tags)) {
                 filteredItems.add(item);
             }
@@ -372,18 +407,22 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     protected void notifyListenersAboutAddedElement(Item element) {
+        // the memberships are only recalculated once the change is visible to the readers of the registry
+        membershipIndex.invalidate();
         postEvent(ItemEventFactory.createAddedEvent(element));
         super.notifyListenersAboutAddedElement(element);
     }
 
     @Override
     protected void notifyListenersAboutRemovedElement(Item element) {
+        membershipIndex.invalidate();
         postEvent(ItemEventFactory.createRemovedEvent(element));
         super.notifyListenersAboutRemovedElement(element);
     }
 
     @Override
     protected void notifyListenersAboutUpdatedElement(Item oldElement, Item element) {
+        membershipIndex.invalidate();
         postEvent(ItemEventFactory.createUpdateEvent(element, oldElement));
         super.notifyListenersAboutUpdatedElement(oldElement, element);
     }
@@ -470,6 +509,8 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     public void notifyListenersAboutItemExternalUpdate(Item oldItem, Item newItem) {
+        // the item might have been modified in place, so its index entries must be refreshed
+        itemIndex.add(newItem);
         notifyListenersAboutUpdatedElement(oldItem, newItem);
     }
 }
@@ -30,6 +30,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemEventTopics;
 import org.openhab.core.service.CommandDescriptionService;
 import org.openhab.core.service.StateDescriptionService;
 import org.openhab.core.types.Command;
@@ -94,6 +95,8 @@ public abstract class GenericItem implements ActiveItem {
 
     protected @Nullable ItemStateConverter itemStateConverter;
 
+    private @Nullable ItemEventTopics eventTopics;
+
     public GenericItem(String type, String name) {
         this.name = name;
         this.type = type;
@@ -214,7 +217,7 @@ public abstract class GenericItem implements ActiveItem {
     protected void internalSend(Command command, @Nullable String source) {
         // try to send the command to the bus
         if (eventPublisher instanceof EventPublisher publisher) {
-            publisher.post(ItemEventFactory.createCommandEvent(this.getName(), command, source));
+            publisher.post(ItemEventFactory.createCommandEvent(getEventTopics(), command, source));
         }
     }
 
@@ -337,8 +340,8 @@ public abstract class GenericItem implements ActiveItem {
             @Nullable String source) {
         EventPublisher eventPublisher1 = this.eventPublisher;
         if (eventPublisher1 != null) {
-            eventPublisher1
-                    .post(ItemEventFactory.createStateUpdatedEvent(this.name, newState, lastStateUpdate, source));
+            eventPublisher1.post(
+                    ItemEventFactory.createStateUpdatedEvent(getEventTopics(), newState, lastStateUpdate, source));
         }
     }
 
@@ -346,11 +349,21 @@ public abstract class GenericItem implements ActiveItem {
             @Nullable ZonedDateTime lastStateChange, @Nullable String source) {
         EventPublisher eventPublisher1 = this.eventPublisher;
         if (eventPublisher1 != null) {
-            eventPublisher1.post(ItemEventFactory.createStateChangedEvent(this.name, newState, oldState,
+            eventPublisher1.post(ItemEventFactory.createStateChangedEvent(getEventTopics(), newState, oldState,
                     lastStateUpdate, lastStateChange, source));
         }
     }
 
+    private ItemEventTopics getEventTopics() {
+        ItemEventTopics eventTopics = this.eventTopics;
+        if (eventTopics == null) {
+            // a benign race, the topics are immutable and equal for all threads
+            eventTopics = new ItemEventTopics(name);
+            this.eventTopics = eventTopics;
+        }
+        return eventTopics;
+    }
+
     /**
      * Send a REFRESH command to the item.
      */
@@ -370,12 +383,15 @@ public abstract class GenericItem implements ActiveItem {
     }
 
     protected void notifyListeners(final State oldState, final State newState) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         // if nothing has changed, we send update notifications
-        Set<StateChangeListener> clonedListeners = new CopyOnWriteArraySet<>(listeners);
+        // the listeners are a copy-on-write set, iterating over it does not need another copy
         ExecutorService pool = ThreadPoolManager.getPool(ITEM_THREADPOOLNAME);
         try {
             final boolean stateChanged = !newState.equals(oldState);
-            clonedListeners.forEach(listener -> pool.execute(() -> {
+            listeners.forEach(listener -> pool.execute(() -> {
                 try {
                     listener.stateUpdated(GenericItem.this, newState);
                     if (stateChanged) {
@@ -74,6 +74,47 @@ public interface GroupFunction {
      */
     State[] getParameters();
 
+    /**
+     * Creates an {@link Aggregator} which maintains the group state incrementally from the updates of single members.
+     * Functions that cannot be calculated incrementally return null, the group state is then calculated from all
+     * members on every update.
+     *
+     * @return a new aggregator or null, if the function cannot be calculated incrementally
+     */
+    default @Nullable Aggregator createAggregator() {
+        return null;
+    }
+
+    /**
+     * An {@link Aggregator} keeps the contribution of every member to the group state, so the group state can be
+     * updated from the state of a single member. Aggregators are not thread-safe.
+     */
+    interface Aggregator {
+
+        /**
+         * Recalculates the aggregated state from all members.
+         *
+         * @param items the members to calculate the group state for
+         */
+        void reset(Set<Item> items);
+
+        /**
+         * Updates the aggregated state with the current state of the given member.
+         *
+         * @param item the updated member
+         * @return true if the state has been updated, false if the item is not a known member and the state has to be
+         *         recalculated using {@link #reset(Set)}
+         */
+        boolean update(Item item);
+
+        /**
+         * Returns the aggregated group state.
+         *
+         * @return the group state
+         */
+        State getState();
+    }
+
     /**
      * This is the default group function that does nothing else than to check if all member items
      * have the same state. If this is the case, this state is returned, otherwise UNDEF is returned.
@@ -21,6 +21,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -50,6 +51,13 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
     protected @Nullable GroupFunction function;
     protected final CopyOnWriteArrayList<Item> members;
 
+    // incremented on every membership change of any group, invalidates the aggregated states of all groups
+    private static final AtomicLong MEMBERSHIP_VERSION = new AtomicLong();
+
+    private @Nullable GroupFunction aggregatorFunction;
+    private GroupFunction.@Nullable Aggregator aggregator;
+    private long aggregatorVersion = -1;
+
     /**
      * Creates a plain GroupItem
      *
@@ -177,6 +185,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
      */
     public void addMember(Item item) {
         boolean added = members.addIfAbsent(item);
+        MEMBERSHIP_VERSION.incrementAndGet();
 
         // in case membership is constructed programmatically this sanitizes
         // the group names on the item:
@@ -204,6 +213,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
             Item old = members.set(index, newItem);
             unregisterStateListener(old);
         }
+        MEMBERSHIP_VERSION.incrementAndGet();
         registerStateListener(newItem);
     }
 
@@ -215,6 +225,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
      */
     public void removeMember(Item item) {
         members.remove(item);
+        MEMBERSHIP_VERSION.incrementAndGet();
         unregisterStateListener(item);
     }
 
@@ -226,6 +237,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
             unregisterStateListener(member);
         }
         members.clear();
+        MEMBERSHIP_VERSION.incrementAndGet();
     }
 
     /**
@@ -386,7 +398,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
         ZonedDateTime lastStateUpdate = this.lastStateUpdate;
         ZonedDateTime lastStateChange = this.lastStateChange;
         if (function instanceof GroupFunction groupFunction && baseItem != null && itemStateConverter != null) {
-            State calculatedState = groupFunction.calculate(getStateMembers(getMembers()));
+            State calculatedState = calculateState(groupFunction, item);
             newState = itemStateConverter.convertToAcceptedState(calculatedState, baseItem);
             setState(newState);
             sendGroupStateUpdatedEvent(item.getName(), newState, lastStateUpdate);
@@ -447,6 +459,40 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
         }
     }
 
+    /**
+     * Calculates the group state after an update of the given member. If the group function provides an
+     * {@link GroupFunction.Aggregator}, only the contribution of the member is updated as long as the membership did
+     * not change. Otherwise the state is calculated from all members.
+     */
+    private State calculateState(GroupFunction groupFunction, Item member) {
+        GroupFunction.Aggregator aggregator;
+        synchronized (members) {
+            aggregator = this.aggregator;
+            if (aggregatorFunction != groupFunction) {
+                aggregatorFunction = groupFunction;
+                aggregator = groupFunction.createAggregator();
+                this.aggregator = aggregator;
+                aggregatorVersion = -1;
+            }
+        }
+        if (aggregator == null) {
+            return groupFunction.calculate(getStateMembers(getMembers()));
+        }
+
+        synchronized (aggregator) {
+            long version = MEMBERSHIP_VERSION.get();
+            if (version != aggregatorVersion || !aggregator.update(member)) {
+                aggregator.reset(getStateMembers(getMembers()));
+                // members of nested groups without state do not notify this group, so their contribution would
+                // become outdated: only keep the aggregated state if all state members are direct members
+                aggregatorVersion = members.stream().anyMatch(i -> isGroupItem(i) && !hasOwnState((GroupItem) i))
+                        ? -1
+                        : version;
+            }
+            return aggregator.getState();
+        }
+    }
+
     private Set<Item> getStateMembers(Set<Item> items) {
         Set<Item> result = new HashSet<>();
         collectStateMembers(result, items);
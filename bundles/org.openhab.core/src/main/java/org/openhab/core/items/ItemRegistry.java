@@ -13,6 +13,7 @@
 package org.openhab.core.items;
 
 import java.util.Collection;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -100,6 +101,27 @@ public interface ItemRegistry extends Registry<Item, String> {
      */
     <T extends Item> Collection<T> getItemsByTag(Class<T> typeFilter, String... tags);
 
+    /**
+     * Returns the members of a group and recursively of all contained groups, see {@link GroupItem#getAllMembers()}.
+     *
+     * @param groupName the name of the group
+     * @return an unmodifiable set of all members of the group, empty if there is no such group
+     */
+    default Set<Item> getAllMembers(String groupName) {
+        return get(groupName) instanceof GroupItem groupItem ? groupItem.getAllMembers() : Set.of();
+    }
+
+    /**
+     * Returns the members of a group and recursively of all contained groups including the contained groups with an
+     * own state, see {@link GroupItem#getAllStateMembers()}.
+     *
+     * @param groupName the name of the group
+     * @return an unmodifiable set of all state members of the group, empty if there is no such group
+     */
+    default Set<Item> getAllStateMembers(String groupName) {
+        return get(groupName) instanceof GroupItem groupItem ? groupItem.getAllStateMembers() : Set.of();
+    }
+
     /**
      * @see ManagedItemProvider#remove(String, boolean)
      */
@@ -13,6 +13,7 @@
 package org.openhab.core.items.events;
 
 import java.time.ZonedDateTime;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -41,6 +42,12 @@ public class GroupStateUpdatedEvent extends ItemStateUpdatedEvent {
         this.memberName = memberName;
     }
 
+    protected GroupStateUpdatedEvent(String topic, Supplier<String> payloadSupplier, String itemName,
+            String memberName, State newItemState, @Nullable ZonedDateTime lastStateUpdate, @Nullable String source) {
+        super(topic, payloadSupplier, itemName, newItemState, lastStateUpdate, source);
+        this.memberName = memberName;
+    }
+
     /**
      * @return the name of the updated group member
      */
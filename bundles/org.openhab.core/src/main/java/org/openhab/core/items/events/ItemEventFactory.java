@@ -49,27 +49,25 @@ public class ItemEventFactory extends AbstractEventFactory {
 
     private static final String CORE_LIBRARY_PACKAGE = "org.openhab.core.library.types.";
 
-    private static final String ITEM_COMAND_EVENT_TOPIC = "openhab/items/{itemName}/command";
+    static final String ITEM_TOPIC_PREFIX = "openhab/items/";
 
-    private static final String ITEM_STATE_EVENT_TOPIC = "openhab/items/{itemName}/state";
+    static final String COMMAND_TOPIC_SUFFIX = "/command";
 
-    private static final String ITEM_STATE_UPDATED_EVENT_TOPIC = "openhab/items/{itemName}/stateupdated";
-    private static final String ITEM_TIME_SERIES_EVENT_TOPIC = "openhab/items/{itemName}/timeseries";
-    private static final String ITEM_TIME_SERIES_UPDATED_EVENT_TOPIC = "openhab/items/{itemName}/timeseriesupdated";
+    private static final String STATE_TOPIC_SUFFIX = "/state";
 
-    private static final String ITEM_STATE_PREDICTED_EVENT_TOPIC = "openhab/items/{itemName}/statepredicted";
+    static final String STATE_UPDATED_TOPIC_SUFFIX = "/stateupdated";
+    private static final String TIME_SERIES_TOPIC_SUFFIX = "/timeseries";
+    private static final String TIME_SERIES_UPDATED_TOPIC_SUFFIX = "/timeseriesupdated";
 
-    private static final String ITEM_STATE_CHANGED_EVENT_TOPIC = "openhab/items/{itemName}/statechanged";
+    private static final String STATE_PREDICTED_TOPIC_SUFFIX = "/statepredicted";
 
-    private static final String GROUPITEM_STATE_UPDATED_EVENT_TOPIC = "openhab/items/{itemName}/{memberName}/stateupdated";
+    static final String STATE_CHANGED_TOPIC_SUFFIX = "/statechanged";
 
-    private static final String GROUPITEM_STATE_CHANGED_EVENT_TOPIC = "openhab/items/{itemName}/{memberName}/statechanged";
+    private static final String ADDED_TOPIC_SUFFIX = "/added";
 
-    private static final String ITEM_ADDED_EVENT_TOPIC = "openhab/items/{itemName}/added";
+    private static final String REMOVED_TOPIC_SUFFIX = "/removed";
 
-    private static final String ITEM_REMOVED_EVENT_TOPIC = "openhab/items/{itemName}/removed";
-
-    private static final String ITEM_UPDATED_EVENT_TOPIC = "openhab/items/{itemName}/updated";
+    private static final String UPDATED_TOPIC_SUFFIX = "/updated";
 
     /**
      * Constructs a new ItemEventFactory.
@@ -276,10 +274,29 @@ public class ItemEventFactory extends AbstractEventFactory {
      */
     public static ItemCommandEvent createCommandEvent(String itemName, Command command, @Nullable String source) {
         assertValidArguments(itemName, command, "command");
-        String topic = buildTopic(ITEM_COMAND_EVENT_TOPIC, itemName);
-        ItemEventPayloadBean bean = new ItemEventPayloadBean(getCommandType(command), command.toString());
-        String payload = serializePayload(bean);
-        return new ItemCommandEvent(topic, payload, itemName, command, source);
+        return newCommandEvent(buildTopic(COMMAND_TOPIC_SUFFIX, itemName), itemName, command, source);
+    }
+
+    /**
+     * Creates an item command event using the cached topics of the item.
+     *
+     * @param topics the topics of the item to send the command for
+     * @param command the command to send
+     * @param source the name of the source identifying the sender (can be null)
+     * @return the created item command event
+     * @throws IllegalArgumentException if command is null
+     */
+    public static ItemCommandEvent createCommandEvent(ItemEventTopics topics, Command command,
+            @Nullable String source) {
+        assertValidArguments(topics.getItemName(), command, "command");
+        return newCommandEvent(topics.getCommandTopic(), topics.getItemName(), command, source);
+    }
+
+    private static ItemCommandEvent newCommandEvent(String topic, String itemName, Command command,
+            @Nullable String source) {
+        return new ItemCommandEvent(topic,
+                () -> serializePayload(new ItemEventPayloadBean(getCommandType(command), command.toString())),
+                itemName, command, source);
     }
 
     /**
@@ -305,10 +322,10 @@ public class ItemEventFactory extends AbstractEventFactory {
      */
     public static ItemStateEvent createStateEvent(String itemName, State state, @Nullable String source) {
         assertValidArguments(itemName, state, "state");
-        String topic = buildTopic(ITEM_STATE_EVENT_TOPIC, itemName);
-        ItemEventPayloadBean bean = new ItemEventPayloadBean(getStateType(state), state.toFullString());
-        String payload = serializePayload(bean);
-        return new ItemStateEvent(topic, payload, itemName, state, source);
+        String topic = buildTopic(STATE_TOPIC_SUFFIX, itemName);
+        return new ItemStateEvent(topic,
+                () -> serializePayload(new ItemEventPayloadBean(getStateType(state), state.toFullString())), itemName,
+                state, source);
     }
 
     /**
@@ -350,16 +367,37 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemStateUpdatedEvent createStateUpdatedEvent(String itemName, State state,
             @Nullable ZonedDateTime lastStateUpdate, @Nullable String source) {
         assertValidArguments(itemName, state, "state");
-        String topic = buildTopic(ITEM_STATE_UPDATED_EVENT_TOPIC, itemName);
-        ItemStateUpdatedEventPayloadBean bean = new ItemStateUpdatedEventPayloadBean(getStateType(state),
-                state.toFullString(), lastStateUpdate);
-        String payload = serializePayload(bean);
-        return new ItemStateUpdatedEvent(topic, payload, itemName, state, lastStateUpdate, source);
+        return newStateUpdatedEvent(buildTopic(STATE_UPDATED_TOPIC_SUFFIX, itemName), itemName, state,
+                lastStateUpdate, source);
+    }
+
+    /**
+     * Creates an item state updated event using the cached topics of the item.
+     *
+     * @param topics the topics of the item to report the state update for
+     * @param state the new state
+     * @param lastStateUpdate the time of the last state update
+     * @param source the name of the source identifying the sender (can be null)
+     * @return the created item state update event
+     * @throws IllegalArgumentException if state is null
+     */
+    public static ItemStateUpdatedEvent createStateUpdatedEvent(ItemEventTopics topics, State state,
+            @Nullable ZonedDateTime lastStateUpdate, @Nullable String source) {
+        assertValidArguments(topics.getItemName(), state, "state");
+        return newStateUpdatedEvent(topics.getStateUpdatedTopic(), topics.getItemName(), state, lastStateUpdate,
+                source);
+    }
+
+    private static ItemStateUpdatedEvent newStateUpdatedEvent(String topic, String itemName, State state,
+            @Nullable ZonedDateTime lastStateUpdate, @Nullable String source) {
+        return new ItemStateUpdatedEvent(topic, () -> serializePayload(
+                new ItemStateUpdatedEventPayloadBean(getStateType(state), state.toFullString(), lastStateUpdate)),
+                itemName, state, lastStateUpdate, source);
     }
 
     public static ItemTimeSeriesEvent createTimeSeriesEvent(String itemName, TimeSeries timeSeries,
             @Nullable String source) {
-        String topic = buildTopic(ITEM_TIME_SERIES_EVENT_TOPIC, itemName);
+        String topic = buildTopic(TIME_SERIES_TOPIC_SUFFIX, itemName);
         ItemTimeSeriesEventPayloadBean bean = new ItemTimeSeriesEventPayloadBean(timeSeries);
         String payload = serializePayload(bean);
         return new ItemTimeSeriesEvent(topic, payload, itemName, timeSeries, source);
@@ -367,7 +405,7 @@ public class ItemEventFactory extends AbstractEventFactory {
 
     public static ItemTimeSeriesUpdatedEvent createTimeSeriesUpdatedEvent(String itemName, TimeSeries timeSeries,
             @Nullable String source) {
-        String topic = buildTopic(ITEM_TIME_SERIES_UPDATED_EVENT_TOPIC, itemName);
+        String topic = buildTopic(TIME_SERIES_UPDATED_TOPIC_SUFFIX, itemName);
         ItemTimeSeriesEventPayloadBean bean = new ItemTimeSeriesEventPayloadBean(timeSeries);
         String payload = serializePayload(bean);
         return new ItemTimeSeriesUpdatedEvent(topic, payload, itemName, timeSeries, source);
@@ -387,11 +425,10 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static GroupStateUpdatedEvent createGroupStateUpdatedEvent(String groupName, String member, State state,
             @Nullable ZonedDateTime lastStateUpdate, @Nullable String source) {
         assertValidArguments(groupName, member, state, "state");
-        String topic = buildGroupTopic(GROUPITEM_STATE_UPDATED_EVENT_TOPIC, groupName, member);
-        ItemStateUpdatedEventPayloadBean bean = new ItemStateUpdatedEventPayloadBean(getStateType(state),
-                state.toFullString(), lastStateUpdate);
-        String payload = serializePayload(bean);
-        return new GroupStateUpdatedEvent(topic, payload, groupName, member, state, lastStateUpdate, source);
+        String topic = buildGroupTopic(STATE_UPDATED_TOPIC_SUFFIX, groupName, member);
+        return new GroupStateUpdatedEvent(topic, () -> serializePayload(
+                new ItemStateUpdatedEventPayloadBean(getStateType(state), state.toFullString(), lastStateUpdate)),
+                groupName, member, state, lastStateUpdate, source);
     }
 
     /**
@@ -406,7 +443,7 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemStatePredictedEvent createStatePredictedEvent(String itemName, State state,
             boolean isConfirmation) {
         assertValidArguments(itemName, state, "state");
-        String topic = buildTopic(ITEM_STATE_PREDICTED_EVENT_TOPIC, itemName);
+        String topic = buildTopic(STATE_PREDICTED_TOPIC_SUFFIX, itemName);
         ItemStatePredictedEventPayloadBean bean = new ItemStatePredictedEventPayloadBean(getStateType(state),
                 state.toFullString(), isConfirmation);
         String payload = serializePayload(bean);
@@ -427,13 +464,38 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemStateChangedEvent createStateChangedEvent(String itemName, State newState, State oldState,
             @Nullable ZonedDateTime lastStateUpdate, @Nullable ZonedDateTime lastStateChange, @Nullable String source) {
         assertValidArguments(itemName, newState, "state");
-        String topic = buildTopic(ITEM_STATE_CHANGED_EVENT_TOPIC, itemName);
-        ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
-                newState.toFullString(), getStateType(oldState), oldState.toFullString(), lastStateUpdate,
-                lastStateChange);
-        String payload = serializePayload(bean);
-        return new ItemStateChangedEvent(topic, payload, itemName, newState, oldState, lastStateUpdate, lastStateChange,
-                source);
+        return newStateChangedEvent(buildTopic(STATE_CHANGED_TOPIC_SUFFIX, itemName), itemName, newState, oldState,
+                lastStateUpdate, lastStateChange, source);
+    }
+
+    /**
+     * Creates an item state changed event using the cached topics of the item.
+     *
+     * @param topics the topics of the item to send the state changed event for
+     * @param newState the new state to send
+     * @param oldState the old state of the item
+     * @param lastStateUpdate the time of the last state update
+     * @param lastStateChange the time of the last state change
+     * @param source the name of the source identifying the sender (can be null)
+     * @return the created item state changed event
+     * @throws IllegalArgumentException if newState is null
+     */
+    public static ItemStateChangedEvent createStateChangedEvent(ItemEventTopics topics, State newState,
+            State oldState, @Nullable ZonedDateTime lastStateUpdate, @Nullable ZonedDateTime lastStateChange,
+            @Nullable String source) {
+        assertValidArguments(topics.getItemName(), newState, "state");
+        return newStateChangedEvent(topics.getStateChangedTopic(), topics.getItemName(), newState, oldState,
+                lastStateUpdate, lastStateChange, source);
+    }
+
+    private static ItemStateChangedEvent newStateChangedEvent(String topic, String itemName, State newState,
+            State oldState, @Nullable ZonedDateTime lastStateUpdate, @Nullable ZonedDateTime lastStateChange,
+            @Nullable String source) {
+        return new ItemStateChangedEvent(topic,
+                () -> serializePayload(new ItemStateChangedEventPayloadBean(getStateType(newState),
+                        newState.toFullString(), getStateType(oldState), oldState.toFullString(), lastStateUpdate,
+                        lastStateChange)),
+                itemName, newState, oldState, lastStateUpdate, lastStateChange, source);
     }
 
     /**
@@ -467,13 +529,12 @@ public class ItemEventFactory extends AbstractEventFactory {
             State newState, State oldState, @Nullable ZonedDateTime lastStateUpdate,
             @Nullable ZonedDateTime lastStateChange) {
         assertValidArguments(itemName, memberName, newState, "state");
-        String topic = buildGroupTopic(GROUPITEM_STATE_CHANGED_EVENT_TOPIC, itemName, memberName);
-        ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
-                newState.toFullString(), getStateType(oldState), oldState.toFullString(), lastStateUpdate,
-                lastStateChange);
-        String payload = serializePayload(bean);
-        return new GroupItemStateChangedEvent(topic, payload, itemName, memberName, newState, oldState, lastStateUpdate,
-                lastStateChange);
+        String topic = buildGroupTopic(STATE_CHANGED_TOPIC_SUFFIX, itemName, memberName);
+        return new GroupItemStateChangedEvent(topic,
+                () -> serializePayload(new ItemStateChangedEventPayloadBean(getStateType(newState),
+                        newState.toFullString(), getStateType(oldState), oldState.toFullString(), lastStateUpdate,
+                        lastStateChange)),
+                itemName, memberName, newState, oldState, lastStateUpdate, lastStateChange);
     }
 
     /**
@@ -485,7 +546,7 @@ public class ItemEventFactory extends AbstractEventFactory {
      */
     public static ItemAddedEvent createAddedEvent(Item item) {
         assertValidArgument(item, "item");
-        String topic = buildTopic(ITEM_ADDED_EVENT_TOPIC, item.getName());
+        String topic = buildTopic(ADDED_TOPIC_SUFFIX, item.getName());
         ItemDTO itemDTO = map(item);
         String payload = serializePayload(itemDTO);
         return new ItemAddedEvent(topic, payload, itemDTO);
@@ -500,7 +561,7 @@ public class ItemEventFactory extends AbstractEventFactory {
      */
     public static ItemRemovedEvent createRemovedEvent(Item item) {
         assertValidArgument(item, "item");
-        String topic = buildTopic(ITEM_REMOVED_EVENT_TOPIC, item.getName());
+        String topic = buildTopic(REMOVED_TOPIC_SUFFIX, item.getName());
         ItemDTO itemDTO = map(item);
         String payload = serializePayload(itemDTO);
         return new ItemRemovedEvent(topic, payload, itemDTO);
@@ -517,7 +578,7 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemUpdatedEvent createUpdateEvent(Item item, Item oldItem) {
         assertValidArgument(item, "item");
         assertValidArgument(oldItem, "oldItem");
-        String topic = buildTopic(ITEM_UPDATED_EVENT_TOPIC, item.getName());
+        String topic = buildTopic(UPDATED_TOPIC_SUFFIX, item.getName());
         ItemDTO itemDTO = map(item);
         ItemDTO oldItemDTO = map(oldItem);
         List<ItemDTO> itemDTOs = new LinkedList<>();
@@ -527,12 +588,12 @@ public class ItemEventFactory extends AbstractEventFactory {
         return new ItemUpdatedEvent(topic, payload, itemDTO, oldItemDTO);
     }
 
-    private static String buildTopic(String topic, String itemName) {
-        return topic.replace("{itemName}", itemName);
+    static String buildTopic(String suffix, String itemName) {
+        return ITEM_TOPIC_PREFIX + itemName + suffix;
     }
 
-    private static String buildGroupTopic(String topic, String itemName, String memberName) {
-        return buildTopic(topic, itemName).replace("{memberName}", memberName);
+    private static String buildGroupTopic(String suffix, String itemName, String memberName) {
+        return ITEM_TOPIC_PREFIX + itemName + "/" + memberName + suffix;
     }
 
     private static ItemDTO map(Item item) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items.events;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ItemEventTopics} holds the topics of the frequently sent events of an item, so they do not have to be
+ * built for every event. Instances are immutable and are usually kept by the item itself.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class ItemEventTopics {
+
+    private final String itemName;
+    private final String commandTopic;
+    private final String stateUpdatedTopic;
+    private final String stateChangedTopic;
+
+    /**
+     * Creates the topics for the given item.
+     *
+     * @param itemName the name of the item
+     */
+    public ItemEventTopics(String itemName) {
+        this.itemName = itemName;
+        this.commandTopic = ItemEventFactory.buildTopic(ItemEventFactory.COMMAND_TOPIC_SUFFIX, itemName);
+        this.stateUpdatedTopic = ItemEventFactory.buildTopic(ItemEventFactory.STATE_UPDATED_TOPIC_SUFFIX, itemName);
+        this.stateChangedTopic = ItemEventFactory.buildTopic(ItemEventFactory.STATE_CHANGED_TOPIC_SUFFIX, itemName);
+    }
+
+    /**
+     * @return the name of the item
+     */
+    public String getItemName() {
+        return itemName;
+    }
+
+    /**
+     * @return the topic of {@link ItemCommandEvent}s of the item
+     */
+    public String getCommandTopic() {
+        return commandTopic;
+    }
+
+    /**
+     * @return the topic of {@link ItemStateUpdatedEvent}s of the item
+     */
+    public String getStateUpdatedTopic() {
+        return stateUpdatedTopic;
+    }
+
+    /**
+     * @return the topic of {@link ItemStateChangedEvent}s of the item
+     */
+    public String getStateChangedTopic() {
+        return stateChangedTopic;
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.core.items.events;
 
 import java.time.ZonedDateTime;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -62,6 +63,27 @@ public class ItemStateChangedEvent extends ItemEvent {
         this.lastStateChange = lastStateChange;
     }
 
+    /**
+     * Constructs a new item state changed event with a payload that is serialized on first access.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier for the payload
+     * @param itemName the item name
+     * @param newItemState the new item state
+     * @param oldItemState the old item state
+     * @param lastStateUpdate the last state update
+     * @param lastStateChange the last state change
+     */
+    protected ItemStateChangedEvent(String topic, Supplier<String> payloadSupplier, String itemName,
+            State newItemState, State oldItemState, @Nullable ZonedDateTime lastStateUpdate,
+            @Nullable ZonedDateTime lastStateChange, @Nullable String source) {
+        super(topic, payloadSupplier, itemName, source);
+        this.itemState = newItemState;
+        this.oldItemState = oldItemState;
+        this.lastStateUpdate = lastStateUpdate;
+        this.lastStateChange = lastStateChange;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.items.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.types.State;
@@ -46,6 +48,21 @@ public class ItemStateEvent extends ItemEvent {
         this.itemState = itemState;
     }
 
+    /**
+     * Constructs a new item state event with a payload that is serialized on first access.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier for the payload
+     * @param itemName the item name
+     * @param itemState the item state
+     * @param source the source, can be null
+     */
+    protected ItemStateEvent(String topic, Supplier<String> payloadSupplier, String itemName, State itemState,
+            @Nullable String source) {
+        super(topic, payloadSupplier, itemName, source);
+        this.itemState = itemState;
+    }
+
     @Override
     public String getType() {
         return TYPE;
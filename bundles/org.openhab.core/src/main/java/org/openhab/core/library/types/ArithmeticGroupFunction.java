@@ -107,6 +107,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[] { activeState, passiveState };
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.ActiveCountAggregator(activeState, passiveState,
+                    (active, members) -> members > 0 && active == members);
+        }
     }
 
     /**
@@ -173,6 +179,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[] { activeState, passiveState };
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.ActiveCountAggregator(activeState, passiveState,
+                    (active, members) -> active > 0);
+        }
     }
 
     /**
@@ -192,6 +204,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             State result = super.calculate(items);
             return activeState.equals(result) ? passiveState : activeState;
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.ActiveCountAggregator(activeState, passiveState,
+                    (active, members) -> members == 0 || active < members);
+        }
     }
 
     /**
@@ -211,6 +229,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             State result = super.calculate(items);
             return activeState.equals(result) ? passiveState : activeState;
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.ActiveCountAggregator(activeState, passiveState,
+                    (active, members) -> active == 0);
+        }
     }
 
     /**
@@ -287,6 +311,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[] { activeState, passiveState };
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.ActiveCountAggregator(activeState, passiveState,
+                    (active, members) -> active == 1);
+        }
     }
 
     /**
@@ -331,6 +361,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[0];
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.SumAggregator(true);
+        }
     }
 
     /**
@@ -406,6 +441,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[0];
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.SumAggregator(false);
+        }
     }
 
     /**
@@ -449,6 +489,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[0];
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.ExtremumAggregator(false);
+        }
     }
 
     /**
@@ -492,6 +537,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[0];
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.ExtremumAggregator(true);
+        }
     }
 
     /**
@@ -540,5 +590,10 @@ public interface ArithmeticGroupFunction extends GroupFunction {
         public State[] getParameters() {
             return new State[] { new StringType(pattern.pattern()) };
         }
+
+        @Override
+        public @Nullable Aggregator createAggregator() {
+            return new GroupStateAggregators.CountAggregator(pattern);
+        }
     }
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.library.types;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GroupFunction;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * The {@link GroupStateAggregators} contains the incremental {@link GroupFunction.Aggregator}s of the
+ * {@link ArithmeticGroupFunction}s. They calculate exactly the same states as the functions, but update them in
+ * constant or logarithmic time when a single member changes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class GroupStateAggregators {
+
+    private GroupStateAggregators() {
+        // only static aggregator classes
+    }
+
+    /**
+     * Base class of aggregators that remember the value each member contributes to the group state.
+     *
+     * @param <V> the type of the contributed values
+     */
+    abstract static class MemberAggregator<V> implements GroupFunction.Aggregator {
+
+        // members without a value are contained with a null value
+        private final Map<String, @Nullable V> contributions = new HashMap<>();
+
+        @Override
+        public void reset(Set<Item> items) {
+            contributions.clear();
+            clear();
+            for (Item item : items) {
+                V value = valueOf(item);
+                contributions.put(item.getName(), value);
+                if (value != null) {
+                    add(value);
+                }
+            }
+        }
+
+        @Override
+        public boolean update(Item item) {
+            String name = item.getName();
+            if (!contributions.containsKey(name)) {
+                return false;
+            }
+            V value = valueOf(item);
+            V oldValue = contributions.put(name, value);
+            if (oldValue != null) {
+                remove(oldValue);
+            }
+            if (value != null) {
+                add(value);
+            }
+            return true;
+        }
+
+        /**
+         * @return the number of members, including those without a value
+         */
+        protected int getMemberCount() {
+            return contributions.size();
+        }
+
+        protected abstract @Nullable V valueOf(Item item);
+
+        protected abstract void clear();
+
+        protected abstract void add(V value);
+
+        protected abstract void remove(V value);
+    }
+
+    /**
+     * Maintains the sum and number of the decimal member states, used for {@link ArithmeticGroupFunction.Sum} and
+     * {@link ArithmeticGroupFunction.Avg}.
+     */
+    static class SumAggregator extends MemberAggregator<BigDecimal> {
+
+        private final boolean average;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private int count;
+        // the number of values per scale, the result has the scale a full calculation would have
+        private final TreeMap<Integer, Integer> scales = new TreeMap<>();
+
+        SumAggregator(boolean average) {
+            this.average = average;
+        }
+
+        @Override
+        protected @Nullable BigDecimal valueOf(Item item) {
+            DecimalType itemState = item.getStateAs(DecimalType.class);
+            return itemState == null ? null : itemState.toBigDecimal();
+        }
+
+        @Override
+        protected void clear() {
+            sum = BigDecimal.ZERO;
+            count = 0;
+            scales.clear();
+        }
+
+        @Override
+        protected void add(BigDecimal value) {
+            sum = sum.add(value);
+            count++;
+            scales.merge(value.scale(), 1, Integer::sum);
+        }
+
+        @Override
+        protected void remove(BigDecimal value) {
+            sum = sum.subtract(value);
+            count--;
+            scales.computeIfPresent(value.scale(), (scale, n) -> n > 1 ? n - 1 : null);
+        }
+
+        @Override
+        public State getState() {
+            // the sum of the current values can always be represented with their maximum scale
+            BigDecimal result = sum.setScale(scales.isEmpty() ? 0 : Math.max(0, scales.lastKey()));
+            if (!average) {
+                return new DecimalType(result);
+            } else if (count > 0) {
+                return new DecimalType(result.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128));
+            } else {
+                return UnDefType.UNDEF;
+            }
+        }
+    }
+
+    /**
+     * Maintains the decimal member states in a sorted multiset, used for {@link ArithmeticGroupFunction.Min} and
+     * {@link ArithmeticGroupFunction.Max}.
+     */
+    static class ExtremumAggregator extends MemberAggregator<BigDecimal> {
+
+        private final boolean maximum;
+        private final TreeMap<BigDecimal, Integer> values = new TreeMap<>();
+
+        ExtremumAggregator(boolean maximum) {
+            this.maximum = maximum;
+        }
+
+        @Override
+        protected @Nullable BigDecimal valueOf(Item item) {
+            DecimalType itemState = item.getStateAs(DecimalType.class);
+            return itemState == null ? null : itemState.toBigDecimal();
+        }
+
+        @Override
+        protected void clear() {
+            values.clear();
+        }
+
+        @Override
+        protected void add(BigDecimal value) {
+            values.merge(value, 1, Integer::sum);
+        }
+
+        @Override
+        protected void remove(BigDecimal value) {
+            values.computeIfPresent(value, (v, n) -> n > 1 ? n - 1 : null);
+        }
+
+        @Override
+        public State getState() {
+            if (values.isEmpty()) {
+                return UnDefType.UNDEF;
+            }
+            return new DecimalType(maximum ? values.lastKey() : values.firstKey());
+        }
+    }
+
+    /**
+     * Counts the members whose state matches a regular expression, used for {@link ArithmeticGroupFunction.Count}.
+     */
+    static class CountAggregator extends MemberAggregator<Boolean> {
+
+        private final Pattern pattern;
+        private int count;
+
+        CountAggregator(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected @Nullable Boolean valueOf(Item item) {
+            return pattern.matcher(item.getState().toString()).matches() ? Boolean.TRUE : null;
+        }
+
+        @Override
+        protected void clear() {
+            count = 0;
+        }
+
+        @Override
+        protected void add(Boolean value) {
+            count++;
+        }
+
+        @Override
+        protected void remove(Boolean value) {
+            count--;
+        }
+
+        @Override
+        public State getState() {
+            return new DecimalType(count);
+        }
+    }
+
+    /**
+     * The condition under which a logical group function returns its active state.
+     */
+    @FunctionalInterface
+    interface ActiveCondition {
+        boolean test(int activeCount, int memberCount);
+    }
+
+    /**
+     * Counts the members in the active state, used for the logical group functions.
+     */
+    static class ActiveCountAggregator extends MemberAggregator<Boolean> {
+
+        private final State activeState;
+        private final State passiveState;
+        private final ActiveCondition condition;
+        private int count;
+
+        ActiveCountAggregator(State activeState, State passiveState, ActiveCondition condition) {
+            this.activeState = activeState;
+            this.passiveState = passiveState;
+            this.condition = condition;
+        }
+
+        @Override
+        protected @Nullable Boolean valueOf(Item item) {
+            return activeState.equals(item.getStateAs(activeState.getClass())) ? Boolean.TRUE : null;
+        }
+
+        @Override
+        protected void clear() {
+            count = 0;
+        }
+
+        @Override
+        protected void add(Boolean value) {
+            count++;
+        }
+
+        @Override
+        protected void remove(Boolean value) {
+            count--;
+        }
+
+        @Override
+        public State getState() {
+            return condition.test(count, getMemberCount()) ? activeState : passiveState;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.common.registry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AbstractRegistry}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AbstractRegistryTest {
+
+    private static final int READER_THREADS = 16;
+    private static final int WRITER_THREADS = 4;
+
+    private record TestElement(String uid, int version) implements Identifiable<String> {
+        @Override
+        public String getUID() {
+            return uid;
+        }
+    }
+
+    private static class TestProvider extends AbstractProvider<TestElement> {
+        private final List<TestElement> elements = new ArrayList<>();
+
+        @Override
+        public Collection<TestElement> getAll() {
+            return elements;
+        }
+
+        void add(TestElement element) {
+            notifyListenersAboutAddedElement(element);
+        }
+
+        void update(TestElement oldElement, TestElement element) {
+            notifyListenersAboutUpdatedElement(oldElement, element);
+        }
+
+        void remove(TestElement element) {
+            notifyListenersAboutRemovedElement(element);
+        }
+    }
+
+    private final AbstractRegistry<TestElement, String, Provider<TestElement>> registry = new AbstractRegistry<>(
+            null) {
+    };
+    private final TestProvider provider = new TestProvider();
+
+    @BeforeEach
+    public void setup() {
+        provider.elements.add(new TestElement("initial", 0));
+        registry.addProvider(provider);
+    }
+
+    @Test
+    public void testElementsAndProvidersAreTracked() {
+        TestElement element = new TestElement("element", 0);
+        provider.add(element);
+
+        assertThat(registry.get("element"), is(element));
+        assertThat(registry.getProvider("element"), is(provider));
+        assertThat(registry.getProvider(element), is(provider));
+        assertThat(registry.getAll(), containsInAnyOrder(new TestElement("initial", 0), element));
+
+        TestElement updated = new TestElement("element", 1);
+        provider.update(element, updated);
+
+        assertThat(registry.get("element"), is(updated));
+        assertThat(registry.getProvider("element"), is(provider));
+        assertThat(registry.getProvider(element), is(nullValue()));
+
+        provider.remove(updated);
+
+        assertThat(registry.get("element"), is(nullValue()));
+        assertThat(registry.getProvider("element"), is(nullValue()));
+        assertThat(registry.getAll(), contains(new TestElement("initial", 0)));
+
+        registry.removeProvider(provider);
+
+        assertThat(registry.get("initial"), is(nullValue()));
+        assertThat(registry.getAll(), is(empty()));
+    }
+
+    @Test
+    public void testGetAllReturnsImmutableSnapshot() {
+        Collection<TestElement> snapshot = registry.getAll();
+        assertThat(registry.getAll(), is(sameInstance(snapshot)));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new TestElement("other", 0)));
+
+        provider.add(new TestElement("element", 0));
+
+        assertThat(snapshot, hasSize(1));
+        assertThat(registry.getAll(), hasSize(2));
+    }
+
+    @Test
+    public void testConcurrentReadersSeeLatestElements() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(READER_THREADS + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(READER_THREADS);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < READER_THREADS; i++) {
+                readers.add(executor.submit(() -> {
+                    started.countDown();
+                    int lastVersion = 0;
+                    while (running.get()) {
+                        TestElement element = registry.get("element");
+                        if (element != null) {
+                            // readers must never see an older version again
+                            assertThat(element.version(), is(greaterThanOrEqualTo(lastVersion)));
+                            lastVersion = element.version();
+                        }
+                        assertThat(registry.getAll(), hasItem(new TestElement("initial", 0)));
+                    }
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+
+            TestElement element = new TestElement("element", 0);
+            provider.add(element);
+            for (int version = 1; version <= 10000; version++) {
+                TestElement updated = new TestElement("element", version);
+                provider.update(element, updated);
+                element = updated;
+                if (version % 100 == 0) {
+                    provider.remove(element);
+                    provider.add(element);
+                }
+            }
+            running.set(false);
+
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(registry.get("element"), is(element));
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentWritersKeepTheRegistryConsistent() throws Exception {
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        registry.addRegistryChangeListener(new RegistryChangeListener<>() {
+            @Override
+            public void added(TestElement element) {
+                added.incrementAndGet();
+            }
+
+            @Override
+            public void removed(TestElement element) {
+                removed.incrementAndGet();
+            }
+
+            @Override
+            public void updated(TestElement oldElement, TestElement element) {
+            }
+        });
+        for (int writer = 0; writer < WRITER_THREADS; writer++) {
+            provider.add(new TestElement("stable" + writer, 0));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(READER_THREADS + WRITER_THREADS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < READER_THREADS; i++) {
+                readers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        Collection<TestElement> snapshot = registry.getAll();
+                        for (int writer = 0; writer < WRITER_THREADS; writer++) {
+                            String uid = "stable" + writer;
+                            // elements that are only updated must never disappear
+                            assertThat(registry.get(uid), is(notNullValue()));
+                            assertThat(snapshot.stream().filter(e -> e.uid().equals(uid)).count(), is(1L));
+                        }
+                    }
+                }));
+            }
+
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITER_THREADS; i++) {
+                int writer = i;
+                writers.add(executor.submit(() -> {
+                    TestElement stable = new TestElement("stable" + writer, 0);
+                    for (int version = 1; version <= 2000; version++) {
+                        TestElement updated = new TestElement("stable" + writer, version);
+                        provider.update(stable, updated);
+                        stable = updated;
+                        assertThat(registry.get(stable.uid()), is(stable));
+
+                        TestElement transientElement = new TestElement("transient" + writer + "-" + version, 0);
+                        provider.add(transientElement);
+                        assertThat(registry.getProvider(transientElement), is(provider));
+                        provider.remove(transientElement);
+                        assertThat(registry.get(transientElement.uid()), is(nullValue()));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        assertThat(added.get(), is(WRITER_THREADS * 2001));
+        assertThat(removed.get(), is(WRITER_THREADS * 2000));
+        assertThat(registry.getAll(), hasSize(WRITER_THREADS + 1));
+        for (int writer = 0; writer < WRITER_THREADS; writer++) {
+            assertThat(registry.get("stable" + writer), is(new TestElement("stable" + writer, 2000)));
+        }
+
+        registry.removeProvider(provider);
+
+        assertThat(registry.getAll(), is(empty()));
+        assertThat(removed.get(), is(WRITER_THREADS * 2001 + 1));
+    }
+}
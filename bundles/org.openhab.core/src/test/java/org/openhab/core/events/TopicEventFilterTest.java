@@ -12,12 +12,15 @@
  */
 package org.openhab.core.events;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -61,4 +64,19 @@ public class TopicEventFilterTest {
         assertFalse(filter.apply(createEvent("openhab/items/test/state")));
         assertFalse(filter.apply(createEvent("openhab/things/test/removed")));
     }
+
+    @Test
+    public void testTopicScopes() {
+        assertEquals(Set.of("openhab/items/test"), new TopicEventFilter("^openhab/items/test/.*$").getTopicScopes());
+        assertEquals(Set.of("openhab/things/binding:type:id"),
+                new TopicEventFilter("openhab/things/binding:type:id/status").getTopicScopes());
+        assertEquals(Set.of("openhab/items/a", "openhab/items/b"),
+                new TopicEventFilter(List.of("openhab/items/a/state", "openhab/items/b/state")).getTopicScopes());
+
+        assertNull(new TopicEventFilter("openhab/items/.*/.*").getTopicScopes());
+        assertNull(new TopicEventFilter("^openhab/items/te.?st/.*$").getTopicScopes());
+        assertNull(new TopicEventFilter("openhab/items/test/?").getTopicScopes());
+        assertNull(new TopicEventFilter("openhab/items/test/state|other").getTopicScopes());
+        assertNull(new TopicEventFilter(List.of("openhab/items/a/state", "openhab/.*")).getTopicScopes());
+    }
 }
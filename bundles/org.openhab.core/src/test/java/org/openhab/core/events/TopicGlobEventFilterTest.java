@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 
@@ -48,4 +50,13 @@ public class TopicGlobEventFilterTest {
         assertTrue(filter.apply(createEvent("openhab/items/a")));
         assertFalse(filter.apply(createEvent("openhab/things/a")));
     }
+
+    @Test
+    public void testTopicScopes() {
+        assertEquals(Set.of("openhab/items/a"), new TopicGlobEventFilter("openhab/items/a/*").getTopicScopes());
+        assertNull(new TopicGlobEventFilter("openhab/items/*/state").getTopicScopes());
+        assertNull(new TopicGlobEventFilter("openhab/items/a*/state").getTopicScopes());
+        assertNull(new TopicGlobEventFilter("openhab/items/{a,b}/state").getTopicScopes());
+        assertNull(new TopicGlobEventFilter("openhab/**").getTopicScopes());
+    }
 }
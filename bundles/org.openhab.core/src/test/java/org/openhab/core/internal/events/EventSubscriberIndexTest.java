@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicEventFilter;
+import org.openhab.core.events.TopicPrefixEventFilter;
+
+/**
+ * {@link EventSubscriberIndexTest} tests the {@link EventSubscriberIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventSubscriberIndexTest {
+
+    private static final String TYPE_A = "TypeA";
+    private static final String TYPE_B = "TypeB";
+
+    private final EventSubscriberIndex index = new EventSubscriberIndex();
+
+    private EventSubscriber createSubscriber(Set<String> types, @Nullable EventFilter filter) {
+        EventSubscriber subscriber = mock(EventSubscriber.class);
+        when(subscriber.getSubscribedEventTypes()).thenReturn(types);
+        when(subscriber.getEventFilter()).thenReturn(filter);
+        return subscriber;
+    }
+
+    @Test
+    public void testScopedSubscribersAreOnlyReturnedForTheirScope() {
+        EventSubscriber itemA = createSubscriber(Set.of(TYPE_A), new TopicPrefixEventFilter("openhab/items/A/"));
+        EventSubscriber itemB = createSubscriber(Set.of(TYPE_A), new TopicPrefixEventFilter("openhab/items/B/"));
+        EventSubscriber unscoped = createSubscriber(Set.of(TYPE_A), new TopicEventFilter("openhab/items/.*/state"));
+        EventSubscriber unfiltered = createSubscriber(Set.of(EventSubscriber.ALL_EVENT_TYPES), null);
+        index.add(itemA);
+        index.add(itemB);
+        index.add(unscoped);
+        index.add(unfiltered);
+
+        assertThat(index.getEventSubscribers(TYPE_A, "openhab/items/A/state"),
+                containsInAnyOrder(itemA, unscoped, unfiltered));
+        assertThat(index.getEventSubscribers(TYPE_A, "openhab/items/B/state"),
+                containsInAnyOrder(itemB, unscoped, unfiltered));
+        assertThat(index.getEventSubscribers(TYPE_A, "openhab/items"), containsInAnyOrder(unscoped, unfiltered));
+        assertThat(index.getEventSubscribers(TYPE_B, "openhab/items/A/state"), contains(unfiltered));
+    }
+
+    @Test
+    public void testSubscriberForMultipleTypesIsReturnedOnce() {
+        EventSubscriber subscriber = createSubscriber(Set.of(TYPE_A, EventSubscriber.ALL_EVENT_TYPES),
+                new TopicPrefixEventFilter("openhab/items/A/"));
+        index.add(subscriber);
+
+        assertThat(index.getEventSubscribers(TYPE_A, "openhab/items/A/state"), contains(subscriber));
+    }
+
+    @Test
+    public void testRemove() {
+        EventSubscriber scoped = createSubscriber(Set.of(TYPE_A), new TopicPrefixEventFilter("openhab/items/A/"));
+        EventSubscriber unscoped = createSubscriber(Set.of(TYPE_A), null);
+        index.add(scoped);
+        index.add(unscoped);
+
+        // the index must not depend on the filter returned on removal
+        when(scoped.getEventFilter()).thenReturn(null);
+        index.remove(scoped);
+        assertThat(index.getEventSubscribers(TYPE_A, "openhab/items/A/state"), contains(unscoped));
+
+        index.remove(unscoped);
+        assertThat(index.getEventSubscribers(TYPE_A, "openhab/items/A/state"), is(empty()));
+    }
+}
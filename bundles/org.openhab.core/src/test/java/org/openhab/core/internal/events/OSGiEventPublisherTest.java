@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.events.AbstractEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.types.DecimalType;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+
+/**
+ * {@link OSGiEventPublisherTest} tests the {@link OSGiEventPublisher}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OSGiEventPublisherTest {
+
+    private final EventAdmin eventAdmin = mock(EventAdmin.class);
+    private final OSGiEventPublisher publisher = new OSGiEventPublisher(eventAdmin);
+
+    @Test
+    public void testDeferredPayloadIsSerializedWhenRead() {
+        AbstractEvent event = ItemEventFactory.createStateEvent("Item", new DecimalType(1), null);
+        assertTrue(event.isPayloadDeferred());
+
+        Event osgiEvent = post(event);
+        assertSame(event, osgiEvent.getProperty(OSGiEventPublisher.EVENT));
+        assertTrue(osgiEvent.containsProperty(OSGiEventPublisher.PAYLOAD));
+        assertTrue(event.isPayloadDeferred());
+
+        assertEquals(event.getPayload(), osgiEvent.getProperty(OSGiEventPublisher.PAYLOAD));
+        assertFalse(event.getPayload().isEmpty());
+        assertTrue(osgiEvent.toString().contains(event.getPayload()));
+    }
+
+    @Test
+    public void testSerializedPayloadIsAdded() {
+        AbstractEvent event = ItemEventFactory.createStateEvent("Item", new DecimalType(1), null);
+        String payload = event.getPayload();
+
+        Event osgiEvent = post(event);
+        assertEquals(payload, osgiEvent.getProperty(OSGiEventPublisher.PAYLOAD));
+    }
+
+    private Event post(org.openhab.core.events.Event event) {
+        publisher.post(event);
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(eventAdmin).postEvent(captor.capture());
+        return captor.getValue();
+    }
+}
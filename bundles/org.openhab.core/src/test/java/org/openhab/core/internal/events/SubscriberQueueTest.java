@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventDispatchListener;
+import org.openhab.core.events.EventQueuePolicy;
+import org.openhab.core.events.EventQueuePolicy.Overflow;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+
+/**
+ * {@link SubscriberQueueTest} tests the {@link SubscriberQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SubscriberQueueTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Event> received = new ArrayList<>();
+    private final List<Integer> remainingAfterDelivery = new ArrayList<>();
+    private final ExecutorService blockingExecutor = Executors.newSingleThreadExecutor();
+
+    private final EventSubscriber subscriber = new EventSubscriber() {
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Set.of(ALL_EVENT_TYPES);
+        }
+
+        @Override
+        public void receive(Event event) {
+            received.add(event);
+        }
+    };
+
+    private final EventDispatchListener listener = new EventDispatchListener() {
+        @Override
+        public void eventDelivered(String subscriberType, Event event, int queueSize, long delayNanos,
+                long durationNanos) {
+            assertEquals("test", subscriberType);
+            assertTrue(delayNanos >= 0);
+            assertTrue(durationNanos >= 0);
+            remainingAfterDelivery.add(queueSize);
+        }
+    };
+
+    @AfterEach
+    public void tearDown() {
+        blockingExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testUnboundedQueueKeepsAllEvents() throws InterruptedException {
+        SubscriberQueue queue = createQueue(null);
+        for (int i = 0; i < 10; i++) {
+            queue.add(subscriber, ItemEventFactory.createStateEvent("Item", new DecimalType(i), null));
+        }
+        assertEquals(10, queue.size());
+        assertEquals(1, tasks.size());
+
+        runTasks();
+        assertEquals(10, received.size());
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    public void testDropOldest() throws InterruptedException {
+        SubscriberQueue queue = createQueue(new EventQueuePolicy(Overflow.DROP_OLDEST, 3));
+        for (int i = 0; i < 5; i++) {
+            queue.add(subscriber, ItemEventFactory.createStateEvent("Item", new DecimalType(i), null));
+        }
+        assertEquals(3, queue.size());
+        assertEquals(2, queue.getDroppedCount());
+
+        runTasks();
+        assertEquals(List.of(2, 3, 4), received.stream()
+                .map(e -> ((DecimalType) ((ItemStateEvent) e).getItemState()).intValue())
+                .toList());
+    }
+
+    @Test
+    public void testCoalesceKeepsLatestStatePerItem() throws InterruptedException {
+        SubscriberQueue queue = createQueue(new EventQueuePolicy(Overflow.COALESCE, 10));
+        queue.add(subscriber, ItemEventFactory.createStateEvent("Item1", new DecimalType(1), null));
+        queue.add(subscriber, ItemEventFactory.createCommandEvent("Item1", OnOffType.ON));
+        queue.add(subscriber, ItemEventFactory.createStateEvent("Item2", new DecimalType(1), null));
+        queue.add(subscriber, ItemEventFactory.createStateEvent("Item1", new DecimalType(2), null));
+        queue.add(subscriber, ItemEventFactory.createCommandEvent("Item1", OnOffType.OFF));
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.getDroppedCount());
+
+        runTasks();
+        assertEquals(4, received.size());
+        assertEquals(ItemEventFactory.createStateEvent("Item1", new DecimalType(2), null), received.get(0));
+        assertEquals(ItemEventFactory.createCommandEvent("Item1", OnOffType.ON), received.get(1));
+        assertEquals(ItemEventFactory.createStateEvent("Item2", new DecimalType(1), null), received.get(2));
+        assertEquals(ItemEventFactory.createCommandEvent("Item1", OnOffType.OFF), received.get(3));
+    }
+
+    @Test
+    public void testCoalesceKeepsStateChangedEvents() throws InterruptedException {
+        SubscriberQueue queue = createQueue(new EventQueuePolicy(Overflow.COALESCE, 10));
+        queue.add(subscriber,
+                ItemEventFactory.createStateChangedEvent("Item", OnOffType.ON, OnOffType.OFF, null, null));
+        queue.add(subscriber,
+                ItemEventFactory.createStateChangedEvent("Item", OnOffType.OFF, OnOffType.ON, null, null));
+        queue.add(subscriber, ItemEventFactory.createStateUpdatedEvent("Item", OnOffType.OFF, null));
+        queue.add(subscriber, ItemEventFactory.createStateUpdatedEvent("Item", OnOffType.OFF, null));
+        assertEquals(4, queue.size());
+
+        runTasks();
+        assertEquals(4, received.size());
+        assertEquals(ItemEventFactory.createStateChangedEvent("Item", OnOffType.ON, OnOffType.OFF, null, null),
+                received.get(0));
+    }
+
+    @Test
+    public void testBlockWaitsForSpace() throws Exception {
+        SubscriberQueue queue = createQueue(new EventQueuePolicy(Overflow.BLOCK, 1));
+        queue.add(subscriber, ItemEventFactory.createStateEvent("Item", new DecimalType(1), null));
+
+        var blocked = blockingExecutor
+                .submit(() -> queue.add(subscriber,
+                        ItemEventFactory.createStateEvent("Item", new DecimalType(2), null)));
+        Thread.sleep(100);
+        assertFalse(blocked.isDone());
+
+        // drain the queue in another thread, which makes space for the blocked event
+        Thread drainer = new Thread(this::runTasks);
+        drainer.start();
+        blocked.get(5, TimeUnit.SECONDS);
+        drainer.join(5000);
+        runTasks();
+        assertEquals(0, queue.getDroppedCount());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testListenerIsNotifiedAboutDeliveries() throws InterruptedException {
+        SubscriberQueue queue = createQueue(null);
+        for (int i = 0; i < 3; i++) {
+            queue.add(subscriber, ItemEventFactory.createStateEvent("Item", new DecimalType(i), null));
+        }
+        runTasks();
+        assertEquals(List.of(2, 1, 0), remainingAfterDelivery);
+    }
+
+    @Test
+    public void testStalledSubscriberIsReportedOnce() throws Exception {
+        CountDownLatch receiving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EventSubscriber slowSubscriber = new EventSubscriber() {
+            @Override
+            public Set<String> getSubscribedEventTypes() {
+                return Set.of(ALL_EVENT_TYPES);
+            }
+
+            @Override
+            public void receive(Event event) {
+                receiving.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        SubscriberQueue queue = createQueue(null);
+        assertNull(queue.getStalledSubscriber(System.nanoTime(), 0));
+
+        queue.add(slowSubscriber, ItemEventFactory.createStateEvent("Item", new DecimalType(1), null));
+        Thread drainer = new Thread(this::runTasks);
+        drainer.start();
+        assertTrue(receiving.await(5, TimeUnit.SECONDS));
+        long later = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        assertSame(slowSubscriber, queue.getStalledSubscriber(later, TimeUnit.SECONDS.toNanos(5)));
+        assertNull(queue.getStalledSubscriber(later, TimeUnit.SECONDS.toNanos(5)));
+
+        release.countDown();
+        drainer.join(5000);
+        assertNull(queue.getStalledSubscriber(later, TimeUnit.SECONDS.toNanos(5)));
+    }
+
+    @Test
+    public void testParsePolicy() {
+        assertEquals(new EventQueuePolicy(Overflow.COALESCE, 500), EventQueuePolicy.parse("coalesce:500"));
+        assertEquals(new EventQueuePolicy(Overflow.DROP_OLDEST, 10), EventQueuePolicy.parse(" drop-oldest : 10 "));
+        assertThrows(IllegalArgumentException.class, () -> EventQueuePolicy.parse("block"));
+        assertThrows(IllegalArgumentException.class, () -> EventQueuePolicy.parse("block:0"));
+        assertThrows(IllegalArgumentException.class, () -> EventQueuePolicy.parse("fast:10"));
+    }
+
+    private SubscriberQueue createQueue(@Nullable EventQueuePolicy policy) {
+        ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            synchronized (tasks) {
+                tasks.add(invocation.getArgument(0));
+            }
+            return null;
+        }).when(executor).execute(any());
+        return new SubscriberQueue("test", executor, policy, List.of(listener));
+    }
+
+    private void runTasks() {
+        while (true) {
+            Runnable task;
+            synchronized (tasks) {
+                if (tasks.isEmpty()) {
+                    return;
+                }
+                task = tasks.remove(0);
+            }
+            task.run();
+        }
+    }
+}
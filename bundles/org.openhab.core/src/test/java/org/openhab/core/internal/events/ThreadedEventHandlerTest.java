@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * {@link ThreadedEventHandlerTest} tests the {@link ThreadedEventHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ThreadedEventHandlerTest {
+
+    private static final int ITEMS = 8;
+    private static final int EVENTS_PER_ITEM = 200;
+
+    @Test
+    public void testEventsOfAnEntityAreDeliveredInOrderWithMultipleLanes() throws InterruptedException {
+        List<ItemStateEvent> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(ITEMS * EVENTS_PER_ITEM);
+        EventSubscriber subscriber = new EventSubscriber() {
+            @Override
+            public Set<String> getSubscribedEventTypes() {
+                return Set.of(ItemStateEvent.TYPE);
+            }
+
+            @Override
+            public void receive(Event event) {
+                received.add((ItemStateEvent) event);
+                latch.countDown();
+            }
+        };
+        EventSubscriberIndex index = new EventSubscriberIndex();
+        index.add(subscriber);
+
+        ThreadedEventHandler handler = new ThreadedEventHandler(index,
+                Map.of(ItemStateEvent.TYPE, mock(EventFactory.class)), Map.of(), List.of(), 4);
+        assertEquals(4, handler.getLaneCount());
+        handler.open();
+        try {
+            for (int i = 0; i < EVENTS_PER_ITEM; i++) {
+                for (int item = 0; item < ITEMS; item++) {
+                    handler.handleEvent(toOSGiEvent(
+                            ItemEventFactory.createStateEvent("Item" + item, new DecimalType(i), null)));
+                }
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            handler.close();
+        }
+
+        int[] expected = new int[ITEMS];
+        synchronized (received) {
+            for (ItemStateEvent event : received) {
+                int item = Integer.parseInt(event.getItemName().substring(4));
+                assertEquals(expected[item]++, ((DecimalType) event.getItemState()).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void testGroupEventsShareTheLaneOfTheirMember() {
+        ThreadedEventHandler handler = new ThreadedEventHandler(new EventSubscriberIndex(), Map.of(), Map.of(),
+                List.of(), 4);
+        try {
+            for (int item = 0; item < ITEMS; item++) {
+                String member = "Item" + item;
+                int lane = handler.getLaneIndex(toOSGiEvent(ItemEventFactory.createStateChangedEvent(member,
+                        new DecimalType(1), new DecimalType(0), null, null)));
+                assertEquals(lane, handler.getLaneIndex(toOSGiEvent(ItemEventFactory.createGroupStateChangedEvent(
+                        "Group", member, new DecimalType(1), new DecimalType(0), null, null))));
+                assertEquals(lane, handler.getLaneIndex(toOSGiEvent(ItemEventFactory
+                        .createGroupStateUpdatedEvent("Group", member, new DecimalType(1), null, null))));
+            }
+        } finally {
+            handler.close();
+        }
+    }
+
+    private org.osgi.service.event.Event toOSGiEvent(Event event) {
+        Dictionary<String, Object> properties = new Hashtable<>();
+        properties.put(OSGiEventPublisher.TYPE, event.getType());
+        properties.put(OSGiEventPublisher.TOPIC, event.getTopic());
+        properties.put(OSGiEventPublisher.EVENT, event);
+        return new org.osgi.service.event.Event("openhab", properties);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.SwitchItem;
+
+/**
+ * Tests for {@link GroupMembershipIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroupMembershipIndexTest {
+
+    private final GroupMembershipIndex index = new GroupMembershipIndex();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Set<Item> load(String groupName) {
+        loads.incrementAndGet();
+        return Set.of(new SwitchItem("member" + loads.get()));
+    }
+
+    @Test
+    public void testValuesAreCachedUntilInvalidated() {
+        Set<Item> members = index.getAllMembers("group", this::load);
+        assertThat(index.getAllMembers("group", this::load), is(sameInstance(members)));
+        assertThat(loads.get(), is(1));
+
+        index.invalidate();
+
+        assertThat(index.getAllMembers("group", this::load), is(not(sameInstance(members))));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void testCachesAreSeparated() {
+        index.getAllMembers("group", this::load);
+        index.getAllStateMembers("group", this::load);
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void testValueIsNotCachedIfInvalidatedWhileLoading() {
+        index.getAllStateMembers("group", name -> {
+            index.invalidate();
+            return load(name);
+        });
+        index.getAllStateMembers("group", this::load);
+
+        assertThat(loads.get(), is(2));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+
+/**
+ * Tests for {@link ItemIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemIndexTest {
+
+    private final ItemIndex index = new ItemIndex();
+
+    @Test
+    public void testItemsAreIndexedByTypeTagAndGroup() {
+        SwitchItem switchItem = new SwitchItem("switch");
+        switchItem.addTag("Light");
+        switchItem.addGroupName("group");
+        NumberItem numberItem = new NumberItem("number");
+        numberItem.addTag("Measurement");
+        index.add(switchItem);
+        index.add(numberItem);
+
+        assertThat(index.getItemsOfType("Switch"), contains(switchItem));
+        assertThat(index.getItemsOfType("Number"), contains(numberItem));
+        assertThat(index.getItemsOfType("Dimmer"), is(empty()));
+        assertThat(index.getItemsWithTag("lIGHT"), contains(switchItem));
+        assertThat(index.getItemsWithTag("Measurement"), contains(numberItem));
+        assertThat(index.getMembers("group"), contains(switchItem));
+        assertThat(index.getMembers("other"), is(empty()));
+    }
+
+    @Test
+    public void testRemoveUsesIndexedKeys() {
+        SwitchItem item = new SwitchItem("switch");
+        item.addTag("Light");
+        item.addGroupName("group");
+        index.add(item);
+
+        // modify the item in place, the old entries must still be removed
+        item.removeAllTags();
+        item.addTag("Switch");
+        item.removeGroupName("group");
+        index.remove("switch");
+
+        assertThat(index.getItemsOfType("Switch"), is(empty()));
+        assertThat(index.getItemsWithTag("Light"), is(empty()));
+        assertThat(index.getMembers("group"), is(empty()));
+    }
+
+    @Test
+    public void testAddReplacesItemWithSameName() {
+        SwitchItem oldItem = new SwitchItem("item");
+        oldItem.addTag("Light");
+        NumberItem newItem = new NumberItem("item");
+        newItem.addTag("Measurement");
+        index.add(oldItem);
+        index.add(newItem);
+
+        assertThat(index.getItemsOfType("Switch"), is(empty()));
+        assertThat(index.getItemsWithTag("Light"), is(empty()));
+        assertThat(index.getItemsOfType("Number"), contains(newItem));
+        assertThat(index.getItemsWithTag("Measurement"), contains(newItem));
+    }
+
+    @Test
+    public void testTagKeyFollowsEqualsIgnoreCase() {
+        for (String[] tags : new String[][] { { "tag", "TAG" }, { "täg", "TÄG" }, { "ı", "I" }, { "ß", "ß" } }) {
+            assertThat(tags[0].equalsIgnoreCase(tags[1]), is(true));
+            assertThat(ItemIndex.tagKey(tags[0]), is(ItemIndex.tagKey(tags[1])));
+        }
+        assertThat(ItemIndex.tagKey("tag1"), is(not(ItemIndex.tagKey("tag2"))));
+    }
+}
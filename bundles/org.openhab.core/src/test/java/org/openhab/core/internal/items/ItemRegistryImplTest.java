@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.common.registry.AbstractProvider;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemProvider;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.library.items.SwitchItem;
+
+/**
+ * Tests for the group membership cache of the {@link ItemRegistryImpl}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemRegistryImplTest {
+
+    private static final int GROUPS = 500;
+    private static final int READER_THREADS = 8;
+
+    private static class TestItemProvider extends AbstractProvider<Item> implements ItemProvider {
+        @Override
+        public Collection<Item> getAll() {
+            return List.of();
+        }
+
+        void add(Item item) {
+            notifyListenersAboutAddedElement(item);
+        }
+    }
+
+    private static class TestItemRegistry extends ItemRegistryImpl {
+        TestItemRegistry(ItemProvider provider) {
+            super(mock(MetadataRegistry.class), mock(DefaultStateDescriptionFragmentProvider.class));
+            addProvider(provider);
+        }
+    }
+
+    private final TestItemProvider provider = new TestItemProvider();
+    private final TestItemRegistry registry = new TestItemRegistry(provider);
+
+    @Test
+    public void testMembersOfAnAddedGroupAreVisibleWhileReadersAreActive() throws Exception {
+        for (int i = 0; i < GROUPS; i++) {
+            SwitchItem member = new SwitchItem("Member" + i);
+            member.addGroupName("Group" + i);
+            provider.add(member);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(READER_THREADS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(READER_THREADS);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < READER_THREADS; i++) {
+                readers.add(executor.submit(() -> {
+                    started.countDown();
+                    while (running.get()) {
+                        for (int group = 0; group < GROUPS; group++) {
+                            registry.getAllStateMembers("Group" + group);
+                        }
+                    }
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < GROUPS; i++) {
+                provider.add(new GroupItem("Group" + i));
+                // a reader must not have cached the memberships of the group before it was published
+                assertThat(registry.getAllStateMembers("Group" + i).stream().map(Item::getName).toList(),
+                        contains("Member" + i));
+            }
+            running.set(false);
+
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+}
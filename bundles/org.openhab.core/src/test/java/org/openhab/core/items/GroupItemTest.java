@@ -12,8 +12,9 @@
  */
 package org.openhab.core.items;
 
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.ArithmeticGroupFunction;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
 
 /**
  * The {@link GroupItemTest} contains tests for {@link GroupItem}
@@ -36,6 +40,7 @@ public class GroupItemTest {
     private static final String ITEM_NAME = "test";
 
     private @Mock @NonNullByDefault({}) NumberItem baseItemMock;
+    private @Mock @NonNullByDefault({}) ItemStateConverter itemStateConverterMock;
 
     @Test
     public void testMetadataIsPropagatedToBaseItem() {
@@ -53,4 +58,43 @@ public class GroupItemTest {
         groupItem.removedMetadata(updatedMetadata);
         verify(baseItemMock).removedMetadata(eq(updatedMetadata));
     }
+
+    @Test
+    public void testAggregatedStateFollowsMemberUpdates() {
+        when(itemStateConverterMock.convertToAcceptedState(any(), any())).thenAnswer(i -> i.getArgument(0));
+        GroupItem groupItem = new GroupItem(ITEM_NAME, new NumberItem("base"), new ArithmeticGroupFunction.Sum());
+        groupItem.setItemStateConverter(itemStateConverterMock);
+        NumberItem member1 = new NumberItem("member1");
+        NumberItem member2 = new NumberItem("member2");
+        groupItem.addMember(member1);
+        groupItem.addMember(member2);
+
+        updateMember(groupItem, member1, new DecimalType(1));
+        assertEquals(new DecimalType(1), groupItem.getState());
+        updateMember(groupItem, member2, new DecimalType(2));
+        assertEquals(new DecimalType(3), groupItem.getState());
+        updateMember(groupItem, member1, new DecimalType(5));
+        assertEquals(new DecimalType(7), groupItem.getState());
+
+        // members of nested groups without state do not notify the group
+        GroupItem subGroup = new GroupItem("subGroup");
+        NumberItem member3 = new NumberItem("member3");
+        subGroup.addMember(member3);
+        groupItem.addMember(subGroup);
+        member3.setState(new DecimalType(10));
+        updateMember(groupItem, member2, new DecimalType(1));
+        assertEquals(new DecimalType(16), groupItem.getState());
+        member3.setState(new DecimalType(20));
+        updateMember(groupItem, member2, new DecimalType(2));
+        assertEquals(new DecimalType(27), groupItem.getState());
+
+        groupItem.removeMember(subGroup);
+        updateMember(groupItem, member2, new DecimalType(3));
+        assertEquals(new DecimalType(8), groupItem.getState());
+    }
+
+    private void updateMember(GroupItem groupItem, GenericItem member, State state) {
+        member.setState(state);
+        groupItem.stateUpdated(member, state);
+    }
 }
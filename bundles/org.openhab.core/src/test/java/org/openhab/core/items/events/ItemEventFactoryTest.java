@@ -106,6 +106,30 @@ public class ItemEventFactoryTest {
         assertEquals(ITEM_COMMAND, event.getItemCommand());
     }
 
+    @Test
+    public void testCreateStateEventSerializesPayloadOnFirstAccess() {
+        ItemStateEvent event = ItemEventFactory.createStateEvent(ITEM_NAME, ITEM_STATE, SOURCE);
+
+        assertTrue(event.isPayloadDeferred());
+        assertEquals(JsonParser.parseString(ITEM_STATE_EVENT_PAYLOAD), JsonParser.parseString(event.getPayload()));
+        assertFalse(event.isPayloadDeferred());
+        assertSame(event.getPayload(), event.getPayload());
+    }
+
+    @Test
+    public void testCreateEventsWithCachedTopics() {
+        ItemEventTopics topics = new ItemEventTopics(ITEM_NAME);
+
+        assertEquals(ItemEventFactory.createCommandEvent(ITEM_NAME, ITEM_COMMAND, SOURCE),
+                ItemEventFactory.createCommandEvent(topics, ITEM_COMMAND, SOURCE));
+        assertEquals(ItemEventFactory.createStateUpdatedEvent(ITEM_NAME, ITEM_STATE, null, SOURCE),
+                ItemEventFactory.createStateUpdatedEvent(topics, ITEM_STATE, null, SOURCE));
+        assertEquals(
+                ItemEventFactory.createStateChangedEvent(ITEM_NAME, ITEM_STATE, UnDefType.NULL, null, null, SOURCE),
+                ItemEventFactory.createStateChangedEvent(topics, ITEM_STATE, UnDefType.NULL, null, null, SOURCE));
+        assertEquals("openhab/items/" + ITEM_NAME + "/stateupdated", topics.getStateUpdatedTopic());
+    }
+
     @Test
     public void testCreateEventItemCommandEventRefreshType() throws Exception {
         Event event = factory.createEvent(ITEM_COMMAND_EVENT_TYPE, ITEM_COMMAND_EVENT_TOPIC,
@@ -15,11 +15,14 @@ package org.openhab.core.library.types;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.number.IsCloseTo.closeTo;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -370,6 +373,57 @@ public class ArithmeticGroupFunctionTest {
         assertEquals(new DecimalType("2"), state);
     }
 
+    private static Stream<Arguments> testAggregatorMatchesCalculation() {
+        return Stream.of( //
+                arguments(new ArithmeticGroupFunction.Sum(), false), //
+                arguments(new ArithmeticGroupFunction.Avg(), false), //
+                arguments(new ArithmeticGroupFunction.Min(), false), //
+                arguments(new ArithmeticGroupFunction.Max(), false), //
+                arguments(new ArithmeticGroupFunction.Count(new StringType("[0-4].*")), false), //
+                arguments(new ArithmeticGroupFunction.And(OnOffType.ON, OnOffType.OFF), true), //
+                arguments(new ArithmeticGroupFunction.Or(OnOffType.ON, OnOffType.OFF), true), //
+                arguments(new ArithmeticGroupFunction.NAnd(OnOffType.ON, OnOffType.OFF), true), //
+                arguments(new ArithmeticGroupFunction.NOr(OnOffType.ON, OnOffType.OFF), true), //
+                arguments(new ArithmeticGroupFunction.Xor(OnOffType.ON, OnOffType.OFF), true) //
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void testAggregatorMatchesCalculation(GroupFunction function, boolean logical) {
+        Random random = new Random(42);
+        List<TestItem> members = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            members.add(new TestItem("TestItem" + i, randomState(random, logical)));
+        }
+        Set<Item> items = new HashSet<>(members);
+
+        GroupFunction.Aggregator aggregator = function.createAggregator();
+        assertNotNull(aggregator);
+        aggregator.reset(items);
+        assertEquals(function.calculate(items).toFullString(), aggregator.getState().toFullString());
+
+        for (int i = 0; i < 500; i++) {
+            TestItem member = members.get(random.nextInt(members.size()));
+            member.setState(randomState(random, logical));
+            assertTrue(aggregator.update(member));
+            assertEquals(function.calculate(items).toFullString(), aggregator.getState().toFullString());
+        }
+
+        assertFalse(aggregator.update(new TestItem("Unknown", UnDefType.UNDEF)));
+        aggregator.reset(Set.of());
+        assertEquals(function.calculate(Set.of()).toFullString(), aggregator.getState().toFullString());
+    }
+
+    private static State randomState(Random random, boolean logical) {
+        int value = random.nextInt(12);
+        if (logical) {
+            return value < 2 ? UnDefType.UNDEF : value < 7 ? OnOffType.ON : OnOffType.OFF;
+        }
+        return value < 2 ? UnDefType.UNDEF
+                : new DecimalType(BigDecimal.valueOf(random.nextInt(2000) - 1000, random.nextInt(4)));
+    }
+
     private static class TestItem extends GenericItem {
 
         public TestItem(String name, State state) {
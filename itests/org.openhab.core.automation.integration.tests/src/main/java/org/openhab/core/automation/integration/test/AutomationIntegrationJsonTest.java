@@ -19,6 +19,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -39,6 +40,7 @@ import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.events.RuleStatusInfoEvent;
 import org.openhab.core.automation.internal.RuleEngineImpl;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter;
 import org.openhab.core.automation.type.ActionType;
 import org.openhab.core.automation.type.Input;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
@@ -106,7 +108,8 @@ public class AutomationIntegrationJsonTest extends JavaOSGiTest {
         registerService(startLevelService, StartLevelService.class.getName());
 
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
-                eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class), startLevelService);
+                eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class), startLevelService,
+                Objects.requireNonNull(getService(TriggerEventRouter.class)));
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
@@ -53,6 +53,7 @@ import org.openhab.core.automation.events.RuleStatusInfoEvent;
 import org.openhab.core.automation.events.RuleUpdatedEvent;
 import org.openhab.core.automation.internal.RuleEngineImpl;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter;
 import org.openhab.core.automation.template.RuleTemplate;
 import org.openhab.core.automation.template.RuleTemplateProvider;
 import org.openhab.core.automation.template.Template;
@@ -124,7 +125,8 @@ public class AutomationIntegrationTest extends JavaOSGiTest {
 
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 Objects.requireNonNull(eventPublisher), Objects.requireNonNull(thingRegistry),
-                Objects.requireNonNull(itemRegistry), mock(TimeZoneProvider.class), startLevelService);
+                Objects.requireNonNull(itemRegistry), mock(TimeZoneProvider.class), startLevelService,
+                Objects.requireNonNull(getService(TriggerEventRouter.class)));
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
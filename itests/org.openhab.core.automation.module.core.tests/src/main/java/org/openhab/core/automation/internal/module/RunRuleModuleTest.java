@@ -34,6 +34,7 @@ import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.automation.RuleStatus;
 import org.openhab.core.automation.internal.RuleEngineImpl;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter;
 import org.openhab.core.automation.util.ModuleBuilder;
 import org.openhab.core.automation.util.RuleBuilder;
 import org.openhab.core.common.registry.ProviderChangeListener;
@@ -82,7 +83,7 @@ public class RunRuleModuleTest extends JavaOSGiTest {
         ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class),
-                mock(StartLevelService.class));
+                mock(StartLevelService.class), Objects.requireNonNull(getService(TriggerEventRouter.class)));
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
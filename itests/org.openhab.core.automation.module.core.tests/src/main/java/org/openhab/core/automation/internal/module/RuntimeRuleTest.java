@@ -42,6 +42,7 @@ import org.openhab.core.automation.events.RuleStatusInfoEvent;
 import org.openhab.core.automation.internal.RuleEngineImpl;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
 import org.openhab.core.automation.internal.module.handler.CompareConditionHandler;
+import org.openhab.core.automation.internal.module.handler.TriggerEventRouter;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
 import org.openhab.core.automation.util.ModuleBuilder;
 import org.openhab.core.automation.util.RuleBuilder;
@@ -93,7 +94,7 @@ public class RuntimeRuleTest extends JavaOSGiTest {
         ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class),
-                mock(StartLevelService.class));
+                mock(StartLevelService.class), Objects.requireNonNull(getService(TriggerEventRouter.class)));
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 